@@ -151,6 +151,20 @@ private ElasticsearchBackendSettings() {
 	 */
 	public static final String MAX_CONNECTIONS_PER_ROUTE = "max_connections_per_route";
 
+	/**
+	 * Whether HTTP compression is enabled when communicating with the Elasticsearch cluster.
+	 * <p>
+	 * When enabled, large request bodies (typically bulk requests) are compressed using gzip,
+	 * and Elasticsearch is asked to compress response bodies using gzip,
+	 * which reduces bandwidth usage at the cost of some CPU.
+	 * <p>
+	 * Expects a Boolean value such as {@code true} or {@code false},
+	 * or a string that can be parsed to such Boolean value.
+	 * <p>
+	 * Defaults to {@link Defaults#COMPRESSION_ENABLED}.
+	 */
+	public static final String COMPRESSION_ENABLED = "compression.enabled";
+
 	/**
 	 * Whether automatic discovery of nodes in the Elasticsearch cluster is enabled.
 	 * <p>
@@ -242,6 +256,49 @@ private ElasticsearchBackendSettings() {
 	 */
 	public static final String THREAD_POOL_SIZE = "thread_pool.size";
 
+	/**
+	 * The size of the thread pool used to load entities for queries executed asynchronously,
+	 * i.e. when calling {@code fetchAsync(...)} on a search query.
+	 * <p>
+	 * This thread pool is distinct from the one set through {@link #THREAD_POOL_SIZE},
+	 * because loading entities may block, while operations in that other thread pool must not.
+	 * <p>
+	 * Expects a strictly positive integer value,
+	 * or a string that can be parsed to such integer value.
+	 * <p>
+	 * Defaults to the number of processor cores available to the JVM on startup.
+	 * <p>
+	 * See the reference documentation, section "Elasticsearch backend - Threads",
+	 * for more information about this setting and its implications.
+	 */
+	public static final String READ_THREAD_POOL_SIZE = "read.thread_pool.size";
+
+	/**
+	 * Whether search queries submitted concurrently should be sent to Elasticsearch together,
+	 * in a single multi-search ({@code _msearch}) request.
+	 * <p>
+	 * When enabled, search queries are put in a queue and sent in batches by a background thread.
+	 * Queries submitted while a batch is being sent end up in the next batch,
+	 * which reduces the number of HTTP requests under load without delaying queries when the load is low.
+	 * <p>
+	 * Expects a Boolean value such as {@code true} or {@code false},
+	 * or a string that can be parsed to such Boolean value.
+	 * <p>
+	 * Defaults to {@link Defaults#QUERY_MULTI_SEARCH_ENABLED}.
+	 */
+	public static final String QUERY_MULTI_SEARCH_ENABLED = "query.multi_search.enabled";
+
+	/**
+	 * The maximum number of search queries sent in a single multi-search request,
+	 * when {@link #QUERY_MULTI_SEARCH_ENABLED multi-search batching} is enabled.
+	 * <p>
+	 * Expects a strictly positive integer value,
+	 * or a string that can be parsed to such integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#QUERY_MULTI_SEARCH_MAX_SIZE}.
+	 */
+	public static final String QUERY_MULTI_SEARCH_MAX_SIZE = "query.multi_search.max_size";
+
 	/**
 	 * Default values for the different settings if no values are given.
 	 */
@@ -257,11 +314,14 @@ private Defaults() {
 		public static final int CONNECTION_TIMEOUT = 3000;
 		public static final int MAX_CONNECTIONS = 20;
 		public static final int MAX_CONNECTIONS_PER_ROUTE = 10;
+		public static final boolean COMPRESSION_ENABLED = false;
 		public static final boolean DISCOVERY_ENABLED = false;
 		public static final int DISCOVERY_REFRESH_INTERVAL = 10;
 		public static final boolean LOG_JSON_PRETTY_PRINTING = false;
 		public static final boolean VERSION_CHECK_ENABLED = true;
 		public static final MultiTenancyStrategyName MULTI_TENANCY_STRATEGY = MultiTenancyStrategyName.NONE;
 		public static final TypeNameMappingStrategyName MAPPING_TYPE_NAME_STRATEGY = TypeNameMappingStrategyName.DISCRIMINATOR;
+		public static final boolean QUERY_MULTI_SEARCH_ENABLED = false;
+		public static final int QUERY_MULTI_SEARCH_MAX_SIZE = 100;
 	}
 }
@@ -7,6 +7,8 @@
 package org.hibernate.search.backend.elasticsearch.cfg;
 
 import org.hibernate.search.backend.elasticsearch.index.IndexStatus;
+import org.hibernate.search.engine.cfg.IndexingQueueBackPressureStrategyName;
+import org.hibernate.search.engine.cfg.IndexingQueueImplementationName;
 
 /**
  * Configuration properties for Elasticsearch indexes.
@@ -69,6 +71,32 @@ private ElasticsearchIndexSettings() {
 	 */
 	public static final String INDEXING_QUEUE_SIZE = INDEXING_PREFIX + IndexingRadicals.QUEUE_SIZE;
 
+	/**
+	 * The implementation of indexing queues.
+	 * <p>
+	 * Expects a {@link IndexingQueueImplementationName} value,
+	 * or a String representation of such value.
+	 * <p>
+	 * Defaults to {@link Defaults#INDEXING_QUEUE_IMPLEMENTATION}.
+	 * <p>
+	 * See the reference documentation, section "Elasticsearch backend - Indexing",
+	 * for more information about this setting and its implications.
+	 */
+	public static final String INDEXING_QUEUE_IMPLEMENTATION = INDEXING_PREFIX + IndexingRadicals.QUEUE_IMPLEMENTATION;
+
+	/**
+	 * The strategy to apply when a work is submitted to a full indexing queue.
+	 * <p>
+	 * Expects a {@link IndexingQueueBackPressureStrategyName} value,
+	 * or a String representation of such value.
+	 * <p>
+	 * Defaults to {@link Defaults#INDEXING_QUEUE_BACK_PRESSURE_STRATEGY}.
+	 * <p>
+	 * See the reference documentation, section "Elasticsearch backend - Indexing",
+	 * for more information about this setting and its implications.
+	 */
+	public static final String INDEXING_QUEUE_BACK_PRESSURE_STRATEGY = INDEXING_PREFIX + IndexingRadicals.QUEUE_BACK_PRESSURE_STRATEGY;
+
 	/**
 	 * The maximum size of bulk requests created when processing indexing queues.
 	 * <p>
@@ -82,6 +110,76 @@ private ElasticsearchIndexSettings() {
 	 */
 	public static final String INDEXING_MAX_BULK_SIZE = INDEXING_PREFIX + IndexingRadicals.MAX_BULK_SIZE;
 
+	/**
+	 * The maximum size of bulk requests created when processing indexing queues, in bytes.
+	 * <p>
+	 * When adding a work to a bulk would make the bulk request body exceed this size,
+	 * the bulk is sent and the work is added to a new bulk.
+	 * Works whose size exceeds this limit on their own are sent in a bulk of their own.
+	 * <p>
+	 * Enabling this limit requires serializing each work one more time to compute its size,
+	 * which has a cost in terms of CPU.
+	 * <p>
+	 * Expects a positive or zero integer value,
+	 * or a string that can be parsed to such integer value.
+	 * {@code 0} means the size of bulk requests is not limited.
+	 * <p>
+	 * Defaults to {@link Defaults#INDEXING_MAX_BULK_BYTES}.
+	 * <p>
+	 * See the reference documentation, section "Elasticsearch backend - Indexing",
+	 * for more information about this setting and its implications.
+	 */
+	public static final String INDEXING_MAX_BULK_BYTES = INDEXING_PREFIX + IndexingRadicals.MAX_BULK_BYTES;
+
+	/**
+	 * Whether the size of bulk requests should adapt to the load of the Elasticsearch cluster.
+	 * <p>
+	 * When enabled, the maximum number of works per bulk is decreased when bulk requests take too long
+	 * or get rejected by Elasticsearch, and progressively increased back to
+	 * {@link #INDEXING_MAX_BULK_SIZE the configured maximum} otherwise.
+	 * <p>
+	 * Expects a Boolean value such as {@code true} or {@code false},
+	 * or a string that can be parsed to such Boolean value.
+	 * <p>
+	 * Defaults to {@link Defaults#INDEXING_ADAPTIVE_BULK_SIZE_ENABLED}.
+	 * <p>
+	 * See the reference documentation, section "Elasticsearch backend - Indexing",
+	 * for more information about this setting and its implications.
+	 */
+	public static final String INDEXING_ADAPTIVE_BULK_SIZE_ENABLED = INDEXING_PREFIX + IndexingRadicals.ADAPTIVE_BULK_SIZE_ENABLED;
+
+	/**
+	 * The execution time above which a bulk request is considered too slow,
+	 * leading to a decrease of the bulk size when {@link #INDEXING_ADAPTIVE_BULK_SIZE_ENABLED adaptive bulk size}
+	 * is enabled.
+	 * <p>
+	 * Expects a strictly positive integer value in milliseconds, such as {@code 1000},
+	 * or a string that can be parsed to such integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#INDEXING_ADAPTIVE_BULK_SIZE_TARGET_LATENCY}.
+	 * <p>
+	 * See the reference documentation, section "Elasticsearch backend - Indexing",
+	 * for more information about this setting and its implications.
+	 */
+	public static final String INDEXING_ADAPTIVE_BULK_SIZE_TARGET_LATENCY = INDEXING_PREFIX + IndexingRadicals.ADAPTIVE_BULK_SIZE_TARGET_LATENCY;
+
+	/**
+	 * The maximum number of times bulked works rejected by Elasticsearch
+	 * with status 429 (Too Many Requests) will be retried.
+	 * <p>
+	 * Retries are attempted after an exponentially increasing delay, starting at 100 milliseconds.
+	 * A value of {@code 0} disables retries: rejected works are reported as failures immediately.
+	 * <p>
+	 * Expects a positive integer value,
+	 * or a string that can be parsed to such integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#INDEXING_MAX_BULK_RETRIES}.
+	 * <p>
+	 * See the reference documentation, section "Elasticsearch backend - Indexing",
+	 * for more information about this setting and its implications.
+	 */
+	public static final String INDEXING_MAX_BULK_RETRIES = INDEXING_PREFIX + IndexingRadicals.MAX_BULK_RETRIES;
+
 	/**
 	 * Configuration property keys for indexing, without the {@link #INDEXING_PREFIX prefix}.
 	 */
@@ -92,7 +190,13 @@ private IndexingRadicals() {
 
 		public static final String QUEUE_COUNT = "queue_count";
 		public static final String QUEUE_SIZE = "queue_size";
+		public static final String QUEUE_IMPLEMENTATION = "queue_implementation";
+		public static final String QUEUE_BACK_PRESSURE_STRATEGY = "queue_back_pressure_strategy";
 		public static final String MAX_BULK_SIZE = "max_bulk_size";
+		public static final String MAX_BULK_BYTES = "max_bulk_bytes";
+		public static final String ADAPTIVE_BULK_SIZE_ENABLED = "adaptive_bulk_size.enabled";
+		public static final String ADAPTIVE_BULK_SIZE_TARGET_LATENCY = "adaptive_bulk_size.target_latency";
+		public static final String MAX_BULK_RETRIES = "max_bulk_retries";
 	}
 
 	/**
@@ -107,7 +211,15 @@ private Defaults() {
 		public static final int SCHEMA_MANAGEMENT_MINIMAL_REQUIRED_STATUS_WAIT_TIMEOUT = 10_000;
 		public static final int INDEXING_QUEUE_COUNT = 10;
 		public static final int INDEXING_QUEUE_SIZE = 1000;
+		public static final IndexingQueueImplementationName INDEXING_QUEUE_IMPLEMENTATION =
+				IndexingQueueImplementationName.BLOCKING_QUEUE;
+		public static final IndexingQueueBackPressureStrategyName INDEXING_QUEUE_BACK_PRESSURE_STRATEGY =
+				IndexingQueueBackPressureStrategyName.BLOCK;
 		public static final int INDEXING_MAX_BULK_SIZE = 100;
+		public static final int INDEXING_MAX_BULK_BYTES = 0;
+		public static final boolean INDEXING_ADAPTIVE_BULK_SIZE_ENABLED = false;
+		public static final int INDEXING_ADAPTIVE_BULK_SIZE_TARGET_LATENCY = 1000;
+		public static final int INDEXING_MAX_BULK_RETRIES = 0;
 	}
 
 }
@@ -19,10 +19,13 @@
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
 
 import org.apache.http.HttpEntity;
+import org.apache.http.HttpHeaders;
 import org.apache.http.entity.ContentType;
 import org.elasticsearch.client.Request;
+import org.elasticsearch.client.RequestOptions;
 import org.elasticsearch.client.Response;
 import org.elasticsearch.client.ResponseException;
 import org.elasticsearch.client.ResponseListener;
@@ -49,6 +52,10 @@ public class ElasticsearchClientImpl implements ElasticsearchClientImplementor {
 
 	private static final Log requestLog = LoggerFactory.make( Log.class, ElasticsearchLogCategories.REQUEST );
 
+	private static final RequestOptions COMPRESSION_REQUEST_OPTIONS = RequestOptions.DEFAULT.toBuilder()
+			.addHeader( HttpHeaders.ACCEPT_ENCODING, ElasticsearchClientUtils.GZIP_ENCODING )
+			.build();
+
 	private final RestClient restClient;
 
 	private final Sniffer sniffer;
@@ -58,18 +65,22 @@ public class ElasticsearchClientImpl implements ElasticsearchClientImplementor {
 	private final int globalTimeoutValue;
 	private final TimeUnit globalTimeoutUnit;
 
+	private final boolean compressionEnabled;
+
 	private final Gson gson;
 	private final JsonLogHelper jsonLogHelper;
 
 	ElasticsearchClientImpl(RestClient restClient, Sniffer sniffer,
 			ScheduledExecutorService timeoutExecutorService,
 			int globalTimeoutValue, TimeUnit globalTimeoutUnit,
+			boolean compressionEnabled,
 			Gson gson, JsonLogHelper jsonLogHelper) {
 		this.restClient = restClient;
 		this.sniffer = sniffer;
 		this.timeoutExecutorService = timeoutExecutorService;
 		this.globalTimeoutValue = globalTimeoutValue;
 		this.globalTimeoutUnit = globalTimeoutUnit;
+		this.compressionEnabled = compressionEnabled;
 		this.gson = gson;
 		this.jsonLogHelper = jsonLogHelper;
 	}
@@ -99,7 +110,7 @@ private CompletableFuture<Response> send(ElasticsearchRequest elasticsearchReque
 
 		HttpEntity entity;
 		try {
-			entity = ElasticsearchClientUtils.toEntity( gson, elasticsearchRequest );
+			entity = ElasticsearchClientUtils.toEntity( gson, elasticsearchRequest, compressionEnabled );
 		}
 		catch (IOException | RuntimeException e) {
 			completableFuture.completeExceptionally( e );
@@ -157,7 +168,7 @@ public void onFailure(Exception exception) {
 		return completableFuture;
 	}
 
-	private static Request toRequest(ElasticsearchRequest elasticsearchRequest, HttpEntity entity) {
+	private Request toRequest(ElasticsearchRequest elasticsearchRequest, HttpEntity entity) {
 		Request request = new Request( elasticsearchRequest.method(), elasticsearchRequest.path() );
 
 		for ( Entry<String, String> parameter : elasticsearchRequest.parameters().entrySet() ) {
@@ -166,6 +177,10 @@ private static Request toRequest(ElasticsearchRequest elasticsearchRequest, Http
 
 		request.setEntity( entity );
 
+		if ( compressionEnabled ) {
+			request.setOptions( COMPRESSION_REQUEST_OPTIONS );
+		}
+
 		return request;
 	}
 
@@ -192,12 +207,21 @@ private JsonObject parseBody(Response response) throws IOException {
 		}
 
 		Charset charset = getCharset( entity );
-		try ( InputStream inputStream = entity.getContent();
+		try ( InputStream inputStream = getContent( entity );
 				Reader reader = new InputStreamReader( inputStream, charset ) ) {
 			return gson.fromJson( reader, JsonObject.class );
 		}
 	}
 
+	private static InputStream getContent(HttpEntity entity) throws IOException {
+		InputStream inputStream = entity.getContent();
+		if ( ElasticsearchClientUtils.isGzipEncoded( entity ) ) {
+			// Decompress on the fly while parsing, so that we never hold the uncompressed response in memory.
+			inputStream = new GZIPInputStream( inputStream );
+		}
+		return inputStream;
+	}
+
 	private static Charset getCharset(HttpEntity entity) {
 		ContentType contentType = ContentType.get( entity );
 		Charset charset = contentType.getCharset();
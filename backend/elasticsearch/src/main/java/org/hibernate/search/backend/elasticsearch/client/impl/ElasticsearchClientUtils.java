@@ -7,6 +7,7 @@
 package org.hibernate.search.backend.elasticsearch.client.impl;
 
 import java.io.IOException;
+import java.io.Writer;
 import java.lang.invoke.MethodHandles;
 import java.util.List;
 
@@ -22,6 +23,8 @@
 
 import com.google.gson.Gson;
 import com.google.gson.JsonObject;
+import org.apache.http.Header;
+import org.apache.http.HeaderElement;
 import org.apache.http.HttpEntity;
 
 
@@ -29,6 +32,8 @@ public class ElasticsearchClientUtils {
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
+	static final String GZIP_ENCODING = "gzip";
+
 	private static final JsonAccessor<String> VERSION_ACCESSOR =
 			JsonAccessor.root().property( "version" ).property( "number" ).asString();
 
@@ -40,12 +45,44 @@ public static boolean isSuccessCode(int code) {
 		return 200 <= code && code < 300;
 	}
 
-	public static HttpEntity toEntity(Gson gson, ElasticsearchRequest request) throws IOException {
+	public static HttpEntity toEntity(Gson gson, ElasticsearchRequest request, boolean compress)
+			throws IOException {
 		final List<JsonObject> bodyParts = request.bodyParts();
 		if ( bodyParts.isEmpty() ) {
 			return null;
 		}
-		return new GsonHttpEntity( gson, bodyParts );
+		GsonHttpEntity entity = new GsonHttpEntity( gson, bodyParts );
+		if ( !compress || entity.getContentLength() >= 0 ) {
+			// Compression disabled, or the body is small enough to fit into a single page:
+			// compressing it would not be worth the CPU.
+			return entity;
+		}
+		return new GzipHttpEntity( entity );
+	}
+
+	/**
+	 * @param gson The Gson instance used to serialize request bodies.
+	 * @param bodyPart A part of a request body.
+	 * @return The size of the body part in a request, in bytes, including the trailing line separator.
+	 */
+	public static long computeContentLength(Gson gson, JsonObject bodyPart) {
+		Utf8CountingWriter writer = new Utf8CountingWriter();
+		gson.toJson( bodyPart, writer );
+		// Line separator, see GsonHttpEntity
+		return writer.getByteCount() + 1;
+	}
+
+	public static boolean isGzipEncoded(HttpEntity entity) {
+		Header contentEncoding = entity.getContentEncoding();
+		if ( contentEncoding == null ) {
+			return false;
+		}
+		for ( HeaderElement element : contentEncoding.getElements() ) {
+			if ( GZIP_ENCODING.equalsIgnoreCase( element.getName() ) ) {
+				return true;
+			}
+		}
+		return false;
 	}
 
 	public static ElasticsearchVersion getElasticsearchVersion(ElasticsearchClient client) {
@@ -76,4 +113,61 @@ private static ElasticsearchVersion tryGetElasticsearchVersion(ElasticsearchClie
 		}
 	}
 
+	/**
+	 * A writer that discards its input and only counts the number of bytes it would take in UTF-8,
+	 * without actually encoding anything.
+	 */
+	private static final class Utf8CountingWriter extends Writer {
+		private long byteCount = 0L;
+
+		@Override
+		public void write(int c) {
+			byteCount += utf8Length( (char) c );
+		}
+
+		@Override
+		public void write(char[] buffer, int offset, int length) {
+			for ( int i = offset; i < offset + length; i++ ) {
+				byteCount += utf8Length( buffer[i] );
+			}
+		}
+
+		@Override
+		public void write(String string, int offset, int length) {
+			for ( int i = offset; i < offset + length; i++ ) {
+				byteCount += utf8Length( string.charAt( i ) );
+			}
+		}
+
+		@Override
+		public void flush() {
+			// Nothing to do
+		}
+
+		@Override
+		public void close() {
+			// Nothing to do
+		}
+
+		long getByteCount() {
+			return byteCount;
+		}
+
+		private static int utf8Length(char c) {
+			if ( c < 0x80 ) {
+				return 1;
+			}
+			else if ( c < 0x800 ) {
+				return 2;
+			}
+			else if ( Character.isSurrogate( c ) ) {
+				// A surrogate pair takes 4 bytes in UTF-8: count 2 for each surrogate
+				return 2;
+			}
+			else {
+				return 3;
+			}
+		}
+	}
+
 }
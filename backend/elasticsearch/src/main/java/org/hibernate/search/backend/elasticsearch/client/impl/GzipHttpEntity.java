@@ -0,0 +1,277 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.client.impl;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.zip.GZIPOutputStream;
+
+import org.apache.http.Header;
+import org.apache.http.HttpEntity;
+import org.apache.http.message.BasicHeader;
+import org.apache.http.nio.ContentEncoder;
+import org.apache.http.nio.IOControl;
+import org.apache.http.nio.entity.HttpAsyncContentProducer;
+import org.apache.http.protocol.HTTP;
+
+import org.hibernate.search.util.common.impl.Contracts;
+
+/**
+ * Compresses the content of a {@link GsonHttpEntity} with gzip while it is being sent.
+ * <p>
+ * The compressed content is never buffered entirely:
+ * the JSON is rendered and compressed a few pages at a time,
+ * as the HTTP client accepts more data.
+ * As a result, the content length is not known in advance,
+ * and the HTTP client will use chunked-encoding.
+ */
+final class GzipHttpEntity implements HttpEntity, HttpAsyncContentProducer {
+
+	private static final BasicHeader CONTENT_ENCODING =
+			new BasicHeader( HTTP.CONTENT_ENCODING, ElasticsearchClientUtils.GZIP_ENCODING );
+
+	/**
+	 * The amount of compressed content above which we stop rendering JSON
+	 * until the HTTP client consumed the compressed content.
+	 * Same as the size of byte buffer pages in {@link GsonHttpEntity}.
+	 */
+	private static final int COMPRESSED_BUFFER_THRESHOLD = 1024;
+
+	private final GsonHttpEntity delegate;
+
+	/**
+	 * Accepts uncompressed content from the delegate and compresses it into {@link #compressedBuffer},
+	 * pushing back as soon as that buffer reaches {@link #COMPRESSED_BUFFER_THRESHOLD}.
+	 */
+	private final CompressingEncoder compressingEncoder = new CompressingEncoder();
+
+	/**
+	 * Compressed content that was not accepted by the HTTP client yet.
+	 */
+	private final DrainableByteArrayOutputStream compressedBuffer = new DrainableByteArrayOutputStream();
+
+	/**
+	 * The gzip stream for the content being produced,
+	 * or {@code null} if production did not start yet or was finished.
+	 */
+	private GZIPOutputStream gzipStream;
+
+	private boolean gzipStreamFinished = false;
+
+	GzipHttpEntity(GsonHttpEntity delegate) {
+		Contracts.assertNotNull( delegate, "delegate" );
+		this.delegate = delegate;
+	}
+
+	@Override
+	public boolean isRepeatable() {
+		return delegate.isRepeatable();
+	}
+
+	@Override
+	public boolean isChunked() {
+		return true;
+	}
+
+	@Override
+	public long getContentLength() {
+		// We don't know the compressed length in advance: use chunked-encoding.
+		return -1;
+	}
+
+	@Override
+	public Header getContentType() {
+		return delegate.getContentType();
+	}
+
+	@Override
+	public Header getContentEncoding() {
+		return CONTENT_ENCODING;
+	}
+
+	@Override
+	public InputStream getContent() {
+		//This could be implemented but would be sub-optimal compared to using produceContent().
+		//We therefore prefer throwing the exception so that we can easily spot unintended usage via tests.
+		throw new UnsupportedOperationException( "Not implemented! Expected to produce content only over produceContent(),"
+				+ " or writeTo(OutputStream) if blocking calls are acceptable for your use case." );
+	}
+
+	@Override
+	public void writeTo(OutputStream out) throws IOException {
+		// We must not close the output stream that was passed as a parameter,
+		// but we still want to close the gzip stream to release its native resources.
+		try ( GZIPOutputStream gzipOutputStream = new GZIPOutputStream( new NonClosingOutputStream( out ) ) ) {
+			delegate.writeTo( gzipOutputStream );
+		}
+	}
+
+	@Override
+	public boolean isStreaming() {
+		return false;
+	}
+
+	@Override
+	@SuppressWarnings("deprecation") // javac warns about this method being deprecated, but we have to implement it
+	public void consumeContent() {
+		//not used (and deprecated)
+	}
+
+	@Override
+	public void produceContent(ContentEncoder encoder, IOControl ioctrl) throws IOException {
+		Contracts.assertNotNull( encoder, "encoder" );
+		// Warning: this method is possibly invoked multiple times, depending on the output buffers
+		// to have available space !
+		// Production of data is expected to complete only after we invoke ContentEncoder#complete.
+		if ( gzipStream == null && !gzipStreamFinished ) {
+			gzipStream = new GZIPOutputStream( compressedBuffer );
+		}
+
+		while ( true ) {
+			//First write unfinished business from previous attempts
+			compressedBuffer.drainTo( encoder );
+			if ( compressedBuffer.pendingSize() > 0 ) {
+				//Flow control is pushing back: return control to the caller and trust we'll be called again.
+				return;
+			}
+
+			if ( gzipStreamFinished ) {
+				// Everything was written: we finished!
+				encoder.complete();
+				//Allow to repeat the content rendering from the beginning:
+				reset();
+				return;
+			}
+
+			if ( compressingEncoder.isCompleted() ) {
+				// Writes the gzip trailer to the compressed buffer.
+				finishGzipStream();
+			}
+			else {
+				// Renders and compresses JSON until the compressed buffer is full or the JSON is complete.
+				delegate.produceContent( compressingEncoder, ioctrl );
+			}
+		}
+	}
+
+	@Override
+	public void close() throws IOException {
+		try {
+			delegate.close();
+		}
+		finally {
+			//Release the native resources of the gzip stream and discard in-process content
+			//so that we can start from the beginning if needed
+			reset();
+		}
+	}
+
+	private void finishGzipStream() throws IOException {
+		// Closing the gzip stream writes the trailer and releases native resources;
+		// closing the underlying byte array stream has no effect.
+		gzipStream.close();
+		gzipStream = null;
+		gzipStreamFinished = true;
+	}
+
+	private void reset() throws IOException {
+		try {
+			if ( gzipStream != null ) {
+				gzipStream.close();
+			}
+		}
+		finally {
+			gzipStream = null;
+			gzipStreamFinished = false;
+			compressingEncoder.completed = false;
+			compressedBuffer.reset();
+		}
+	}
+
+	private final class CompressingEncoder implements ContentEncoder {
+		private boolean completed = false;
+
+		@Override
+		public int write(ByteBuffer src) throws IOException {
+			if ( compressedBuffer.pendingSize() >= COMPRESSED_BUFFER_THRESHOLD ) {
+				// Push back: the compressed buffer must be consumed first.
+				return 0;
+			}
+			int length = src.remaining();
+			if ( src.hasArray() ) {
+				gzipStream.write( src.array(), src.arrayOffset() + src.position(), length );
+				src.position( src.limit() );
+			}
+			else {
+				byte[] bytes = new byte[length];
+				src.get( bytes );
+				gzipStream.write( bytes );
+			}
+			return length;
+		}
+
+		@Override
+		public void complete() {
+			completed = true;
+		}
+
+		@Override
+		public boolean isCompleted() {
+			return completed;
+		}
+	}
+
+	private static final class DrainableByteArrayOutputStream extends ByteArrayOutputStream {
+		private int drainedCount = 0;
+
+		DrainableByteArrayOutputStream() {
+			super( COMPRESSED_BUFFER_THRESHOLD * 2 );
+		}
+
+		synchronized int pendingSize() {
+			return count - drainedCount;
+		}
+
+		@Override
+		public synchronized void reset() {
+			super.reset();
+			drainedCount = 0;
+		}
+
+		synchronized void drainTo(ContentEncoder encoder) throws IOException {
+			if ( pendingSize() == 0 ) {
+				return;
+			}
+			drainedCount += encoder.write( ByteBuffer.wrap( buf, drainedCount, pendingSize() ) );
+			if ( pendingSize() == 0 ) {
+				// Everything was drained: start filling the buffer from the beginning again.
+				reset();
+			}
+		}
+	}
+
+	private static final class NonClosingOutputStream extends FilterOutputStream {
+		NonClosingOutputStream(OutputStream out) {
+			super( out );
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) throws IOException {
+			out.write( b, off, len );
+		}
+
+		@Override
+		public void close() throws IOException {
+			flush();
+		}
+	}
+
+}
@@ -23,6 +23,7 @@
 import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
 import org.hibernate.search.backend.elasticsearch.mapping.impl.TypeNameMapping;
 import org.hibernate.search.backend.elasticsearch.multitenancy.impl.MultiTenancyStrategy;
+import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchMultiSearchWorkOrchestrator;
 import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchSimpleWorkOrchestrator;
 import org.hibernate.search.backend.elasticsearch.resources.impl.BackendThreads;
 import org.hibernate.search.backend.elasticsearch.types.dsl.provider.impl.ElasticsearchIndexFieldTypeFactoryProvider;
@@ -55,6 +56,7 @@ class ElasticsearchBackendImpl implements BackendImplementor,
 	private final ElasticsearchLinkImpl link;
 
 	private final ElasticsearchSimpleWorkOrchestrator generalPurposeOrchestrator;
+	private final ElasticsearchMultiSearchWorkOrchestrator queryOrchestrator;
 
 	private final ElasticsearchIndexFieldTypeFactoryProvider typeFactoryProvider;
 	private final ElasticsearchAnalysisDefinitionRegistry analysisDefinitionRegistry;
@@ -83,6 +85,10 @@ class ElasticsearchBackendImpl implements BackendImplementor,
 				"Elasticsearch general purpose orchestrator - " + eventContext.render(),
 				link
 		);
+		this.queryOrchestrator = new ElasticsearchMultiSearchWorkOrchestrator(
+				"Elasticsearch query orchestrator - " + eventContext.render(),
+				threads, link, failureHandler
+		);
 		this.analysisDefinitionRegistry = analysisDefinitionRegistry;
 		this.multiTenancyStrategy = multiTenancyStrategy;
 		this.typeFactoryProvider = typeFactoryProvider;
@@ -96,7 +102,8 @@ class ElasticsearchBackendImpl implements BackendImplementor,
 				indexLayoutStrategyHolder.get(),
 				typeNameMapping,
 				failureHandler,
-				generalPurposeOrchestrator
+				generalPurposeOrchestrator,
+				queryOrchestrator
 		);
 		this.indexNamesRegistry = new IndexNamesRegistry();
 	}
@@ -111,17 +118,22 @@ public void start(BackendStartContext context) {
 		threads.onStart( context.configurationPropertySource(), context.threadPoolProvider() );
 		link.onStart( context.configurationPropertySource() );
 		generalPurposeOrchestrator.start( context.configurationPropertySource() );
+		queryOrchestrator.start( context.configurationPropertySource() );
 	}
 
 	@Override
 	public CompletableFuture<?> preStop() {
-		return generalPurposeOrchestrator.preStop();
+		return CompletableFuture.allOf(
+				generalPurposeOrchestrator.preStop(),
+				queryOrchestrator.preStop()
+		);
 	}
 
 	@Override
 	public void stop() {
 		try ( Closer<IOException> closer = new Closer<>() ) {
 			closer.push( ElasticsearchSimpleWorkOrchestrator::stop, generalPurposeOrchestrator );
+			closer.push( ElasticsearchMultiSearchWorkOrchestrator::stop, queryOrchestrator );
 			closer.push( ElasticsearchLinkImpl::onStop, link );
 			closer.push( BeanHolder::close, indexLayoutStrategyHolder );
 			closer.push( BackendThreads::onStop, threads );
@@ -56,6 +56,7 @@ public class IndexManagerBackendContext implements SearchBackendContext, WorkExe
 	private final IndexLayoutStrategy indexLayoutStrategy;
 	private final FailureHandler failureHandler;
 	private final ElasticsearchParallelWorkOrchestrator generalPurposeOrchestrator;
+	private final ElasticsearchParallelWorkOrchestrator queryOrchestrator;
 
 	private final SearchProjectionBackendContext searchProjectionBackendContext;
 
@@ -66,7 +67,8 @@ public IndexManagerBackendContext(ElasticsearchBackend backendAPI,
 			IndexLayoutStrategy indexLayoutStrategy,
 			TypeNameMapping typeNameMapping,
 			FailureHandler failureHandler,
-			ElasticsearchParallelWorkOrchestrator generalPurposeOrchestrator) {
+			ElasticsearchParallelWorkOrchestrator generalPurposeOrchestrator,
+			ElasticsearchParallelWorkOrchestrator queryOrchestrator) {
 		this.backendAPI = backendAPI;
 		this.eventContext = eventContext;
 		this.threads = threads;
@@ -76,6 +78,7 @@ public IndexManagerBackendContext(ElasticsearchBackend backendAPI,
 		this.indexLayoutStrategy = indexLayoutStrategy;
 		this.failureHandler = failureHandler;
 		this.generalPurposeOrchestrator = generalPurposeOrchestrator;
+		this.queryOrchestrator = queryOrchestrator;
 
 		this.searchProjectionBackendContext = new SearchProjectionBackendContext(
 				typeNameMapping.getTypeNameExtractionHelper(),
@@ -153,7 +156,7 @@ public <H> ElasticsearchSearchQueryBuilder<H> createSearchQueryBuilder(
 		multiTenancyStrategy.documentIdHelper().checkTenantId( sessionContext.tenantIdentifier(), eventContext );
 		return new ElasticsearchSearchQueryBuilder<>(
 				link.getWorkBuilderFactory(), link.getSearchResultExtractorFactory(),
-				generalPurposeOrchestrator,
+				queryOrchestrator, threads.getReadExecutor(),
 				searchContext, sessionContext, loadingContextBuilder, rootProjection
 		);
 	}
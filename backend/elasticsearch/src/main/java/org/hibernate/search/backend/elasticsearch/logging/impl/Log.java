@@ -677,4 +677,23 @@ SearchException invalidFieldValueType(@FormatWith(ClassFormatter.class) Class<?>
 					+ " Make sure to call '.multi()' when you create the projection.")
 	SearchException invalidSingleValuedProjectionOnMultiValuedField(String absolutePath, @Param EventContext context);
 
+	@Message(id = ID_OFFSET_3 + 114,
+			value = "Unable to retrieve the next chunk of hits: this scroll was closed.")
+	SearchException cannotUseClosedScroll();
+
+	@LogMessage(level = Level.DEBUG)
+	@Message(id = ID_OFFSET_3 + 115,
+			value = "Elasticsearch rejected %1$s bulked works with status 429 (Too Many Requests)."
+					+ " Retrying in %2$sms (attempt %3$s of %4$s).")
+	void retryingRejectedBulkedWorks(int rejectedCount, long delayMs, int attempt, int maxRetries);
+
+	@Message(id = ID_OFFSET_3 + 116,
+			// Note: no need to add a '\n' before "Request body" or "Response", since the formatter will always add one
+			value = "Elasticsearch request failed as part of a multi-search request."
+					+ "\nRequest header: %1$sRequest body: %2$sResponse: %3$s")
+	SearchException elasticsearchMultiSearchedRequestFailed(
+			@FormatWith( ElasticsearchJsonObjectFormatter.class ) JsonObject requestHeader,
+			@FormatWith( ElasticsearchJsonObjectFormatter.class ) JsonObject requestBody,
+			@FormatWith( ElasticsearchJsonObjectFormatter.class ) JsonObject response);
+
 }
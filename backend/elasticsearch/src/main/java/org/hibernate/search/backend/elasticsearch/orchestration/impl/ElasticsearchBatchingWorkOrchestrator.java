@@ -7,19 +7,29 @@
 package org.hibernate.search.backend.elasticsearch.orchestration.impl;
 
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 import org.hibernate.search.backend.elasticsearch.cfg.ElasticsearchIndexSettings;
+import org.hibernate.search.backend.elasticsearch.client.impl.ElasticsearchClientUtils;
 import org.hibernate.search.backend.elasticsearch.link.impl.ElasticsearchLink;
 import org.hibernate.search.backend.elasticsearch.resources.impl.BackendThreads;
+import org.hibernate.search.backend.elasticsearch.work.impl.BulkableWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWorkExecutionContext;
 import org.hibernate.search.backend.elasticsearch.work.impl.IndexingWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.NonBulkableWork;
+import org.hibernate.search.backend.elasticsearch.work.result.impl.BulkResult;
 import org.hibernate.search.engine.backend.orchestration.spi.BatchingExecutor;
+import org.hibernate.search.engine.cfg.IndexingQueueBackPressureStrategyName;
+import org.hibernate.search.engine.cfg.IndexingQueueImplementationName;
 import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
 import org.hibernate.search.engine.cfg.spi.ConfigurationPropertySource;
 import org.hibernate.search.engine.reporting.FailureHandler;
 import org.hibernate.search.util.common.data.impl.SimpleHashFunction;
 import org.hibernate.search.util.common.impl.Closer;
 
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+
 /**
  * An orchestrator sending works to a queue which is processed periodically
  * in a separate thread.
@@ -45,12 +55,48 @@
 					.withDefault( ElasticsearchIndexSettings.Defaults.INDEXING_QUEUE_SIZE )
 					.build();
 
+	private static final ConfigurationProperty<IndexingQueueImplementationName> QUEUE_IMPLEMENTATION =
+			ConfigurationProperty.forKey( ElasticsearchIndexSettings.INDEXING_QUEUE_IMPLEMENTATION )
+					.as( IndexingQueueImplementationName.class, IndexingQueueImplementationName::of )
+					.withDefault( ElasticsearchIndexSettings.Defaults.INDEXING_QUEUE_IMPLEMENTATION )
+					.build();
+
+	private static final ConfigurationProperty<IndexingQueueBackPressureStrategyName> QUEUE_BACK_PRESSURE_STRATEGY =
+			ConfigurationProperty.forKey( ElasticsearchIndexSettings.INDEXING_QUEUE_BACK_PRESSURE_STRATEGY )
+					.as( IndexingQueueBackPressureStrategyName.class, IndexingQueueBackPressureStrategyName::of )
+					.withDefault( ElasticsearchIndexSettings.Defaults.INDEXING_QUEUE_BACK_PRESSURE_STRATEGY )
+					.build();
+
 	private static final ConfigurationProperty<Integer> MAX_BULK_SIZE =
 			ConfigurationProperty.forKey( ElasticsearchIndexSettings.INDEXING_MAX_BULK_SIZE )
 					.asInteger()
 					.withDefault( ElasticsearchIndexSettings.Defaults.INDEXING_MAX_BULK_SIZE )
 					.build();
 
+	private static final ConfigurationProperty<Integer> MAX_BULK_BYTES =
+			ConfigurationProperty.forKey( ElasticsearchIndexSettings.INDEXING_MAX_BULK_BYTES )
+					.asInteger()
+					.withDefault( ElasticsearchIndexSettings.Defaults.INDEXING_MAX_BULK_BYTES )
+					.build();
+
+	private static final ConfigurationProperty<Boolean> ADAPTIVE_BULK_SIZE_ENABLED =
+			ConfigurationProperty.forKey( ElasticsearchIndexSettings.INDEXING_ADAPTIVE_BULK_SIZE_ENABLED )
+					.asBoolean()
+					.withDefault( ElasticsearchIndexSettings.Defaults.INDEXING_ADAPTIVE_BULK_SIZE_ENABLED )
+					.build();
+
+	private static final ConfigurationProperty<Integer> ADAPTIVE_BULK_SIZE_TARGET_LATENCY =
+			ConfigurationProperty.forKey( ElasticsearchIndexSettings.INDEXING_ADAPTIVE_BULK_SIZE_TARGET_LATENCY )
+					.asInteger()
+					.withDefault( ElasticsearchIndexSettings.Defaults.INDEXING_ADAPTIVE_BULK_SIZE_TARGET_LATENCY )
+					.build();
+
+	private static final ConfigurationProperty<Integer> MAX_BULK_RETRIES =
+			ConfigurationProperty.forKey( ElasticsearchIndexSettings.INDEXING_MAX_BULK_RETRIES )
+					.asInteger()
+					.withDefault( ElasticsearchIndexSettings.Defaults.INDEXING_MAX_BULK_RETRIES )
+					.build();
+
 	private final BackendThreads threads;
 	private final FailureHandler failureHandler;
 
@@ -81,19 +127,32 @@ public <T> CompletableFuture<T> submit(IndexingWork<T> work) {
 	protected void doStart(ConfigurationPropertySource propertySource) {
 		int queueCount = QUEUE_COUNT.get( propertySource );
 		int queueSize = QUEUE_SIZE.get( propertySource );
+		IndexingQueueImplementationName queueImplementation = QUEUE_IMPLEMENTATION.get( propertySource );
+		IndexingQueueBackPressureStrategyName queueBackPressureStrategy =
+				QUEUE_BACK_PRESSURE_STRATEGY.get( propertySource );
 		int maxBulkSize = MAX_BULK_SIZE.get( propertySource );
+		int maxBulkBytes = MAX_BULK_BYTES.get( propertySource );
+		int maxBulkRetries = MAX_BULK_RETRIES.get( propertySource );
+		// The controller is shared between all executors, since they all target the same cluster.
+		ElasticsearchBulkSizeController bulkSizeController = ADAPTIVE_BULK_SIZE_ENABLED.get( propertySource )
+				? new ElasticsearchBulkSizeController( maxBulkSize,
+						ADAPTIVE_BULK_SIZE_TARGET_LATENCY.get( propertySource ), TimeUnit.MILLISECONDS )
+				: null;
 
 		ElasticsearchWorkExecutionContext executionContext = createWorkExecutionContext();
 
 		executors = new BatchingExecutor[queueCount];
 		for ( int i = 0; i < executors.length; i++ ) {
 			// Processors are not thread-safe: create one per executor.
-			ElasticsearchBatchedWorkProcessor processor = createProcessor( executionContext, maxBulkSize );
+			ElasticsearchBatchedWorkProcessor processor = createProcessor( executionContext,
+					maxBulkSize, maxBulkBytes, maxBulkRetries, bulkSizeController );
 			executors[i] = new BatchingExecutor<>(
 					name() + " - " + i,
 					processor,
 					queueSize,
 					true,
+					queueImplementation,
+					queueBackPressureStrategy,
 					failureHandler
 			);
 		}
@@ -126,15 +185,34 @@ protected void doStop() {
 	}
 
 	private ElasticsearchBatchedWorkProcessor createProcessor(ElasticsearchWorkExecutionContext context,
-			int maxBulkSize) {
+			int maxBulkSize, int maxBulkBytes, int maxBulkRetries, ElasticsearchBulkSizeController bulkSizeController) {
 		ElasticsearchWorkSequenceBuilder sequenceBuilder = new ElasticsearchDefaultWorkSequenceBuilder( context );
+		Gson gson = link.getGsonProvider().getGson();
+		boolean bulkBytesLimited = maxBulkBytes > 0;
 		ElasticsearchWorkBulker bulker = new ElasticsearchDefaultWorkBulker(
 				sequenceBuilder,
-				(worksToBulk, refreshStrategy) ->
-						link.getWorkBuilderFactory().bulk( worksToBulk ).refresh( refreshStrategy ).build(),
-				maxBulkSize
+				(worksToBulk, refreshStrategy) -> {
+					NonBulkableWork<BulkResult> bulkWork = link.getWorkBuilderFactory().bulk( worksToBulk )
+							.refresh( refreshStrategy )
+							.retryOnRejection( maxBulkRetries, threads.getWorkExecutor() )
+							.build();
+					return bulkSizeController == null ? bulkWork : bulkSizeController.instrument( bulkWork );
+				},
+				bulkSizeController == null ? () -> maxBulkSize : bulkSizeController::currentMaxBulkSize,
+				// Computing the size of works means serializing them: only do it when there is a limit.
+				bulkBytesLimited ? maxBulkBytes : Long.MAX_VALUE,
+				bulkBytesLimited ? work -> bulkableWorkBytes( gson, work ) : work -> 0L
 		);
 		return new ElasticsearchBatchedWorkProcessor( sequenceBuilder, bulker );
 	}
 
+	private static long bulkableWorkBytes(Gson gson, BulkableWork<?> work) {
+		long bytes = ElasticsearchClientUtils.computeContentLength( gson, work.getBulkableActionMetadata() );
+		JsonObject actionBody = work.getBulkableActionBody();
+		if ( actionBody != null ) {
+			bytes += ElasticsearchClientUtils.computeContentLength( gson, actionBody );
+		}
+		return bytes;
+	}
+
 }
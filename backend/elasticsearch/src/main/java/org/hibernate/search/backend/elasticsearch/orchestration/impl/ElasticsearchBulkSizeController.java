@@ -0,0 +1,96 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.orchestration.impl;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWorkExecutionContext;
+import org.hibernate.search.backend.elasticsearch.work.impl.NonBulkableWork;
+import org.hibernate.search.backend.elasticsearch.work.result.impl.BulkResult;
+
+/**
+ * Adapts the maximum number of works per bulk to the load of the Elasticsearch cluster,
+ * using an additive-increase/multiplicative-decrease (AIMD) algorithm.
+ * <p>
+ * After each bulk that executed within the target latency without any rejection,
+ * the limit is increased by one work, up to the configured maximum.
+ * After each bulk that took too long, that had some works rejected by Elasticsearch (status 429),
+ * or that failed altogether, the limit is halved.
+ * <p>
+ * This class is thread-safe: bulk executions are reported from client threads.
+ */
+final class ElasticsearchBulkSizeController {
+
+	private final int maxBulkSize;
+	private final long targetLatencyNanos;
+
+	private final AtomicInteger currentMaxBulkSize;
+
+	ElasticsearchBulkSizeController(int maxBulkSize, long targetLatency, TimeUnit targetLatencyUnit) {
+		this.maxBulkSize = maxBulkSize;
+		this.targetLatencyNanos = targetLatencyUnit.toNanos( targetLatency );
+		this.currentMaxBulkSize = new AtomicInteger( maxBulkSize );
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "["
+				+ "maxBulkSize=" + maxBulkSize
+				+ ", targetLatencyNanos=" + targetLatencyNanos
+				+ ", currentMaxBulkSize=" + currentMaxBulkSize.get()
+				+ "]";
+	}
+
+	/**
+	 * @return The maximum number of works to put in the next bulk.
+	 */
+	int currentMaxBulkSize() {
+		return currentMaxBulkSize.get();
+	}
+
+	/**
+	 * @param bulkWork A bulk work.
+	 * @return A bulk work that will report its execution to this controller.
+	 */
+	NonBulkableWork<BulkResult> instrument(NonBulkableWork<BulkResult> bulkWork) {
+		return new InstrumentedBulkWork( bulkWork );
+	}
+
+	void onBulkExecuted(long latencyNanos, boolean overloaded) {
+		if ( overloaded || latencyNanos > targetLatencyNanos ) {
+			currentMaxBulkSize.updateAndGet( size -> Math.max( 1, size / 2 ) );
+		}
+		else {
+			currentMaxBulkSize.updateAndGet( size -> Math.min( maxBulkSize, size + 1 ) );
+		}
+	}
+
+	private final class InstrumentedBulkWork implements NonBulkableWork<BulkResult> {
+		private final NonBulkableWork<BulkResult> delegate;
+
+		private InstrumentedBulkWork(NonBulkableWork<BulkResult> delegate) {
+			this.delegate = delegate;
+		}
+
+		@Override
+		public String toString() {
+			return delegate.toString();
+		}
+
+		@Override
+		public CompletableFuture<BulkResult> execute(ElasticsearchWorkExecutionContext context) {
+			long start = System.nanoTime();
+			return delegate.execute( context )
+					.whenComplete( (result, throwable) -> onBulkExecuted(
+							System.nanoTime() - start,
+							throwable != null || result.hasRejectedWorks()
+					) );
+		}
+	}
+}
@@ -10,6 +10,8 @@
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.BiFunction;
+import java.util.function.IntSupplier;
+import java.util.function.ToLongFunction;
 
 import org.hibernate.search.backend.elasticsearch.work.impl.NonBulkableWork;
 import org.hibernate.search.backend.elasticsearch.work.result.impl.BulkResult;
@@ -20,9 +22,12 @@ class ElasticsearchDefaultWorkBulker implements ElasticsearchWorkBulker {
 
 	private final ElasticsearchWorkSequenceBuilder sequenceBuilder;
 	private final BiFunction<List<? extends BulkableWork<?>>, DocumentRefreshStrategy, NonBulkableWork<BulkResult>> bulkWorkFactory;
-	private final int maxBulkSize;
+	private final IntSupplier maxBulkSize;
+	private final long maxBulkBytes;
+	private final ToLongFunction<BulkableWork<?>> workBytesFunction;
 
 	private final List<BulkableWork<?>> currentBulkItems;
+	private long currentBulkBytes;
 	private DocumentRefreshStrategy currentBulkRefreshStrategy;
 	private CompletableFuture<NonBulkableWork<BulkResult>> currentBulkWorkFuture;
 	private CompletableFuture<BulkResult> currentBulkResultFuture;
@@ -30,18 +35,26 @@ class ElasticsearchDefaultWorkBulker implements ElasticsearchWorkBulker {
 	/**
 	 * @param sequenceBuilder The sequence builder to add works to
 	 * @param bulkWorkFactory The factory for bulk works
-	 * @param maxBulkSize Maximum number of works in a single bulk.
+	 * @param maxBulkSize A supplier of the maximum number of works in a single bulk,
+	 * called each time a work is added.
 	 * If a bulk reaches this size, it will be automatically
 	 * {@link #finalizeBulkWork() finalized}.
+	 * @param maxBulkBytes Maximum size of a single bulk, in bytes.
+	 * If adding a work would make a non-empty bulk exceed this size,
+	 * the bulk will be automatically {@link #finalizeBulkWork() finalized} first.
+	 * @param workBytesFunction A function returning the size of a work in a bulk request, in bytes.
 	 */
 	public ElasticsearchDefaultWorkBulker(ElasticsearchWorkSequenceBuilder sequenceBuilder,
 			BiFunction<List<? extends BulkableWork<?>>, DocumentRefreshStrategy, NonBulkableWork<BulkResult>> bulkWorkFactory,
-			int maxBulkSize) {
+			IntSupplier maxBulkSize, long maxBulkBytes, ToLongFunction<BulkableWork<?>> workBytesFunction) {
 		this.sequenceBuilder = sequenceBuilder;
 		this.bulkWorkFactory = bulkWorkFactory;
 		this.maxBulkSize = maxBulkSize;
+		this.maxBulkBytes = maxBulkBytes;
+		this.workBytesFunction = workBytesFunction;
 
 		this.currentBulkItems = new ArrayList<>();
+		this.currentBulkBytes = 0L;
 		this.currentBulkWorkFuture = null;
 		this.currentBulkResultFuture = null;
 	}
@@ -49,6 +62,7 @@ public ElasticsearchDefaultWorkBulker(ElasticsearchWorkSequenceBuilder sequenceB
 	@Override
 	public <T> CompletableFuture<T> add(BulkableWork<T> work) {
 		DocumentRefreshStrategy workRefreshStrategy = work.getRefreshStrategy();
+		long workBytes = workBytesFunction.applyAsLong( work );
 		if ( currentBulkItems.isEmpty() ) {
 			currentBulkRefreshStrategy = workRefreshStrategy;
 		}
@@ -57,6 +71,11 @@ else if ( currentBulkRefreshStrategy != workRefreshStrategy ) {
 			finalizeBulkWork();
 			currentBulkRefreshStrategy = workRefreshStrategy;
 		}
+		else if ( currentBulkBytes + workBytes > maxBulkBytes ) {
+			// This work would make the bulk request too large; we can't reuse the current bulk.
+			finalizeBulkWork();
+			currentBulkRefreshStrategy = workRefreshStrategy;
+		}
 
 		if ( currentBulkWorkFuture == null ) {
 			currentBulkWorkFuture = new CompletableFuture<>();
@@ -65,12 +84,13 @@ else if ( currentBulkRefreshStrategy != workRefreshStrategy ) {
 
 		int currentBulkWorkIndex = currentBulkItems.size();
 		currentBulkItems.add( work );
+		currentBulkBytes += workBytes;
 
 		CompletableFuture<T> future = sequenceBuilder.addBulkResultExtraction(
 				currentBulkResultFuture, work, currentBulkWorkIndex
 		);
 
-		if ( currentBulkItems.size() >= maxBulkSize ) {
+		if ( currentBulkItems.size() >= maxBulkSize.getAsInt() || currentBulkBytes >= maxBulkBytes ) {
 			finalizeBulkWork();
 		}
 
@@ -92,6 +112,7 @@ public void finalizeBulkWork() {
 	@Override
 	public void reset() {
 		this.currentBulkItems.clear();
+		this.currentBulkBytes = 0L;
 		this.currentBulkRefreshStrategy = null;
 		this.currentBulkWorkFuture = null;
 		this.currentBulkResultFuture = null;
@@ -0,0 +1,230 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.orchestration.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.search.backend.elasticsearch.cfg.ElasticsearchBackendSettings;
+import org.hibernate.search.backend.elasticsearch.link.impl.ElasticsearchLink;
+import org.hibernate.search.backend.elasticsearch.resources.impl.BackendThreads;
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWorkExecutionContext;
+import org.hibernate.search.backend.elasticsearch.work.impl.NonBulkableWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.SearchWork;
+import org.hibernate.search.backend.elasticsearch.work.result.impl.MultiSearchResult;
+import org.hibernate.search.engine.backend.orchestration.spi.BatchedWork;
+import org.hibernate.search.engine.backend.orchestration.spi.BatchedWorkProcessor;
+import org.hibernate.search.engine.backend.orchestration.spi.BatchingExecutor;
+import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
+import org.hibernate.search.engine.cfg.spi.ConfigurationPropertySource;
+import org.hibernate.search.engine.reporting.FailureHandler;
+import org.hibernate.search.util.common.impl.Futures;
+
+/**
+ * An orchestrator for search queries, optionally sending queries submitted concurrently
+ * in a single multi-search request.
+ * <p>
+ * When multi-search is disabled, works are executed immediately, just like with
+ * {@link ElasticsearchSimpleWorkOrchestrator}.
+ * <p>
+ * When multi-search is enabled, {@link SearchWork#isMultiSearchable() multi-searchable} search works
+ * are sent to a queue which is processed in a separate thread.
+ * All search works found in the queue when processing starts are sent together
+ * in a single {@code _msearch} request.
+ * Processing does not wait for the response before handling the next batch,
+ * so that batching never adds more latency than the time necessary to send a request.
+ * Other works are executed immediately.
+ */
+public class ElasticsearchMultiSearchWorkOrchestrator
+		extends AbstractElasticsearchWorkOrchestrator<ElasticsearchMultiSearchWorkOrchestrator.WorkExecution<?>>
+		implements ElasticsearchParallelWorkOrchestrator {
+
+	private static final ConfigurationProperty<Boolean> MULTI_SEARCH_ENABLED =
+			ConfigurationProperty.forKey( ElasticsearchBackendSettings.QUERY_MULTI_SEARCH_ENABLED )
+					.asBoolean()
+					.withDefault( ElasticsearchBackendSettings.Defaults.QUERY_MULTI_SEARCH_ENABLED )
+					.build();
+
+	private static final ConfigurationProperty<Integer> MULTI_SEARCH_MAX_SIZE =
+			ConfigurationProperty.forKey( ElasticsearchBackendSettings.QUERY_MULTI_SEARCH_MAX_SIZE )
+					.asInteger()
+					.withDefault( ElasticsearchBackendSettings.Defaults.QUERY_MULTI_SEARCH_MAX_SIZE )
+					.build();
+
+	private final BackendThreads threads;
+	private final FailureHandler failureHandler;
+
+	private ElasticsearchWorkExecutionContext executionContext;
+	private BatchingExecutor<MultiSearchProcessor> executor;
+
+	/**
+	 * @param name The name of the orchestrator thread (and of this orchestrator when reporting errors)
+	 * @param threads The threads for this backend.
+	 * @param link The Elasticsearch link for this backend.
+	 * @param failureHandler A failure handler to report failures of the background thread.
+	 */
+	public ElasticsearchMultiSearchWorkOrchestrator(String name, BackendThreads threads, ElasticsearchLink link,
+			FailureHandler failureHandler) {
+		super( name, link );
+		this.threads = threads;
+		this.failureHandler = failureHandler;
+	}
+
+	@Override
+	public <T> CompletableFuture<T> submit(NonBulkableWork<T> work) {
+		WorkExecution<T> workExecution = new WorkExecution<>( work );
+		submit( workExecution );
+		return workExecution.future;
+	}
+
+	@Override
+	protected void doStart(ConfigurationPropertySource propertySource) {
+		executionContext = createWorkExecutionContext();
+		if ( MULTI_SEARCH_ENABLED.get( propertySource ) ) {
+			executor = new BatchingExecutor<>(
+					name(),
+					new MultiSearchProcessor( link, executionContext ),
+					MULTI_SEARCH_MAX_SIZE.get( propertySource ),
+					true,
+					failureHandler
+			);
+			executor.start( threads.getWorkExecutor() );
+		}
+	}
+
+	@Override
+	protected void doSubmit(WorkExecution<?> work) throws InterruptedException {
+		if ( executor != null && work.isMultiSearchable() ) {
+			executor.submit( work );
+		}
+		else {
+			work.execute( executionContext );
+		}
+	}
+
+	@Override
+	protected CompletableFuture<?> completion() {
+		// We do not wait for these works to finish;
+		// callers were provided with a future and are responsible for waiting
+		// before they close the application.
+		// We only wait for queued works to be sent.
+		return executor == null ? CompletableFuture.completedFuture( null ) : executor.completion();
+	}
+
+	@Override
+	protected void doStop() {
+		if ( executor != null ) {
+			executor.stop();
+			executor = null;
+		}
+		executionContext = null;
+	}
+
+	static final class WorkExecution<T> implements BatchedWork<MultiSearchProcessor> {
+		private final NonBulkableWork<T> work;
+		private final CompletableFuture<T> future = new CompletableFuture<>();
+
+		WorkExecution(NonBulkableWork<T> work) {
+			this.work = work;
+		}
+
+		@Override
+		public void submitTo(MultiSearchProcessor processor) {
+			processor.submit( this );
+		}
+
+		@Override
+		public void markAsFailed(Throwable t) {
+			future.completeExceptionally( t );
+		}
+
+		boolean isMultiSearchable() {
+			return work instanceof SearchWork && ( (SearchWork<T>) work ).isMultiSearchable();
+		}
+
+		SearchWork<T> searchWork() {
+			return (SearchWork<T>) work;
+		}
+
+		void execute(ElasticsearchWorkExecutionContext executionContext) {
+			Futures.create( () -> work.execute( executionContext ) )
+					.whenComplete( Futures.copyHandler( future ) );
+		}
+
+		void complete(MultiSearchResult result, int index) {
+			try {
+				future.complete( result.extract( searchWork(), index ) );
+			}
+			catch (RuntimeException e) {
+				future.completeExceptionally( e );
+			}
+		}
+	}
+
+	/**
+	 * Groups all works of a batch into a single multi-search work.
+	 * <p>
+	 * This class is mutable and not thread-safe.
+	 */
+	static final class MultiSearchProcessor implements BatchedWorkProcessor {
+		private final ElasticsearchLink link;
+		private final ElasticsearchWorkExecutionContext executionContext;
+
+		private List<WorkExecution<?>> workExecutions = new ArrayList<>();
+
+		private MultiSearchProcessor(ElasticsearchLink link, ElasticsearchWorkExecutionContext executionContext) {
+			this.link = link;
+			this.executionContext = executionContext;
+		}
+
+		@Override
+		public void beginBatch() {
+			workExecutions = new ArrayList<>();
+		}
+
+		void submit(WorkExecution<?> workExecution) {
+			workExecutions.add( workExecution );
+		}
+
+		@Override
+		public CompletableFuture<?> endBatch() {
+			List<WorkExecution<?>> batch = workExecutions;
+			if ( batch.size() == 1 ) {
+				// No need for the overhead of a multi-search request
+				batch.get( 0 ).execute( executionContext );
+			}
+			else if ( !batch.isEmpty() ) {
+				List<SearchWork<?>> searchWorks = new ArrayList<>( batch.size() );
+				for ( WorkExecution<?> workExecution : batch ) {
+					searchWorks.add( workExecution.searchWork() );
+				}
+				NonBulkableWork<MultiSearchResult> multiSearchWork =
+						link.getWorkBuilderFactory().multiSearch( searchWorks ).build();
+				Futures.create( () -> multiSearchWork.execute( executionContext ) )
+						.whenComplete( (result, throwable) -> {
+							for ( int i = 0; i < batch.size(); i++ ) {
+								WorkExecution<?> workExecution = batch.get( i );
+								if ( throwable != null ) {
+									workExecution.markAsFailed( throwable );
+								}
+								else {
+									workExecution.complete( result, i );
+								}
+							}
+						} );
+			}
+			// Do not wait for the response: the next batch can be sent right away.
+			return CompletableFuture.completedFuture( null );
+		}
+
+		@Override
+		public void complete() {
+			// Nothing to do: works are sent as soon as the batch ends.
+		}
+	}
+}
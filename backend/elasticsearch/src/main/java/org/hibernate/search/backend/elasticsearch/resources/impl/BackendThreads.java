@@ -6,6 +6,7 @@
  */
 package org.hibernate.search.backend.elasticsearch.resources.impl;
 
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ScheduledExecutorService;
 
 import org.hibernate.search.backend.elasticsearch.cfg.ElasticsearchBackendSettings;
@@ -23,10 +24,16 @@ public class BackendThreads {
 					.asInteger()
 					.build();
 
+	private static final OptionalConfigurationProperty<Integer> READ_THREAD_POOL_SIZE =
+			ConfigurationProperty.forKey( ElasticsearchBackendSettings.READ_THREAD_POOL_SIZE )
+					.asInteger()
+					.build();
+
 	private final String prefix;
 
 	private ThreadPoolProvider threadPoolProvider;
 	private ScheduledExecutorService workExecutor;
+	private ExecutorService readExecutor;
 
 	public BackendThreads(String prefix) {
 		this.prefix = prefix;
@@ -45,12 +52,21 @@ public void onStart(ConfigurationPropertySource propertySource, ThreadPoolProvid
 		this.workExecutor = threadPoolProvider.newScheduledExecutor(
 				threadPoolSize, prefix + " - Worker thread"
 		);
+
+		int readThreadPoolSize = READ_THREAD_POOL_SIZE.get( propertySource )
+				.orElse( Runtime.getRuntime().availableProcessors() );
+		this.readExecutor = threadPoolProvider.newFixedThreadPool(
+				readThreadPoolSize, prefix + " - Read thread"
+		);
 	}
 
 	public void onStop() {
 		if ( workExecutor != null ) {
 			workExecutor.shutdownNow();
 		}
+		if ( readExecutor != null ) {
+			readExecutor.shutdownNow();
+		}
 	}
 
 	public String getPrefix() {
@@ -67,6 +83,14 @@ public ScheduledExecutorService getWorkExecutor() {
 		return workExecutor;
 	}
 
+	/**
+	 * @return The executor to use for loading entities when executing queries asynchronously.
+	 */
+	public ExecutorService getReadExecutor() {
+		checkStarted();
+		return readExecutor;
+	}
+
 	private void checkStarted() {
 		if ( workExecutor == null ) {
 			throw new AssertionFailure(
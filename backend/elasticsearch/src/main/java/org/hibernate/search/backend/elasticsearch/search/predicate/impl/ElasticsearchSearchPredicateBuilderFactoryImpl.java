@@ -25,6 +25,7 @@
 import org.hibernate.search.engine.search.predicate.spi.SpatialWithinCirclePredicateBuilder;
 import org.hibernate.search.engine.search.predicate.spi.SpatialWithinPolygonPredicateBuilder;
 import org.hibernate.search.engine.search.predicate.spi.WildcardPredicateBuilder;
+import org.hibernate.search.engine.search.predicate.spi.WithParametersPredicateBuilder;
 
 import com.google.gson.JsonObject;
 
@@ -40,8 +41,8 @@ public ElasticsearchSearchPredicateBuilderFactoryImpl(ElasticsearchSearchContext
 
 	@Override
 	public void contribute(ElasticsearchSearchPredicateCollector collector, SearchPredicate predicate) {
-		ElasticsearchSearchPredicate lucenePredicate = ElasticsearchSearchPredicate.from( searchContext, predicate );
-		collector.collectPredicate( lucenePredicate.toJsonQuery( collector.getRootPredicateContext() ) );
+		ElasticsearchSearchPredicate elasticsearchPredicate = ElasticsearchSearchPredicate.from( searchContext, predicate );
+		collector.collectPredicate( elasticsearchPredicate );
 	}
 
 	@Override
@@ -125,6 +126,11 @@ public NestedPredicateBuilder nested(String absoluteFieldPath) {
 		return new ElasticsearchNestedPredicate.Builder( searchContext, absoluteFieldPath, nestedPathHierarchy );
 	}
 
+	@Override
+	public WithParametersPredicateBuilder withParameters() {
+		return new ElasticsearchWithParametersPredicate.Builder( searchContext );
+	}
+
 	@Override
 	public ElasticsearchSearchPredicate fromJson(JsonObject jsonObject) {
 		return new ElasticsearchUserProvidedJsonPredicate( searchContext, jsonObject );
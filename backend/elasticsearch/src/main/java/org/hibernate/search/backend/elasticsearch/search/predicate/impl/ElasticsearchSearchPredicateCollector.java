@@ -8,11 +8,11 @@
 
 import org.hibernate.search.engine.search.predicate.SearchPredicate;
 
-import com.google.gson.JsonObject;
-
-
 /**
- * A predicate collector for Elasticsearch, using JSON to represent predicates.
+ * A predicate collector for Elasticsearch.
+ * <p>
+ * Predicates are collected as {@link ElasticsearchSearchPredicate}s and only translated to JSON
+ * when the search query is built, so that they can depend on query parameters.
  * <p>
  * Used by Elasticsearch-specific predicate contributors.
  *
@@ -22,6 +22,6 @@ public interface ElasticsearchSearchPredicateCollector {
 
 	PredicateRequestContext getRootPredicateContext();
 
-	void collectPredicate(JsonObject jsonQuery);
+	void collectPredicate(ElasticsearchSearchPredicate predicate);
 
 }
@@ -0,0 +1,59 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.search.predicate.impl;
+
+import java.util.function.Function;
+
+import org.hibernate.search.backend.elasticsearch.search.impl.ElasticsearchSearchContext;
+import org.hibernate.search.engine.search.common.NamedValues;
+import org.hibernate.search.engine.search.predicate.SearchPredicate;
+import org.hibernate.search.engine.search.predicate.spi.WithParametersPredicateBuilder;
+
+import com.google.gson.JsonObject;
+
+class ElasticsearchWithParametersPredicate extends AbstractElasticsearchPredicate {
+
+	private final ElasticsearchSearchContext searchContext;
+	private final Function<? super NamedValues, ? extends SearchPredicate> predicateCreator;
+
+	private ElasticsearchWithParametersPredicate(Builder builder) {
+		super( builder );
+		searchContext = builder.searchContext;
+		predicateCreator = builder.predicateCreator;
+	}
+
+	@Override
+	public void checkNestableWithin(String expectedParentNestedPath) {
+		// The actual predicate is only known when parameters are: it will be checked in toJsonQuery()
+	}
+
+	@Override
+	protected JsonObject doToJsonQuery(PredicateRequestContext context,
+			JsonObject outerObject, JsonObject innerObject) {
+		SearchPredicate predicate = predicateCreator.apply( context.parameters() );
+		// Options such as boost are not available on this predicate: just use the created predicate as is
+		return ElasticsearchSearchPredicate.from( searchContext, predicate ).toJsonQuery( context );
+	}
+
+	static class Builder extends AbstractBuilder implements WithParametersPredicateBuilder {
+		private Function<? super NamedValues, ? extends SearchPredicate> predicateCreator;
+
+		Builder(ElasticsearchSearchContext searchContext) {
+			super( searchContext );
+		}
+
+		@Override
+		public void creator(Function<? super NamedValues, ? extends SearchPredicate> predicateCreator) {
+			this.predicateCreator = predicateCreator;
+		}
+
+		@Override
+		public SearchPredicate build() {
+			return new ElasticsearchWithParametersPredicate( this );
+		}
+	}
+}
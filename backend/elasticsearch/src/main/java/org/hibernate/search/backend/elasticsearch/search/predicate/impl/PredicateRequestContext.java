@@ -7,19 +7,23 @@
 package org.hibernate.search.backend.elasticsearch.search.predicate.impl;
 
 import org.hibernate.search.engine.backend.session.spi.BackendSessionContext;
+import org.hibernate.search.engine.search.common.NamedValues;
 
 public class PredicateRequestContext {
 
 	private final BackendSessionContext sessionContext;
+	private final NamedValues parameters;
 	private final String nestedPath;
 
-	public PredicateRequestContext(BackendSessionContext sessionContext) {
+	public PredicateRequestContext(BackendSessionContext sessionContext, NamedValues parameters) {
 		this.sessionContext = sessionContext;
+		this.parameters = parameters;
 		this.nestedPath = null;
 	}
 
-	private PredicateRequestContext(BackendSessionContext sessionContext, String nestedPath) {
+	private PredicateRequestContext(BackendSessionContext sessionContext, NamedValues parameters, String nestedPath) {
 		this.sessionContext = sessionContext;
+		this.parameters = parameters;
 		this.nestedPath = nestedPath;
 	}
 
@@ -27,8 +31,12 @@ String getTenantId() {
 		return sessionContext.tenantIdentifier();
 	}
 
+	NamedValues parameters() {
+		return parameters;
+	}
+
 	public PredicateRequestContext withNestedPath(String path) {
-		return new PredicateRequestContext( sessionContext, path );
+		return new PredicateRequestContext( sessionContext, parameters, path );
 	}
 
 	public String getNestedPath() {
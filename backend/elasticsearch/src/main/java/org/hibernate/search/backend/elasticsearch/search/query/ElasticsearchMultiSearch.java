@@ -0,0 +1,77 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.search.query;
+
+import java.util.concurrent.CompletionStage;
+
+import org.hibernate.search.backend.elasticsearch.search.query.impl.ElasticsearchMultiSearchImpl;
+import org.hibernate.search.engine.search.query.SearchQuery;
+import org.hibernate.search.util.common.annotation.Incubating;
+
+/**
+ * A group of search queries to execute together,
+ * in a single multi-search ({@code _msearch}) request to Elasticsearch when possible.
+ * <p>
+ * Queries are added with {@link #add(SearchQuery, Integer, Integer)},
+ * then executed all at once with {@link #fetch()}.
+ * <p>
+ * Queries targeting different backends, queries using a client-side timeout
+ * ({@link org.hibernate.search.engine.search.query.dsl.SearchQueryOptionsStep#failAfter(long, java.util.concurrent.TimeUnit) failAfter})
+ * and queries using a {@link ElasticsearchSearchRequestTransformer request transformer}
+ * cannot be part of the same multi-search request and will be sent in separate requests.
+ * <p>
+ * <strong>WARNING:</strong> this class is not thread-safe.
+ */
+@Incubating
+public interface ElasticsearchMultiSearch {
+
+	/**
+	 * @return A new, empty multi-search.
+	 */
+	static ElasticsearchMultiSearch create() {
+		return new ElasticsearchMultiSearchImpl();
+	}
+
+	/**
+	 * Add a query to this multi-search, to be executed with the given limit and no offset.
+	 *
+	 * @param query The query to execute. Must be an Elasticsearch query.
+	 * @param limit The maximum number of hits to be included in the result. {@code null} means no limit.
+	 * @param <H> The type of query hits.
+	 * @return A {@link CompletionStage} that will complete with the result of the query
+	 * when {@link #fetch()} is called.
+	 * @see org.hibernate.search.engine.search.query.SearchFetchable#fetch(Integer)
+	 */
+	<H> CompletionStage<ElasticsearchSearchResult<H>> add(SearchQuery<H> query, Integer limit);
+
+	/**
+	 * Add a query to this multi-search, to be executed with the given offset and limit.
+	 *
+	 * @param query The query to execute. Must be an Elasticsearch query.
+	 * @param offset The number of hits to skip before adding the hits to the result. {@code null} means no offset.
+	 * @param limit The maximum number of hits to be included in the result. {@code null} means no limit.
+	 * @param <H> The type of query hits.
+	 * @return A {@link CompletionStage} that will complete with the result of the query
+	 * when {@link #fetch()} is called.
+	 * @see org.hibernate.search.engine.search.query.SearchFetchable#fetch(Integer, Integer)
+	 */
+	<H> CompletionStage<ElasticsearchSearchResult<H>> add(SearchQuery<H> query, Integer offset, Integer limit);
+
+	/**
+	 * Execute all the queries added since the last call to this method,
+	 * and wait for their results.
+	 * <p>
+	 * When this method returns or throws an exception,
+	 * all the {@link CompletionStage}s returned by {@link #add(SearchQuery, Integer, Integer)} are complete.
+	 *
+	 * @throws org.hibernate.search.util.common.SearchException If at least one query failed.
+	 * The exception thrown is the failure of the first query that failed;
+	 * failures of other queries are added as suppressed exceptions.
+	 */
+	void fetch();
+
+}
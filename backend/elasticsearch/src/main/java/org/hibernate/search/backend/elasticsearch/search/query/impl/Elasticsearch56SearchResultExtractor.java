@@ -12,6 +12,8 @@
 import org.hibernate.search.backend.elasticsearch.search.aggregation.impl.ElasticsearchSearchAggregation;
 import org.hibernate.search.backend.elasticsearch.search.projection.impl.ElasticsearchSearchProjection;
 import org.hibernate.search.engine.search.aggregation.AggregationKey;
+import org.hibernate.search.engine.search.query.SearchResultTotal;
+import org.hibernate.search.engine.search.query.spi.SimpleSearchResultTotal;
 
 import com.google.gson.JsonObject;
 
@@ -21,6 +23,7 @@
  * Compared to ES7:
  * <ul>
  *     <li>The total hit count is retrieved from hits.total instead of hits.total.value</li>
+ *     <li>The total hit count is always exact</li>
  * </ul>
  */
 class Elasticsearch56SearchResultExtractor<H> extends Elasticsearch7SearchResultExtractor<H> {
@@ -36,8 +39,8 @@
 	}
 
 	@Override
-	protected long extractHitCount(JsonObject responseBody) {
-		return HITS_TOTAL_ACCESSOR.get( responseBody ).orElse( 0L );
+	protected SearchResultTotal extractTotal(JsonObject responseBody) {
+		return SimpleSearchResultTotal.exact( HITS_TOTAL_ACCESSOR.get( responseBody ).orElse( 0L ) );
 	}
 
 }
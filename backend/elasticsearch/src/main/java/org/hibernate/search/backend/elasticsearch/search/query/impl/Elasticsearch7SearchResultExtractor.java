@@ -20,6 +20,8 @@
 import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchSearchResultExtractor;
 import org.hibernate.search.engine.search.aggregation.AggregationKey;
 import org.hibernate.search.engine.search.loading.spi.ProjectionHitMapper;
+import org.hibernate.search.engine.search.query.SearchResultTotal;
+import org.hibernate.search.engine.search.query.spi.SimpleSearchResultTotal;
 
 import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
@@ -33,8 +35,16 @@
 	private static final JsonAccessor<JsonArray> HITS_HITS_ACCESSOR =
 			HITS_ACCESSOR.property( "hits" ).asArray();
 
-	private static final JsonAccessor<Long> HITS_TOTAL_ACCESSOR =
-			HITS_ACCESSOR.property( "total" ).property( "value" ).asLong();
+	private static final JsonObjectAccessor HITS_TOTAL_ACCESSOR =
+			HITS_ACCESSOR.property( "total" ).asObject();
+
+	private static final JsonAccessor<Long> HITS_TOTAL_VALUE_ACCESSOR =
+			HITS_TOTAL_ACCESSOR.property( "value" ).asLong();
+
+	private static final JsonAccessor<String> HITS_TOTAL_RELATION_ACCESSOR =
+			HITS_TOTAL_ACCESSOR.property( "relation" ).asString();
+
+	private static final String HITS_TOTAL_RELATION_EQUAL_TO = "eq";
 
 	private static final JsonObjectAccessor AGGREGATIONS_ACCESSOR =
 			JsonAccessor.root().property( "aggregations" ).asObject();
@@ -65,9 +75,9 @@ public ElasticsearchLoadableSearchResult<H> extract(JsonObject responseBody) {
 				responseBody
 		);
 
-		long hitCount = extractHitCount( responseBody );
+		SearchResultTotal resultTotal = extractTotal( responseBody );
 
-		final List<Object> extractedHits = hitCount > 0 ?
+		final List<Object> extractedHits = resultTotal.hitCountLowerBound() > 0 ?
 				extractHits( extractContext ) : Collections.emptyList();
 
 		Map<AggregationKey<?>, ?> extractedAggregations = aggregations.isEmpty() ?
@@ -79,15 +89,18 @@ public ElasticsearchLoadableSearchResult<H> extract(JsonObject responseBody) {
 		return new ElasticsearchLoadableSearchResult<>(
 				extractContext,
 				rootProjection,
-				hitCount,
+				resultTotal,
 				extractedHits,
 				extractedAggregations,
 				took, timedOut
 		);
 	}
 
-	protected long extractHitCount(JsonObject responseBody) {
-		return HITS_TOTAL_ACCESSOR.get( responseBody ).orElse( 0L );
+	protected SearchResultTotal extractTotal(JsonObject responseBody) {
+		long hitCount = HITS_TOTAL_VALUE_ACCESSOR.get( responseBody ).orElse( 0L );
+		// "gte" means track_total_hits was set to a threshold, and the threshold was reached
+		String relation = HITS_TOTAL_RELATION_ACCESSOR.get( responseBody ).orElse( HITS_TOTAL_RELATION_EQUAL_TO );
+		return SimpleSearchResultTotal.of( hitCount, HITS_TOTAL_RELATION_EQUAL_TO.equals( relation ) );
 	}
 
 	private List<Object> extractHits(ElasticsearchSearchQueryExtractContext extractContext) {
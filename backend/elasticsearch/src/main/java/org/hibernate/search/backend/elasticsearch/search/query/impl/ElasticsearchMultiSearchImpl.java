@@ -0,0 +1,143 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.search.query.impl;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import org.hibernate.search.backend.elasticsearch.ElasticsearchExtension;
+import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchParallelWorkOrchestrator;
+import org.hibernate.search.backend.elasticsearch.search.query.ElasticsearchMultiSearch;
+import org.hibernate.search.backend.elasticsearch.search.query.ElasticsearchSearchQuery;
+import org.hibernate.search.backend.elasticsearch.search.query.ElasticsearchSearchResult;
+import org.hibernate.search.backend.elasticsearch.work.impl.SearchWork;
+import org.hibernate.search.backend.elasticsearch.work.result.impl.MultiSearchResult;
+import org.hibernate.search.engine.search.query.SearchQuery;
+import org.hibernate.search.util.common.impl.Contracts;
+import org.hibernate.search.util.common.impl.Futures;
+
+public final class ElasticsearchMultiSearchImpl implements ElasticsearchMultiSearch {
+
+	private final List<Entry<?>> entries = new ArrayList<>();
+
+	@Override
+	public <H> CompletionStage<ElasticsearchSearchResult<H>> add(SearchQuery<H> query, Integer limit) {
+		return add( query, null, limit );
+	}
+
+	@Override
+	public <H> CompletionStage<ElasticsearchSearchResult<H>> add(SearchQuery<H> query, Integer offset, Integer limit) {
+		Contracts.assertNotNull( query, "query" );
+		ElasticsearchSearchQuery<H> elasticsearchQuery = query.extension( ElasticsearchExtension.get() );
+		Entry<H> entry = new Entry<>( (ElasticsearchSearchQueryImpl<H>) elasticsearchQuery, offset, limit );
+		entries.add( entry );
+		return entry.result;
+	}
+
+	@Override
+	public void fetch() {
+		List<Entry<?>> entriesToExecute = new ArrayList<>( entries );
+		entries.clear();
+
+		// Queries can only be executed in the same request if they target the same backend
+		Map<ElasticsearchParallelWorkOrchestrator, List<Entry<?>>> entriesByOrchestrator = new LinkedHashMap<>();
+		for ( Entry<?> entry : entriesToExecute ) {
+			entriesByOrchestrator.computeIfAbsent( entry.query.queryOrchestrator(), ignored -> new ArrayList<>() )
+					.add( entry );
+		}
+		for ( List<Entry<?>> group : entriesByOrchestrator.values() ) {
+			submit( group );
+		}
+
+		RuntimeException failure = null;
+		for ( Entry<?> entry : entriesToExecute ) {
+			try {
+				/*
+				 * WARNING: the following call must run in the user thread.
+				 * See ElasticsearchSearchQueryImpl#fetch.
+				 */
+				entry.load();
+			}
+			catch (RuntimeException e) {
+				if ( failure == null ) {
+					failure = e;
+				}
+				else {
+					failure.addSuppressed( e );
+				}
+			}
+		}
+		if ( failure != null ) {
+			throw failure;
+		}
+	}
+
+	private void submit(List<Entry<?>> group) {
+		List<Entry<?>> multiSearchableEntries = new ArrayList<>();
+		for ( Entry<?> entry : group ) {
+			if ( entry.work.isMultiSearchable() ) {
+				multiSearchableEntries.add( entry );
+			}
+			else {
+				entry.submitAlone();
+			}
+		}
+
+		if ( multiSearchableEntries.size() == 1 ) {
+			// No need for the overhead of a multi-search request
+			multiSearchableEntries.get( 0 ).submitAlone();
+		}
+		else if ( !multiSearchableEntries.isEmpty() ) {
+			List<SearchWork<?>> searchWorks = new ArrayList<>( multiSearchableEntries.size() );
+			for ( Entry<?> entry : multiSearchableEntries ) {
+				searchWorks.add( entry.work );
+			}
+			ElasticsearchSearchQueryImpl<?> firstQuery = multiSearchableEntries.get( 0 ).query;
+			CompletableFuture<MultiSearchResult> multiSearchResult = firstQuery.queryOrchestrator().submit(
+					firstQuery.workFactory().multiSearch( searchWorks ).build()
+			);
+			for ( int i = 0; i < multiSearchableEntries.size(); i++ ) {
+				multiSearchableEntries.get( i ).extractFrom( multiSearchResult, i );
+			}
+		}
+	}
+
+	private static final class Entry<H> {
+		private final ElasticsearchSearchQueryImpl<H> query;
+		private final SearchWork<ElasticsearchLoadableSearchResult<H>> work;
+		private final CompletableFuture<ElasticsearchSearchResult<H>> result = new CompletableFuture<>();
+
+		private CompletableFuture<ElasticsearchLoadableSearchResult<H>> rawResult;
+
+		private Entry(ElasticsearchSearchQueryImpl<H> query, Integer offset, Integer limit) {
+			this.query = query;
+			this.work = query.searchWork( offset, limit );
+		}
+
+		void submitAlone() {
+			rawResult = query.queryOrchestrator().submit( work );
+		}
+
+		void extractFrom(CompletableFuture<MultiSearchResult> multiSearchResult, int index) {
+			rawResult = multiSearchResult.thenApply( r -> r.extract( work, index ) );
+		}
+
+		void load() {
+			try {
+				result.complete( Futures.unwrappedExceptionJoin( rawResult ).loadBlocking() );
+			}
+			catch (RuntimeException e) {
+				result.completeExceptionally( e );
+				throw e;
+			}
+		}
+	}
+}
@@ -7,11 +7,14 @@
 package org.hibernate.search.backend.elasticsearch.search.query.impl;
 
 import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 
 import org.hibernate.search.backend.elasticsearch.gson.impl.JsonAccessor;
@@ -22,14 +25,17 @@
 import org.hibernate.search.backend.elasticsearch.search.aggregation.impl.ElasticsearchSearchAggregation;
 import org.hibernate.search.backend.elasticsearch.search.impl.ElasticsearchSearchContext;
 import org.hibernate.search.backend.elasticsearch.search.impl.ElasticsearchSearchQueryElementCollector;
+import org.hibernate.search.backend.elasticsearch.search.predicate.impl.ElasticsearchSearchPredicate;
 import org.hibernate.search.backend.elasticsearch.search.predicate.impl.PredicateRequestContext;
 import org.hibernate.search.backend.elasticsearch.search.projection.impl.DistanceSortKey;
 import org.hibernate.search.backend.elasticsearch.search.projection.impl.ElasticsearchSearchProjection;
 import org.hibernate.search.backend.elasticsearch.search.query.ElasticsearchSearchQuery;
+import org.hibernate.search.backend.elasticsearch.search.sort.impl.ElasticsearchSearchSort;
 import org.hibernate.search.backend.elasticsearch.work.builder.factory.impl.ElasticsearchWorkBuilderFactory;
 import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchSearchResultExtractor;
 import org.hibernate.search.engine.backend.session.spi.BackendSessionContext;
 import org.hibernate.search.engine.search.aggregation.AggregationKey;
+import org.hibernate.search.engine.search.common.spi.MapNamedValues;
 import org.hibernate.search.engine.search.loading.context.spi.LoadingContext;
 import org.hibernate.search.engine.search.loading.context.spi.LoadingContextBuilder;
 import org.hibernate.search.engine.search.query.spi.SearchQueryBuilder;
@@ -54,6 +60,7 @@
 	private final ElasticsearchWorkBuilderFactory workFactory;
 	private final ElasticsearchSearchResultExtractorFactory searchResultExtractorFactory;
 	private final ElasticsearchParallelWorkOrchestrator queryOrchestrator;
+	private final Executor readExecutor;
 
 	private final ElasticsearchSearchContext searchContext;
 	private final BackendSessionContext sessionContext;
@@ -63,19 +70,23 @@
 	private final ElasticsearchSearchProjection<?, H> rootProjection;
 
 	private final Set<String> routingKeys;
-	private JsonObject jsonPredicate;
+	private final Map<String, Object> parameters;
+	private ElasticsearchSearchPredicate predicate;
+	private List<ElasticsearchSearchSort> sorts;
 	private JsonArray jsonSort;
 	private Map<DistanceSortKey, Integer> distanceSorts;
 	private Map<AggregationKey<?>, ElasticsearchSearchAggregation<?>> aggregations;
 	private Long timeoutValue;
 	private TimeUnit timeoutUnit;
 	private boolean exceptionOnTimeout;
+	private Long totalHitCountThreshold;
 	private ElasticsearchSearchRequestTransformer requestTransformer;
 
 	public ElasticsearchSearchQueryBuilder(
 			ElasticsearchWorkBuilderFactory workFactory,
 			ElasticsearchSearchResultExtractorFactory searchResultExtractorFactory,
 			ElasticsearchParallelWorkOrchestrator queryOrchestrator,
+			Executor readExecutor,
 			ElasticsearchSearchContext searchContext,
 			BackendSessionContext sessionContext,
 			LoadingContextBuilder<?, ?, ?> loadingContextBuilder,
@@ -83,12 +94,14 @@ public ElasticsearchSearchQueryBuilder(
 		this.workFactory = workFactory;
 		this.searchResultExtractorFactory = searchResultExtractorFactory;
 		this.queryOrchestrator = queryOrchestrator;
+		this.readExecutor = readExecutor;
 
 		this.searchContext = searchContext;
 		this.sessionContext = sessionContext;
 		this.routingKeys = new HashSet<>();
 
-		this.rootPredicateContext = new PredicateRequestContext( sessionContext );
+		this.parameters = new LinkedHashMap<>();
+		this.rootPredicateContext = new PredicateRequestContext( sessionContext, new MapNamedValues( parameters ) );
 		this.loadingContextBuilder = loadingContextBuilder;
 		this.rootProjection = rootProjection;
 	}
@@ -119,14 +132,32 @@ public void failAfter(long timeout, TimeUnit timeUnit) {
 		this.exceptionOnTimeout = true;
 	}
 
+	@Override
+	public void totalHitCountThreshold(long totalHitCountThreshold) {
+		this.totalHitCountThreshold = totalHitCountThreshold;
+	}
+
 	@Override
 	public PredicateRequestContext getRootPredicateContext() {
 		return rootPredicateContext;
 	}
 
 	@Override
-	public void collectPredicate(JsonObject jsonQuery) {
-		this.jsonPredicate = jsonQuery;
+	public void param(String parameterName, Object value) {
+		parameters.put( parameterName, value );
+	}
+
+	@Override
+	public void collectPredicate(ElasticsearchSearchPredicate predicate) {
+		this.predicate = predicate;
+	}
+
+	@Override
+	public void collectSort(ElasticsearchSearchSort sort) {
+		if ( sorts == null ) {
+			sorts = new ArrayList<>( 5 );
+		}
+		sorts.add( sort );
 	}
 
 	@Override
@@ -177,12 +208,23 @@ public ElasticsearchSearchQuery<H> build() {
 		if ( !routingKeys.isEmpty() ) {
 			filters.add( Queries.anyTerm( "_routing", routingKeys ) );
 		}
+		// Predicates are translated here rather than when collected, so that they can use query parameters
+		JsonObject jsonPredicate = predicate == null ? null : predicate.toJsonQuery( rootPredicateContext );
 		JsonObject jsonQuery = Queries.boolFilter( jsonPredicate, filters );
 
 		if ( jsonQuery != null ) {
 			payload.add( "query", jsonQuery );
 		}
 
+		// Sorts are translated here for the same reason: their filters may use query parameters
+		if ( sorts != null ) {
+			// Start over in case the query is built multiple times
+			jsonSort = null;
+			distanceSorts = null;
+			for ( ElasticsearchSearchSort sort : sorts ) {
+				sort.toJsonSorts( this );
+			}
+		}
 		if ( jsonSort != null ) {
 			payload.add( "sort", jsonSort );
 		}
@@ -215,13 +257,21 @@ public ElasticsearchSearchQuery<H> build() {
 						rootProjection,
 						aggregations == null ? Collections.emptyMap() : aggregations
 				);
+		// Aggregations are not exposed in scroll results, and would only be returned for the first chunk anyway.
+		ElasticsearchSearchResultExtractor<ElasticsearchLoadableSearchResult<H>> scrollResultExtractor =
+				searchResultExtractorFactory.createResultExtractor(
+						requestContext,
+						rootProjection,
+						Collections.emptyMap()
+				);
 
 		return new ElasticsearchSearchQueryImpl<>(
-				workFactory, queryOrchestrator,
+				workFactory, queryOrchestrator, readExecutor,
 				searchContext, sessionContext, loadingContext, routingKeys,
 				payload, requestTransformer,
-				searchResultExtractor,
-				timeoutValue, timeoutUnit, exceptionOnTimeout
+				searchResultExtractor, scrollResultExtractor,
+				timeoutValue, timeoutUnit, exceptionOnTimeout,
+				totalHitCountThreshold
 		);
 	}
 }
@@ -11,6 +11,8 @@
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 
 import org.hibernate.search.backend.elasticsearch.gson.impl.JsonAccessor;
@@ -22,13 +24,16 @@
 import org.hibernate.search.backend.elasticsearch.search.query.ElasticsearchSearchResult;
 import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
 import org.hibernate.search.backend.elasticsearch.work.builder.factory.impl.ElasticsearchWorkBuilderFactory;
+import org.hibernate.search.backend.elasticsearch.work.builder.impl.SearchWorkBuilder;
 import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchSearchResultExtractor;
 import org.hibernate.search.backend.elasticsearch.work.impl.NonBulkableWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.SearchWork;
 import org.hibernate.search.backend.elasticsearch.work.result.impl.ExplainResult;
 import org.hibernate.search.engine.backend.session.spi.BackendSessionContext;
 import org.hibernate.search.engine.common.dsl.spi.DslExtensionState;
 import org.hibernate.search.engine.search.loading.context.spi.LoadingContext;
 import org.hibernate.search.engine.search.query.SearchQueryExtension;
+import org.hibernate.search.engine.search.query.SearchScroll;
 import org.hibernate.search.engine.search.query.spi.AbstractSearchQuery;
 import org.hibernate.search.util.common.impl.Contracts;
 import org.hibernate.search.util.common.impl.Futures;
@@ -50,6 +55,7 @@
 
 	private final ElasticsearchWorkBuilderFactory workFactory;
 	private final ElasticsearchParallelWorkOrchestrator queryOrchestrator;
+	private final Executor readExecutor;
 	private final ElasticsearchSearchContext searchContext;
 	private final BackendSessionContext sessionContext;
 	private final LoadingContext<?, ?> loadingContext;
@@ -57,13 +63,16 @@
 	private final JsonObject payload;
 	private final ElasticsearchSearchRequestTransformer requestTransformer;
 	private final ElasticsearchSearchResultExtractor<ElasticsearchLoadableSearchResult<H>> searchResultExtractor;
+	private final ElasticsearchSearchResultExtractor<ElasticsearchLoadableSearchResult<H>> scrollResultExtractor;
 
 	private Long timeoutValue;
 	private TimeUnit timeoutUnit;
 	private boolean exceptionOnTimeout;
+	private final Long totalHitCountThreshold;
 
 	ElasticsearchSearchQueryImpl(ElasticsearchWorkBuilderFactory workFactory,
 			ElasticsearchParallelWorkOrchestrator queryOrchestrator,
+			Executor readExecutor,
 			ElasticsearchSearchContext searchContext,
 			BackendSessionContext sessionContext,
 			LoadingContext<?, ?> loadingContext,
@@ -71,9 +80,12 @@
 			JsonObject payload,
 			ElasticsearchSearchRequestTransformer requestTransformer,
 			ElasticsearchSearchResultExtractor<ElasticsearchLoadableSearchResult<H>> searchResultExtractor,
-			Long timeoutValue, TimeUnit timeoutUnit, boolean exceptionOnTimeout) {
+			ElasticsearchSearchResultExtractor<ElasticsearchLoadableSearchResult<H>> scrollResultExtractor,
+			Long timeoutValue, TimeUnit timeoutUnit, boolean exceptionOnTimeout,
+			Long totalHitCountThreshold) {
 		this.workFactory = workFactory;
 		this.queryOrchestrator = queryOrchestrator;
+		this.readExecutor = readExecutor;
 		this.searchContext = searchContext;
 		this.sessionContext = sessionContext;
 		this.loadingContext = loadingContext;
@@ -81,9 +93,11 @@
 		this.payload = payload;
 		this.requestTransformer = requestTransformer;
 		this.searchResultExtractor = searchResultExtractor;
+		this.scrollResultExtractor = scrollResultExtractor;
 		this.timeoutValue = timeoutValue;
 		this.timeoutUnit = timeoutUnit;
 		this.exceptionOnTimeout = exceptionOnTimeout;
+		this.totalHitCountThreshold = totalHitCountThreshold;
 	}
 
 	@Override
@@ -105,45 +119,61 @@ public <Q> Q extension(SearchQueryExtension<Q, H> extension) {
 
 	@Override
 	public ElasticsearchSearchResult<H> fetch(Integer offset, Integer limit) {
-		// TODO restore scrolling support. See HSEARCH-3323
-		NonBulkableWork<ElasticsearchLoadableSearchResult<H>> work = workFactory.search( payload, searchResultExtractor )
-				.indexes( searchContext.indexes().elasticsearchIndexNames() )
-				.paging( defaultedLimit( limit, offset ), offset )
-				.routingKeys( routingKeys )
-				.timeout( timeoutValue, timeoutUnit, exceptionOnTimeout )
-				.requestTransformer(
-						ElasticsearchSearchRequestTransformerContextImpl.createTransformerFunction( requestTransformer )
-				)
-				.build();
-
-		return Futures.unwrappedExceptionJoin( queryOrchestrator.submit( work ) )
+		return Futures.unwrappedExceptionJoin( queryOrchestrator.submit( searchWork( offset, limit ) ) )
 				/*
 				 * WARNING: the following call must run in the user thread.
-				 * If we introduce async query execution, we will have to add a loadAsync method here,
-				 * as well as in ProjectionHitMapper and EntityLoader.
-				 * This method may not be easy to implement for blocking mappers,
-				 * so we may choose to throw exceptions for those.
+				 * See fetchAsync for asynchronous loading.
 				 */
 				.loadBlocking();
 	}
 
 	@Override
 	public long fetchTotalHitCount() {
-		JsonObject filteredPayload = new JsonObject();
-		Optional<JsonObject> querySubTree = JsonAccessor.root().property( "query" ).asObject().get( payload );
-		if ( querySubTree.isPresent() ) {
-			filteredPayload.add( "query", querySubTree.get() );
+		return Futures.unwrappedExceptionJoin( queryOrchestrator.submit( countWork() ) );
+	}
+
+	@Override
+	public CompletionStage<ElasticsearchSearchResult<H>> fetchAsync(Integer offset, Integer limit) {
+		return queryOrchestrator.submit( searchWork( offset, limit ) )
+				/*
+				 * Loading is blocking, so it must not happen in the thread that completes the HTTP request:
+				 * that thread is an I/O dispatcher thread of the HTTP client.
+				 * Loading in a read thread is fine as long as the loading context is not used concurrently by the user.
+				 * Mappers that need truly non-blocking loading
+				 * will need a loadAsync method here, as well as in ProjectionHitMapper and EntityLoader.
+				 */
+				.thenApplyAsync( ElasticsearchLoadableSearchResult::loadBlocking, readExecutor );
+	}
+
+	@Override
+	public CompletionStage<Long> fetchTotalHitCountAsync() {
+		return queryOrchestrator.submit( countWork() );
+	}
+
+	@Override
+	public SearchScroll<H> scroll(int chunkSize) {
+		Contracts.assertStrictlyPositive( chunkSize, "chunkSize" );
+
+		JsonObject scrollPayload = new JsonObject();
+		for ( Map.Entry<String, JsonElement> entry : payload.entrySet() ) {
+			// Aggregations are not exposed in scroll results: don't ask Elasticsearch to compute them.
+			if ( !"aggregations".equals( entry.getKey() ) ) {
+				scrollPayload.add( entry.getKey(), entry.getValue() );
+			}
 		}
 
-		NonBulkableWork<Long> work = workFactory.count( searchContext.indexes().elasticsearchIndexNames() )
-				.query( filteredPayload )
-				.routingKeys( routingKeys )
-				.timeout( timeoutValue, timeoutUnit, exceptionOnTimeout )
-				.requestTransformer(
-						ElasticsearchSearchRequestTransformerContextImpl.createTransformerFunction( requestTransformer )
-				)
-				.build();
-		return Futures.unwrappedExceptionJoin( queryOrchestrator.submit( work ) );
+		SearchWorkBuilder<ElasticsearchLoadableSearchResult<H>> firstChunkWorkBuilder =
+				workFactory.search( scrollPayload, scrollResultExtractor )
+						.indexes( searchContext.indexes().elasticsearchIndexNames() )
+						.routingKeys( routingKeys )
+						.timeout( timeoutValue, timeoutUnit, exceptionOnTimeout )
+						.totalHitCountThreshold( totalHitCountThreshold )
+						.requestTransformer(
+								ElasticsearchSearchRequestTransformerContextImpl.createTransformerFunction( requestTransformer )
+						);
+
+		return new ElasticsearchSearchScrollImpl<>( workFactory, queryOrchestrator, firstChunkWorkBuilder,
+				scrollResultExtractor, chunkSize );
 	}
 
 	@Override
@@ -172,6 +202,44 @@ public JsonObject explain(String typeName, String id) {
 		return doExplain( mappedTypeNamesToIndexReadNames.get( typeName ), id );
 	}
 
+	ElasticsearchParallelWorkOrchestrator queryOrchestrator() {
+		return queryOrchestrator;
+	}
+
+	ElasticsearchWorkBuilderFactory workFactory() {
+		return workFactory;
+	}
+
+	SearchWork<ElasticsearchLoadableSearchResult<H>> searchWork(Integer offset, Integer limit) {
+		return workFactory.search( payload, searchResultExtractor )
+				.indexes( searchContext.indexes().elasticsearchIndexNames() )
+				.paging( defaultedLimit( limit, offset ), offset )
+				.routingKeys( routingKeys )
+				.timeout( timeoutValue, timeoutUnit, exceptionOnTimeout )
+				.totalHitCountThreshold( totalHitCountThreshold )
+				.requestTransformer(
+						ElasticsearchSearchRequestTransformerContextImpl.createTransformerFunction( requestTransformer )
+				)
+				.build();
+	}
+
+	private NonBulkableWork<Long> countWork() {
+		JsonObject filteredPayload = new JsonObject();
+		Optional<JsonObject> querySubTree = JsonAccessor.root().property( "query" ).asObject().get( payload );
+		if ( querySubTree.isPresent() ) {
+			filteredPayload.add( "query", querySubTree.get() );
+		}
+
+		return workFactory.count( searchContext.indexes().elasticsearchIndexNames() )
+				.query( filteredPayload )
+				.routingKeys( routingKeys )
+				.timeout( timeoutValue, timeoutUnit, exceptionOnTimeout )
+				.requestTransformer(
+						ElasticsearchSearchRequestTransformerContextImpl.createTransformerFunction( requestTransformer )
+				)
+				.build();
+	}
+
 	private Integer defaultedLimit(Integer limit, Integer offset) {
 		/*
 		 * If the user has given a 'size' value, take it as is, let ES itself complain if it's too high;
@@ -0,0 +1,114 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.search.query.impl;
+
+import java.lang.invoke.MethodHandles;
+
+import org.hibernate.search.backend.elasticsearch.gson.impl.JsonAccessor;
+import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
+import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchParallelWorkOrchestrator;
+import org.hibernate.search.backend.elasticsearch.search.query.ElasticsearchSearchResult;
+import org.hibernate.search.backend.elasticsearch.work.builder.factory.impl.ElasticsearchWorkBuilderFactory;
+import org.hibernate.search.backend.elasticsearch.work.builder.impl.SearchWorkBuilder;
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchSearchResultExtractor;
+import org.hibernate.search.backend.elasticsearch.work.impl.NonBulkableWork;
+import org.hibernate.search.engine.search.query.SearchScroll;
+import org.hibernate.search.engine.search.query.SearchScrollResult;
+import org.hibernate.search.engine.search.query.spi.SimpleSearchScrollResult;
+import org.hibernate.search.util.common.impl.Futures;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+import com.google.gson.JsonArray;
+
+/**
+ * A scroll relying on Elasticsearch's scroll API.
+ * <p>
+ * The first chunk is retrieved with a search request opening a scroll context on the Elasticsearch cluster,
+ * the next chunks with scroll requests, and the scroll context is cleared when the scroll is closed.
+ *
+ * @param <H> The type of query hits.
+ */
+class ElasticsearchSearchScrollImpl<H> implements SearchScroll<H> {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	/**
+	 * How long Elasticsearch should keep the scroll context alive between two calls to {@link #next()}.
+	 */
+	private static final String SCROLL_TIMEOUT = "1m";
+
+	private static final JsonAccessor<String> SCROLL_ID_ACCESSOR =
+			JsonAccessor.root().property( "_scroll_id" ).asString();
+
+	private static final JsonAccessor<JsonArray> HITS_HITS_ACCESSOR =
+			JsonAccessor.root().property( "hits" ).asObject().property( "hits" ).asArray();
+
+	private final ElasticsearchWorkBuilderFactory workFactory;
+	private final ElasticsearchParallelWorkOrchestrator queryOrchestrator;
+	private final SearchWorkBuilder<ElasticsearchLoadableSearchResult<H>> firstChunkWorkBuilder;
+	private final ElasticsearchSearchResultExtractor<ElasticsearchLoadableSearchResult<H>> resultExtractor;
+	private final int chunkSize;
+
+	private String scrollId;
+	private boolean closed = false;
+
+	ElasticsearchSearchScrollImpl(ElasticsearchWorkBuilderFactory workFactory,
+			ElasticsearchParallelWorkOrchestrator queryOrchestrator,
+			SearchWorkBuilder<ElasticsearchLoadableSearchResult<H>> firstChunkWorkBuilder,
+			ElasticsearchSearchResultExtractor<ElasticsearchLoadableSearchResult<H>> resultExtractor,
+			int chunkSize) {
+		this.workFactory = workFactory;
+		this.queryOrchestrator = queryOrchestrator;
+		this.firstChunkWorkBuilder = firstChunkWorkBuilder;
+		this.resultExtractor = resultExtractor;
+		this.chunkSize = chunkSize;
+	}
+
+	@Override
+	public void close() {
+		if ( closed ) {
+			return;
+		}
+		closed = true;
+		if ( scrollId != null ) {
+			NonBulkableWork<Void> work = workFactory.clearScroll( scrollId ).build();
+			scrollId = null;
+			Futures.unwrappedExceptionJoin( queryOrchestrator.submit( work ) );
+		}
+	}
+
+	@Override
+	public SearchScrollResult<H> next() {
+		if ( closed ) {
+			throw log.cannotUseClosedScroll();
+		}
+
+		NonBulkableWork<ElasticsearchLoadableSearchResult<H>> work;
+		if ( scrollId == null ) {
+			work = firstChunkWorkBuilder.scrolling( chunkSize, SCROLL_TIMEOUT ).build();
+		}
+		else {
+			work = workFactory.scroll( scrollId, SCROLL_TIMEOUT, resultExtractor ).build();
+		}
+
+		ElasticsearchSearchResult<H> result = Futures.unwrappedExceptionJoin( queryOrchestrator.submit( work ) )
+				// WARNING: this must run in the user thread; see ElasticsearchSearchQueryImpl#fetch.
+				.loadBlocking();
+
+		// The scroll ID may change from one response to the next: always use the latest one.
+		scrollId = SCROLL_ID_ACCESSOR.get( result.responseBody() ).orElse( scrollId );
+
+		// Use the raw hits rather than the loaded hits to detect the end of the scroll:
+		// some hits may have been skipped because the corresponding entity could not be loaded.
+		boolean hasHits = HITS_HITS_ACCESSOR.get( result.responseBody() )
+				.map( hits -> hits.size() > 0 )
+				.orElse( false );
+
+		return new SimpleSearchScrollResult<>( hasHits, result.total(), result.hits(),
+				result.took(), result.timedOut() );
+	}
+}
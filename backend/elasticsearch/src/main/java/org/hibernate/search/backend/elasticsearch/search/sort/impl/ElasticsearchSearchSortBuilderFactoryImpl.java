@@ -30,7 +30,7 @@ public ElasticsearchSearchSortBuilderFactoryImpl(ElasticsearchSearchContext sear
 	@Override
 	public void contribute(ElasticsearchSearchSortCollector collector, SearchSort sort) {
 		ElasticsearchSearchSort elasticsearchSort = ElasticsearchSearchSort.from( searchContext, sort );
-		elasticsearchSort.toJsonSorts( collector );
+		collector.collectSort( elasticsearchSort );
 	}
 
 	@Override
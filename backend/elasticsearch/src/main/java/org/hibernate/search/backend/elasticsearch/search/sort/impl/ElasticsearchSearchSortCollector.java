@@ -24,6 +24,14 @@ public interface ElasticsearchSearchSortCollector {
 
 	PredicateRequestContext getRootPredicateContext();
 
+	/**
+	 * Collects a sort that will be translated to JSON when the query is built,
+	 * so that its filters can use query parameters set after the sort.
+	 *
+	 * @param sort The sort to translate.
+	 */
+	void collectSort(ElasticsearchSearchSort sort);
+
 	void collectSort(JsonElement sort);
 
 	void collectDistanceSort(JsonElement sort, String absoluteFieldPath, GeoPoint center);
@@ -6,6 +6,8 @@
  */
 package org.hibernate.search.backend.elasticsearch.work.builder.impl;
 
+import java.util.concurrent.ScheduledExecutorService;
+
 import org.hibernate.search.backend.elasticsearch.work.impl.NonBulkableWork;
 import org.hibernate.search.backend.elasticsearch.work.result.impl.BulkResult;
 import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
@@ -15,4 +17,6 @@ public interface BulkWorkBuilder extends ElasticsearchWorkBuilder<NonBulkableWor
 
 	BulkWorkBuilder refresh(DocumentRefreshStrategy refreshStrategy);
 
+	BulkWorkBuilder retryOnRejection(int maxRetries, ScheduledExecutorService retryScheduler);
+
 }
@@ -13,10 +13,10 @@
 
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequest;
 import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
-import org.hibernate.search.backend.elasticsearch.work.impl.NonBulkableWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.SearchWork;
 
 
-public interface SearchWorkBuilder<R> extends ElasticsearchWorkBuilder<NonBulkableWork<R>> {
+public interface SearchWorkBuilder<R> extends ElasticsearchWorkBuilder<SearchWork<R>> {
 
 	SearchWorkBuilder<R> indexes(Collection<URLEncodedString> indexNames);
 
@@ -29,4 +29,6 @@
 	SearchWorkBuilder<R> requestTransformer(Function<ElasticsearchRequest, ElasticsearchRequest> requestTransformer);
 
 	SearchWorkBuilder<R> timeout(Long timeoutValue, TimeUnit timeoutUnit, boolean exceptionOnTimeout);
+
+	SearchWorkBuilder<R> totalHitCountThreshold(Long totalHitCountThreshold);
 }
@@ -6,15 +6,24 @@
  */
 package org.hibernate.search.backend.elasticsearch.work.impl;
 
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
+import org.hibernate.search.backend.elasticsearch.client.impl.ElasticsearchClientUtils;
 import org.hibernate.search.backend.elasticsearch.client.impl.Paths;
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequest;
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchResponse;
 import org.hibernate.search.backend.elasticsearch.gson.impl.JsonAccessor;
+import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
 import org.hibernate.search.backend.elasticsearch.work.builder.impl.BulkWorkBuilder;
 import org.hibernate.search.backend.elasticsearch.work.result.impl.BulkResult;
 import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
+import org.hibernate.search.util.common.impl.Futures;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
 import com.google.gson.JsonArray;
 import com.google.gson.JsonObject;
@@ -22,17 +31,125 @@
 
 public class BulkWork extends AbstractNonBulkableWork<BulkResult> {
 
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
 	private static final JsonAccessor<JsonArray> BULK_ITEMS = JsonAccessor.root().property( "items" ).asArray();
+	private static final JsonAccessor<Boolean> BULK_ERRORS = JsonAccessor.root().property( "errors" ).asBoolean();
+	private static final JsonAccessor<Integer> BULK_ITEM_STATUS_CODE = JsonAccessor.root().property( "status" ).asInteger();
+
+	private static final int TOO_MANY_REQUESTS_HTTP_STATUS_CODE = 429;
+
+	private static final long INITIAL_RETRY_DELAY_MS = 100L;
+
+	private final Builder builder;
+	private final List<? extends BulkableWork<?>> bulkableWorks;
+	private final int maxRetries;
+	private final ScheduledExecutorService retryScheduler;
+
+	/**
+	 * Whether some bulked works were rejected then retried.
+	 * Only set before the result is generated, from the same chain of futures.
+	 */
+	private volatile boolean retriedRejectedWorks = false;
 
 	protected BulkWork(Builder builder) {
 		super( builder );
+		this.builder = builder;
+		// Copy the list, since the caller may reuse it after the work is built.
+		this.bulkableWorks = builder.maxRetries > 0 ? new ArrayList<>( builder.bulkableWorks ) : null;
+		this.maxRetries = builder.maxRetries;
+		this.retryScheduler = builder.retryScheduler;
+	}
+
+	@Override
+	protected CompletableFuture<ElasticsearchResponse> submit(ElasticsearchWorkExecutionContext executionContext,
+			ElasticsearchRequest request) {
+		CompletableFuture<ElasticsearchResponse> future = super.submit( executionContext, request );
+		if ( maxRetries <= 0 ) {
+			return future;
+		}
+		return future.thenCompose( response -> retryRejectedWorks( executionContext, response, 1 ) );
 	}
 
 	@Override
 	protected BulkResult generateResult(ElasticsearchWorkExecutionContext context, ElasticsearchResponse response) {
 		JsonObject parsedResponseBody = response.body();
 		JsonArray resultItems = BULK_ITEMS.get( parsedResponseBody ).orElseGet( JsonArray::new );
-		return new BulkResultImpl( resultItems );
+		boolean hasRejectedWorks = retriedRejectedWorks
+				|| BULK_ERRORS.get( parsedResponseBody ).orElse( false )
+						&& !getRejectedIndices( resultItems ).isEmpty();
+		return new BulkResultImpl( resultItems, hasRejectedWorks );
+	}
+
+	private CompletableFuture<ElasticsearchResponse> retryRejectedWorks(
+			ElasticsearchWorkExecutionContext executionContext, ElasticsearchResponse response, int attempt) {
+		if ( !ElasticsearchClientUtils.isSuccessCode( response.statusCode() )
+				|| !BULK_ERRORS.get( response.body() ).orElse( false ) ) {
+			return CompletableFuture.completedFuture( response );
+		}
+		JsonArray resultItems = BULK_ITEMS.get( response.body() ).orElse( null );
+		List<Integer> rejectedIndices = getRejectedIndices( resultItems );
+		if ( rejectedIndices.isEmpty() ) {
+			return CompletableFuture.completedFuture( response );
+		}
+		retriedRejectedWorks = true;
+		if ( attempt > maxRetries ) {
+			// Give up: the rejected works will be reported as failures.
+			return CompletableFuture.completedFuture( response );
+		}
+
+		List<BulkableWork<?>> rejectedWorks = new ArrayList<>( rejectedIndices.size() );
+		for ( Integer index : rejectedIndices ) {
+			rejectedWorks.add( bulkableWorks.get( index ) );
+		}
+		ElasticsearchRequest retryRequest = builder.transformIfNecessary( builder.buildRequest( rejectedWorks ) );
+
+		long delayMs = INITIAL_RETRY_DELAY_MS << ( attempt - 1 );
+		log.retryingRejectedBulkedWorks( rejectedWorks.size(), delayMs, attempt, maxRetries );
+
+		CompletableFuture<ElasticsearchResponse> retryResponseFuture = new CompletableFuture<>();
+		retryScheduler.schedule(
+				() -> {
+					Futures.create( () -> executionContext.getClient().submit( retryRequest ) )
+							.whenComplete( Futures.copyHandler( retryResponseFuture ) );
+				},
+				delayMs, TimeUnit.MILLISECONDS
+		);
+		return retryResponseFuture
+				.handle( (retryResponse, throwable) -> {
+					if ( throwable != null
+							|| !ElasticsearchClientUtils.isSuccessCode( retryResponse.statusCode() ) ) {
+						// The retry failed as a whole: give up and report the rejected works as failures.
+						return false;
+					}
+					JsonArray retryResultItems = BULK_ITEMS.get( retryResponse.body() ).orElseGet( JsonArray::new );
+					for ( int i = 0; i < retryResultItems.size() && i < rejectedIndices.size(); i++ ) {
+						resultItems.set( rejectedIndices.get( i ), retryResultItems.get( i ) );
+					}
+					return true;
+				} )
+				// Some works may have been rejected again: retry them if possible.
+				.thenCompose( retried -> retried
+						? retryRejectedWorks( executionContext, response, attempt + 1 )
+						: CompletableFuture.completedFuture( response ) );
+	}
+
+	private static List<Integer> getRejectedIndices(JsonArray resultItems) {
+		List<Integer> rejectedIndices = new ArrayList<>();
+		if ( resultItems == null ) {
+			return rejectedIndices;
+		}
+		for ( int i = 0; i < resultItems.size(); i++ ) {
+			// Result items have the following format: { "actionName" : { "status" : 201, ... } }
+			JsonObject item = resultItems.get( i ).getAsJsonObject();
+			JsonObject itemBody = item.entrySet().iterator().next().getValue().getAsJsonObject();
+			if ( BULK_ITEM_STATUS_CODE.get( itemBody )
+					.filter( status -> status == TOO_MANY_REQUESTS_HTTP_STATUS_CODE )
+					.isPresent() ) {
+				rejectedIndices.add( i );
+			}
+		}
+		return rejectedIndices;
 	}
 
 	public static class Builder extends AbstractNonBulkableWork.AbstractBuilder<Builder>
@@ -40,6 +157,8 @@ public static class Builder extends AbstractNonBulkableWork.AbstractBuilder<Buil
 		private final List<? extends BulkableWork<?>> bulkableWorks;
 
 		private DocumentRefreshStrategy refreshStrategy = DocumentRefreshStrategy.NONE;
+		private int maxRetries = 0;
+		private ScheduledExecutorService retryScheduler;
 
 		public Builder(List<? extends BulkableWork<?>> bulkableWorks) {
 			super( DefaultElasticsearchRequestSuccessAssessor.INSTANCE );
@@ -52,8 +171,19 @@ public Builder refresh(DocumentRefreshStrategy refreshStrategy) {
 			return this;
 		}
 
+		@Override
+		public Builder retryOnRejection(int maxRetries, ScheduledExecutorService retryScheduler) {
+			this.maxRetries = maxRetries;
+			this.retryScheduler = retryScheduler;
+			return this;
+		}
+
 		@Override
 		protected ElasticsearchRequest buildRequest() {
+			return buildRequest( bulkableWorks );
+		}
+
+		private ElasticsearchRequest buildRequest(List<? extends BulkableWork<?>> works) {
 			ElasticsearchRequest.Builder builder =
 					ElasticsearchRequest.post()
 					.pathComponent( Paths._BULK );
@@ -65,7 +195,7 @@ protected ElasticsearchRequest buildRequest() {
 					break;
 			}
 
-			for ( BulkableWork<?> work : bulkableWorks ) {
+			for ( BulkableWork<?> work : works ) {
 				builder.body( work.getBulkableActionMetadata() );
 				JsonObject actionBody = work.getBulkableActionBody();
 				if ( actionBody != null ) {
@@ -84,10 +214,12 @@ public BulkWork build() {
 
 	private static class BulkResultImpl implements BulkResult {
 		private final JsonArray results;
+		private final boolean hasRejectedWorks;
 
-		public BulkResultImpl(JsonArray results) {
+		public BulkResultImpl(JsonArray results, boolean hasRejectedWorks) {
 			super();
 			this.results = results;
+			this.hasRejectedWorks = hasRejectedWorks;
 		}
 
 		@Override
@@ -95,6 +227,11 @@ public <T> T extract(ElasticsearchWorkExecutionContext context, BulkableWork<T>
 			JsonObject bulkItemResponse = results.get( index ).getAsJsonObject();
 			return work.handleBulkResult( context, bulkItemResponse );
 		}
+
+		@Override
+		public boolean hasRejectedWorks() {
+			return hasRejectedWorks;
+		}
 	}
 
 }
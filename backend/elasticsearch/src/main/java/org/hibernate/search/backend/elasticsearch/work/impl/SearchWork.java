@@ -8,19 +8,24 @@
 
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 
+import org.hibernate.search.backend.elasticsearch.client.impl.ElasticsearchClientUtils;
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequest;
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchResponse;
 import org.hibernate.search.backend.elasticsearch.client.impl.Paths;
+import org.hibernate.search.backend.elasticsearch.gson.impl.JsonAccessor;
 import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
 import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
 import org.hibernate.search.backend.elasticsearch.work.builder.impl.SearchWorkBuilder;
 import org.hibernate.search.util.common.logging.impl.DefaultLogCategories;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 
 
@@ -28,11 +33,58 @@
 
 	private static final Log queryLog = LoggerFactory.make( Log.class, DefaultLogCategories.QUERY );
 
+	private static final JsonAccessor<Integer> MULTI_SEARCH_ITEM_STATUS_CODE = JsonAccessor.root().property( "status" ).asInteger();
+
+	private final Builder<R> builder;
 	private final ElasticsearchSearchResultExtractor<R> resultExtractor;
+	private final boolean multiSearchable;
 
 	protected SearchWork(Builder<R> builder) {
 		super( builder );
+		this.builder = builder;
 		this.resultExtractor = builder.resultExtractor;
+		this.multiSearchable = builder.isMultiSearchable();
+	}
+
+	/**
+	 * @return {@code true} if this work can be executed as part of a multi-search request,
+	 * i.e. if it does not involve scrolling, a client-side timeout or a custom request transformer.
+	 */
+	public boolean isMultiSearchable() {
+		return multiSearchable;
+	}
+
+	/**
+	 * @return The header describing this work in a multi-search request.
+	 * Only relevant if {@link #isMultiSearchable()} returns {@code true}.
+	 */
+	public JsonObject getMultiSearchHeader() {
+		return builder.buildMultiSearchHeader();
+	}
+
+	/**
+	 * @return The body of this work in a multi-search request.
+	 * Only relevant if {@link #isMultiSearchable()} returns {@code true}.
+	 */
+	public JsonObject getMultiSearchBody() {
+		return builder.buildMultiSearchBody();
+	}
+
+	/**
+	 * @param resultItem The part of the multi-search JSON result relevant to this work
+	 * @return the result of this work
+	 */
+	public R handleMultiSearchResult(JsonObject resultItem) {
+		if ( resultItem.has( "error" )
+				|| !MULTI_SEARCH_ITEM_STATUS_CODE.get( resultItem )
+						.map( ElasticsearchClientUtils::isSuccessCode )
+						// Elasticsearch 6.x and below do not include a status for successful items
+						.orElse( true ) ) {
+			throw queryLog.elasticsearchMultiSearchedRequestFailed(
+					getMultiSearchHeader(), getMultiSearchBody(), resultItem
+			);
+		}
+		return resultExtractor.extract( resultItem );
 	}
 
 	@Override
@@ -68,7 +120,6 @@ public static <T> Builder<T> forElasticsearch63to68(JsonObject payload, Elastics
 		}
 
 		public static <T> Builder<T> forElasticsearch7AndAbove(JsonObject payload, ElasticsearchSearchResultExtractor<T> resultExtractor) {
-			// TODO HSEARCH-3517 disable track_total_hits when possible
 			return new Builder<>( payload, resultExtractor, true, false );
 		}
 
@@ -86,6 +137,7 @@ public static <T> Builder<T> forElasticsearch7AndAbove(JsonObject payload, Elast
 		private Long timeoutValue;
 		private TimeUnit timeoutUnit;
 		private boolean exceptionOnTimeout;
+		private Long totalHitCountThreshold;
 
 		private Builder(JsonObject payload, ElasticsearchSearchResultExtractor<R> resultExtractor, Boolean trackTotalHits,
 				boolean allowPartialSearchResultsSupported) {
@@ -130,6 +182,13 @@ public SearchWorkBuilder<R> timeout(Long timeoutValue, TimeUnit timeoutUnit, boo
 			return this;
 		}
 
+		@Override
+		public SearchWorkBuilder<R> totalHitCountThreshold(Long totalHitCountThreshold) {
+			// Only taken into account on ES7+: ES6 and below always track total hits exactly
+			this.totalHitCountThreshold = totalHitCountThreshold;
+			return this;
+		}
+
 		@Override
 		protected ElasticsearchRequest buildRequest() {
 			ElasticsearchRequest.Builder builder =
@@ -156,7 +215,16 @@ protected ElasticsearchRequest buildRequest() {
 			}
 
 			if ( trackTotalHits != null ) {
-				builder.param( "track_total_hits", trackTotalHits );
+				if ( trackTotalHits && totalHitCountThreshold != null && totalHitCountThreshold < Integer.MAX_VALUE
+						// Elasticsearch rejects a non-exact "track_total_hits" in a scroll context
+						&& scrollSize == null ) {
+					// Only track total hits accurately up to the threshold,
+					// allowing Elasticsearch to skip non-competitive hits beyond that.
+					builder.param( "track_total_hits", totalHitCountThreshold.intValue() );
+				}
+				else {
+					builder.param( "track_total_hits", trackTotalHits );
+				}
 			}
 
 			if ( timeoutValue != null && timeoutUnit != null ) {
@@ -188,6 +256,61 @@ protected ElasticsearchRequest buildRequest() {
 			return builder.build();
 		}
 
+		private boolean isMultiSearchable() {
+			return scrollSize == null
+					&& !hasRequestTransformer()
+					// The client-side timeout cannot be applied to a single part of a multi-search request
+					&& !( exceptionOnTimeout && timeoutValue != null && timeoutUnit != null );
+		}
+
+		private JsonObject buildMultiSearchHeader() {
+			JsonObject header = new JsonObject();
+			JsonArray indexArray = new JsonArray();
+			for ( URLEncodedString index : indexes ) {
+				indexArray.add( index.original );
+			}
+			header.add( "index", indexArray );
+			if ( routingKeys != null && !routingKeys.isEmpty() ) {
+				header.addProperty( "routing", String.join( ",", routingKeys ) );
+			}
+			if ( timeoutValue != null && timeoutUnit != null && allowPartialSearchResultsSupported ) {
+				header.addProperty( "allow_partial_search_results", !exceptionOnTimeout );
+			}
+			return header;
+		}
+
+		private JsonObject buildMultiSearchBody() {
+			// Parameters of the single search request are passed in the body of multi-search items:
+			// copy the payload so as not to alter the original.
+			JsonObject body = new JsonObject();
+			for ( Map.Entry<String, JsonElement> entry : payload.entrySet() ) {
+				body.add( entry.getKey(), entry.getValue() );
+			}
+
+			if ( from != null ) {
+				body.addProperty( "from", from );
+			}
+
+			if ( size != null ) {
+				body.addProperty( "size", size );
+			}
+
+			if ( trackTotalHits != null ) {
+				if ( trackTotalHits && totalHitCountThreshold != null && totalHitCountThreshold < Integer.MAX_VALUE ) {
+					body.addProperty( "track_total_hits", totalHitCountThreshold.intValue() );
+				}
+				else {
+					body.addProperty( "track_total_hits", trackTotalHits );
+				}
+			}
+
+			if ( timeoutValue != null && timeoutUnit != null ) {
+				body.addProperty( "timeout", getTimeoutString( timeoutValue, timeoutUnit ) );
+			}
+
+			return body;
+		}
+
 		@Override
 		public SearchWork<R> build() {
 			return new SearchWork<>( this );
@@ -14,4 +14,10 @@ public interface BulkResult {
 
 	<T> T extract(ElasticsearchWorkExecutionContext context, BulkableWork<T> work, int index);
 
+	/**
+	 * @return {@code true} if Elasticsearch rejected some of the bulked works with status 429 (Too Many Requests),
+	 * even if they were successfully retried afterwards.
+	 */
+	boolean hasRejectedWorks();
+
 }
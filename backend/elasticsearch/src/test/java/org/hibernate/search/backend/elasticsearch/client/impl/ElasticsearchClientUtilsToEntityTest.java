@@ -0,0 +1,185 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.client.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.zip.GZIPInputStream;
+
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequest;
+import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
+
+import org.junit.Test;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import org.apache.http.HttpEntity;
+import org.apache.http.entity.ContentType;
+import org.apache.http.nio.ContentEncoder;
+import org.apache.http.nio.entity.HttpAsyncContentProducer;
+
+public class ElasticsearchClientUtilsToEntityTest {
+
+	private static final URLEncodedString BULK = URLEncodedString.fromString( "_bulk" );
+
+	private final Gson gson = new Gson();
+
+	@Test
+	public void noBody() throws IOException {
+		ElasticsearchRequest request = ElasticsearchRequest.get().build();
+
+		assertThat( ElasticsearchClientUtils.toEntity( gson, request, false ) ).isNull();
+		assertThat( ElasticsearchClientUtils.toEntity( gson, request, true ) ).isNull();
+	}
+
+	@Test
+	public void compressionDisabled() throws IOException {
+		ElasticsearchRequest request = bulkRequest( 1000 );
+
+		HttpEntity entity = ElasticsearchClientUtils.toEntity( gson, request, false );
+
+		assertThat( entity ).isInstanceOf( GsonHttpEntity.class );
+		assertThat( entity.getContentEncoding() ).isNull();
+		assertThat( ElasticsearchClientUtils.isGzipEncoded( entity ) ).isFalse();
+	}
+
+	@Test
+	public void compressionEnabled_smallBody() throws IOException {
+		ElasticsearchRequest request = bulkRequest( 1 );
+
+		HttpEntity entity = ElasticsearchClientUtils.toEntity( gson, request, true );
+
+		// Small bodies are not worth compressing
+		assertThat( entity ).isInstanceOf( GsonHttpEntity.class );
+		assertThat( ElasticsearchClientUtils.isGzipEncoded( entity ) ).isFalse();
+	}
+
+	@Test
+	public void compressionEnabled_largeBody() throws IOException {
+		ElasticsearchRequest request = bulkRequest( 1000 );
+
+		HttpEntity uncompressedEntity = ElasticsearchClientUtils.toEntity( gson, request, false );
+		ByteArrayOutputStream expected = new ByteArrayOutputStream();
+		uncompressedEntity.writeTo( expected );
+
+		HttpEntity entity = ElasticsearchClientUtils.toEntity( gson, request, true );
+
+		assertThat( ElasticsearchClientUtils.isGzipEncoded( entity ) ).isTrue();
+		assertThat( entity.getContentType().getValue() ).isEqualTo( ContentType.APPLICATION_JSON.toString() );
+		// The compressed body is streamed: its length is not known in advance
+		assertThat( entity.getContentLength() ).isEqualTo( -1 );
+		assertThat( entity.isChunked() ).isTrue();
+
+		ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+		entity.writeTo( compressed );
+		assertThat( compressed.size() ).isLessThan( expected.size() );
+		assertThat( decompress( compressed.toByteArray() ) ).isEqualTo( expected.toByteArray() );
+
+		// The compressed entity must be repeatable, for retries in particular
+		assertThat( entity.isRepeatable() ).isTrue();
+		compressed.reset();
+		entity.writeTo( compressed );
+		assertThat( decompress( compressed.toByteArray() ) ).isEqualTo( expected.toByteArray() );
+	}
+
+	@Test
+	public void compressionEnabled_largeBody_produceContent() throws IOException {
+		ElasticsearchRequest request = bulkRequest( 1000 );
+
+		HttpEntity uncompressedEntity = ElasticsearchClientUtils.toEntity( gson, request, false );
+		ByteArrayOutputStream expected = new ByteArrayOutputStream();
+		uncompressedEntity.writeTo( expected );
+
+		HttpEntity entity = ElasticsearchClientUtils.toEntity( gson, request, true );
+		HttpAsyncContentProducer producer = (HttpAsyncContentProducer) entity;
+
+		// Simulate flow control: the HTTP client accepts a few bytes at a time
+		LimitedContentEncoder encoder = new LimitedContentEncoder( 100 );
+		int produceCount = 0;
+		while ( !encoder.isCompleted() ) {
+			encoder.resetLimit();
+			producer.produceContent( encoder, null );
+			++produceCount;
+		}
+		assertThat( produceCount ).isGreaterThan( 1 );
+		assertThat( decompress( encoder.written.toByteArray() ) ).isEqualTo( expected.toByteArray() );
+
+		// The compressed entity must be repeatable, for retries in particular
+		encoder = new LimitedContentEncoder( Integer.MAX_VALUE );
+		producer.produceContent( encoder, null );
+		assertThat( encoder.isCompleted() ).isTrue();
+		assertThat( decompress( encoder.written.toByteArray() ) ).isEqualTo( expected.toByteArray() );
+	}
+
+	private static byte[] decompress(byte[] compressed) throws IOException {
+		ByteArrayOutputStream decompressed = new ByteArrayOutputStream();
+		try ( InputStream inputStream = new GZIPInputStream( new ByteArrayInputStream( compressed ) ) ) {
+			byte[] buffer = new byte[1024];
+			int read;
+			while ( ( read = inputStream.read( buffer ) ) >= 0 ) {
+				decompressed.write( buffer, 0, read );
+			}
+		}
+		return decompressed.toByteArray();
+	}
+
+	private static ElasticsearchRequest bulkRequest(int documentCount) {
+		ElasticsearchRequest.Builder builder = ElasticsearchRequest.post().pathComponent( BULK );
+		for ( int i = 0; i < documentCount; i++ ) {
+			JsonObject action = new JsonObject();
+			JsonObject index = new JsonObject();
+			index.addProperty( "_id", String.valueOf( i ) );
+			action.add( "index", index );
+			builder.body( action );
+			JsonObject document = new JsonObject();
+			document.addProperty( "text", "Some text for document #" + i );
+			builder.body( document );
+		}
+		return builder.build();
+	}
+
+	private static class LimitedContentEncoder implements ContentEncoder {
+		private final int limitPerCall;
+		private final ByteArrayOutputStream written = new ByteArrayOutputStream();
+		private int remainingForThisCall;
+		private boolean completed = false;
+
+		LimitedContentEncoder(int limitPerCall) {
+			this.limitPerCall = limitPerCall;
+			resetLimit();
+		}
+
+		void resetLimit() {
+			remainingForThisCall = limitPerCall;
+		}
+
+		@Override
+		public int write(ByteBuffer src) {
+			int length = Math.min( src.remaining(), remainingForThisCall );
+			for ( int i = 0; i < length; i++ ) {
+				written.write( src.get() );
+			}
+			remainingForThisCall -= length;
+			return length;
+		}
+
+		@Override
+		public void complete() {
+			completed = true;
+		}
+
+		@Override
+		public boolean isCompleted() {
+			return completed;
+		}
+	}
+}
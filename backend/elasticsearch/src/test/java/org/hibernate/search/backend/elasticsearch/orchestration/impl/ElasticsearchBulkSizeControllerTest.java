@@ -0,0 +1,65 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.orchestration.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+public class ElasticsearchBulkSizeControllerTest {
+
+	private static final long FAST = TimeUnit.MILLISECONDS.toNanos( 10 );
+	private static final long SLOW = TimeUnit.MILLISECONDS.toNanos( 2000 );
+
+	private final ElasticsearchBulkSizeController controller =
+			new ElasticsearchBulkSizeController( 10, 1000, TimeUnit.MILLISECONDS );
+
+	@Test
+	public void initialSize() {
+		assertThat( controller.currentMaxBulkSize() ).isEqualTo( 10 );
+	}
+
+	@Test
+	public void neverAboveMax() {
+		controller.onBulkExecuted( FAST, false );
+		assertThat( controller.currentMaxBulkSize() ).isEqualTo( 10 );
+	}
+
+	@Test
+	public void multiplicativeDecrease_slow() {
+		controller.onBulkExecuted( SLOW, false );
+		assertThat( controller.currentMaxBulkSize() ).isEqualTo( 5 );
+		controller.onBulkExecuted( SLOW, false );
+		assertThat( controller.currentMaxBulkSize() ).isEqualTo( 2 );
+	}
+
+	@Test
+	public void multiplicativeDecrease_overloaded() {
+		controller.onBulkExecuted( FAST, true );
+		assertThat( controller.currentMaxBulkSize() ).isEqualTo( 5 );
+	}
+
+	@Test
+	public void neverBelowOne() {
+		for ( int i = 0; i < 10; i++ ) {
+			controller.onBulkExecuted( SLOW, true );
+		}
+		assertThat( controller.currentMaxBulkSize() ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void additiveIncrease() {
+		controller.onBulkExecuted( SLOW, false );
+		assertThat( controller.currentMaxBulkSize() ).isEqualTo( 5 );
+		controller.onBulkExecuted( FAST, false );
+		assertThat( controller.currentMaxBulkSize() ).isEqualTo( 6 );
+		controller.onBulkExecuted( FAST, false );
+		assertThat( controller.currentMaxBulkSize() ).isEqualTo( 7 );
+	}
+}
@@ -59,7 +59,8 @@ public void simple() {
 
 		replayAll();
 		ElasticsearchDefaultWorkBulker bulker =
-				new ElasticsearchDefaultWorkBulker( sequenceBuilderMock, bulkWorkFactoryMock, DEFAULT_MAX_BULK_SIZE );
+				new ElasticsearchDefaultWorkBulker( sequenceBuilderMock, bulkWorkFactoryMock,
+						() -> DEFAULT_MAX_BULK_SIZE, Long.MAX_VALUE, work -> 0L );
 		verifyAll();
 
 		resetAll();
@@ -114,7 +115,8 @@ public void alwaysBulk() {
 
 		replayAll();
 		ElasticsearchDefaultWorkBulker bulker =
-				new ElasticsearchDefaultWorkBulker( sequenceBuilderMock, bulkWorkFactoryMock, DEFAULT_MAX_BULK_SIZE );
+				new ElasticsearchDefaultWorkBulker( sequenceBuilderMock, bulkWorkFactoryMock,
+						() -> DEFAULT_MAX_BULK_SIZE, Long.MAX_VALUE, work -> 0L );
 		verifyAll();
 
 		resetAll();
@@ -159,7 +161,8 @@ public void newBulkOnTooManyBulkedWorks() {
 
 		replayAll();
 		ElasticsearchDefaultWorkBulker bulker =
-				new ElasticsearchDefaultWorkBulker( sequenceBuilderMock, bulkWorkFactoryMock, DEFAULT_MAX_BULK_SIZE );
+				new ElasticsearchDefaultWorkBulker( sequenceBuilderMock, bulkWorkFactoryMock,
+						() -> DEFAULT_MAX_BULK_SIZE, Long.MAX_VALUE, work -> 0L );
 		verifyAll();
 
 		resetAll();
@@ -206,6 +209,71 @@ public void newBulkOnTooManyBulkedWorks() {
 		assertThat( bulkWork2FutureCapture.getValue() ).isSuccessful( bulkWork2 );
 	}
 
+	@Test
+	public void newBulkOnTooManyBytes() {
+		BulkableWork<Void> work1 = bulkableWork( 1 );
+		BulkableWork<Void> work2 = bulkableWork( 2 );
+		BulkableWork<Void> work3 = bulkableWork( 3 );
+		BulkableWork<Void> oversizedWork = bulkableWork( 4 );
+		NonBulkableWork<BulkResult> bulkWork1 = work( 5 );
+		NonBulkableWork<BulkResult> bulkWork2 = work( 6 );
+		NonBulkableWork<BulkResult> bulkWork3 = work( 7 );
+
+		CompletableFuture<BulkResult> bulkWork1ResultFuture = new CompletableFuture<>();
+		CompletableFuture<BulkResult> bulkWork2ResultFuture = new CompletableFuture<>();
+		CompletableFuture<BulkResult> bulkWork3ResultFuture = new CompletableFuture<>();
+		Capture<CompletableFuture<NonBulkableWork<BulkResult>>> bulkWork1FutureCapture = newCapture();
+		Capture<CompletableFuture<NonBulkableWork<BulkResult>>> bulkWork2FutureCapture = newCapture();
+		Capture<CompletableFuture<NonBulkableWork<BulkResult>>> bulkWork3FutureCapture = newCapture();
+
+		replayAll();
+		ElasticsearchDefaultWorkBulker bulker =
+				new ElasticsearchDefaultWorkBulker( sequenceBuilderMock, bulkWorkFactoryMock,
+						() -> DEFAULT_MAX_BULK_SIZE, 100L, work -> work == oversizedWork ? 200L : 40L );
+		verifyAll();
+
+		resetAll();
+		expect( work1.getRefreshStrategy() ).andReturn( DEFAULT_REFRESH );
+		expect( sequenceBuilderMock.addBulkExecution( capture( bulkWork1FutureCapture ) ) ).andReturn( bulkWork1ResultFuture );
+		expect( sequenceBuilderMock.addBulkResultExtraction( bulkWork1ResultFuture, work1, 0 ) )
+				.andReturn( new CompletableFuture<>() );
+		expect( work2.getRefreshStrategy() ).andReturn( DEFAULT_REFRESH );
+		expect( sequenceBuilderMock.addBulkResultExtraction( bulkWork1ResultFuture, work2, 1 ) )
+				.andReturn( new CompletableFuture<>() );
+		replayAll();
+		bulker.add( work1 );
+		bulker.add( work2 );
+		verifyAll();
+		assertThat( bulkWork1FutureCapture.getValue() ).isPending();
+
+		// 3 * 40 > 100 => new bulk
+		resetAll();
+		expect( work3.getRefreshStrategy() ).andReturn( DEFAULT_REFRESH );
+		expect( bulkWorkFactoryMock.apply( Arrays.asList( work1, work2 ), DEFAULT_REFRESH ) ).andReturn( bulkWork1 );
+		expect( sequenceBuilderMock.addBulkExecution( capture( bulkWork2FutureCapture ) ) ).andReturn( bulkWork2ResultFuture );
+		expect( sequenceBuilderMock.addBulkResultExtraction( bulkWork2ResultFuture, work3, 0 ) )
+				.andReturn( new CompletableFuture<>() );
+		replayAll();
+		bulker.add( work3 );
+		verifyAll();
+		assertThat( bulkWork1FutureCapture.getValue() ).isSuccessful( bulkWork1 );
+		assertThat( bulkWork2FutureCapture.getValue() ).isPending();
+
+		// A work exceeding the limit on its own => new bulk, immediately finalized
+		resetAll();
+		expect( oversizedWork.getRefreshStrategy() ).andReturn( DEFAULT_REFRESH );
+		expect( bulkWorkFactoryMock.apply( Arrays.asList( work3 ), DEFAULT_REFRESH ) ).andReturn( bulkWork2 );
+		expect( sequenceBuilderMock.addBulkExecution( capture( bulkWork3FutureCapture ) ) ).andReturn( bulkWork3ResultFuture );
+		expect( sequenceBuilderMock.addBulkResultExtraction( bulkWork3ResultFuture, oversizedWork, 0 ) )
+				.andReturn( new CompletableFuture<>() );
+		expect( bulkWorkFactoryMock.apply( Arrays.asList( oversizedWork ), DEFAULT_REFRESH ) ).andReturn( bulkWork3 );
+		replayAll();
+		bulker.add( oversizedWork );
+		verifyAll();
+		assertThat( bulkWork2FutureCapture.getValue() ).isSuccessful( bulkWork2 );
+		assertThat( bulkWork3FutureCapture.getValue() ).isSuccessful( bulkWork3 );
+	}
+
 	@Test
 	public void newBulkOnDifferentRefresh() {
 		BulkableWork<Void> work1 = bulkableWork( 1 );
@@ -231,7 +299,8 @@ public void newBulkOnDifferentRefresh() {
 
 		replayAll();
 		ElasticsearchDefaultWorkBulker bulker =
-				new ElasticsearchDefaultWorkBulker( sequenceBuilderMock, bulkWorkFactoryMock, 10 );
+				new ElasticsearchDefaultWorkBulker( sequenceBuilderMock, bulkWorkFactoryMock,
+						() -> 10, Long.MAX_VALUE, work -> 0L );
 		verifyAll();
 
 		resetAll();
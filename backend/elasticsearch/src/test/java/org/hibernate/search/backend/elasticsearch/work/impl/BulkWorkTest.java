@@ -9,6 +9,7 @@
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.SoftAssertions.assertSoftly;
 import static org.easymock.EasyMock.capture;
+import static org.easymock.EasyMock.eq;
 import static org.easymock.EasyMock.expect;
 import static org.easymock.EasyMock.same;
 
@@ -16,6 +17,8 @@
 import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchClient;
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequest;
@@ -36,6 +39,7 @@ public class BulkWorkTest extends EasyMockSupport {
 
 	private final ElasticsearchWorkExecutionContext contextMock = createStrictMock( ElasticsearchWorkExecutionContext.class );
 	private final ElasticsearchClient clientMock = createStrictMock( ElasticsearchClient.class );
+	private final ScheduledExecutorService schedulerMock = createStrictMock( ScheduledExecutorService.class );
 
 	@Test
 	public void execute_success() {
@@ -138,6 +142,345 @@ public void execute_http500() {
 				) );
 	}
 
+	@Test
+	public void execute_retryOnRejection() {
+		BulkableWork<Object> bulkableWork0 = bulkableWork( 0 );
+		BulkableWork<Object> bulkableWork1 = bulkableWork( 1 );
+
+		resetAll();
+		expect( bulkableWork0.getBulkableActionMetadata() ).andReturn( bulkableWorkMetadata( 0 ) );
+		expect( bulkableWork0.getBulkableActionBody() ).andReturn( bulkableWorkBody( 0 ) );
+		expect( bulkableWork1.getBulkableActionMetadata() ).andReturn( bulkableWorkMetadata( 1 ) );
+		expect( bulkableWork1.getBulkableActionBody() ).andReturn( bulkableWorkBody( 1 ) );
+		replayAll();
+		BulkWork work = new BulkWork.Builder( Arrays.asList( bulkableWork0, bulkableWork1 ) )
+				.retryOnRejection( 2, schedulerMock )
+				.build();
+		verifyAll();
+
+		Capture<ElasticsearchRequest> requestCapture = Capture.newInstance();
+		CompletableFuture<ElasticsearchResponse> futureFromClient = new CompletableFuture<>();
+		resetAll();
+		expect( contextMock.getClient() ).andStubReturn( clientMock );
+		expect( clientMock.submit( capture( requestCapture ) ) ).andReturn( futureFromClient );
+		replayAll();
+		CompletableFuture<BulkResult> returnedFuture = work.execute( contextMock );
+		verifyAll();
+		FutureAssert.assertThat( returnedFuture ).isPending();
+
+		assertBulkRequest( requestCapture.getValue(), 0, 1 );
+
+		// The second work gets rejected
+		JsonObject responseBody = new JsonObject();
+		responseBody.addProperty( "errors", true );
+		JsonArray items = new JsonArray();
+		responseBody.add( "items", items );
+		items.add( bulkItem( 201 ) );
+		items.add( bulkItem( 429 ) );
+		Capture<Runnable> retryCapture = Capture.newInstance();
+		resetAll();
+		expect( contextMock.getClient() ).andStubReturn( clientMock );
+		expect( bulkableWork1.getBulkableActionMetadata() ).andReturn( bulkableWorkMetadata( 1 ) );
+		expect( bulkableWork1.getBulkableActionBody() ).andReturn( bulkableWorkBody( 1 ) );
+		expect( schedulerMock.schedule( capture( retryCapture ), eq( 100L ), eq( TimeUnit.MILLISECONDS ) ) )
+				.andReturn( null );
+		replayAll();
+		futureFromClient.complete( new ElasticsearchResponse( 200, "OK", responseBody ) );
+		verifyAll();
+		FutureAssert.assertThat( returnedFuture ).isPending();
+
+		// Only the rejected work is retried
+		Capture<ElasticsearchRequest> retryRequestCapture = Capture.newInstance();
+		CompletableFuture<ElasticsearchResponse> retryFutureFromClient = new CompletableFuture<>();
+		resetAll();
+		expect( contextMock.getClient() ).andStubReturn( clientMock );
+		expect( clientMock.submit( capture( retryRequestCapture ) ) ).andReturn( retryFutureFromClient );
+		replayAll();
+		retryCapture.getValue().run();
+		verifyAll();
+		FutureAssert.assertThat( returnedFuture ).isPending();
+
+		assertBulkRequest( retryRequestCapture.getValue(), 1 );
+
+		JsonObject retryResponseBody = new JsonObject();
+		retryResponseBody.addProperty( "errors", false );
+		JsonArray retryItems = new JsonArray();
+		retryResponseBody.add( "items", retryItems );
+		retryItems.add( bulkItem( 201 ) );
+		resetAll();
+		replayAll();
+		retryFutureFromClient.complete( new ElasticsearchResponse( 200, "OK", retryResponseBody ) );
+		verifyAll();
+
+		FutureAssert.assertThat( returnedFuture ).isSuccessful();
+		BulkResult result = returnedFuture.join();
+		assertThat( result.hasRejectedWorks() ).isTrue();
+
+		Object bulkableResult = new Object();
+		resetAll();
+		expect( bulkableWork1.handleBulkResult( same( contextMock ), same( retryItems.get( 0 ).getAsJsonObject() ) ) )
+				.andReturn( bulkableResult );
+		replayAll();
+		assertThat( result.extract( contextMock, bulkableWork1, 1 ) ).isSameAs( bulkableResult );
+		verifyAll();
+	}
+
+	@Test
+	public void execute_retryOnRejection_rejectedAgain() {
+		BulkableWork<Object> bulkableWork0 = bulkableWork( 0 );
+		BulkableWork<Object> bulkableWork1 = bulkableWork( 1 );
+		BulkableWork<Object> bulkableWork2 = bulkableWork( 2 );
+
+		resetAll();
+		expectBulkableWorkSerialization( bulkableWork0, 0 );
+		expectBulkableWorkSerialization( bulkableWork1, 1 );
+		expectBulkableWorkSerialization( bulkableWork2, 2 );
+		replayAll();
+		BulkWork work = new BulkWork.Builder( Arrays.asList( bulkableWork0, bulkableWork1, bulkableWork2 ) )
+				.retryOnRejection( 2, schedulerMock )
+				.build();
+		verifyAll();
+
+		CompletableFuture<ElasticsearchResponse> futureFromClient = new CompletableFuture<>();
+		resetAll();
+		expect( contextMock.getClient() ).andStubReturn( clientMock );
+		expect( clientMock.submit( capture( Capture.newInstance() ) ) ).andReturn( futureFromClient );
+		replayAll();
+		CompletableFuture<BulkResult> returnedFuture = work.execute( contextMock );
+		verifyAll();
+
+		// The first and last works get rejected
+		JsonArray items = bulkItems( 429, 201, 429 );
+		Capture<Runnable> retryCapture = Capture.newInstance();
+		resetAll();
+		expect( contextMock.getClient() ).andStubReturn( clientMock );
+		expectBulkableWorkSerialization( bulkableWork0, 0 );
+		expectBulkableWorkSerialization( bulkableWork2, 2 );
+		expect( schedulerMock.schedule( capture( retryCapture ), eq( 100L ), eq( TimeUnit.MILLISECONDS ) ) )
+				.andReturn( null );
+		replayAll();
+		futureFromClient.complete( new ElasticsearchResponse( 200, "OK", bulkResponseBody( items ) ) );
+		verifyAll();
+		FutureAssert.assertThat( returnedFuture ).isPending();
+
+		// First retry: only the rejected works are sent
+		Capture<ElasticsearchRequest> retryRequestCapture = Capture.newInstance();
+		CompletableFuture<ElasticsearchResponse> retryFutureFromClient = new CompletableFuture<>();
+		resetAll();
+		expect( contextMock.getClient() ).andStubReturn( clientMock );
+		expect( clientMock.submit( capture( retryRequestCapture ) ) ).andReturn( retryFutureFromClient );
+		replayAll();
+		retryCapture.getValue().run();
+		verifyAll();
+		assertBulkRequest( retryRequestCapture.getValue(), 0, 2 );
+
+		// The last work gets rejected again: it is retried with a longer delay
+		JsonArray retryItems = bulkItems( 201, 429 );
+		Capture<Runnable> secondRetryCapture = Capture.newInstance();
+		resetAll();
+		expect( contextMock.getClient() ).andStubReturn( clientMock );
+		expectBulkableWorkSerialization( bulkableWork2, 2 );
+		expect( schedulerMock.schedule( capture( secondRetryCapture ), eq( 200L ), eq( TimeUnit.MILLISECONDS ) ) )
+				.andReturn( null );
+		replayAll();
+		retryFutureFromClient.complete( new ElasticsearchResponse( 200, "OK", bulkResponseBody( retryItems ) ) );
+		verifyAll();
+		FutureAssert.assertThat( returnedFuture ).isPending();
+
+		// Second retry
+		Capture<ElasticsearchRequest> secondRetryRequestCapture = Capture.newInstance();
+		CompletableFuture<ElasticsearchResponse> secondRetryFutureFromClient = new CompletableFuture<>();
+		resetAll();
+		expect( contextMock.getClient() ).andStubReturn( clientMock );
+		expect( clientMock.submit( capture( secondRetryRequestCapture ) ) ).andReturn( secondRetryFutureFromClient );
+		replayAll();
+		secondRetryCapture.getValue().run();
+		verifyAll();
+		assertBulkRequest( secondRetryRequestCapture.getValue(), 2 );
+
+		// The last work gets rejected yet again: retries are exhausted, so we give up
+		JsonArray secondRetryItems = bulkItems( 429 );
+		resetAll();
+		replayAll();
+		secondRetryFutureFromClient.complete( new ElasticsearchResponse( 200, "OK", bulkResponseBody( secondRetryItems ) ) );
+		verifyAll();
+
+		FutureAssert.assertThat( returnedFuture ).isSuccessful();
+		BulkResult result = returnedFuture.join();
+		assertThat( result.hasRejectedWorks() ).isTrue();
+
+		// Each work gets the result of the latest attempt that included it
+		assertExtractedItem( result, bulkableWork0, 0, retryItems.get( 0 ).getAsJsonObject() );
+		assertExtractedItem( result, bulkableWork1, 1, items.get( 1 ).getAsJsonObject() );
+		assertExtractedItem( result, bulkableWork2, 2, secondRetryItems.get( 0 ).getAsJsonObject() );
+	}
+
+	@Test
+	public void execute_retryOnRejection_retryFailure() {
+		BulkableWork<Object> bulkableWork0 = bulkableWork( 0 );
+		BulkableWork<Object> bulkableWork1 = bulkableWork( 1 );
+
+		resetAll();
+		expectBulkableWorkSerialization( bulkableWork0, 0 );
+		expectBulkableWorkSerialization( bulkableWork1, 1 );
+		replayAll();
+		BulkWork work = new BulkWork.Builder( Arrays.asList( bulkableWork0, bulkableWork1 ) )
+				.retryOnRejection( 2, schedulerMock )
+				.build();
+		verifyAll();
+
+		CompletableFuture<ElasticsearchResponse> futureFromClient = new CompletableFuture<>();
+		resetAll();
+		expect( contextMock.getClient() ).andStubReturn( clientMock );
+		expect( clientMock.submit( capture( Capture.newInstance() ) ) ).andReturn( futureFromClient );
+		replayAll();
+		CompletableFuture<BulkResult> returnedFuture = work.execute( contextMock );
+		verifyAll();
+
+		JsonArray items = bulkItems( 201, 429 );
+		Capture<Runnable> retryCapture = Capture.newInstance();
+		resetAll();
+		expect( contextMock.getClient() ).andStubReturn( clientMock );
+		expectBulkableWorkSerialization( bulkableWork1, 1 );
+		expect( schedulerMock.schedule( capture( retryCapture ), eq( 100L ), eq( TimeUnit.MILLISECONDS ) ) )
+				.andReturn( null );
+		replayAll();
+		futureFromClient.complete( new ElasticsearchResponse( 200, "OK", bulkResponseBody( items ) ) );
+		verifyAll();
+
+		CompletableFuture<ElasticsearchResponse> retryFutureFromClient = new CompletableFuture<>();
+		resetAll();
+		expect( contextMock.getClient() ).andStubReturn( clientMock );
+		expect( clientMock.submit( capture( Capture.newInstance() ) ) ).andReturn( retryFutureFromClient );
+		replayAll();
+		retryCapture.getValue().run();
+		verifyAll();
+
+		// The retry fails as a whole: we give up without failing the bulk, and rejected works are reported as such
+		resetAll();
+		replayAll();
+		retryFutureFromClient.completeExceptionally( new RuntimeException( "Simulated failure" ) );
+		verifyAll();
+
+		FutureAssert.assertThat( returnedFuture ).isSuccessful();
+		BulkResult result = returnedFuture.join();
+		assertThat( result.hasRejectedWorks() ).isTrue();
+		assertExtractedItem( result, bulkableWork0, 0, items.get( 0 ).getAsJsonObject() );
+		assertExtractedItem( result, bulkableWork1, 1, items.get( 1 ).getAsJsonObject() );
+	}
+
+	@Test
+	public void execute_retryOnRejection_otherErrors() {
+		BulkableWork<Object> bulkableWork0 = bulkableWork( 0 );
+		BulkableWork<Object> bulkableWork1 = bulkableWork( 1 );
+
+		resetAll();
+		expectBulkableWorkSerialization( bulkableWork0, 0 );
+		expectBulkableWorkSerialization( bulkableWork1, 1 );
+		replayAll();
+		BulkWork work = new BulkWork.Builder( Arrays.asList( bulkableWork0, bulkableWork1 ) )
+				.retryOnRejection( 2, schedulerMock )
+				.build();
+		verifyAll();
+
+		CompletableFuture<ElasticsearchResponse> futureFromClient = new CompletableFuture<>();
+		resetAll();
+		expect( contextMock.getClient() ).andStubReturn( clientMock );
+		expect( clientMock.submit( capture( Capture.newInstance() ) ) ).andReturn( futureFromClient );
+		replayAll();
+		CompletableFuture<BulkResult> returnedFuture = work.execute( contextMock );
+		verifyAll();
+
+		// Errors other than rejections are not retried
+		JsonArray items = bulkItems( 201, 400 );
+		resetAll();
+		replayAll();
+		futureFromClient.complete( new ElasticsearchResponse( 200, "OK", bulkResponseBody( items ) ) );
+		verifyAll();
+
+		FutureAssert.assertThat( returnedFuture ).isSuccessful();
+		BulkResult result = returnedFuture.join();
+		assertThat( result.hasRejectedWorks() ).isFalse();
+		assertExtractedItem( result, bulkableWork1, 1, items.get( 1 ).getAsJsonObject() );
+	}
+
+	@Test
+	public void execute_rejection_noRetry() {
+		BulkableWork<Object> bulkableWork0 = bulkableWork( 0 );
+		BulkableWork<Object> bulkableWork1 = bulkableWork( 1 );
+
+		resetAll();
+		expectBulkableWorkSerialization( bulkableWork0, 0 );
+		expectBulkableWorkSerialization( bulkableWork1, 1 );
+		replayAll();
+		BulkWork work = new BulkWork.Builder( Arrays.asList( bulkableWork0, bulkableWork1 ) ).build();
+		verifyAll();
+
+		CompletableFuture<ElasticsearchResponse> futureFromClient = new CompletableFuture<>();
+		resetAll();
+		expect( contextMock.getClient() ).andStubReturn( clientMock );
+		expect( clientMock.submit( capture( Capture.newInstance() ) ) ).andReturn( futureFromClient );
+		replayAll();
+		CompletableFuture<BulkResult> returnedFuture = work.execute( contextMock );
+		verifyAll();
+
+		// Retries are disabled: rejected works are not retried, but still detected
+		JsonArray items = bulkItems( 429, 201 );
+		resetAll();
+		replayAll();
+		futureFromClient.complete( new ElasticsearchResponse( 200, "OK", bulkResponseBody( items ) ) );
+		verifyAll();
+
+		FutureAssert.assertThat( returnedFuture ).isSuccessful();
+		BulkResult result = returnedFuture.join();
+		assertThat( result.hasRejectedWorks() ).isTrue();
+		assertExtractedItem( result, bulkableWork0, 0, items.get( 0 ).getAsJsonObject() );
+	}
+
+	private void expectBulkableWorkSerialization(BulkableWork<Object> bulkableWork, int index) {
+		expect( bulkableWork.getBulkableActionMetadata() ).andReturn( bulkableWorkMetadata( index ) );
+		expect( bulkableWork.getBulkableActionBody() ).andReturn( bulkableWorkBody( index ) );
+	}
+
+	private void assertExtractedItem(BulkResult result, BulkableWork<Object> bulkableWork, int index,
+			JsonObject expectedItem) {
+		Object bulkableResult = new Object();
+		resetAll();
+		expect( bulkableWork.handleBulkResult( same( contextMock ), same( expectedItem ) ) )
+				.andReturn( bulkableResult );
+		replayAll();
+		assertThat( result.extract( contextMock, bulkableWork, index ) ).isSameAs( bulkableResult );
+		verifyAll();
+	}
+
+	private static JsonObject bulkResponseBody(JsonArray items) {
+		JsonObject responseBody = new JsonObject();
+		boolean errors = false;
+		for ( int i = 0; i < items.size(); i++ ) {
+			JsonObject itemBody = items.get( i ).getAsJsonObject().get( "index" ).getAsJsonObject();
+			errors = errors || itemBody.get( "status" ).getAsInt() >= 300;
+		}
+		responseBody.addProperty( "errors", errors );
+		responseBody.add( "items", items );
+		return responseBody;
+	}
+
+	private static JsonArray bulkItems(int ... statuses) {
+		JsonArray items = new JsonArray();
+		for ( int status : statuses ) {
+			items.add( bulkItem( status ) );
+		}
+		return items;
+	}
+
+	private static JsonObject bulkItem(int status) {
+		JsonObject itemBody = new JsonObject();
+		itemBody.addProperty( "status", status );
+		JsonObject item = new JsonObject();
+		item.add( "index", itemBody );
+		return item;
+	}
+
 	private void assertBulkRequest(ElasticsearchRequest request, int ... bulkableIndices) {
 		assertThat( request ).isNotNull();
 		assertSoftly( softly -> {
@@ -0,0 +1,197 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.work.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+import static org.easymock.EasyMock.capture;
+import static org.easymock.EasyMock.expect;
+import static org.easymock.EasyMock.same;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchClient;
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequest;
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchResponse;
+import org.hibernate.search.backend.elasticsearch.gson.spi.GsonProvider;
+import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
+import org.hibernate.search.backend.elasticsearch.work.result.impl.MultiSearchResult;
+import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.impl.test.FutureAssert;
+
+import org.junit.Test;
+
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import org.easymock.Capture;
+import org.easymock.EasyMockSupport;
+
+public class MultiSearchWorkTest extends EasyMockSupport {
+
+	private final ElasticsearchWorkExecutionContext contextMock = createStrictMock( ElasticsearchWorkExecutionContext.class );
+	private final ElasticsearchClient clientMock = createStrictMock( ElasticsearchClient.class );
+	private final ElasticsearchSearchResultExtractor<Object> extractorMock =
+			createStrictMock( ElasticsearchSearchResultExtractor.class );
+
+	private final GsonProvider gsonProvider = GsonProvider.create( GsonBuilder::new, false );
+
+	@Test
+	public void execute_success() {
+		SearchWork<Object> searchWork0 = SearchWork.Builder.forElasticsearch7AndAbove( payload( 0 ), extractorMock )
+				.indexes( Collections.singletonList( URLEncodedString.fromString( "index0" ) ) )
+				.paging( 10, 20 )
+				.build();
+		SearchWork<Object> searchWork1 = SearchWork.Builder.forElasticsearch7AndAbove( payload( 1 ), extractorMock )
+				.indexes( Arrays.asList( URLEncodedString.fromString( "index1" ), URLEncodedString.fromString( "index2" ) ) )
+				.routingKeys( Collections.singleton( "routing1" ) )
+				.timeout( 100L, TimeUnit.MILLISECONDS, false )
+				.totalHitCountThreshold( 500L )
+				.build();
+		assertThat( searchWork0.isMultiSearchable() ).isTrue();
+		assertThat( searchWork1.isMultiSearchable() ).isTrue();
+
+		MultiSearchWork work = new MultiSearchWork.Builder( Arrays.asList( searchWork0, searchWork1 ) ).build();
+
+		Capture<ElasticsearchRequest> requestCapture = Capture.newInstance();
+		CompletableFuture<ElasticsearchResponse> futureFromClient = new CompletableFuture<>();
+		resetAll();
+		expect( contextMock.getGsonProvider() ).andStubReturn( gsonProvider );
+		expect( contextMock.getClient() ).andStubReturn( clientMock );
+		expect( clientMock.submit( capture( requestCapture ) ) ).andReturn( futureFromClient );
+		replayAll();
+		CompletableFuture<MultiSearchResult> returnedFuture = work.execute( contextMock );
+		verifyAll();
+		FutureAssert.assertThat( returnedFuture ).isPending();
+
+		ElasticsearchRequest request = requestCapture.getValue();
+		assertSoftly( softly -> {
+			softly.assertThat( request.method() ).isEqualTo( "POST" );
+			softly.assertThat( request.path() ).isEqualTo( "/_msearch" );
+			softly.assertThat( request.bodyParts() ).hasSize( 4 );
+			softly.assertThat( request.bodyParts().get( 0 ).toString() )
+					.isEqualTo( "{\"index\":[\"index0\"]}" );
+			softly.assertThat( request.bodyParts().get( 1 ).toString() )
+					.isEqualTo( "{\"payloadIndex\":0,\"from\":20,\"size\":10,\"track_total_hits\":true}" );
+			softly.assertThat( request.bodyParts().get( 2 ).toString() )
+					.isEqualTo( "{\"index\":[\"index1\",\"index2\"],\"routing\":\"routing1\"}" );
+			softly.assertThat( request.bodyParts().get( 3 ).toString() )
+					.isEqualTo( "{\"payloadIndex\":1,\"track_total_hits\":500,\"timeout\":\"100ms\"}" );
+		} );
+
+		JsonObject responseBody = new JsonObject();
+		JsonArray items = new JsonArray();
+		responseBody.add( "responses", items );
+		items.add( multiSearchItem( 200 ) );
+		items.add( multiSearchItem( 200 ) );
+		resetAll();
+		replayAll();
+		futureFromClient.complete( new ElasticsearchResponse( 200, "OK", responseBody ) );
+		verifyAll();
+
+		FutureAssert.assertThat( returnedFuture ).isSuccessful();
+		MultiSearchResult result = returnedFuture.join();
+
+		Object searchResult0 = new Object();
+		Object searchResult1 = new Object();
+		resetAll();
+		expect( extractorMock.extract( same( items.get( 0 ).getAsJsonObject() ) ) ).andReturn( searchResult0 );
+		expect( extractorMock.extract( same( items.get( 1 ).getAsJsonObject() ) ) ).andReturn( searchResult1 );
+		replayAll();
+		assertThat( result.extract( searchWork0, 0 ) ).isSameAs( searchResult0 );
+		assertThat( result.extract( searchWork1, 1 ) ).isSameAs( searchResult1 );
+		verifyAll();
+	}
+
+	@Test
+	public void execute_itemFailure() {
+		SearchWork<Object> searchWork0 = SearchWork.Builder.forElasticsearch7AndAbove( payload( 0 ), extractorMock )
+				.indexes( Collections.singletonList( URLEncodedString.fromString( "index0" ) ) )
+				.build();
+		SearchWork<Object> searchWork1 = SearchWork.Builder.forElasticsearch7AndAbove( payload( 1 ), extractorMock )
+				.indexes( Collections.singletonList( URLEncodedString.fromString( "index1" ) ) )
+				.build();
+
+		MultiSearchWork work = new MultiSearchWork.Builder( Arrays.asList( searchWork0, searchWork1 ) ).build();
+
+		CompletableFuture<ElasticsearchResponse> futureFromClient = new CompletableFuture<>();
+		resetAll();
+		expect( contextMock.getGsonProvider() ).andStubReturn( gsonProvider );
+		expect( contextMock.getClient() ).andStubReturn( clientMock );
+		expect( clientMock.submit( capture( Capture.newInstance() ) ) ).andReturn( futureFromClient );
+		replayAll();
+		CompletableFuture<MultiSearchResult> returnedFuture = work.execute( contextMock );
+		verifyAll();
+
+		// The second search fails, but not the multi-search request as a whole
+		JsonObject responseBody = new JsonObject();
+		JsonArray items = new JsonArray();
+		responseBody.add( "responses", items );
+		items.add( multiSearchItem( 200 ) );
+		JsonObject failedItem = multiSearchItem( 400 );
+		JsonObject error = new JsonObject();
+		error.addProperty( "type", "search_phase_execution_exception" );
+		failedItem.add( "error", error );
+		items.add( failedItem );
+		resetAll();
+		replayAll();
+		futureFromClient.complete( new ElasticsearchResponse( 200, "OK", responseBody ) );
+		verifyAll();
+
+		FutureAssert.assertThat( returnedFuture ).isSuccessful();
+		MultiSearchResult result = returnedFuture.join();
+
+		Object searchResult0 = new Object();
+		resetAll();
+		expect( extractorMock.extract( same( items.get( 0 ).getAsJsonObject() ) ) ).andReturn( searchResult0 );
+		replayAll();
+		assertThat( result.extract( searchWork0, 0 ) ).isSameAs( searchResult0 );
+		assertThatThrownBy( () -> result.extract( searchWork1, 1 ) )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContainingAll(
+						"Elasticsearch request failed as part of a multi-search request",
+						"index1", "payloadIndex", "search_phase_execution_exception"
+				);
+		verifyAll();
+	}
+
+	@Test
+	public void multiSearchable() {
+		assertThat( SearchWork.Builder.forElasticsearch7AndAbove( payload( 0 ), extractorMock )
+				.scrolling( 10, "1m" )
+				.build()
+				.isMultiSearchable() )
+				.isFalse();
+		assertThat( SearchWork.Builder.forElasticsearch7AndAbove( payload( 0 ), extractorMock )
+				.timeout( 100L, TimeUnit.MILLISECONDS, true )
+				.build()
+				.isMultiSearchable() )
+				.isFalse();
+		assertThat( SearchWork.Builder.forElasticsearch7AndAbove( payload( 0 ), extractorMock )
+				.requestTransformer( request -> request )
+				.build()
+				.isMultiSearchable() )
+				.isFalse();
+	}
+
+	private static JsonObject payload(int index) {
+		JsonObject result = new JsonObject();
+		result.addProperty( "payloadIndex", index );
+		return result;
+	}
+
+	private static JsonObject multiSearchItem(int status) {
+		JsonObject item = new JsonObject();
+		item.addProperty( "status", status );
+		return item;
+	}
+
+}
@@ -0,0 +1,80 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.work.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.easymock.EasyMock.capture;
+import static org.easymock.EasyMock.expect;
+
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchClient;
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequest;
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchResponse;
+import org.hibernate.search.backend.elasticsearch.gson.spi.GsonProvider;
+import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
+
+import org.junit.Test;
+
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonObject;
+import org.easymock.Capture;
+import org.easymock.EasyMockSupport;
+
+public class SearchWorkTest extends EasyMockSupport {
+
+	private final ElasticsearchWorkExecutionContext contextMock = createStrictMock( ElasticsearchWorkExecutionContext.class );
+	private final ElasticsearchClient clientMock = createStrictMock( ElasticsearchClient.class );
+	private final ElasticsearchSearchResultExtractor<Object> extractorMock =
+			createStrictMock( ElasticsearchSearchResultExtractor.class );
+
+	private final GsonProvider gsonProvider = GsonProvider.create( GsonBuilder::new, false );
+
+	@Test
+	public void totalHitCountThreshold() {
+		SearchWork<Object> work = SearchWork.Builder.forElasticsearch7AndAbove( new JsonObject(), extractorMock )
+				.indexes( Collections.singletonList( URLEncodedString.fromString( "index" ) ) )
+				.paging( 10, null )
+				.totalHitCountThreshold( 500L )
+				.build();
+
+		ElasticsearchRequest request = execute( work );
+		assertThat( request.parameters() )
+				.containsEntry( "size", "10" )
+				.containsEntry( "track_total_hits", "500" );
+	}
+
+	@Test
+	public void totalHitCountThreshold_scrolling() {
+		SearchWork<Object> work = SearchWork.Builder.forElasticsearch7AndAbove( new JsonObject(), extractorMock )
+				.indexes( Collections.singletonList( URLEncodedString.fromString( "index" ) ) )
+				.scrolling( 30, "1m" )
+				.totalHitCountThreshold( 500L )
+				.build();
+
+		ElasticsearchRequest request = execute( work );
+		// Elasticsearch rejects a non-exact "track_total_hits" in a scroll context
+		assertThat( request.parameters() )
+				.containsEntry( "size", "30" )
+				.containsEntry( "scroll", "1m" )
+				.containsEntry( "track_total_hits", "true" );
+	}
+
+	private ElasticsearchRequest execute(SearchWork<Object> work) {
+		Capture<ElasticsearchRequest> requestCapture = Capture.newInstance();
+		resetAll();
+		expect( contextMock.getGsonProvider() ).andStubReturn( gsonProvider );
+		expect( contextMock.getClient() ).andStubReturn( clientMock );
+		expect( clientMock.submit( capture( requestCapture ) ) )
+				.andReturn( new CompletableFuture<ElasticsearchResponse>() );
+		replayAll();
+		work.execute( contextMock );
+		verifyAll();
+		return requestCapture.getValue();
+	}
+}
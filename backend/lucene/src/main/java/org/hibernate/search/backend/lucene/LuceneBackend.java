@@ -8,6 +8,7 @@
 
 import java.util.Optional;
 
+import org.hibernate.search.backend.lucene.cache.LuceneQueryCacheStatistics;
 import org.hibernate.search.engine.backend.Backend;
 import org.hibernate.search.engine.backend.metamodel.IndexValueFieldTypeDescriptor;
 
@@ -28,4 +29,11 @@ public interface LuceneBackend extends Backend {
 	 */
 	Optional<? extends Analyzer> normalizer(String name);
 
+	/**
+	 * @return Statistics about the query cache shared by all indexes of this backend,
+	 * or {@link Optional#empty()} if the query cache is disabled.
+	 * @see org.hibernate.search.backend.lucene.cfg.LuceneBackendSettings#QUERY_CACHE_ENABLED
+	 */
+	Optional<LuceneQueryCacheStatistics> queryCacheStatistics();
+
 }
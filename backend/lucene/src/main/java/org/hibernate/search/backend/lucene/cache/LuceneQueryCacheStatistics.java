@@ -0,0 +1,51 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.cache;
+
+/**
+ * Statistics about the query cache of a Lucene backend.
+ * <p>
+ * Statistics are updated continuously while searches execute:
+ * each call to a method of this interface returns the current value.
+ *
+ * @see org.hibernate.search.backend.lucene.cfg.LuceneBackendSettings#QUERY_CACHE_ENABLED
+ */
+public interface LuceneQueryCacheStatistics {
+
+	/**
+	 * @return The number of times a cached result was reused for a query on an index segment.
+	 */
+	long hitCount();
+
+	/**
+	 * @return The number of times a query on an index segment could have used the cache,
+	 * but no cached result was available.
+	 */
+	long missCount();
+
+	/**
+	 * @return The number of results currently held in the cache, one per query and index segment.
+	 */
+	long cacheSize();
+
+	/**
+	 * @return The total number of results that were ever added to the cache.
+	 */
+	long cacheCount();
+
+	/**
+	 * @return The number of results that were evicted from the cache,
+	 * either because the cache was full or because the corresponding index segment was closed.
+	 */
+	long evictionCount();
+
+	/**
+	 * @return An estimate of the heap memory currently used by the cache, in bytes.
+	 */
+	long memoryUsedBytes();
+
+}
@@ -6,6 +6,10 @@
  */
 package org.hibernate.search.backend.lucene.cfg;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
 import org.hibernate.search.backend.lucene.analysis.LuceneAnalysisConfigurer;
 import org.hibernate.search.backend.lucene.lowlevel.directory.FileSystemAccessStrategyName;
 import org.hibernate.search.backend.lucene.lowlevel.directory.LockingStrategyName;
@@ -96,6 +100,39 @@ private LuceneBackendSettings() {
 	public static final String DIRECTORY_FILESYSTEM_ACCESS_STRATEGY =
 			DIRECTORY_PREFIX + DirectoryRadicals.FILESYSTEM_ACCESS_STRATEGY;
 
+	/**
+	 * The extensions of index files to access through memory mapping
+	 * when using the {@link FileSystemAccessStrategyName#HYBRID hybrid} filesystem access strategy.
+	 * <p>
+	 * Only available for the "local-filesystem" directory type.
+	 * <p>
+	 * Expects a comma-separated String of file extensions without the leading dot, such as "dvd,tim,tip",
+	 * or a {@code List<String>}.
+	 * <p>
+	 * Defaults to {@link Defaults#DIRECTORY_FILESYSTEM_ACCESS_MMAP_EXTENSIONS}.
+	 */
+	public static final String DIRECTORY_FILESYSTEM_ACCESS_MMAP_EXTENSIONS =
+			DIRECTORY_PREFIX + DirectoryRadicals.FILESYSTEM_ACCESS_MMAP_EXTENSIONS;
+
+	/**
+	 * The extensions of index files to preload into physical memory when they are opened.
+	 * <p>
+	 * Only available for the "local-filesystem" directory type.
+	 * <p>
+	 * Index files with these extensions will always be accessed through memory mapping,
+	 * regardless of the filesystem access strategy,
+	 * and their content will be loaded into physical memory as soon as an index reader opens them.
+	 * This avoids slow queries right after startup, while the operating system cache is cold,
+	 * at the cost of a slower opening of index readers.
+	 * <p>
+	 * Expects a comma-separated String of file extensions without the leading dot, such as "dvd,nvd",
+	 * or a {@code List<String>}.
+	 * <p>
+	 * Defaults to {@link Defaults#DIRECTORY_FILESYSTEM_ACCESS_PRELOAD_EXTENSIONS}.
+	 */
+	public static final String DIRECTORY_FILESYSTEM_ACCESS_PRELOAD_EXTENSIONS =
+			DIRECTORY_PREFIX + DirectoryRadicals.FILESYSTEM_ACCESS_PRELOAD_EXTENSIONS;
+
 	/**
 	 * The multi-tenancy strategy to use.
 	 * <p>
@@ -130,6 +167,98 @@ private LuceneBackendSettings() {
 	 */
 	public static final String THREAD_POOL_SIZE = "thread_pool.size";
 
+	/**
+	 * The size of the thread pool used to search multiple segments or shards of indexes in parallel
+	 * when executing a single query.
+	 * <p>
+	 * When set, each query executed on more than one index slice will be split,
+	 * each slice being searched in a separate thread and the results being merged at the end.
+	 * This reduces the latency of queries on large, multi-segment or sharded indexes,
+	 * at the cost of a higher CPU usage per query.
+	 * <p>
+	 * Expects a strictly positive integer value,
+	 * or a string that can be parsed to such integer value.
+	 * <p>
+	 * Defaults to no value, meaning queries are executed in the calling thread only.
+	 * <p>
+	 * See the reference documentation, section "Lucene backend - Threads",
+	 * for more information about this setting and its implications.
+	 */
+	public static final String SEARCH_THREAD_POOL_SIZE = "search.thread_pool.size";
+
+	/**
+	 * The size of the thread pool used to execute queries asynchronously,
+	 * i.e. when calling {@code fetchAsync(...)} or {@code fetchTotalHitCountAsync()} on a search query.
+	 * <p>
+	 * This thread pool is distinct from the one set through {@link #SEARCH_THREAD_POOL_SIZE},
+	 * so that asynchronous queries waiting for index slices to be searched
+	 * cannot starve the threads searching those slices.
+	 * <p>
+	 * Expects a strictly positive integer value,
+	 * or a string that can be parsed to such integer value.
+	 * <p>
+	 * Defaults to the number of processor cores available to the JVM on startup.
+	 * <p>
+	 * See the reference documentation, section "Lucene backend - Threads",
+	 * for more information about this setting and its implications.
+	 */
+	public static final String READ_THREAD_POOL_SIZE = "read.thread_pool.size";
+
+	/**
+	 * Whether searches should use a query cache shared by all indexes of the backend.
+	 * <p>
+	 * When enabled, the results of filters that are used frequently,
+	 * such as range predicates on a date field or boolean predicates in filter context,
+	 * are cached per index segment and reused across searches.
+	 * <p>
+	 * Expects a Boolean value such as {@code true} or {@code false},
+	 * or a string that can be parsed to such Boolean value.
+	 * <p>
+	 * Defaults to {@link Defaults#QUERY_CACHE_ENABLED}.
+	 */
+	public static final String QUERY_CACHE_ENABLED = "query_cache.enabled";
+
+	/**
+	 * The maximum number of queries whose results the query cache can hold.
+	 * <p>
+	 * Only effective if the {@link #QUERY_CACHE_ENABLED query cache is enabled}.
+	 * <p>
+	 * Expects a strictly positive integer value,
+	 * or a string that can be parsed to such integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#QUERY_CACHE_MAX_QUERIES}.
+	 */
+	public static final String QUERY_CACHE_MAX_QUERIES = "query_cache.max_queries";
+
+	/**
+	 * The maximum amount of heap memory, in bytes, the query cache can use.
+	 * <p>
+	 * Only effective if the {@link #QUERY_CACHE_ENABLED query cache is enabled}.
+	 * <p>
+	 * When this limit is reached, the least recently used entries are evicted.
+	 * <p>
+	 * Expects a strictly positive long value,
+	 * or a string that can be parsed to such long value.
+	 * <p>
+	 * Defaults to {@link Defaults#QUERY_CACHE_MAX_MEMORY}.
+	 */
+	public static final String QUERY_CACHE_MAX_MEMORY = "query_cache.max_memory";
+
+	/**
+	 * The policy deciding which queries should have their results cached.
+	 * <p>
+	 * Only effective if the {@link #QUERY_CACHE_ENABLED query cache is enabled}.
+	 * <p>
+	 * Expects a reference to a bean of type {@link org.apache.lucene.search.QueryCachingPolicy}.
+	 * <p>
+	 * Defaults to an instance of {@link org.apache.lucene.search.UsageTrackingQueryCachingPolicy},
+	 * which caches queries once they have been used a few times.
+	 *
+	 * @see org.hibernate.search.engine.cfg The core documentation of configuration properties,
+	 * which includes a description of the "bean reference" properties and accepted values.
+	 */
+	public static final String QUERY_CACHE_CACHING_POLICY = "query_cache.caching_policy";
+
 	/**
 	 * Configuration property keys for directories without the {@link #DIRECTORY_PREFIX prefix}.
 	 */
@@ -142,6 +271,8 @@ private DirectoryRadicals() {
 		public static final String ROOT = "root";
 		public static final String LOCKING_STRATEGY = "locking.strategy";
 		public static final String FILESYSTEM_ACCESS_STRATEGY = "filesystem_access.strategy";
+		public static final String FILESYSTEM_ACCESS_MMAP_EXTENSIONS = "filesystem_access.mmap_extensions";
+		public static final String FILESYSTEM_ACCESS_PRELOAD_EXTENSIONS = "filesystem_access.preload_extensions";
 	}
 
 	/**
@@ -161,6 +292,21 @@ private Defaults() {
 		public static final FileSystemAccessStrategyName DIRECTORY_FILESYSTEM_ACCESS_STRATEGY =
 				FileSystemAccessStrategyName.AUTO;
 
+		/**
+		 * Norms, doc values, postings, points and compound files:
+		 * the files that benefit most from random access.
+		 */
+		public static final List<String> DIRECTORY_FILESYSTEM_ACCESS_MMAP_EXTENSIONS =
+				Collections.unmodifiableList( Arrays.asList( "nvd", "dvd", "tim", "tip", "doc", "dim", "cfs" ) );
+
+		public static final List<String> DIRECTORY_FILESYSTEM_ACCESS_PRELOAD_EXTENSIONS = Collections.emptyList();
+
 		public static final MultiTenancyStrategyName MULTI_TENANCY_STRATEGY = MultiTenancyStrategyName.NONE;
+
+		public static final boolean QUERY_CACHE_ENABLED = true;
+
+		public static final int QUERY_CACHE_MAX_QUERIES = 1000;
+
+		public static final long QUERY_CACHE_MAX_MEMORY = 32L * 1024 * 1024;
 	}
 }
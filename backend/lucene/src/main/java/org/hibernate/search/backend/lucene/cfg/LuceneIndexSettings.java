@@ -6,8 +6,11 @@
  */
 package org.hibernate.search.backend.lucene.cfg;
 
+import org.hibernate.search.backend.lucene.index.ShardingTimeUnit;
 import org.hibernate.search.backend.lucene.logging.impl.LuceneLogCategories;
 import org.hibernate.search.backend.lucene.lowlevel.index.IOStrategyName;
+import org.hibernate.search.engine.cfg.IndexingQueueBackPressureStrategyName;
+import org.hibernate.search.engine.cfg.IndexingQueueImplementationName;
 
 import org.apache.lucene.index.IndexWriterConfig;
 import org.apache.lucene.index.LogByteSizeMergePolicy;
@@ -66,6 +69,35 @@ private LuceneIndexSettings() {
 	 */
 	public static final String IO_COMMIT_INTERVAL = IO_PREFIX + IORadicals.COMMIT_INTERVAL;
 
+	/**
+	 * How much time a commit may be delayed in order to include changes from other threads in the same commit.
+	 * <p>
+	 * Only available for the "near-real-time" I/O strategy.
+	 * <p>
+	 * Commits requested concurrently on the same index, for example by multiple indexing queues
+	 * or by multiple threads forcing a commit, are always grouped:
+	 * a commit request waits for any commit in progress and returns immediately
+	 * if that commit already included its changes.
+	 * This setting allows the thread performing a commit to wait some more before committing,
+	 * so that more changes can be included in that same commit.
+	 * The thread stops waiting as soon as every indexing queue of the index
+	 * (see {@link #INDEXING_QUEUE_COUNT}) requested a commit:
+	 * <ul>
+	 *   <li>If set to 0, commits happen as soon as they are requested.</li>
+	 *   <li>If set to 10, commits may be delayed by up to 10 milliseconds, increasing the latency of each write,
+	 *   but reducing the number of commits (and disk synchronizations) when many threads write concurrently.</li>
+	 * </ul>
+	 * <p>
+	 * Changes are always committed before the operations that triggered the commit are considered complete,
+	 * so this setting does not affect durability guarantees.
+	 * <p>
+	 * Expects a positive Integer value in milliseconds, such as {@code 10},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to {@link LuceneIndexSettings.Defaults#IO_COMMIT_GROUP_MAX_WAIT}.
+	 */
+	public static final String IO_COMMIT_GROUP_MAX_WAIT = IO_PREFIX + IORadicals.COMMIT_GROUP_MAX_WAIT;
+
 	/**
 	 * How much time may pass after an index write
 	 * until the index reader is considered stale and re-created.
@@ -91,6 +123,25 @@ private LuceneIndexSettings() {
 	 */
 	public static final String IO_REFRESH_INTERVAL = IO_PREFIX + IORadicals.REFRESH_INTERVAL;
 
+	/**
+	 * Whether index readers should be refreshed in the background, instead of when a search query is executed.
+	 * <p>
+	 * Only available for the "near-real-time" I/O strategy,
+	 * and only has an effect if {@link #IO_REFRESH_INTERVAL the refresh interval} is strictly positive.
+	 * <p>
+	 * When enabled, a background task re-opens the index reader every {@link #IO_REFRESH_INTERVAL refresh interval},
+	 * and search queries simply use the latest index reader without ever waiting for it to be refreshed.
+	 * Forced refreshes (for example with the "searchable" automatic indexing synchronization strategy in the ORM mapper)
+	 * are performed by the thread writing to the index, so that subsequent search queries
+	 * see the changes without having to wait either.
+	 * <p>
+	 * Expects a Boolean value such as {@code true} or {@code false},
+	 * or a string that can be parsed into a Boolean value.
+	 * <p>
+	 * Defaults to {@link LuceneIndexSettings.Defaults#IO_REFRESH_BACKGROUND}.
+	 */
+	public static final String IO_REFRESH_BACKGROUND = IO_PREFIX + IORadicals.REFRESH_BACKGROUND;
+
 	/**
 	 * The prefix for property keys related to the index writer.
 	 */
@@ -211,6 +262,28 @@ private LuceneIndexSettings() {
 	 */
 	public static final String IO_MERGE_CALIBRATE_BY_DELETES = IO_MERGE_PREFIX + MergeRadicals.CALIBRATE_BY_DELETES;
 
+	/**
+	 * The sort applied to documents within each segment of the index, when indexing.
+	 * <p>
+	 * Search queries whose sort is a prefix of the index sort will stop collecting hits early in each segment,
+	 * provided they set a {@link org.hibernate.search.engine.search.query.dsl.SearchQueryOptionsStep#totalHitCountThreshold(long) total hit count threshold}.
+	 * <p>
+	 * Expects either a String containing multiple sort elements separated by commas (','),
+	 * or a {@code Collection<String>} containing such sort elements.
+	 * Each sort element is the absolute path of a field, optionally followed by {@code :asc} or {@code :desc},
+	 * for example "publicationDate:desc,title".
+	 * Fields must be sortable and of a string, numeric or date/time type,
+	 * and the index must not define any nested object field.
+	 * <p>
+	 * Documents are sorted in the same way as with a field sort with default options,
+	 * in particular documents without a value are sorted last.
+	 * <p>
+	 * Changing this setting for an existing index requires dropping and re-creating the index.
+	 * <p>
+	 * Defaults to no value, meaning documents are not sorted within segments.
+	 */
+	public static final String INDEX_SORT = "index_sort";
+
 	/**
 	 * The prefix for sharding-related property keys.
 	 */
@@ -252,6 +325,70 @@ private LuceneIndexSettings() {
 	 */
 	public static final String SHARDING_SHARD_IDENTIFIERS = SHARDING_PREFIX + ShardingRadicals.SHARD_IDENTIFIERS;
 
+	/**
+	 * The absolute path of the field whose values determine the shard of each document.
+	 * <p>
+	 * Only available for the "range" and "time" sharding strategies.
+	 * <p>
+	 * When set, searches with a range predicate on this field
+	 * will skip shards whose range of values does not intersect the range predicate.
+	 * Routing keys must then be consistent with the value of this field in each document.
+	 * <p>
+	 * Expects a String, such as "publicationDate".
+	 * <p>
+	 * Defaults to no value, meaning shards will only be skipped based on routing keys.
+	 */
+	public static final String SHARDING_FIELD = SHARDING_PREFIX + ShardingRadicals.FIELD;
+
+	/**
+	 * The list of boundaries between shards.
+	 * <p>
+	 * Only available for the "range" sharding strategy.
+	 * <p>
+	 * Expects either a String containing multiple boundaries separated by commas (','),
+	 * or a {@code Collection<String>} containing such boundaries.
+	 * Boundaries must be sorted in ascending order.
+	 * For N boundaries, N + 1 shards will be created.
+	 * <p>
+	 * No default: this property must be set when using the "range" sharding strategy.
+	 */
+	public static final String SHARDING_BOUNDARIES = SHARDING_PREFIX + ShardingRadicals.BOUNDARIES;
+
+	/**
+	 * The unit of time covered by each shard.
+	 * <p>
+	 * Only available for the "time" sharding strategy.
+	 * <p>
+	 * Expects a {@link ShardingTimeUnit} value, or a String representation of such value.
+	 * <p>
+	 * Defaults to {@link LuceneIndexSettings.Defaults#SHARDING_TIME_UNIT}.
+	 */
+	public static final String SHARDING_TIME_UNIT = SHARDING_PREFIX + ShardingRadicals.TIME_UNIT;
+
+	/**
+	 * The start of the time range covered by shards, inclusive.
+	 * <p>
+	 * Only available for the "time" sharding strategy.
+	 * <p>
+	 * Expects an {@link java.time.Instant}, or a String representation of such value in ISO-8601 format,
+	 * such as "2018-01-01T00:00:00Z".
+	 * <p>
+	 * No default: this property must be set when using the "time" sharding strategy.
+	 */
+	public static final String SHARDING_TIME_START = SHARDING_PREFIX + ShardingRadicals.TIME_START;
+
+	/**
+	 * The end of the time range covered by shards, exclusive.
+	 * <p>
+	 * Only available for the "time" sharding strategy.
+	 * <p>
+	 * Expects an {@link java.time.Instant}, or a String representation of such value in ISO-8601 format,
+	 * such as "2021-01-01T00:00:00Z".
+	 * <p>
+	 * No default: this property must be set when using the "time" sharding strategy.
+	 */
+	public static final String SHARDING_TIME_END = SHARDING_PREFIX + ShardingRadicals.TIME_END;
+
 	/**
 	 * The prefix for indexing-related property keys.
 	 */
@@ -283,6 +420,49 @@ private LuceneIndexSettings() {
 	 */
 	public static final String INDEXING_QUEUE_SIZE = INDEXING_PREFIX + IndexingRadicals.QUEUE_SIZE;
 
+	/**
+	 * The implementation of indexing queues.
+	 * <p>
+	 * Expects a {@link IndexingQueueImplementationName} value,
+	 * or a String representation of such value.
+	 * <p>
+	 * Defaults to {@link Defaults#INDEXING_QUEUE_IMPLEMENTATION}.
+	 * <p>
+	 * See the reference documentation, section "Lucene backend - Indexing",
+	 * for more information about this setting and its implications.
+	 */
+	public static final String INDEXING_QUEUE_IMPLEMENTATION = INDEXING_PREFIX + IndexingRadicals.QUEUE_IMPLEMENTATION;
+
+	/**
+	 * The strategy to apply when a work is submitted to a full indexing queue.
+	 * <p>
+	 * Expects a {@link IndexingQueueBackPressureStrategyName} value,
+	 * or a String representation of such value.
+	 * <p>
+	 * Defaults to {@link Defaults#INDEXING_QUEUE_BACK_PRESSURE_STRATEGY}.
+	 * <p>
+	 * See the reference documentation, section "Lucene backend - Indexing",
+	 * for more information about this setting and its implications.
+	 */
+	public static final String INDEXING_QUEUE_BACK_PRESSURE_STRATEGY = INDEXING_PREFIX + IndexingRadicals.QUEUE_BACK_PRESSURE_STRATEGY;
+
+	/**
+	 * Whether idle indexing queue workers are allowed to take works from other, busy queues.
+	 * <p>
+	 * When enabled, works relative to different documents may be applied in parallel
+	 * even if they were assigned to the same queue,
+	 * while works relative to the same document are still applied one after the other, in submission order.
+	 * <p>
+	 * Expects a Boolean value such as {@code true} or {@code false},
+	 * or a string that can be parsed to such Boolean value.
+	 * <p>
+	 * Defaults to {@link Defaults#INDEXING_QUEUE_WORK_STEALING}.
+	 * <p>
+	 * See the reference documentation, section "Lucene backend - Indexing",
+	 * for more information about this setting and its implications.
+	 */
+	public static final String INDEXING_QUEUE_WORK_STEALING = INDEXING_PREFIX + IndexingRadicals.QUEUE_WORK_STEALING;
+
 	/**
 	 * Configuration property keys for I/O, without the {@link #IO_PREFIX prefix}.
 	 */
@@ -293,7 +473,9 @@ private IORadicals() {
 
 		public static final String STRATEGY = "strategy";
 		public static final String COMMIT_INTERVAL = "commit_interval";
+		public static final String COMMIT_GROUP_MAX_WAIT = "commit_group_max_wait";
 		public static final String REFRESH_INTERVAL = "refresh_interval";
+		public static final String REFRESH_BACKGROUND = "refresh_background";
 	}
 
 	/**
@@ -338,6 +520,11 @@ private ShardingRadicals() {
 		public static final String STRATEGY = "strategy";
 		public static final String NUMBER_OF_SHARDS = "number_of_shards";
 		public static final String SHARD_IDENTIFIERS = "shard_identifiers";
+		public static final String FIELD = "field";
+		public static final String BOUNDARIES = "boundaries";
+		public static final String TIME_UNIT = "time_unit";
+		public static final String TIME_START = "time_start";
+		public static final String TIME_END = "time_end";
 	}
 
 	/**
@@ -350,6 +537,9 @@ private IndexingRadicals() {
 
 		public static final String QUEUE_COUNT = "queue_count";
 		public static final String QUEUE_SIZE = "queue_size";
+		public static final String QUEUE_IMPLEMENTATION = "queue_implementation";
+		public static final String QUEUE_BACK_PRESSURE_STRATEGY = "queue_back_pressure_strategy";
+		public static final String QUEUE_WORK_STEALING = "queue_work_stealing";
 	}
 
 	/**
@@ -361,10 +551,18 @@ private Defaults() {
 		}
 
 		public static final String SHARDING_STRATEGY = "none";
+		public static final ShardingTimeUnit SHARDING_TIME_UNIT = ShardingTimeUnit.MONTH;
 		public static final IOStrategyName IO_STRATEGY = IOStrategyName.NEAR_REAL_TIME;
 		public static final int IO_COMMIT_INTERVAL = 1000;
+		public static final int IO_COMMIT_GROUP_MAX_WAIT = 0;
 		public static final int IO_REFRESH_INTERVAL = 0;
+		public static final boolean IO_REFRESH_BACKGROUND = false;
 		public static final int INDEXING_QUEUE_COUNT = 10;
 		public static final int INDEXING_QUEUE_SIZE = 1000;
+		public static final IndexingQueueImplementationName INDEXING_QUEUE_IMPLEMENTATION =
+				IndexingQueueImplementationName.BLOCKING_QUEUE;
+		public static final IndexingQueueBackPressureStrategyName INDEXING_QUEUE_BACK_PRESSURE_STRATEGY =
+				IndexingQueueBackPressureStrategyName.BLOCK;
+		public static final boolean INDEXING_QUEUE_WORK_STEALING = false;
 	}
 }
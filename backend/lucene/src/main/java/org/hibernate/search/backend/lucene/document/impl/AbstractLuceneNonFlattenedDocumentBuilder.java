@@ -28,7 +28,8 @@ abstract class AbstractLuceneNonFlattenedDocumentBuilder extends AbstractLuceneD
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
 	final Document document = new Document();
-	private final Map<String, EncounteredFieldStatus> fieldStatus = new HashMap<>();
+	// Created lazily: many nested documents do not need it
+	private Map<String, EncounteredFieldStatus> fieldStatus;
 
 	AbstractLuceneNonFlattenedDocumentBuilder(LuceneIndexModel model, LuceneIndexSchemaObjectNode schemaNode) {
 		super( model, schemaNode );
@@ -42,12 +43,12 @@ public void addField(IndexableField field) {
 	@Override
 	public void addFieldName(String absoluteFieldPath) {
 		// If the status was already ENCOUNTERED, just replace it.
-		fieldStatus.put( absoluteFieldPath, EncounteredFieldStatus.ENCOUNTERED_AND_NAME_INDEXED );
+		fieldStatus().put( absoluteFieldPath, EncounteredFieldStatus.ENCOUNTERED_AND_NAME_INDEXED );
 	}
 
 	@Override
 	void checkNoValueYetForSingleValued(String absoluteFieldPath) {
-		EncounteredFieldStatus previousValue = fieldStatus.putIfAbsent( absoluteFieldPath, EncounteredFieldStatus.ENCOUNTERED );
+		EncounteredFieldStatus previousValue = fieldStatus().putIfAbsent( absoluteFieldPath, EncounteredFieldStatus.ENCOUNTERED );
 		if ( previousValue != null ) {
 			throw log.multipleValuesForSingleValuedField( absoluteFieldPath );
 		}
@@ -56,11 +57,13 @@ void checkNoValueYetForSingleValued(String absoluteFieldPath) {
 	@Override
 	void contribute(MultiTenancyStrategy multiTenancyStrategy, String tenantId, String routingKey,
 			String rootId, List<Document> nestedDocuments) {
-		for ( Map.Entry<String, EncounteredFieldStatus> entry : fieldStatus.entrySet() ) {
-			EncounteredFieldStatus status = entry.getValue();
-			if ( EncounteredFieldStatus.ENCOUNTERED_AND_NAME_INDEXED.equals( status ) ) {
-				String fieldName = entry.getKey();
-				document.add( MetadataFields.searchableMetadataField( MetadataFields.fieldNamesFieldName(), fieldName ) );
+		if ( fieldStatus != null ) {
+			for ( Map.Entry<String, EncounteredFieldStatus> entry : fieldStatus.entrySet() ) {
+				EncounteredFieldStatus status = entry.getValue();
+				if ( EncounteredFieldStatus.ENCOUNTERED_AND_NAME_INDEXED.equals( status ) ) {
+					String fieldName = entry.getKey();
+					document.add( model.getFieldNamesMetadataField( fieldName ) );
+				}
 			}
 		}
 
@@ -78,6 +81,13 @@ void contribute(MultiTenancyStrategy multiTenancyStrategy, String tenantId, Stri
 		super.contribute( multiTenancyStrategy, tenantId, routingKey, rootId, nestedDocuments );
 	}
 
+	private Map<String, EncounteredFieldStatus> fieldStatus() {
+		if ( fieldStatus == null ) {
+			fieldStatus = new HashMap<>();
+		}
+		return fieldStatus;
+	}
+
 	private enum EncounteredFieldStatus {
 		ENCOUNTERED,
 		ENCOUNTERED_AND_NAME_INDEXED;
@@ -34,7 +34,7 @@ public LuceneIndexEntry build(String tenantId, String id, String routingKey) {
 
 	private List<Document> assembleDocuments(MultiTenancyStrategy multiTenancyStrategy,
 			String tenantId, String id, String routingKey) {
-		document.add( MetadataFields.searchableMetadataField( MetadataFields.typeFieldName(), MetadataFields.TYPE_MAIN_DOCUMENT ) );
+		document.add( MetadataFields.mainDocumentTypeField() );
 		document.add( MetadataFields.searchableRetrievableMetadataField( MetadataFields.idFieldName(), id ) );
 
 		// all the ancestors of a subdocument must be added after it
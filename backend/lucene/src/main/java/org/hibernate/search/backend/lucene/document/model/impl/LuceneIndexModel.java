@@ -15,6 +15,7 @@
 import java.util.concurrent.ConcurrentMap;
 
 import org.hibernate.search.backend.lucene.lowlevel.common.impl.AnalyzerConstants;
+import org.hibernate.search.backend.lucene.lowlevel.common.impl.MetadataFields;
 import org.hibernate.search.engine.backend.document.model.spi.IndexFieldFilter;
 import org.hibernate.search.engine.backend.document.model.spi.IndexFieldInclusion;
 import org.hibernate.search.engine.backend.metamodel.IndexDescriptor;
@@ -26,6 +27,7 @@
 
 import org.apache.lucene.analysis.Analyzer;
 import org.apache.lucene.analysis.DelegatingAnalyzerWrapper;
+import org.apache.lucene.index.IndexableField;
 
 
 public class LuceneIndexModel implements AutoCloseable, IndexDescriptor {
@@ -42,8 +44,11 @@ public class LuceneIndexModel implements AutoCloseable, IndexDescriptor {
 	private final List<IndexFieldDescriptor> staticFields;
 	private final List<LuceneIndexSchemaObjectFieldTemplate> objectFieldTemplates;
 	private final List<LuceneIndexSchemaFieldTemplate> fieldTemplates;
+	private final boolean hasNestedDocuments;
 	private final ConcurrentMap<String, LuceneIndexSchemaObjectFieldNode> dynamicObjectFieldNodesCache = new ConcurrentHashMap<>();
 	private final ConcurrentMap<String, LuceneIndexSchemaFieldNode<?>> dynamicFieldNodesCache = new ConcurrentHashMap<>();
+	private final ConcurrentMap<String, IndexableField> fieldNamesMetadataFieldsCache = new ConcurrentHashMap<>();
+	private final ConcurrentMap<String, IndexableField> nestedDocumentPathMetadataFieldsCache = new ConcurrentHashMap<>();
 
 	private final IndexingScopedAnalyzer indexingAnalyzer;
 	private final SearchScopedAnalyzer searchAnalyzer;
@@ -74,6 +79,8 @@ public LuceneIndexModel(String indexName,
 		this.searchAnalyzer = new SearchScopedAnalyzer();
 		this.objectFieldTemplates = objectFieldTemplates;
 		this.fieldTemplates = fieldTemplates;
+		this.hasNestedDocuments = objectFieldNodes.values().stream().anyMatch( LuceneIndexSchemaObjectFieldNode::nested )
+				|| objectFieldTemplates.stream().anyMatch( LuceneIndexSchemaObjectFieldTemplate::nested );
 	}
 
 	@Override
@@ -129,6 +136,32 @@ public LuceneIndexSchemaFieldNode<?> getFieldNode(String absolutePath, IndexFiel
 		return node == null ? null : filter.filter( node, node.inclusion() );
 	}
 
+	/**
+	 * @param absolutePath The absolute path of a field.
+	 * @return A metadata field recording that the given field exists in a document.
+	 * The returned instance is shared across documents and must not be altered.
+	 */
+	public IndexableField getFieldNamesMetadataField(String absolutePath) {
+		return getMetadataField( fieldNamesMetadataFieldsCache, MetadataFields.fieldNamesFieldName(), absolutePath );
+	}
+
+	/**
+	 * @param absolutePath The absolute path of a nested object field.
+	 * @return A metadata field recording that a document is a nested document for the given object field.
+	 * The returned instance is shared across documents and must not be altered.
+	 */
+	public IndexableField getNestedDocumentPathMetadataField(String absolutePath) {
+		return getMetadataField( nestedDocumentPathMetadataFieldsCache,
+				MetadataFields.nestedDocumentPathFieldName(), absolutePath );
+	}
+
+	/**
+	 * @return {@code true} if documents of this index may have nested documents, {@code false} otherwise.
+	 */
+	public boolean hasNestedDocuments() {
+		return hasNestedDocuments;
+	}
+
 	public Analyzer getIndexingAnalyzer() {
 		return indexingAnalyzer;
 	}
@@ -173,6 +206,17 @@ private <N> N getNode(Map<String, N> staticNodes,
 		return node;
 	}
 
+	private static IndexableField getMetadataField(ConcurrentMap<String, IndexableField> cache,
+			String metadataFieldName, String absolutePath) {
+		IndexableField field = cache.get( absolutePath );
+		if ( field != null ) {
+			return field;
+		}
+		// Field paths are bounded by the schema (or templates), so the cache cannot grow indefinitely.
+		return cache.computeIfAbsent( absolutePath,
+				ignored -> MetadataFields.searchableMetadataField( metadataFieldName, absolutePath ) );
+	}
+
 	/**
 	 * An analyzer similar to {@link org.hibernate.search.backend.lucene.analysis.impl.ScopedAnalyzer},
 	 * except the field &rarr; analyzer map is implemented by querying the model
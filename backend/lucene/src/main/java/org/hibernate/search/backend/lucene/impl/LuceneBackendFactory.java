@@ -17,6 +17,7 @@
 import org.hibernate.search.backend.lucene.analysis.model.impl.LuceneAnalysisDefinitionRegistry;
 import org.hibernate.search.backend.lucene.multitenancy.MultiTenancyStrategyName;
 import org.hibernate.search.backend.lucene.cfg.LuceneBackendSettings;
+import org.hibernate.search.backend.lucene.lowlevel.cache.impl.LuceneQueryCache;
 import org.hibernate.search.backend.lucene.lowlevel.directory.impl.DirectoryProviderInitializationContextImpl;
 import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryProvider;
 import org.hibernate.search.backend.lucene.logging.impl.Log;
@@ -40,6 +41,8 @@
 import org.hibernate.search.util.common.AssertionFailure;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
+import org.apache.lucene.search.QueryCachingPolicy;
+import org.apache.lucene.search.UsageTrackingQueryCachingPolicy;
 import org.apache.lucene.util.Version;
 
 
@@ -64,11 +67,35 @@ public class LuceneBackendFactory implements BackendFactory {
 					.asBeanReference( LuceneAnalysisConfigurer.class )
 					.build();
 
+	private static final ConfigurationProperty<Boolean> QUERY_CACHE_ENABLED =
+			ConfigurationProperty.forKey( LuceneBackendSettings.QUERY_CACHE_ENABLED )
+					.asBoolean()
+					.withDefault( LuceneBackendSettings.Defaults.QUERY_CACHE_ENABLED )
+					.build();
+
+	private static final ConfigurationProperty<Integer> QUERY_CACHE_MAX_QUERIES =
+			ConfigurationProperty.forKey( LuceneBackendSettings.QUERY_CACHE_MAX_QUERIES )
+					.asInteger()
+					.withDefault( LuceneBackendSettings.Defaults.QUERY_CACHE_MAX_QUERIES )
+					.build();
+
+	private static final ConfigurationProperty<Long> QUERY_CACHE_MAX_MEMORY =
+			ConfigurationProperty.forKey( LuceneBackendSettings.QUERY_CACHE_MAX_MEMORY )
+					.asLong()
+					.withDefault( LuceneBackendSettings.Defaults.QUERY_CACHE_MAX_MEMORY )
+					.build();
+
+	private static final OptionalConfigurationProperty<BeanReference<? extends QueryCachingPolicy>> QUERY_CACHE_CACHING_POLICY =
+			ConfigurationProperty.forKey( LuceneBackendSettings.QUERY_CACHE_CACHING_POLICY )
+					.asBeanReference( QueryCachingPolicy.class )
+					.build();
+
 	@Override
 	public BackendImplementor create(EventContext eventContext, BackendBuildContext buildContext,
 			ConfigurationPropertySource propertySource) {
 		BackendThreads backendThreads = null;
 		BeanHolder<? extends DirectoryProvider> directoryProviderHolder = null;
+		BeanHolder<LuceneQueryCache> queryCacheHolder = null;
 
 		try {
 			backendThreads = new BackendThreads( eventContext.render() );
@@ -77,6 +104,8 @@ public BackendImplementor create(EventContext eventContext, BackendBuildContext
 
 			directoryProviderHolder = getDirectoryProvider( eventContext, buildContext, propertySource );
 
+			queryCacheHolder = getQueryCache( buildContext, propertySource );
+
 			MultiTenancyStrategy multiTenancyStrategy = getMultiTenancyStrategy( propertySource );
 
 			LuceneAnalysisDefinitionRegistry analysisDefinitionRegistry = getAnalysisDefinitionRegistry(
@@ -87,6 +116,7 @@ public BackendImplementor create(EventContext eventContext, BackendBuildContext
 					eventContext,
 					backendThreads,
 					directoryProviderHolder,
+					queryCacheHolder,
 					new LuceneWorkFactoryImpl( multiTenancyStrategy ),
 					analysisDefinitionRegistry,
 					multiTenancyStrategy,
@@ -98,6 +128,7 @@ public BackendImplementor create(EventContext eventContext, BackendBuildContext
 			new SuppressingCloser( e )
 					.push( holder -> holder.get().close(), directoryProviderHolder )
 					.push( BeanHolder::close, directoryProviderHolder )
+					.push( BeanHolder::close, queryCacheHolder )
 					.push( BackendThreads::onStop, backendThreads );
 			throw e;
 		}
@@ -134,6 +165,22 @@ private BeanHolder<? extends DirectoryProvider> getDirectoryProvider(EventContex
 		return initializationContext.createDirectoryProvider();
 	}
 
+	private BeanHolder<LuceneQueryCache> getQueryCache(BackendBuildContext buildContext,
+			ConfigurationPropertySource propertySource) {
+		if ( !QUERY_CACHE_ENABLED.get( propertySource ) ) {
+			return BeanHolder.of( LuceneQueryCache.disabled() );
+		}
+		int maxQueries = QUERY_CACHE_MAX_QUERIES.get( propertySource );
+		long maxMemory = QUERY_CACHE_MAX_MEMORY.get( propertySource );
+		BeanResolver beanResolver = buildContext.beanResolver();
+		BeanHolder<? extends QueryCachingPolicy> cachingPolicyHolder =
+				QUERY_CACHE_CACHING_POLICY.getAndMap( propertySource, beanResolver::resolve )
+						.<BeanHolder<? extends QueryCachingPolicy>>map( holder -> holder )
+						.orElseGet( () -> BeanHolder.of( new UsageTrackingQueryCachingPolicy() ) );
+		return BeanHolder.of( LuceneQueryCache.create( maxQueries, maxMemory, cachingPolicyHolder.get() ) )
+				.withDependencyAutoClosing( cachingPolicyHolder );
+	}
+
 	private MultiTenancyStrategy getMultiTenancyStrategy(ConfigurationPropertySource propertySource) {
 		MultiTenancyStrategyName multiTenancyStrategyName = MULTI_TENANCY_STRATEGY.get( propertySource );
 
@@ -11,7 +11,9 @@
 import java.util.concurrent.CompletableFuture;
 
 import org.hibernate.search.backend.lucene.analysis.model.impl.LuceneAnalysisDefinitionRegistry;
+import org.hibernate.search.backend.lucene.cache.LuceneQueryCacheStatistics;
 import org.hibernate.search.backend.lucene.document.model.dsl.impl.LuceneIndexSchemaRootNodeBuilder;
+import org.hibernate.search.backend.lucene.lowlevel.cache.impl.LuceneQueryCache;
 import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryProvider;
 import org.hibernate.search.backend.lucene.resources.impl.BackendThreads;
 import org.hibernate.search.backend.lucene.search.timeout.spi.TimingSource;
@@ -50,6 +52,7 @@ public class LuceneBackendImpl implements BackendImplementor, LuceneBackend {
 
 	private final LuceneAnalysisDefinitionRegistry analysisDefinitionRegistry;
 
+	private final BeanHolder<LuceneQueryCache> queryCache;
 	private final LuceneSyncWorkOrchestratorImpl readOrchestrator;
 	private final MultiTenancyStrategy multiTenancyStrategy;
 	private final TimingSource timingSource;
@@ -59,6 +62,7 @@ public class LuceneBackendImpl implements BackendImplementor, LuceneBackend {
 	LuceneBackendImpl(EventContext eventContext,
 			BackendThreads threads,
 			BeanHolder<? extends DirectoryProvider> directoryProviderHolder,
+			BeanHolder<LuceneQueryCache> queryCache,
 			LuceneWorkFactory workFactory,
 			LuceneAnalysisDefinitionRegistry analysisDefinitionRegistry,
 			MultiTenancyStrategy multiTenancyStrategy,
@@ -71,8 +75,10 @@ public class LuceneBackendImpl implements BackendImplementor, LuceneBackend {
 		this.analysisDefinitionRegistry = analysisDefinitionRegistry;
 		Similarity similarity = analysisDefinitionRegistry.getSimilarity();
 
+		this.queryCache = queryCache;
 		this.readOrchestrator = new LuceneSyncWorkOrchestratorImpl(
-				"Lucene read work orchestrator - " + eventContext.render(), similarity
+				"Lucene read work orchestrator - " + eventContext.render(), similarity, threads,
+				queryCache.get()
 		);
 		this.multiTenancyStrategy = multiTenancyStrategy;
 		this.timingSource = timingSource;
@@ -111,6 +117,7 @@ public CompletableFuture<?> preStop() {
 	public void stop() {
 		try ( Closer<RuntimeException> closer = new Closer<>() ) {
 			closer.push( LuceneSyncWorkOrchestratorImpl::stop, readOrchestrator );
+			closer.push( BeanHolder::close, queryCache );
 			closer.push( holder -> holder.get().close(), directoryProviderHolder );
 			closer.push( BeanHolder::close, directoryProviderHolder );
 			closer.push( TimingSource::stop, timingSource );
@@ -134,6 +141,11 @@ public Backend toAPI() {
 		return this;
 	}
 
+	@Override
+	public Optional<LuceneQueryCacheStatistics> queryCacheStatistics() {
+		return queryCache.get().statistics();
+	}
+
 	@Override
 	public Optional<Analyzer> analyzer(String name) {
 		return Optional.ofNullable( analysisDefinitionRegistry.getAnalyzerDefinition( name ) );
@@ -10,6 +10,8 @@
 import org.hibernate.search.backend.lucene.index.impl.ExplicitShardingStrategy;
 import org.hibernate.search.backend.lucene.index.impl.HashShardingStrategy;
 import org.hibernate.search.backend.lucene.index.impl.NoShardingStrategy;
+import org.hibernate.search.backend.lucene.index.impl.RangeShardingStrategy;
+import org.hibernate.search.backend.lucene.index.impl.TimeShardingStrategy;
 import org.hibernate.search.backend.lucene.index.spi.ShardingStrategy;
 import org.hibernate.search.backend.lucene.lowlevel.directory.impl.LocalFileSystemDirectoryProvider;
 import org.hibernate.search.backend.lucene.lowlevel.directory.impl.LocalHeapDirectoryProvider;
@@ -46,5 +48,13 @@ public void configure(BeanConfigurationContext context) {
 				ShardingStrategy.class, ExplicitShardingStrategy.NAME,
 				beanResolver -> BeanHolder.of( new ExplicitShardingStrategy() )
 		);
+		context.define(
+				ShardingStrategy.class, RangeShardingStrategy.NAME,
+				beanResolver -> BeanHolder.of( new RangeShardingStrategy() )
+		);
+		context.define(
+				ShardingStrategy.class, TimeShardingStrategy.NAME,
+				beanResolver -> BeanHolder.of( new TimeShardingStrategy() )
+		);
 	}
 }
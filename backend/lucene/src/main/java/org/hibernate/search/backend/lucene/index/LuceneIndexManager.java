@@ -6,6 +6,8 @@
  */
 package org.hibernate.search.backend.lucene.index;
 
+import java.util.Optional;
+
 import org.hibernate.search.backend.lucene.LuceneBackend;
 import org.hibernate.search.engine.backend.index.IndexManager;
 
@@ -30,4 +32,12 @@ public interface LuceneIndexManager extends IndexManager {
 	 */
 	Analyzer searchAnalyzer();
 
+	/**
+	 * @return Statistics about the refreshes of the index readers shared by search queries on this index,
+	 * or {@link Optional#empty()} if index readers are not shared,
+	 * e.g. with the {@code debug} {@link org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings#IO_STRATEGY I/O strategy},
+	 * or if the index was not started yet.
+	 */
+	Optional<LuceneIndexReaderStatistics> indexReaderStatistics();
+
 }
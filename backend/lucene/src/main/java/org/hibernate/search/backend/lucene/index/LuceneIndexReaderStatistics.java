@@ -0,0 +1,49 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.index;
+
+import java.time.Duration;
+
+/**
+ * Statistics about the index readers shared by search queries on a Lucene index.
+ * <p>
+ * Statistics are updated continuously while index readers are refreshed:
+ * each call to a method of this interface returns the current value.
+ * <p>
+ * For sharded indexes, statistics are aggregated over all shards.
+ *
+ * @see org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings#IO_REFRESH_INTERVAL
+ * @see org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings#IO_REFRESH_BACKGROUND
+ */
+public interface LuceneIndexReaderStatistics {
+
+	/**
+	 * @return The number of times a new index reader was opened to reflect changes in the index.
+	 */
+	long refreshCount();
+
+	/**
+	 * @return How long it took to open the latest index reader,
+	 * i.e. the longest of these durations over all shards for sharded indexes,
+	 * or {@link Duration#ZERO} if no index reader was opened yet.
+	 */
+	Duration lastRefreshDuration();
+
+	/**
+	 * @return How long it took to open an index reader, at most.
+	 */
+	Duration maxRefreshDuration();
+
+	/**
+	 * @return How much time elapsed since the current index reader was last known to be up-to-date,
+	 * i.e. an upper bound of how much the current index reader is out-of-date,
+	 * or {@link Duration#ZERO} if there is no current index reader.
+	 * For sharded indexes, this is the staleness of the most out-of-date shard.
+	 */
+	Duration staleness();
+
+}
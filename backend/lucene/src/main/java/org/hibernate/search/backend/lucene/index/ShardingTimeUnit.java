@@ -0,0 +1,57 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.index;
+
+import java.lang.invoke.MethodHandles;
+
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.util.common.impl.StringHelper;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+/**
+ * The unit of time covered by each shard when using the "time" sharding strategy.
+ */
+public enum ShardingTimeUnit {
+
+	/**
+	 * One shard per day, e.g. "2020-01-31".
+	 */
+	DAY( "day" ),
+	/**
+	 * One shard per month, e.g. "2020-01".
+	 */
+	MONTH( "month" ),
+	/**
+	 * One shard per year, e.g. "2020".
+	 */
+	YEAR( "year" );
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	// This method conforms to the MicroProfile Config specification. Do not change its signature.
+	public static ShardingTimeUnit of(String value) {
+		return StringHelper.parseDiscreteValues(
+				ShardingTimeUnit.values(),
+				ShardingTimeUnit::externalRepresentation,
+				log::invalidShardingTimeUnit,
+				value
+		);
+	}
+
+	private final String externalRepresentation;
+
+	ShardingTimeUnit(String externalRepresentation) {
+		this.externalRepresentation = externalRepresentation;
+	}
+
+	/**
+	 * @return The expected string representation in configuration properties.
+	 */
+	private String externalRepresentation() {
+		return externalRepresentation;
+	}
+}
@@ -0,0 +1,173 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.index.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.backend.lucene.index.spi.ShardingStrategy;
+import org.hibernate.search.backend.lucene.index.spi.ShardingStrategyInitializationContext;
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
+import org.hibernate.search.engine.cfg.spi.ConfigurationPropertySource;
+import org.hibernate.search.engine.cfg.spi.OptionalConfigurationProperty;
+import org.hibernate.search.util.common.data.Range;
+import org.hibernate.search.util.common.data.RangeBoundInclusion;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+/**
+ * A sharding strategy assigning each shard a contiguous range of values,
+ * and routing documents to the shard whose range contains the routing key.
+ * <p>
+ * Since each shard only contains documents within a known range,
+ * searches can skip shards whose range does not intersect the range predicates of the query:
+ * see {@link #toShardIdentifiers(String, Range)}.
+ *
+ * @param <T> The type of values, i.e. the type of parsed routing keys and of the values of the sharding field.
+ */
+abstract class AbstractRangeShardingStrategy<T extends Comparable<? super T>> implements ShardingStrategy {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private static final OptionalConfigurationProperty<String> FIELD =
+			ConfigurationProperty.forKey( LuceneIndexSettings.ShardingRadicals.FIELD )
+					.asString()
+					.build();
+
+	private final Class<T> valueType;
+
+	private String absoluteFieldPath;
+	private List<String> shardIds;
+	private List<Range<T>> shardRanges;
+
+	AbstractRangeShardingStrategy(Class<T> valueType) {
+		this.valueType = valueType;
+	}
+
+	@Override
+	public void initialize(ShardingStrategyInitializationContext context) {
+		ConfigurationPropertySource propertySource = context.configurationPropertySource();
+		this.absoluteFieldPath = FIELD.get( propertySource ).orElse( null );
+		Map<String, Range<T>> shards = createShards( propertySource );
+		this.shardIds = new ArrayList<>( shards.keySet() );
+		this.shardRanges = new ArrayList<>( shards.values() );
+		context.shardIdentifiers( new LinkedHashSet<>( shardIds ) );
+	}
+
+	@Override
+	public String toShardIdentifier(String documentId, String routingKey) {
+		if ( routingKey != null ) {
+			T value = toValue( routingKey );
+			// Ranges are sorted: use a binary search
+			int low = 0;
+			int high = shardRanges.size() - 1;
+			while ( low <= high ) {
+				int middle = ( low + high ) >>> 1;
+				Range<T> range = shardRanges.get( middle );
+				if ( isBefore( value, range ) ) {
+					high = middle - 1;
+				}
+				else if ( isAfter( value, range ) ) {
+					low = middle + 1;
+				}
+				else {
+					return shardIds.get( middle );
+				}
+			}
+		}
+		throw log.invalidRoutingKeyForRangeShardingStrategy( routingKey, coveredRange().toString() );
+	}
+
+	@Override
+	public Set<String> toShardIdentifiers(Set<String> routingKeys) {
+		Set<String> result = new LinkedHashSet<>();
+		for ( String routingKey : routingKeys ) {
+			result.add( toShardIdentifier( null, routingKey ) );
+		}
+		return result;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked") // We checked the type of bounds just below
+	public Set<String> toShardIdentifiers(String absoluteFieldPath, Range<?> range) {
+		if ( !absoluteFieldPath.equals( this.absoluteFieldPath )
+				|| !isValueOrEmpty( range.lowerBoundValue() ) || !isValueOrEmpty( range.upperBoundValue() ) ) {
+			return null;
+		}
+		Range<T> valueRange = (Range<T>) range;
+		Set<String> result = new LinkedHashSet<>();
+		for ( int i = 0; i < shardRanges.size(); i++ ) {
+			Range<T> shardRange = shardRanges.get( i );
+			if ( !endsBefore( shardRange, valueRange ) && !endsBefore( valueRange, shardRange ) ) {
+				result.add( shardIds.get( i ) );
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * @param propertySource The configuration property source for sharding.
+	 * @return A map from each shard identifier to the range of values assigned to that shard.
+	 * Ranges must be sorted in ascending order and must not overlap.
+	 */
+	protected abstract LinkedHashMap<String, Range<T>> createShards(ConfigurationPropertySource propertySource);
+
+	/**
+	 * @param routingKey A routing key.
+	 * @return The value represented by this routing key.
+	 */
+	protected abstract T toValue(String routingKey);
+
+	private Range<T> coveredRange() {
+		Range<T> first = shardRanges.get( 0 );
+		Range<T> last = shardRanges.get( shardRanges.size() - 1 );
+		return Range.between( first.lowerBoundValue().orElse( null ), first.lowerBoundInclusion(),
+				last.upperBoundValue().orElse( null ), last.upperBoundInclusion() );
+	}
+
+	private boolean isValueOrEmpty(Optional<?> bound) {
+		return !bound.isPresent() || valueType.isInstance( bound.get() );
+	}
+
+	private static <T extends Comparable<? super T>> boolean isBefore(T value, Range<T> range) {
+		if ( !range.lowerBoundValue().isPresent() ) {
+			return false;
+		}
+		int comparison = value.compareTo( range.lowerBoundValue().get() );
+		return comparison < 0
+				|| comparison == 0 && RangeBoundInclusion.EXCLUDED.equals( range.lowerBoundInclusion() );
+	}
+
+	private static <T extends Comparable<? super T>> boolean isAfter(T value, Range<T> range) {
+		if ( !range.upperBoundValue().isPresent() ) {
+			return false;
+		}
+		int comparison = value.compareTo( range.upperBoundValue().get() );
+		return comparison > 0
+				|| comparison == 0 && RangeBoundInclusion.EXCLUDED.equals( range.upperBoundInclusion() );
+	}
+
+	/**
+	 * @return {@code true} if all values of the first range are strictly lower than all values of the second range.
+	 */
+	private static <T extends Comparable<? super T>> boolean endsBefore(Range<T> first, Range<T> second) {
+		if ( !first.upperBoundValue().isPresent() || !second.lowerBoundValue().isPresent() ) {
+			return false;
+		}
+		int comparison = first.upperBoundValue().get().compareTo( second.lowerBoundValue().get() );
+		return comparison < 0
+				|| comparison == 0 && ( RangeBoundInclusion.EXCLUDED.equals( first.upperBoundInclusion() )
+						|| RangeBoundInclusion.EXCLUDED.equals( second.lowerBoundInclusion() ) );
+	}
+}
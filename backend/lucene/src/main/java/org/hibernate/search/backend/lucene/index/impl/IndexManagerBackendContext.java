@@ -6,6 +6,8 @@
  */
 package org.hibernate.search.backend.lucene.index.impl;
 
+import java.lang.invoke.MethodHandles;
+import java.util.List;
 import java.util.Optional;
 
 import org.hibernate.search.backend.lucene.LuceneBackend;
@@ -13,6 +15,8 @@
 import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
 import org.hibernate.search.backend.lucene.document.impl.LuceneIndexEntryFactory;
 import org.hibernate.search.backend.lucene.document.model.impl.LuceneIndexModel;
+import org.hibernate.search.backend.lucene.document.model.impl.LuceneIndexSchemaFieldNode;
+import org.hibernate.search.backend.lucene.logging.impl.Log;
 import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryProvider;
 import org.hibernate.search.backend.lucene.lowlevel.index.IOStrategyName;
 import org.hibernate.search.backend.lucene.lowlevel.index.impl.DebugIOStrategy;
@@ -41,6 +45,7 @@
 import org.hibernate.search.backend.lucene.work.execution.impl.WorkExecutionIndexManagerContext;
 import org.hibernate.search.backend.lucene.work.impl.LuceneWorkFactory;
 import org.hibernate.search.engine.backend.common.spi.EntityReferenceFactory;
+import org.hibernate.search.engine.backend.document.model.spi.IndexFieldFilter;
 import org.hibernate.search.engine.backend.mapping.spi.BackendMappingContext;
 import org.hibernate.search.engine.backend.session.spi.BackendSessionContext;
 import org.hibernate.search.engine.backend.session.spi.DetachedBackendSessionContext;
@@ -51,22 +56,34 @@
 import org.hibernate.search.engine.backend.work.execution.spi.IndexWorkspace;
 import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
 import org.hibernate.search.engine.cfg.spi.ConfigurationPropertySource;
+import org.hibernate.search.engine.cfg.spi.OptionalConfigurationProperty;
 import org.hibernate.search.engine.reporting.FailureHandler;
 import org.hibernate.search.engine.reporting.spi.EventContexts;
 import org.hibernate.search.engine.search.loading.context.spi.LoadingContextBuilder;
+import org.hibernate.search.engine.search.sort.dsl.SortOrder;
 import org.hibernate.search.util.common.impl.SuppressingCloser;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 import org.hibernate.search.util.common.reporting.EventContext;
 
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
 import org.apache.lucene.search.similarities.Similarity;
 
 public class IndexManagerBackendContext implements WorkExecutionBackendContext, SearchBackendContext {
 
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
 	private static final ConfigurationProperty<IOStrategyName> IO_STRATEGY =
 			ConfigurationProperty.forKey( LuceneIndexSettings.IO_STRATEGY )
 					.as( IOStrategyName.class, IOStrategyName::of )
 					.withDefault( LuceneIndexSettings.Defaults.IO_STRATEGY )
 					.build();
 
+	private static final OptionalConfigurationProperty<List<String>> INDEX_SORT =
+			ConfigurationProperty.forKey( LuceneIndexSettings.INDEX_SORT )
+					.asString().multivalued()
+					.build();
+
 	private final LuceneBackend backendAPI;
 	private final EventContext eventContext;
 
@@ -204,11 +221,16 @@ IOStrategy createIOStrategy(ConfigurationPropertySource propertySource) {
 		}
 	}
 
+	Sort createIndexSortOrNull(LuceneIndexModel model, ConfigurationPropertySource propertySource) {
+		return INDEX_SORT.getAndMap( propertySource, elements -> createIndexSort( model, elements ) )
+				.orElse( null );
+	}
+
 	LuceneIndexSchemaManager createSchemaManager(SchemaManagementIndexManagerContext context) {
 		return new LuceneIndexSchemaManager( workFactory, context );
 	}
 
-	Shard createShard(IOStrategy ioStrategy, LuceneIndexModel model, Optional<String> shardId,
+	Shard createShard(IOStrategy ioStrategy, LuceneIndexModel model, Sort indexSort, Optional<String> shardId,
 			ConfigurationPropertySource propertySource) {
 		LuceneParallelWorkOrchestratorImpl managementOrchestrator;
 		LuceneSerialWorkOrchestratorImpl indexingOrchestrator;
@@ -216,7 +238,7 @@ Shard createShard(IOStrategy ioStrategy, LuceneIndexModel model, Optional<String
 		String indexName = model.hibernateSearchName();
 		EventContext shardEventContext = EventContexts.fromIndexNameAndShardId( model.hibernateSearchName(), shardId );
 		IndexWriterConfigSource writerConfigSource = IndexWriterConfigSource.create(
-				similarity, model.getIndexingAnalyzer(), propertySource, shardEventContext
+				similarity, model.getIndexingAnalyzer(), indexSort, propertySource, shardEventContext
 		);
 
 		try {
@@ -241,6 +263,48 @@ Shard createShard(IOStrategy ioStrategy, LuceneIndexModel model, Optional<String
 		}
 	}
 
+	private static Sort createIndexSort(LuceneIndexModel model, List<String> elements) {
+		if ( model.hasNestedDocuments() ) {
+			// Lucene sorts each document separately, which would break blocks of nested documents.
+			throw log.cannotUseIndexSortWithNestedObjectFields();
+		}
+		SortField[] sortFields = new SortField[elements.size()];
+		for ( int i = 0; i < sortFields.length; i++ ) {
+			sortFields[i] = createIndexSortField( model, elements.get( i ) );
+		}
+		return new Sort( sortFields );
+	}
+
+	private static SortField createIndexSortField(LuceneIndexModel model, String element) {
+		String absoluteFieldPath = element;
+		SortOrder order = SortOrder.ASC;
+		int separatorIndex = element.lastIndexOf( ':' );
+		if ( separatorIndex >= 0 ) {
+			absoluteFieldPath = element.substring( 0, separatorIndex ).trim();
+			String orderRepresentation = element.substring( separatorIndex + 1 ).trim();
+			if ( "asc".equalsIgnoreCase( orderRepresentation ) ) {
+				order = SortOrder.ASC;
+			}
+			else if ( "desc".equalsIgnoreCase( orderRepresentation ) ) {
+				order = SortOrder.DESC;
+			}
+			else {
+				throw log.invalidIndexSortElement( element );
+			}
+		}
+		if ( absoluteFieldPath.isEmpty() ) {
+			throw log.invalidIndexSortElement( element );
+		}
+
+		LuceneIndexSchemaFieldNode<?> fieldNode = model.getFieldNode( absoluteFieldPath, IndexFieldFilter.ALL );
+		SortField sortField = fieldNode == null ? null
+				: fieldNode.type().sortBuilderFactory().createIndexSortField( absoluteFieldPath, order );
+		if ( sortField == null ) {
+			throw log.unsupportedFieldForIndexSort( absoluteFieldPath );
+		}
+		return sortField;
+	}
+
 	private LuceneParallelWorkOrchestratorImpl createIndexManagementOrchestrator(EventContext eventContext,
 			IndexAccessorImpl indexAccessor) {
 		return new LuceneParallelWorkOrchestratorImpl(
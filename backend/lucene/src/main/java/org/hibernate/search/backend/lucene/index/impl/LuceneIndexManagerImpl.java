@@ -9,15 +9,18 @@
 import java.io.IOException;
 import java.lang.invoke.MethodHandles;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 
 import org.hibernate.search.backend.lucene.LuceneBackend;
 import org.hibernate.search.backend.lucene.document.impl.LuceneIndexEntryFactory;
 import org.hibernate.search.backend.lucene.index.LuceneIndexManager;
+import org.hibernate.search.backend.lucene.index.LuceneIndexReaderStatistics;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.DirectoryReaderCollector;
 import org.hibernate.search.backend.lucene.schema.management.impl.LuceneIndexSchemaManager;
 import org.hibernate.search.backend.lucene.scope.model.impl.LuceneScopeIndexManagerContext;
+import org.hibernate.search.backend.lucene.search.predicate.impl.RequiredFieldRanges;
 import org.hibernate.search.engine.backend.common.spi.EntityReferenceFactory;
 import org.hibernate.search.engine.backend.metamodel.IndexDescriptor;
 import org.hibernate.search.engine.backend.schema.management.spi.IndexSchemaManager;
@@ -149,8 +152,9 @@ public void addTo(IndexScopeBuilder builder) {
 	}
 
 	@Override
-	public void openIndexReaders(Set<String> routingKeys, DirectoryReaderCollector readerCollector) throws IOException {
-		shardHolder.openIndexReaders( routingKeys, readerCollector );
+	public void openIndexReaders(Set<String> routingKeys, RequiredFieldRanges requiredFieldRanges,
+			DirectoryReaderCollector readerCollector) throws IOException {
+		shardHolder.openIndexReaders( routingKeys, requiredFieldRanges, readerCollector );
 	}
 
 	@Override
@@ -178,6 +182,11 @@ public Analyzer searchAnalyzer() {
 		return model.getSearchAnalyzer();
 	}
 
+	@Override
+	public Optional<LuceneIndexReaderStatistics> indexReaderStatistics() {
+		return shardHolder.getIndexReaderStatistics();
+	}
+
 	@Override
 	@SuppressWarnings("unchecked") // Checked using reflection
 	public <T> T unwrap(Class<T> clazz) {
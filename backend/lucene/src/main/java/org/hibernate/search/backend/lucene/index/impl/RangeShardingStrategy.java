@@ -0,0 +1,68 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.index.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.LinkedHashMap;
+import java.util.List;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
+import org.hibernate.search.engine.cfg.spi.ConfigurationPropertySource;
+import org.hibernate.search.engine.cfg.spi.OptionalConfigurationProperty;
+import org.hibernate.search.util.common.data.Range;
+import org.hibernate.search.util.common.data.RangeBoundInclusion;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+/**
+ * A sharding strategy splitting string routing keys into ranges delimited by explicitly configured boundaries,
+ * using lexicographical order.
+ */
+public class RangeShardingStrategy extends AbstractRangeShardingStrategy<String> {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	public static final String NAME = "range";
+
+	private static final OptionalConfigurationProperty<List<String>> BOUNDARIES =
+			ConfigurationProperty.forKey( LuceneIndexSettings.ShardingRadicals.BOUNDARIES )
+					.asString().multivalued()
+					.build();
+
+	public RangeShardingStrategy() {
+		super( String.class );
+	}
+
+	@Override
+	protected LinkedHashMap<String, Range<String>> createShards(ConfigurationPropertySource propertySource) {
+		List<String> boundaries = BOUNDARIES.getOrThrow(
+				propertySource,
+				key -> log.missingPropertyValueForShardingStrategy( NAME, key )
+		);
+		for ( int i = 1; i < boundaries.size(); i++ ) {
+			if ( boundaries.get( i - 1 ).compareTo( boundaries.get( i ) ) >= 0 ) {
+				throw log.invalidShardingBoundaries( boundaries );
+			}
+		}
+
+		LinkedHashMap<String, Range<String>> shards = new LinkedHashMap<>();
+		String lowerBound = null;
+		for ( int i = 0; i <= boundaries.size(); i++ ) {
+			String upperBound = i < boundaries.size() ? boundaries.get( i ) : null;
+			shards.put( String.valueOf( i ), Range.between( lowerBound, RangeBoundInclusion.INCLUDED,
+					upperBound, RangeBoundInclusion.EXCLUDED ) );
+			lowerBound = upperBound;
+		}
+		return shards;
+	}
+
+	@Override
+	protected String toValue(String routingKey) {
+		return routingKey;
+	}
+}
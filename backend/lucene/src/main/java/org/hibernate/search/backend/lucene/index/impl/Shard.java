@@ -8,8 +8,10 @@
 
 import java.io.IOException;
 import java.lang.invoke.MethodHandles;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 
+import org.hibernate.search.backend.lucene.index.LuceneIndexReaderStatistics;
 import org.hibernate.search.backend.lucene.logging.impl.Log;
 import org.hibernate.search.backend.lucene.lowlevel.index.impl.IndexAccessorImpl;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneParallelWorkOrchestrator;
@@ -78,6 +80,10 @@ DirectoryReader openReader() throws IOException {
 		return indexAccessor.getIndexReader();
 	}
 
+	Optional<LuceneIndexReaderStatistics> getIndexReaderStatistics() {
+		return indexAccessor.getIndexReaderStatistics();
+	}
+
 	LuceneSerialWorkOrchestrator getIndexingOrchestrator() {
 		return indexingOrchestrator;
 	}
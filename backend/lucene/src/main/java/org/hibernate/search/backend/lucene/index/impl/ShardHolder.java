@@ -11,12 +11,15 @@
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 
 import org.hibernate.search.backend.lucene.document.model.impl.LuceneIndexModel;
+import org.hibernate.search.backend.lucene.index.LuceneIndexReaderStatistics;
 import org.hibernate.search.backend.lucene.index.spi.ShardingStrategy;
 import org.hibernate.search.backend.lucene.lowlevel.index.impl.IOStrategy;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.DirectoryReaderCollector;
@@ -24,6 +27,7 @@
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneParallelWorkOrchestrator;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneSerialWorkOrchestrator;
 import org.hibernate.search.backend.lucene.schema.management.impl.SchemaManagementIndexManagerContext;
+import org.hibernate.search.backend.lucene.search.predicate.impl.RequiredFieldRanges;
 import org.hibernate.search.backend.lucene.work.execution.impl.WorkExecutionIndexManagerContext;
 import org.hibernate.search.engine.backend.index.spi.IndexManagerStartContext;
 import org.hibernate.search.engine.cfg.spi.ConfigurationPropertySource;
@@ -31,6 +35,8 @@
 import org.hibernate.search.util.common.impl.Closer;
 import org.hibernate.search.util.common.impl.SuppressingCloser;
 
+import org.apache.lucene.search.Sort;
+
 class ShardHolder implements ReadIndexManagerContext, WorkExecutionIndexManagerContext,
 		SchemaManagementIndexManagerContext {
 
@@ -40,6 +46,7 @@ class ShardHolder implements ReadIndexManagerContext, WorkExecutionIndexManagerC
 	private BeanHolder<? extends ShardingStrategy> shardingStrategyHolder;
 	private final Map<String, Shard> shards = new LinkedHashMap<>();
 	private final List<LuceneParallelWorkOrchestrator> managementOrchestrators = new ArrayList<>();
+	private volatile LuceneIndexReaderStatistics indexReaderStatistics;
 
 	ShardHolder(IndexManagerBackendContext backendContext, LuceneIndexModel model) {
 		this.backendContext = backendContext;
@@ -56,11 +63,13 @@ void start(IndexManagerStartContext startContext) {
 
 		try {
 			IOStrategy ioStrategy = backendContext.createIOStrategy( propertySource );
+			Sort indexSort = backendContext.createIndexSortOrNull( model, propertySource );
 			ShardingStrategyInitializationContextImpl initializationContext =
 					new ShardingStrategyInitializationContextImpl(
 							backendContext,
 							ioStrategy,
 							model,
+							indexSort,
 							startContext,
 							propertySource
 					);
@@ -71,9 +80,17 @@ void start(IndexManagerStartContext startContext) {
 				return;
 			}
 
+			List<LuceneIndexReaderStatistics> shardIndexReaderStatistics = new ArrayList<>();
 			for ( Shard shard : shards.values() ) {
 				shard.start( propertySource );
 				managementOrchestrators.add( shard.getManagementOrchestrator() );
+				shard.getIndexReaderStatistics().ifPresent( shardIndexReaderStatistics::add );
+			}
+			if ( shardIndexReaderStatistics.size() == 1 ) {
+				indexReaderStatistics = shardIndexReaderStatistics.get( 0 );
+			}
+			else if ( !shardIndexReaderStatistics.isEmpty() ) {
+				indexReaderStatistics = new ShardedIndexReaderStatistics( shardIndexReaderStatistics );
 			}
 		}
 		catch (RuntimeException e) {
@@ -104,9 +121,10 @@ void stop() throws IOException {
 	}
 
 	@Override
-	public void openIndexReaders(Set<String> routingKeys, DirectoryReaderCollector readerCollector) throws IOException {
+	public void openIndexReaders(Set<String> routingKeys, RequiredFieldRanges requiredFieldRanges,
+			DirectoryReaderCollector readerCollector) throws IOException {
 		String mappedTypeName = model.getMappedTypeName();
-		Collection<Shard> enabledShards = toShards( routingKeys );
+		Collection<Shard> enabledShards = toShards( routingKeys, requiredFieldRanges );
 		for ( Shard shard : enabledShards ) {
 			readerCollector.collect( mappedTypeName, shard.openReader() );
 		}
@@ -142,6 +160,10 @@ public List<LuceneParallelWorkOrchestrator> getAllManagementOrchestrators() {
 		return managementOrchestrators;
 	}
 
+	Optional<LuceneIndexReaderStatistics> getIndexReaderStatistics() {
+		return Optional.ofNullable( indexReaderStatistics );
+	}
+
 	public List<Shard> getShardsForTests() {
 		return new ArrayList<>( shards.values() );
 	}
@@ -161,6 +183,29 @@ private Collection<Shard> toShards(Set<String> routingKeys) {
 		return enabledShards;
 	}
 
+	private Collection<Shard> toShards(Set<String> routingKeys, RequiredFieldRanges requiredFieldRanges) {
+		if ( shardingStrategyHolder == null || requiredFieldRanges.isEmpty() ) {
+			return toShards( routingKeys );
+		}
+
+		ShardingStrategy shardingStrategy = shardingStrategyHolder.get();
+		Set<String> shardIdentifiers = new LinkedHashSet<>( routingKeys.isEmpty() ? shards.keySet()
+				: shardingStrategy.toShardIdentifiers( routingKeys ) );
+		// Skip shards that cannot contain documents matching the required ranges
+		requiredFieldRanges.forEach( (absoluteFieldPath, range) -> {
+			Set<String> candidateShardIdentifiers = shardingStrategy.toShardIdentifiers( absoluteFieldPath, range );
+			if ( candidateShardIdentifiers != null ) {
+				shardIdentifiers.retainAll( candidateShardIdentifiers );
+			}
+		} );
+
+		Collection<Shard> enabledShards = new ArrayList<>( shardIdentifiers.size() );
+		for ( String shardId : shardIdentifiers ) {
+			enabledShards.add( shards.get( shardId ) );
+		}
+		return enabledShards;
+	}
+
 	private Shard toShard(String documentId, String routingKey) {
 		if ( shardingStrategyHolder == null ) {
 			// Sharding is disabled: there's only one shard
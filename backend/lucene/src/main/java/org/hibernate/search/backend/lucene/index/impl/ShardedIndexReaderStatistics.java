@@ -0,0 +1,74 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.index.impl;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.hibernate.search.backend.lucene.index.LuceneIndexReaderStatistics;
+
+/**
+ * Index reader statistics aggregated over all shards of an index.
+ */
+final class ShardedIndexReaderStatistics implements LuceneIndexReaderStatistics {
+
+	private final List<LuceneIndexReaderStatistics> shardStatistics;
+
+	ShardedIndexReaderStatistics(List<LuceneIndexReaderStatistics> shardStatistics) {
+		this.shardStatistics = shardStatistics;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "["
+				+ "refreshCount=" + refreshCount()
+				+ ", lastRefreshDuration=" + lastRefreshDuration()
+				+ ", maxRefreshDuration=" + maxRefreshDuration()
+				+ ", staleness=" + staleness()
+				+ "]";
+	}
+
+	@Override
+	public long refreshCount() {
+		long result = 0L;
+		for ( LuceneIndexReaderStatistics statistics : shardStatistics ) {
+			result += statistics.refreshCount();
+		}
+		return result;
+	}
+
+	@Override
+	public Duration lastRefreshDuration() {
+		Duration result = Duration.ZERO;
+		for ( LuceneIndexReaderStatistics statistics : shardStatistics ) {
+			result = max( result, statistics.lastRefreshDuration() );
+		}
+		return result;
+	}
+
+	@Override
+	public Duration maxRefreshDuration() {
+		Duration result = Duration.ZERO;
+		for ( LuceneIndexReaderStatistics statistics : shardStatistics ) {
+			result = max( result, statistics.maxRefreshDuration() );
+		}
+		return result;
+	}
+
+	@Override
+	public Duration staleness() {
+		Duration result = Duration.ZERO;
+		for ( LuceneIndexReaderStatistics statistics : shardStatistics ) {
+			result = max( result, statistics.staleness() );
+		}
+		return result;
+	}
+
+	private static Duration max(Duration first, Duration second) {
+		return first.compareTo( second ) >= 0 ? first : second;
+	}
+}
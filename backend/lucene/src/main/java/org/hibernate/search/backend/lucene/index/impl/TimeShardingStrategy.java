@@ -0,0 +1,140 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.index.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.LinkedHashMap;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.backend.lucene.index.ShardingTimeUnit;
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
+import org.hibernate.search.engine.cfg.spi.ConfigurationPropertySource;
+import org.hibernate.search.engine.cfg.spi.OptionalConfigurationProperty;
+import org.hibernate.search.engine.cfg.spi.ParseUtils;
+import org.hibernate.search.util.common.AssertionFailure;
+import org.hibernate.search.util.common.data.Range;
+import org.hibernate.search.util.common.data.RangeBoundInclusion;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+/**
+ * A sharding strategy assigning one shard per time period (day, month, year),
+ * with routing keys representing instants in ISO-8601 format.
+ * <p>
+ * Periods are computed in the UTC time zone.
+ */
+public class TimeShardingStrategy extends AbstractRangeShardingStrategy<Instant> {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	public static final String NAME = "time";
+
+	private static final ConfigurationProperty<ShardingTimeUnit> TIME_UNIT =
+			ConfigurationProperty.forKey( LuceneIndexSettings.ShardingRadicals.TIME_UNIT )
+					.as( ShardingTimeUnit.class, ShardingTimeUnit::of )
+					.withDefault( LuceneIndexSettings.Defaults.SHARDING_TIME_UNIT )
+					.build();
+
+	private static final OptionalConfigurationProperty<Instant> TIME_START =
+			ConfigurationProperty.forKey( LuceneIndexSettings.ShardingRadicals.TIME_START )
+					.as( Instant.class, ParseUtils::parseInstant )
+					.build();
+
+	private static final OptionalConfigurationProperty<Instant> TIME_END =
+			ConfigurationProperty.forKey( LuceneIndexSettings.ShardingRadicals.TIME_END )
+					.as( Instant.class, ParseUtils::parseInstant )
+					.build();
+
+	public TimeShardingStrategy() {
+		super( Instant.class );
+	}
+
+	@Override
+	protected LinkedHashMap<String, Range<Instant>> createShards(ConfigurationPropertySource propertySource) {
+		ShardingTimeUnit unit = TIME_UNIT.get( propertySource );
+		Instant start = TIME_START.getOrThrow(
+				propertySource,
+				key -> log.missingPropertyValueForShardingStrategy( NAME, key )
+		);
+		Instant end = TIME_END.getOrThrow(
+				propertySource,
+				key -> log.missingPropertyValueForShardingStrategy( NAME, key )
+		);
+		if ( !start.isBefore( end ) ) {
+			throw log.invalidShardingTimeRange( start, end );
+		}
+
+		DateTimeFormatter formatter = formatter( unit );
+		LinkedHashMap<String, Range<Instant>> shards = new LinkedHashMap<>();
+		ZonedDateTime periodStart = truncate( start.atZone( ZoneOffset.UTC ), unit );
+		while ( periodStart.toInstant().isBefore( end ) ) {
+			ZonedDateTime periodEnd = periodStart.plus( 1, chronoUnit( unit ) );
+			shards.put( formatter.format( periodStart ), Range.between(
+					periodStart.toInstant(), RangeBoundInclusion.INCLUDED,
+					periodEnd.toInstant(), RangeBoundInclusion.EXCLUDED
+			) );
+			periodStart = periodEnd;
+		}
+		return shards;
+	}
+
+	@Override
+	protected Instant toValue(String routingKey) {
+		try {
+			return Instant.parse( routingKey );
+		}
+		catch (DateTimeParseException e) {
+			throw log.invalidRoutingKeyForTimeShardingStrategy( routingKey, e );
+		}
+	}
+
+	private static ZonedDateTime truncate(ZonedDateTime dateTime, ShardingTimeUnit unit) {
+		ZonedDateTime day = dateTime.truncatedTo( ChronoUnit.DAYS );
+		switch ( unit ) {
+			case DAY:
+				return day;
+			case MONTH:
+				return day.withDayOfMonth( 1 );
+			case YEAR:
+				return day.withDayOfYear( 1 );
+			default:
+				throw new AssertionFailure( "Unexpected time unit: " + unit );
+		}
+	}
+
+	private static ChronoUnit chronoUnit(ShardingTimeUnit unit) {
+		switch ( unit ) {
+			case DAY:
+				return ChronoUnit.DAYS;
+			case MONTH:
+				return ChronoUnit.MONTHS;
+			case YEAR:
+				return ChronoUnit.YEARS;
+			default:
+				throw new AssertionFailure( "Unexpected time unit: " + unit );
+		}
+	}
+
+	private static DateTimeFormatter formatter(ShardingTimeUnit unit) {
+		switch ( unit ) {
+			case DAY:
+				return DateTimeFormatter.ofPattern( "uuuu-MM-dd" );
+			case MONTH:
+				return DateTimeFormatter.ofPattern( "uuuu-MM" );
+			case YEAR:
+				return DateTimeFormatter.ofPattern( "uuuu" );
+			default:
+				throw new AssertionFailure( "Unexpected time unit: " + unit );
+		}
+	}
+}
@@ -8,6 +8,8 @@
 
 import java.util.Set;
 
+import org.hibernate.search.util.common.data.Range;
+
 /**
  * A strategy for translating routing keys into actual shard identifiers
  * <p>
@@ -54,4 +56,26 @@ public interface ShardingStrategy {
 	 */
 	Set<String> toShardIdentifiers(Set<String> routingKeys);
 
+	/**
+	 * Returns all the shard identifiers that can be assigned to documents
+	 * whose value for the given field is within the given range.
+	 * <p>
+	 * Called when searching, for each range predicate that a document must match
+	 * in order to be included in the search results,
+	 * so that shards which cannot contain any matching document can be skipped.
+	 * <p>
+	 * Implementations that do not assign shards based on field values should simply return {@code null}.
+	 *
+	 * @param absoluteFieldPath The absolute path of the field targeted by a range predicate. Never {@code null}.
+	 * @param range The range of values of that field a document must match.
+	 * Bounds are field values, as they would be passed to the document when indexing,
+	 * e.g. {@link java.time.Instant} for an {@code Instant} field.
+	 * Never {@code null}.
+	 * @return All the shard identifiers that can contain documents matching the given range,
+	 * or {@code null} if this strategy cannot tell, in which case no shard will be skipped.
+	 */
+	default Set<String> toShardIdentifiers(String absoluteFieldPath, Range<?> range) {
+		return null;
+	}
+
 }
@@ -13,6 +13,7 @@
 import java.io.IOException;
 import java.nio.file.Path;
 import java.time.Duration;
+import java.time.Instant;
 import java.util.Collection;
 import java.util.List;
 import java.util.Set;
@@ -676,4 +677,48 @@ SearchException invalidFieldValueType(@FormatWith(ClassFormatter.class) Class<?>
 					+ " Make sure to call '.multi()' when you create the projection.")
 	SearchException invalidSingleValuedProjectionOnMultiValuedField(String absolutePath, @Param EventContext context);
 
+	@Message(id = ID_OFFSET_2 + 132,
+			value = "Background refresh of the index reader. %1$s")
+	String indexReaderBackgroundRefreshOperation(@FormatWith(EventContextFormatter.class) EventContext context);
+
+	@Message(id = ID_OFFSET_2 + 133,
+			value = "Unable to retrieve the next chunk of hits: this scroll was closed.")
+	SearchException cannotUseClosedScroll();
+
+	@Message(id = ID_OFFSET_2 + 134,
+			value = "Invalid sharding time unit: '%1$s'. Valid units are: %2$s.")
+	SearchException invalidShardingTimeUnit(String invalidRepresentation, List<String> validRepresentations);
+
+	@Message(id = ID_OFFSET_2 + 135,
+			value = "Invalid routing key: '%1$s'. Valid keys are values in the range %2$s.")
+	SearchException invalidRoutingKeyForRangeShardingStrategy(String invalidKey, String validRange);
+
+	@Message(id = ID_OFFSET_2 + 136,
+			value = "Invalid routing key: '%1$s'. The 'time' sharding strategy expects routing keys"
+					+ " to be instants in ISO-8601 format, e.g. '2017-11-03T19:00:00Z'.")
+	SearchException invalidRoutingKeyForTimeShardingStrategy(String invalidKey, @Cause Exception cause);
+
+	@Message(id = ID_OFFSET_2 + 137,
+			value = "Invalid sharding boundaries: %1$s. Boundaries must be distinct and sorted in ascending order.")
+	SearchException invalidShardingBoundaries(List<String> boundaries);
+
+	@Message(id = ID_OFFSET_2 + 138,
+			value = "Invalid time range for sharding: the start '%1$s' must be strictly before the end '%2$s'.")
+	SearchException invalidShardingTimeRange(Instant start, Instant end);
+
+	@Message(id = ID_OFFSET_2 + 139,
+			value = "Invalid index sort element: '%1$s'."
+					+ " Expected the absolute path of a field, optionally followed by ':asc' or ':desc'.")
+	SearchException invalidIndexSortElement(String invalidRepresentation);
+
+	@Message(id = ID_OFFSET_2 + 140,
+			value = "Unable to use field '%1$s' in the index sort."
+					+ " Fields in the index sort must be sortable and of a string, numeric or date/time type.")
+	SearchException unsupportedFieldForIndexSort(String absoluteFieldPath);
+
+	@Message(id = ID_OFFSET_2 + 141,
+			value = "Unable to use an index sort in an index defining nested object fields:"
+					+ " sorting documents would separate nested documents from their parent document.")
+	SearchException cannotUseIndexSortWithNestedObjectFields();
+
 }
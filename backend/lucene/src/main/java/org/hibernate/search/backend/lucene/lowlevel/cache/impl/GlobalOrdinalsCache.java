@@ -0,0 +1,173 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.cache.impl;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.hibernate.search.backend.lucene.lowlevel.reader.impl.HibernateSearchMultiReader;
+
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.DocValues;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.MultiDocValues;
+import org.apache.lucene.index.MultiDocValues.MultiSortedSetDocValues;
+import org.apache.lucene.index.OrdinalMap;
+import org.apache.lucene.index.SortedSetDocValues;
+import org.apache.lucene.util.packed.PackedInts;
+
+/**
+ * A cache of global ordinals, i.e. of the {@link OrdinalMap} mapping per-segment ordinals
+ * of {@link SortedSetDocValues} to ordinals that are valid across all segments of a reader.
+ * <p>
+ * Building an ordinal map requires to go through every unique term of the field in every segment,
+ * which is costly for high-cardinality fields.
+ * Since the ordinal map only depends on the segments, it can be shared between all searches
+ * targeting the same {@link DirectoryReader}s, until one of these readers is closed (e.g. after a refresh).
+ */
+public final class GlobalOrdinalsCache {
+
+	/**
+	 * Retrieve doc values with global ordinals for the given field.
+	 * <p>
+	 * Equivalent to {@link MultiDocValues#getSortedSetValues(IndexReader, String)},
+	 * except the {@link OrdinalMap} is cached if the reader was opened by Hibernate Search.
+	 *
+	 * @param reader The top-level reader.
+	 * @param field The name of the field.
+	 * @return Doc values for the whole reader, or {@code null} if no segment has doc values for this field.
+	 * @throws IOException If reading doc values fails.
+	 */
+	public static SortedSetDocValues getSortedSetValues(IndexReader reader, String field) throws IOException {
+		List<LeafReaderContext> leaves = reader.leaves();
+		int size = leaves.size();
+		if ( size == 0 ) {
+			return null;
+		}
+		else if ( size == 1 ) {
+			// No need for global ordinals
+			return leaves.get( 0 ).reader().getSortedSetDocValues( field );
+		}
+		else if ( !( reader instanceof HibernateSearchMultiReader ) ) {
+			return MultiDocValues.getSortedSetValues( reader, field );
+		}
+
+		HibernateSearchMultiReader multiReader = (HibernateSearchMultiReader) reader;
+
+		boolean anyReal = false;
+		SortedSetDocValues[] values = new SortedSetDocValues[size];
+		int[] starts = new int[size + 1];
+		long totalCost = 0;
+		for ( int i = 0; i < size; i++ ) {
+			LeafReaderContext context = leaves.get( i );
+			SortedSetDocValues leafValues = context.reader().getSortedSetDocValues( field );
+			if ( leafValues == null ) {
+				leafValues = DocValues.emptySortedSet();
+			}
+			else {
+				anyReal = true;
+			}
+			values[i] = leafValues;
+			starts[i] = context.docBase;
+			totalCost += leafValues.cost();
+		}
+		starts[size] = reader.maxDoc();
+		if ( !anyReal ) {
+			return null;
+		}
+
+		OrdinalMap ordinalMap = multiReader.getGlobalOrdinalsCache()
+				.getOrdinalMap( multiReader.getDirectoryReaders(), field, values );
+		return new MultiSortedSetDocValues( values, starts, ordinalMap, totalCost );
+	}
+
+	private final Map<Key, OrdinalMap> ordinalMaps = new ConcurrentHashMap<>();
+	private final Set<IndexReader.CacheKey> listenedReaderKeys = ConcurrentHashMap.newKeySet();
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[" + "size=" + ordinalMaps.size() + "]";
+	}
+
+	public void clear() {
+		ordinalMaps.clear();
+	}
+
+	int size() {
+		return ordinalMaps.size();
+	}
+
+	private OrdinalMap getOrdinalMap(List<DirectoryReader> directoryReaders, String field,
+			SortedSetDocValues[] values) throws IOException {
+		List<IndexReader.CacheKey> readerKeys = new ArrayList<>( directoryReaders.size() );
+		for ( DirectoryReader directoryReader : directoryReaders ) {
+			IndexReader.CacheHelper cacheHelper = directoryReader.getReaderCacheHelper();
+			if ( cacheHelper == null ) {
+				// We cannot know when this reader gets closed: do not cache.
+				return OrdinalMap.build( null, values, PackedInts.DEFAULT );
+			}
+			IndexReader.CacheKey readerKey = cacheHelper.getKey();
+			if ( listenedReaderKeys.add( readerKey ) ) {
+				cacheHelper.addClosedListener( this::evict );
+			}
+			readerKeys.add( readerKey );
+		}
+
+		try {
+			return ordinalMaps.computeIfAbsent( new Key( readerKeys, field ), ignored -> {
+				try {
+					return OrdinalMap.build( null, values, PackedInts.DEFAULT );
+				}
+				catch (IOException e) {
+					throw new UncheckedIOException( e );
+				}
+			} );
+		}
+		catch (UncheckedIOException e) {
+			throw e.getCause();
+		}
+	}
+
+	private void evict(IndexReader.CacheKey closedReaderKey) {
+		listenedReaderKeys.remove( closedReaderKey );
+		ordinalMaps.keySet().removeIf( key -> key.readerKeys.contains( closedReaderKey ) );
+	}
+
+	private static final class Key {
+		private final List<IndexReader.CacheKey> readerKeys;
+		private final String field;
+
+		private Key(List<IndexReader.CacheKey> readerKeys, String field) {
+			this.readerKeys = readerKeys;
+			this.field = field;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if ( obj == this ) {
+				return true;
+			}
+			if ( obj == null || !obj.getClass().equals( getClass() ) ) {
+				return false;
+			}
+			Key other = (Key) obj;
+			return readerKeys.equals( other.readerKeys ) && field.equals( other.field );
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash( readerKeys, field );
+		}
+	}
+}
@@ -0,0 +1,141 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.cache.impl;
+
+import java.util.Optional;
+import java.util.concurrent.Executor;
+
+import org.hibernate.search.backend.lucene.cache.LuceneQueryCacheStatistics;
+import org.hibernate.search.backend.lucene.lowlevel.reader.impl.HibernateSearchMultiReader;
+
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.IndexReaderContext;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.LRUQueryCache;
+import org.apache.lucene.search.QueryCachingPolicy;
+
+/**
+ * The query cache of a backend, shared by all searchers on all indexes of that backend.
+ * <p>
+ * Lucene caches results per index segment, so sharing a single cache across indexes is safe,
+ * and allows to enforce a single memory budget for the whole backend.
+ */
+public final class LuceneQueryCache {
+
+	private static final LuceneQueryCache DISABLED = new LuceneQueryCache( null, null );
+
+	public static LuceneQueryCache disabled() {
+		return DISABLED;
+	}
+
+	public static LuceneQueryCache create(int maxQueries, long maxMemoryBytes, QueryCachingPolicy cachingPolicy) {
+		return new LuceneQueryCache( new LRUQueryCache( maxQueries, maxMemoryBytes ), cachingPolicy );
+	}
+
+	/**
+	 * Create a searcher for internal use, e.g. to retrieve child documents while collecting results.
+	 *
+	 * @param topLevelContext The top-level context of the reader to search.
+	 * @return A searcher using the query cache of the backend if the reader was opened by Hibernate Search,
+	 * or no query cache at all otherwise.
+	 */
+	public static IndexSearcher createSearcher(IndexReaderContext topLevelContext) {
+		IndexSearcher searcher = new IndexSearcher( topLevelContext );
+		IndexReader reader = topLevelContext.reader();
+		if ( reader instanceof HibernateSearchMultiReader ) {
+			( (HibernateSearchMultiReader) reader ).getQueryCache().configure( searcher );
+		}
+		else {
+			// Do not use Lucene's default, JVM-wide query cache.
+			DISABLED.configure( searcher );
+		}
+		return searcher;
+	}
+
+	private final LRUQueryCache delegate;
+	private final QueryCachingPolicy cachingPolicy;
+	private final Statistics statistics;
+
+	private LuceneQueryCache(LRUQueryCache delegate, QueryCachingPolicy cachingPolicy) {
+		this.delegate = delegate;
+		this.cachingPolicy = cachingPolicy;
+		this.statistics = delegate == null ? null : new Statistics();
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[" + ( delegate == null ? "disabled" : delegate ) + "]";
+	}
+
+	public IndexSearcher createSearcher(IndexReader reader, Executor executor) {
+		IndexSearcher searcher = new IndexSearcher( reader, executor );
+		configure( searcher );
+		return searcher;
+	}
+
+	public Optional<LuceneQueryCacheStatistics> statistics() {
+		return Optional.ofNullable( statistics );
+	}
+
+	public void clear() {
+		if ( delegate != null ) {
+			delegate.clear();
+		}
+	}
+
+	private void configure(IndexSearcher searcher) {
+		// A null cache disables caching.
+		searcher.setQueryCache( delegate );
+		if ( cachingPolicy != null ) {
+			searcher.setQueryCachingPolicy( cachingPolicy );
+		}
+	}
+
+	private final class Statistics implements LuceneQueryCacheStatistics {
+		@Override
+		public String toString() {
+			return getClass().getSimpleName() + "["
+					+ "hitCount=" + hitCount()
+					+ ", missCount=" + missCount()
+					+ ", cacheSize=" + cacheSize()
+					+ ", cacheCount=" + cacheCount()
+					+ ", evictionCount=" + evictionCount()
+					+ ", memoryUsedBytes=" + memoryUsedBytes()
+					+ "]";
+		}
+
+		@Override
+		public long hitCount() {
+			return delegate.getHitCount();
+		}
+
+		@Override
+		public long missCount() {
+			return delegate.getMissCount();
+		}
+
+		@Override
+		public long cacheSize() {
+			return delegate.getCacheSize();
+		}
+
+		@Override
+		public long cacheCount() {
+			return delegate.getCacheCount();
+		}
+
+		@Override
+		public long evictionCount() {
+			return delegate.getEvictionCount();
+		}
+
+		@Override
+		public long memoryUsedBytes() {
+			return delegate.ramBytesUsed();
+		}
+	}
+}
@@ -9,11 +9,23 @@
 import java.io.IOException;
 
 import org.apache.lucene.search.Collector;
+import org.apache.lucene.search.CollectorManager;
 
-public interface CollectorFactory<C extends Collector> {
+/**
+ * A factory for collector managers.
+ * <p>
+ * Collector managers are used instead of plain collectors
+ * so that searches can be executed in parallel over multiple slices of the index,
+ * each slice using its own collector, the results being reduced after the search.
+ *
+ * @param <C> The type of collectors.
+ * @param <T> The type of the result obtained by reducing the collectors.
+ * @param <CM> The type of collector manager.
+ */
+public interface CollectorFactory<C extends Collector, T, CM extends CollectorManager<C, T>> {
 
-	C createCollector(CollectorExecutionContext context) throws IOException;
+	CM createCollectorManager(CollectorExecutionContext context) throws IOException;
 
-	CollectorKey<C> getCollectorKey();
+	CollectorKey<C, T> getCollectorKey();
 
 }
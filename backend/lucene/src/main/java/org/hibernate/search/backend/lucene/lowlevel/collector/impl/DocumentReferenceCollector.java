@@ -7,6 +7,7 @@
 package org.hibernate.search.backend.lucene.lowlevel.collector.impl;
 
 import java.io.IOException;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -18,24 +19,27 @@
 import org.apache.lucene.index.BinaryDocValues;
 import org.apache.lucene.index.DocValues;
 import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.CollectorManager;
 import org.apache.lucene.search.ScoreMode;
 import org.apache.lucene.search.SimpleCollector;
 
 public final class DocumentReferenceCollector extends SimpleCollector {
 
-	public static final CollectorKey<DocumentReferenceCollector> KEY = CollectorKey.create();
+	public static final CollectorKey<DocumentReferenceCollector, Map<Integer, DocumentReference>> KEY =
+			CollectorKey.create();
 
-	public static final CollectorFactory<DocumentReferenceCollector> FACTORY = new CollectorFactory<DocumentReferenceCollector>() {
-		@Override
-		public DocumentReferenceCollector createCollector(CollectorExecutionContext context) {
-			return new DocumentReferenceCollector( context );
-		}
+	public static final CollectorFactory<DocumentReferenceCollector, Map<Integer, DocumentReference>, Manager> FACTORY =
+			new CollectorFactory<DocumentReferenceCollector, Map<Integer, DocumentReference>, Manager>() {
+				@Override
+				public Manager createCollectorManager(CollectorExecutionContext context) {
+					return new Manager( context.getMetadataResolver() );
+				}
 
-		@Override
-		public CollectorKey<DocumentReferenceCollector> getCollectorKey() {
-			return KEY;
-		}
-	};
+				@Override
+				public CollectorKey<DocumentReferenceCollector, Map<Integer, DocumentReference>> getCollectorKey() {
+					return KEY;
+				}
+			};
 
 	private final IndexReaderMetadataResolver metadataResolver;
 
@@ -43,10 +47,10 @@ public CollectorKey<DocumentReferenceCollector> getCollectorKey() {
 	private BinaryDocValues currentLeafIdDocValues;
 	private int currentLeafDocBase;
 
-	private Map<Integer, DocumentReference> collected = new HashMap<>();
+	private final Map<Integer, DocumentReference> collected = new HashMap<>();
 
-	private DocumentReferenceCollector(CollectorExecutionContext executionContext) {
-		this.metadataResolver = executionContext.getMetadataResolver();
+	private DocumentReferenceCollector(IndexReaderMetadataResolver metadataResolver) {
+		this.metadataResolver = metadataResolver;
 	}
 
 	@Override
@@ -63,14 +67,37 @@ public ScoreMode scoreMode() {
 		return ScoreMode.COMPLETE_NO_SCORES;
 	}
 
-	public DocumentReference get(int doc) {
-		return collected.get( doc );
-	}
-
 	@Override
 	protected void doSetNextReader(LeafReaderContext context) throws IOException {
 		this.currentLeafMappedTypeName = metadataResolver.resolveMappedTypeName( context );
 		this.currentLeafIdDocValues = DocValues.getBinary( context.reader(), MetadataFields.idFieldName() );
 		this.currentLeafDocBase = context.docBase;
 	}
+
+	public static final class Manager
+			implements CollectorManager<DocumentReferenceCollector, Map<Integer, DocumentReference>> {
+
+		private final IndexReaderMetadataResolver metadataResolver;
+
+		private Manager(IndexReaderMetadataResolver metadataResolver) {
+			this.metadataResolver = metadataResolver;
+		}
+
+		@Override
+		public DocumentReferenceCollector newCollector() {
+			return new DocumentReferenceCollector( metadataResolver );
+		}
+
+		@Override
+		public Map<Integer, DocumentReference> reduce(Collection<DocumentReferenceCollector> collectors) {
+			if ( collectors.size() == 1 ) {
+				return collectors.iterator().next().collected;
+			}
+			Map<Integer, DocumentReference> result = new HashMap<>();
+			for ( DocumentReferenceCollector collector : collectors ) {
+				result.putAll( collector.collected );
+			}
+			return result;
+		}
+	}
 }
@@ -9,9 +9,12 @@
 import java.io.IOException;
 import java.lang.invoke.MethodHandles;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
 
 import org.apache.lucene.index.LeafReaderContext;
 import org.apache.lucene.search.Collector;
+import org.apache.lucene.search.CollectorManager;
 import org.apache.lucene.search.DoubleValues;
 import org.apache.lucene.search.LeafCollector;
 import org.apache.lucene.search.Scorable;
@@ -49,6 +52,26 @@ public GeoPointDistanceCollector(String absoluteFieldPath, NestedDocsProvider ne
 		this.distances = new SpatialResultsCollector( hitsCount );
 	}
 
+	public static CollectorManager<GeoPointDistanceCollector, GeoPointDistanceCollector> manager(
+			String absoluteFieldPath, NestedDocsProvider nestedDocsProvider, GeoPoint center, int hitsCount) {
+		return new CollectorManager<GeoPointDistanceCollector, GeoPointDistanceCollector>() {
+			@Override
+			public GeoPointDistanceCollector newCollector() {
+				return new GeoPointDistanceCollector( absoluteFieldPath, nestedDocsProvider, center, hitsCount );
+			}
+
+			@Override
+			public GeoPointDistanceCollector reduce(Collection<GeoPointDistanceCollector> collectors) {
+				Iterator<GeoPointDistanceCollector> iterator = collectors.iterator();
+				GeoPointDistanceCollector result = iterator.next();
+				while ( iterator.hasNext() ) {
+					result.distances.orderedEntries.addAll( iterator.next().distances.orderedEntries );
+				}
+				return result;
+			}
+		};
+	}
+
 	public Double getDistance(final int docId) {
 		return distances.get( docId );
 	}
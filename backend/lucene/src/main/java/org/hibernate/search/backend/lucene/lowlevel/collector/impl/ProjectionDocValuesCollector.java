@@ -0,0 +1,89 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.collector.impl;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.ProjectionDocValuesSource;
+
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.CollectorManager;
+import org.apache.lucene.search.ScoreMode;
+import org.apache.lucene.search.SimpleCollector;
+
+/**
+ * Collects the value of a single-valued field from doc values.
+ * <p>
+ * Used instead of {@link StoredFieldsCollector} when projecting on fields that have doc values,
+ * so as to avoid loading (and decompressing) stored fields for each hit.
+ *
+ * @param <T> The type of collected values.
+ */
+public final class ProjectionDocValuesCollector<T> extends SimpleCollector {
+
+	public static <T> CollectorManager<ProjectionDocValuesCollector<T>, Map<Integer, T>> manager(
+			ProjectionDocValuesSource<T> valuesSource) {
+		return new CollectorManager<ProjectionDocValuesCollector<T>, Map<Integer, T>>() {
+			@Override
+			public ProjectionDocValuesCollector<T> newCollector() {
+				return new ProjectionDocValuesCollector<>( valuesSource );
+			}
+
+			@Override
+			public Map<Integer, T> reduce(Collection<ProjectionDocValuesCollector<T>> collectors) {
+				if ( collectors.size() == 1 ) {
+					return collectors.iterator().next().collected;
+				}
+				Map<Integer, T> result = new HashMap<>();
+				for ( ProjectionDocValuesCollector<T> collector : collectors ) {
+					result.putAll( collector.collected );
+				}
+				return result;
+			}
+		};
+	}
+
+	private final ProjectionDocValuesSource<T> valuesSource;
+
+	private int currentLeafDocBase;
+	private ProjectionDocValuesSource.ProjectionDocValues<T> currentLeafValues;
+
+	private final Map<Integer, T> collected = new HashMap<>();
+
+	private ProjectionDocValuesCollector(ProjectionDocValuesSource<T> valuesSource) {
+		this.valuesSource = valuesSource;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "["
+				+ "valuesSource=" + valuesSource
+				+ "]";
+	}
+
+	@Override
+	public void collect(int doc) throws IOException {
+		T value = currentLeafValues.valueOrNull( doc );
+		if ( value != null ) {
+			collected.put( currentLeafDocBase + doc, value );
+		}
+	}
+
+	@Override
+	public ScoreMode scoreMode() {
+		return ScoreMode.COMPLETE_NO_SCORES;
+	}
+
+	@Override
+	protected void doSetNextReader(LeafReaderContext context) throws IOException {
+		this.currentLeafDocBase = context.docBase;
+		this.currentLeafValues = valuesSource.getValues( context );
+	}
+}
@@ -7,6 +7,7 @@
 package org.hibernate.search.backend.lucene.lowlevel.collector.impl;
 
 import java.io.IOException;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
@@ -18,8 +19,8 @@
 import org.apache.lucene.document.Document;
 import org.apache.lucene.index.LeafReader;
 import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.CollectorManager;
 import org.apache.lucene.search.DocIdSetIterator;
-import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.ScoreMode;
 import org.apache.lucene.search.SimpleCollector;
 import org.apache.lucene.search.Weight;
@@ -33,27 +34,30 @@
  */
 public class StoredFieldsCollector extends SimpleCollector {
 
-	public static final CollectorKey<StoredFieldsCollector> KEY = CollectorKey.create();
+	public static final CollectorKey<StoredFieldsCollector, Map<Integer, Document>> KEY = CollectorKey.create();
 
-	public static CollectorFactory<StoredFieldsCollector> factory(
-			ReusableDocumentStoredFieldVisitor storedFieldVisitor,
+	public static CollectorFactory<StoredFieldsCollector, Map<Integer, Document>, Manager> factory(
+			Set<String> requiredStoredFields,
 			Set<String> requiredNestedDocumentPathsForStoredFields) {
-		return new CollectorFactory<StoredFieldsCollector>() {
+		return new CollectorFactory<StoredFieldsCollector, Map<Integer, Document>, Manager>() {
 			@Override
-			public StoredFieldsCollector createCollector(CollectorExecutionContext context) throws IOException {
+			public Manager createCollectorManager(CollectorExecutionContext context) throws IOException {
 				NestedDocsProvider nestedDocsProvider;
+				Weight childrenWeight;
 				if ( requiredNestedDocumentPathsForStoredFields.isEmpty() ) {
 					nestedDocsProvider = null;
+					childrenWeight = null;
 				}
 				else {
 					nestedDocsProvider = context.createNestedDocsProvider( requiredNestedDocumentPathsForStoredFields );
+					childrenWeight = nestedDocsProvider.childDocsWeight( context.getIndexSearcher() );
 				}
 
-				return new StoredFieldsCollector( nestedDocsProvider, storedFieldVisitor, context.getIndexSearcher() );
+				return new Manager( nestedDocsProvider, childrenWeight, requiredStoredFields );
 			}
 
 			@Override
-			public CollectorKey<StoredFieldsCollector> getCollectorKey() {
+			public CollectorKey<StoredFieldsCollector, Map<Integer, Document>> getCollectorKey() {
 				return KEY;
 			}
 		};
@@ -70,10 +74,9 @@ public CollectorKey<StoredFieldsCollector> getCollectorKey() {
 
 	private final Map<Integer, Document> documents = new HashMap<>();
 
-	public StoredFieldsCollector(NestedDocsProvider nestedDocsProvider,
-			ReusableDocumentStoredFieldVisitor storedFieldVisitor,
-			IndexSearcher indexSearcher) throws IOException {
-		this.childrenWeight = nestedDocsProvider == null ? null : nestedDocsProvider.childDocsWeight( indexSearcher );
+	private StoredFieldsCollector(NestedDocsProvider nestedDocsProvider, Weight childrenWeight,
+			ReusableDocumentStoredFieldVisitor storedFieldVisitor) {
+		this.childrenWeight = childrenWeight;
 		this.nestedDocsProvider = nestedDocsProvider;
 		this.storedFieldVisitor = storedFieldVisitor;
 	}
@@ -128,10 +131,6 @@ public ScoreMode scoreMode() {
 		return ScoreMode.COMPLETE_NO_SCORES;
 	}
 
-	public Document getDocument(int docId) {
-		return documents.get( docId );
-	}
-
 	@Override
 	protected void doSetNextReader(LeafReaderContext context) throws IOException {
 		this.currentLeafDocBase = context.docBase;
@@ -140,4 +139,39 @@ protected void doSetNextReader(LeafReaderContext context) throws IOException {
 
 		this.currentLeafChildDocs = nestedDocsProvider == null ? null : nestedDocsProvider.childDocs( childrenWeight, context );
 	}
+
+	public static final class Manager implements CollectorManager<StoredFieldsCollector, Map<Integer, Document>> {
+
+		private final NestedDocsProvider nestedDocsProvider;
+		private final Weight childrenWeight;
+		private final Set<String> requiredStoredFields;
+
+		private Manager(NestedDocsProvider nestedDocsProvider, Weight childrenWeight,
+				Set<String> requiredStoredFields) {
+			this.nestedDocsProvider = nestedDocsProvider;
+			this.childrenWeight = childrenWeight;
+			this.requiredStoredFields = requiredStoredFields;
+		}
+
+		@Override
+		public StoredFieldsCollector newCollector() {
+			// Stored field visitors are not thread-safe: each collector needs its own.
+			ReusableDocumentStoredFieldVisitor storedFieldVisitor = requiredStoredFields == null
+					? new ReusableDocumentStoredFieldVisitor()
+					: new ReusableDocumentStoredFieldVisitor( requiredStoredFields );
+			return new StoredFieldsCollector( nestedDocsProvider, childrenWeight, storedFieldVisitor );
+		}
+
+		@Override
+		public Map<Integer, Document> reduce(Collection<StoredFieldsCollector> collectors) {
+			if ( collectors.size() == 1 ) {
+				return collectors.iterator().next().documents;
+			}
+			Map<Integer, Document> result = new HashMap<>();
+			for ( StoredFieldsCollector collector : collectors ) {
+				result.putAll( collector.documents );
+			}
+			return result;
+		}
+	}
 }
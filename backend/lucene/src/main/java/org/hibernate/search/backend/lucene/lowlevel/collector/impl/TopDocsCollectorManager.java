@@ -0,0 +1,90 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.collector.impl;
+
+import java.util.Collection;
+
+import org.apache.lucene.search.CollectorManager;
+import org.apache.lucene.search.FieldDoc;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TopDocsCollector;
+import org.apache.lucene.search.TopFieldCollector;
+import org.apache.lucene.search.TopFieldDocs;
+import org.apache.lucene.search.TopScoreDocCollector;
+
+/**
+ * Creates one top docs collector per index slice, then merges their top docs.
+ * <p>
+ * Unlike the managers returned by {@link TopScoreDocCollector#createSharedManager(int, FieldDoc, int)}
+ * or {@link TopFieldCollector#createSharedManager(Sort, int, FieldDoc, int)},
+ * this does not share any state between collectors, so there is no contention between threads during collection.
+ */
+public class TopDocsCollectorManager implements CollectorManager<TopDocsCollector<?>, TopDocs> {
+
+	private final Sort sort;
+	private final int maxDocs;
+	private final ScoreDoc after;
+	private final int totalHitsThreshold;
+
+	/**
+	 * @param sort The sort, or {@code null} to sort by score.
+	 * @param maxDocs The maximum number of top docs to collect.
+	 * @param after The last top doc returned by a previous search, to only collect top docs that come after it,
+	 * or {@code null} to collect top docs from the start.
+	 * Must be a {@link FieldDoc} if {@code sort} is not null.
+	 * @param totalHitsThreshold The number of hits up to which hits will be counted accurately.
+	 * Beyond that threshold, collectors are allowed to skip non-competitive hits,
+	 * and the total hit count of the resulting top docs may only be a lower bound.
+	 */
+	public TopDocsCollectorManager(Sort sort, int maxDocs, ScoreDoc after, int totalHitsThreshold) {
+		this.sort = sort;
+		this.maxDocs = maxDocs;
+		this.after = after;
+		this.totalHitsThreshold = totalHitsThreshold;
+	}
+
+	@Override
+	public TopDocsCollector<?> newCollector() {
+		if ( sort == null ) {
+			// Note MultiCollector explicitly ignores the total hit count optimization,
+			// so it will only kick in if there are no other collectors for all matching docs (e.g. aggregations).
+			return TopScoreDocCollector.create( maxDocs, after, totalHitsThreshold );
+		}
+		else {
+			return TopFieldCollector.create( sort, maxDocs, (FieldDoc) after, totalHitsThreshold );
+		}
+	}
+
+	@Override
+	public TopDocs reduce(Collection<TopDocsCollector<?>> collectors) {
+		if ( collectors.size() == 1 ) {
+			return collectors.iterator().next().topDocs();
+		}
+		// Setting the shard index to the index of the slice,
+		// so that ties are broken by slice, then by document ID, just like in a non-parallel search.
+		if ( sort == null ) {
+			TopDocs[] topDocsPerSlice = new TopDocs[collectors.size()];
+			int i = 0;
+			for ( TopDocsCollector<?> collector : collectors ) {
+				topDocsPerSlice[i] = collector.topDocs();
+				++i;
+			}
+			return TopDocs.merge( 0, maxDocs, topDocsPerSlice, true );
+		}
+		else {
+			TopFieldDocs[] topDocsPerSlice = new TopFieldDocs[collectors.size()];
+			int i = 0;
+			for ( TopDocsCollector<?> collector : collectors ) {
+				topDocsPerSlice[i] = ( (TopFieldCollector) collector ).topDocs();
+				++i;
+			}
+			return TopDocs.merge( sort, 0, maxDocs, topDocsPerSlice, true );
+		}
+	}
+}
@@ -50,6 +50,16 @@ public class MetadataFields {
 
 	private static final String NESTED_DOCUMENT_PATH = internalFieldName( "nested_document_path" );
 
+	/*
+	 * Fields whose value is constant are shared across all documents, to avoid allocating new instances:
+	 * the index writer only ever reads fields, so this is safe even when documents are indexed concurrently.
+	 */
+	private static final IndexableField MAIN_DOCUMENT_TYPE_FIELD =
+			searchableMetadataField( TYPE_FIELD_NAME, TYPE_MAIN_DOCUMENT );
+
+	private static final IndexableField CHILD_DOCUMENT_TYPE_FIELD =
+			searchableMetadataField( TYPE_FIELD_NAME, TYPE_CHILD_DOCUMENT );
+
 	private MetadataFields() {
 	}
 
@@ -68,6 +78,22 @@ public static IndexableField searchableRetrievableMetadataField(String name, Str
 		return new Field( name, new BytesRef( value ), METADATA_FIELD_TYPE_WITH_INDEX_WITH_DOCVALUES );
 	}
 
+	/**
+	 * @return The field marking a document as a main (root) document.
+	 * The returned instance is shared and must not be altered.
+	 */
+	public static IndexableField mainDocumentTypeField() {
+		return MAIN_DOCUMENT_TYPE_FIELD;
+	}
+
+	/**
+	 * @return The field marking a document as a child (nested) document.
+	 * The returned instance is shared and must not be altered.
+	 */
+	public static IndexableField childDocumentTypeField() {
+		return CHILD_DOCUMENT_TYPE_FIELD;
+	}
+
 	public static String idFieldName() {
 		return ID_FIELD_NAME;
 	}
@@ -17,7 +17,8 @@ public enum FileSystemAccessStrategyName {
 	AUTO( "auto" ),
 	SIMPLE( "simple" ),
 	NIO( "nio" ),
-	MMAP( "mmap" );
+	MMAP( "mmap" ),
+	HYBRID( "hybrid" );
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
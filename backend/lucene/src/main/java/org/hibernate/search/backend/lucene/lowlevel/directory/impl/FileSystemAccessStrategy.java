@@ -8,6 +8,9 @@
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
 
 import org.hibernate.search.backend.lucene.lowlevel.directory.FileSystemAccessStrategyName;
 import org.hibernate.search.util.common.AssertionFailure;
@@ -16,6 +19,7 @@
 import org.apache.lucene.store.LockFactory;
 import org.apache.lucene.store.MMapDirectory;
 import org.apache.lucene.store.NIOFSDirectory;
+import org.apache.lucene.store.NoLockFactory;
 import org.apache.lucene.store.SimpleFSDirectory;
 
 enum FileSystemAccessStrategy {
@@ -38,10 +42,51 @@ public FSDirectory createDirectory(Path indexDir, LockFactory factory) throws IO
 		public FSDirectory createDirectory(Path indexDir, LockFactory factory) throws IOException {
 			return new MMapDirectory( indexDir, factory );
 		}
+	},
+	HYBRID {
+		public FSDirectory createDirectory(Path indexDir, LockFactory factory) throws IOException {
+			// Files with extensions configured for memory mapping are handled in the other createDirectory method.
+			return new NIOFSDirectory( indexDir, factory );
+		}
 	};
 
 	public abstract FSDirectory createDirectory(Path indexDir, LockFactory factory) throws IOException;
 
+	/**
+	 * @param indexDir The path of the index.
+	 * @param factory The lock factory.
+	 * @param mmapExtensions The extensions of files to access through memory mapping,
+	 * if this strategy is {@link #HYBRID}. Ignored for other strategies.
+	 * @param preloadExtensions The extensions of files to access through memory mapping
+	 * and to preload into physical memory, regardless of this strategy.
+	 * @return A directory.
+	 * @throws IOException If the directory cannot be created.
+	 */
+	public FSDirectory createDirectory(Path indexDir, LockFactory factory,
+			Set<String> mmapExtensions, Set<String> preloadExtensions) throws IOException {
+		if ( ( this != HYBRID || mmapExtensions.isEmpty() ) && preloadExtensions.isEmpty() ) {
+			return createDirectory( indexDir, factory );
+		}
+
+		// Locking is handled by the per-extension directory, delegates only read files.
+		Map<String, FSDirectory> delegatesByExtension = new HashMap<>();
+		if ( this == HYBRID && !mmapExtensions.isEmpty() ) {
+			MMapDirectory mmapDirectory = new MMapDirectory( indexDir, NoLockFactory.INSTANCE );
+			for ( String extension : mmapExtensions ) {
+				delegatesByExtension.put( extension, mmapDirectory );
+			}
+		}
+		if ( !preloadExtensions.isEmpty() ) {
+			MMapDirectory preloadingMmapDirectory = new MMapDirectory( indexDir, NoLockFactory.INSTANCE );
+			preloadingMmapDirectory.setPreload( true );
+			for ( String extension : preloadExtensions ) {
+				delegatesByExtension.put( extension, preloadingMmapDirectory );
+			}
+		}
+		return new PerExtensionFSDirectory( indexDir, factory,
+				createDirectory( indexDir, NoLockFactory.INSTANCE ), delegatesByExtension );
+	}
+
 	public static FileSystemAccessStrategy get(FileSystemAccessStrategyName name) {
 		switch ( name ) {
 			case AUTO:
@@ -52,6 +97,8 @@ public static FileSystemAccessStrategy get(FileSystemAccessStrategyName name) {
 				return NIO;
 			case MMAP:
 				return MMAP;
+			case HYBRID:
+				return HYBRID;
 		}
 		throw new AssertionFailure( "Unexpected name: " + name );
 	}
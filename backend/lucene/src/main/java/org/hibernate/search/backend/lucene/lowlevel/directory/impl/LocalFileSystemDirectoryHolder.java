@@ -9,6 +9,7 @@
 import java.io.IOException;
 import java.lang.invoke.MethodHandles;
 import java.nio.file.Path;
+import java.util.Set;
 import java.util.function.Supplier;
 
 import org.hibernate.search.backend.lucene.logging.impl.Log;
@@ -25,15 +26,20 @@ final class LocalFileSystemDirectoryHolder implements DirectoryHolder {
 
 	private final Path directoryPath;
 	private final FileSystemAccessStrategy accessStrategy;
+	private final Set<String> mmapExtensions;
+	private final Set<String> preloadExtensions;
 	private final Supplier<LockFactory> lockFactorySupplier;
 	private final EventContext eventContext;
 
 	private Directory directory;
 
 	LocalFileSystemDirectoryHolder(Path directoryPath, FileSystemAccessStrategy accessStrategy,
+			Set<String> mmapExtensions, Set<String> preloadExtensions,
 			Supplier<LockFactory> lockFactorySupplier, EventContext eventContext) {
 		this.directoryPath = directoryPath;
 		this.accessStrategy = accessStrategy;
+		this.mmapExtensions = mmapExtensions;
+		this.preloadExtensions = preloadExtensions;
 		this.lockFactorySupplier = lockFactorySupplier;
 		this.eventContext = eventContext;
 	}
@@ -47,7 +53,8 @@ public void start() throws IOException {
 			throw log.unableToInitializeIndexDirectory( e.getMessage(), eventContext, e );
 		}
 
-		this.directory = accessStrategy.createDirectory( directoryPath, lockFactorySupplier.get() );
+		this.directory = accessStrategy.createDirectory( directoryPath, lockFactorySupplier.get(),
+				mmapExtensions, preloadExtensions );
 	}
 
 	@Override
@@ -9,7 +9,10 @@
 import java.lang.invoke.MethodHandles;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Supplier;
 
 import org.hibernate.search.backend.lucene.cfg.LuceneBackendSettings;
@@ -44,8 +47,22 @@ public class LocalFileSystemDirectoryProvider implements DirectoryProvider {
 					.withDefault( LuceneBackendSettings.Defaults.DIRECTORY_FILESYSTEM_ACCESS_STRATEGY )
 					.build();
 
+	private static final ConfigurationProperty<List<String>> FILESYSTEM_ACCESS_MMAP_EXTENSIONS =
+			ConfigurationProperty.forKey( LuceneBackendSettings.DirectoryRadicals.FILESYSTEM_ACCESS_MMAP_EXTENSIONS )
+					.asString().multivalued()
+					.withDefault( LuceneBackendSettings.Defaults.DIRECTORY_FILESYSTEM_ACCESS_MMAP_EXTENSIONS )
+					.build();
+
+	private static final ConfigurationProperty<List<String>> FILESYSTEM_ACCESS_PRELOAD_EXTENSIONS =
+			ConfigurationProperty.forKey( LuceneBackendSettings.DirectoryRadicals.FILESYSTEM_ACCESS_PRELOAD_EXTENSIONS )
+					.asString().multivalued()
+					.withDefault( LuceneBackendSettings.Defaults.DIRECTORY_FILESYSTEM_ACCESS_PRELOAD_EXTENSIONS )
+					.build();
+
 	private Path directoryRoot;
 	private FileSystemAccessStrategy accessStrategy;
+	private Set<String> mmapExtensions;
+	private Set<String> preloadExtensions;
 	private Supplier<LockFactory> lockFactorySupplier;
 
 	@Override
@@ -59,6 +76,8 @@ public void initialize(DirectoryProviderInitializationContext context) {
 		this.directoryRoot = ROOT.get( propertySource ).toAbsolutePath();
 		FileSystemAccessStrategyName accessStrategyName = FILESYSTEM_ACCESS_STRATEGY.get( propertySource );
 		this.accessStrategy = FileSystemAccessStrategy.get( accessStrategyName );
+		this.mmapExtensions = new LinkedHashSet<>( FILESYSTEM_ACCESS_MMAP_EXTENSIONS.get( propertySource ) );
+		this.preloadExtensions = new LinkedHashSet<>( FILESYSTEM_ACCESS_PRELOAD_EXTENSIONS.get( propertySource ) );
 		this.lockFactorySupplier = context.createConfiguredLockFactorySupplier().orElseGet( () -> FSLockFactory::getDefault );
 
 		try {
@@ -77,7 +96,8 @@ public DirectoryHolder createDirectoryHolder(DirectoryCreationContext context) {
 			directoryPath = directoryPath.resolve( shardId.get() );
 		}
 		return new LocalFileSystemDirectoryHolder(
-				directoryPath, accessStrategy, lockFactorySupplier, context.eventContext()
+				directoryPath, accessStrategy, mmapExtensions, preloadExtensions,
+				lockFactorySupplier, context.eventContext()
 		);
 	}
 
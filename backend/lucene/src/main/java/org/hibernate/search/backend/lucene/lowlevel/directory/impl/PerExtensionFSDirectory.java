@@ -0,0 +1,66 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.directory.impl;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Map;
+
+import org.apache.lucene.store.FSDirectory;
+import org.apache.lucene.store.IOContext;
+import org.apache.lucene.store.IndexInput;
+import org.apache.lucene.store.LockFactory;
+import org.apache.lucene.util.IOUtils;
+
+/**
+ * A filesystem directory that reads files through a different directory depending on their extension.
+ * <p>
+ * All directories must point to the same filesystem path.
+ * Every operation other than reading (writing, deleting, locking, ...) is handled by this directory,
+ * so delegates are only ever used through {@link #openInput(String, IOContext)}.
+ */
+final class PerExtensionFSDirectory extends FSDirectory {
+
+	private final FSDirectory defaultDelegate;
+	private final Map<String, FSDirectory> delegatesByExtension;
+
+	PerExtensionFSDirectory(Path path, LockFactory lockFactory,
+			FSDirectory defaultDelegate, Map<String, FSDirectory> delegatesByExtension)
+			throws IOException {
+		super( path, lockFactory );
+		this.defaultDelegate = defaultDelegate;
+		this.delegatesByExtension = delegatesByExtension;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "@" + directory
+				+ "[default=" + defaultDelegate.getClass().getSimpleName()
+				+ ", extensions=" + delegatesByExtension.keySet() + "]";
+	}
+
+	@Override
+	public IndexInput openInput(String name, IOContext context) throws IOException {
+		ensureOpen();
+		ensureCanRead( name );
+		return delegate( name ).openInput( name, context );
+	}
+
+	@Override
+	public synchronized void close() throws IOException {
+		IOUtils.close( super::close, defaultDelegate, () -> IOUtils.close( delegatesByExtension.values() ) );
+	}
+
+	FSDirectory delegate(String fileName) {
+		int dotIndex = fileName.lastIndexOf( '.' );
+		if ( dotIndex < 0 ) {
+			return defaultDelegate;
+		}
+		FSDirectory delegate = delegatesByExtension.get( fileName.substring( dotIndex + 1 ) );
+		return delegate == null ? defaultDelegate : delegate;
+	}
+}
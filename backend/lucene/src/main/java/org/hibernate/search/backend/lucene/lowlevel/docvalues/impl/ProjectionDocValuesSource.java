@@ -0,0 +1,100 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.docvalues.impl;
+
+import java.io.IOException;
+import java.util.function.LongFunction;
+
+import org.apache.lucene.index.DocValues;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.SortedNumericDocValues;
+import org.apache.lucene.index.SortedSetDocValues;
+
+/**
+ * A source of per-document field values for projections, relying on doc values instead of stored fields.
+ * <p>
+ * Only suitable for fields that hold at most one value per document, in root documents:
+ * doc values do not preserve the order of multiple values and do not allow to tell apart values
+ * from different nested documents.
+ *
+ * @param <T> The type of values.
+ */
+public abstract class ProjectionDocValuesSource<T> {
+
+	private final String absoluteFieldPath;
+
+	private ProjectionDocValuesSource(String absoluteFieldPath) {
+		this.absoluteFieldPath = absoluteFieldPath;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[" + absoluteFieldPath + "]";
+	}
+
+	public String getAbsoluteFieldPath() {
+		return absoluteFieldPath;
+	}
+
+	/**
+	 * @return a {@link ProjectionDocValues} instance for the passed-in LeafReaderContext.
+	 */
+	public abstract ProjectionDocValues<T> getValues(LeafReaderContext ctx) throws IOException;
+
+	/**
+	 * Creates a {@link ProjectionDocValuesSource} for a field indexed as {@link SortedNumericDocValues}.
+	 *
+	 * @param absoluteFieldPath The absolute path of the field.
+	 * @param decoder A function converting the long value stored in doc values to the projected value.
+	 * @param <T> The type of values.
+	 * @return A source of values.
+	 */
+	public static <T> ProjectionDocValuesSource<T> fromLongField(String absoluteFieldPath,
+			LongFunction<? extends T> decoder) {
+		return new ProjectionDocValuesSource<T>( absoluteFieldPath ) {
+			@Override
+			public ProjectionDocValues<T> getValues(LeafReaderContext ctx) throws IOException {
+				SortedNumericDocValues values = DocValues.getSortedNumeric( ctx.reader(), absoluteFieldPath );
+				return doc -> values.advanceExact( doc ) ? decoder.apply( values.nextValue() ) : null;
+			}
+		};
+	}
+
+	/**
+	 * Creates a {@link ProjectionDocValuesSource} for a field indexed as {@link SortedSetDocValues}.
+	 *
+	 * @param absoluteFieldPath The absolute path of the field.
+	 * @return A source of values.
+	 */
+	public static ProjectionDocValuesSource<String> fromTextField(String absoluteFieldPath) {
+		return new ProjectionDocValuesSource<String>( absoluteFieldPath ) {
+			@Override
+			public ProjectionDocValues<String> getValues(LeafReaderContext ctx) throws IOException {
+				SortedSetDocValues values = DocValues.getSortedSet( ctx.reader(), absoluteFieldPath );
+				return doc -> values.advanceExact( doc ) ? values.lookupOrd( values.nextOrd() ).utf8ToString() : null;
+			}
+		};
+	}
+
+	/**
+	 * Per-document values for a given leaf.
+	 * <p>
+	 * Documents must be requested in increasing order of IDs.
+	 *
+	 * @param <T> The type of values.
+	 */
+	public interface ProjectionDocValues<T> {
+
+		/**
+		 * @param doc The ID of a document in the leaf.
+		 * @return The value for this document, or {@code null} if the document has no value.
+		 */
+		T valueOrNull(int doc) throws IOException;
+
+	}
+
+}
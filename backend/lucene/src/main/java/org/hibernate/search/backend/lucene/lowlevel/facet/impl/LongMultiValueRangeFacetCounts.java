@@ -22,6 +22,7 @@
 import org.apache.lucene.search.Scorer;
 import org.apache.lucene.search.Weight;
 
+import org.hibernate.search.backend.lucene.lowlevel.cache.impl.LuceneQueryCache;
 import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.LongMultiValues;
 import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.LongMultiValuesSource;
 
@@ -56,8 +57,7 @@ private void count(LongMultiValuesSource valueSource, List<FacetsCollector.Match
 			final DocIdSetIterator fastMatchDocs;
 			if ( fastMatchQuery != null ) {
 				final IndexReaderContext topLevelContext = ReaderUtil.getTopLevelContext( hits.context );
-				final IndexSearcher searcher = new IndexSearcher( topLevelContext );
-				searcher.setQueryCache( null );
+				final IndexSearcher searcher = LuceneQueryCache.createSearcher( topLevelContext );
 				final Weight fastMatchWeight = searcher.createWeight( searcher.rewrite( fastMatchQuery ), ScoreMode.COMPLETE_NO_SCORES, 1 );
 				Scorer s = fastMatchWeight.scorer( hits.context );
 				if ( s == null ) {
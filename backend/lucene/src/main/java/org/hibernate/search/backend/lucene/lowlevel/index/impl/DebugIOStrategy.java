@@ -34,14 +34,14 @@ IndexWriterProvider createIndexWriterProvider(String indexName, EventContext eve
 		return new IndexWriterProvider(
 				indexName, eventContext,
 				directoryHolder, configSource,
-				null, 0,
+				null, 0, 0, 1,
 				threads,
 				failureHandler
 		);
 	}
 
 	@Override
-	IndexReaderProvider createIndexReaderProvider(DirectoryHolder directoryHolder,
+	IndexReaderProvider createIndexReaderProvider(EventContext eventContext, DirectoryHolder directoryHolder,
 			IndexWriterProvider indexWriterProvider) {
 		return new NotSharedIndexReaderProvider( directoryHolder );
 	}
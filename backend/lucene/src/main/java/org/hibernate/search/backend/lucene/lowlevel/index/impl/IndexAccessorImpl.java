@@ -8,7 +8,9 @@
 
 import java.io.IOException;
 import java.lang.invoke.MethodHandles;
+import java.util.Optional;
 
+import org.hibernate.search.backend.lucene.index.LuceneIndexReaderStatistics;
 import org.hibernate.search.backend.lucene.logging.impl.Log;
 import org.hibernate.search.backend.lucene.lowlevel.common.impl.AnalyzerConstants;
 import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryHolder;
@@ -164,6 +166,10 @@ public DirectoryReader getIndexReader() throws IOException {
 		return indexReaderProvider.getOrCreate();
 	}
 
+	public Optional<LuceneIndexReaderStatistics> getIndexReaderStatistics() {
+		return indexReaderProvider.statistics();
+	}
+
 	@Override
 	public void cleanUpAfterFailure(Throwable throwable, Object failingOperation) {
 		try {
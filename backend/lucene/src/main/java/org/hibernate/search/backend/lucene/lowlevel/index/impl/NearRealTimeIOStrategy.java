@@ -28,35 +28,67 @@ public class NearRealTimeIOStrategy extends IOStrategy {
 					.withDefault( LuceneIndexSettings.Defaults.IO_COMMIT_INTERVAL )
 					.build();
 
+	private static final ConfigurationProperty<Integer> COMMIT_GROUP_MAX_WAIT =
+			ConfigurationProperty.forKey( LuceneIndexSettings.IO_COMMIT_GROUP_MAX_WAIT )
+					.asInteger()
+					.withDefault( LuceneIndexSettings.Defaults.IO_COMMIT_GROUP_MAX_WAIT )
+					.build();
+
+	private static final ConfigurationProperty<Integer> QUEUE_COUNT =
+			ConfigurationProperty.forKey( LuceneIndexSettings.INDEXING_QUEUE_COUNT )
+					.asInteger()
+					.withDefault( LuceneIndexSettings.Defaults.INDEXING_QUEUE_COUNT )
+					.build();
+
 	private static final ConfigurationProperty<Integer> REFRESH_INTERVAL =
 			ConfigurationProperty.forKey( LuceneIndexSettings.IO_REFRESH_INTERVAL )
 					.asInteger()
 					.withDefault( LuceneIndexSettings.Defaults.IO_REFRESH_INTERVAL )
 					.build();
 
+	private static final ConfigurationProperty<Boolean> REFRESH_BACKGROUND =
+			ConfigurationProperty.forKey( LuceneIndexSettings.IO_REFRESH_BACKGROUND )
+					.asBoolean()
+					.withDefault( LuceneIndexSettings.Defaults.IO_REFRESH_BACKGROUND )
+					.build();
+
 	public static NearRealTimeIOStrategy create(ConfigurationPropertySource propertySource,
 			DirectoryProvider directoryProvider, TimingSource timingSource,
 			BackendThreads threads, FailureHandler failureHandler) {
 		int commitInterval = COMMIT_INTERVAL.get( propertySource );
+		int commitGroupMaxWait = COMMIT_GROUP_MAX_WAIT.get( propertySource );
+		// Each indexing queue requests at most one commit at a time:
+		// once all queues joined a commit group, there is no point waiting for more requests.
+		int commitGroupMaxSize = QUEUE_COUNT.get( propertySource );
 		int refreshInterval = REFRESH_INTERVAL.get( propertySource );
+		// Background refresh only makes sense if we're allowed to serve slightly out-of-date readers
+		boolean refreshBackground = refreshInterval != 0 && REFRESH_BACKGROUND.get( propertySource );
 		return new NearRealTimeIOStrategy(
-				directoryProvider, timingSource, commitInterval, refreshInterval,
+				directoryProvider, timingSource, commitInterval, commitGroupMaxWait, commitGroupMaxSize,
+				refreshInterval, refreshBackground,
 				threads, failureHandler
 		);
 	}
 
 	private final TimingSource timingSource;
 	private final int commitInterval;
+	private final int commitGroupMaxWait;
+	private final int commitGroupMaxSize;
 	private final int refreshInterval;
+	private final boolean refreshBackground;
 
 	private NearRealTimeIOStrategy(DirectoryProvider directoryProvider,
-			TimingSource timingSource, int commitInterval, int refreshInterval,
+			TimingSource timingSource, int commitInterval, int commitGroupMaxWait, int commitGroupMaxSize,
+			int refreshInterval, boolean refreshBackground,
 			BackendThreads threads,
 			FailureHandler failureHandler) {
 		super( directoryProvider, threads, failureHandler );
 		this.timingSource = timingSource;
 		this.commitInterval = commitInterval;
+		this.commitGroupMaxWait = commitGroupMaxWait;
+		this.commitGroupMaxSize = commitGroupMaxSize;
 		this.refreshInterval = refreshInterval;
+		this.refreshBackground = refreshBackground;
 	}
 
 	@Override
@@ -68,18 +100,22 @@ IndexWriterProvider createIndexWriterProvider(String indexName, EventContext eve
 		return new IndexWriterProvider(
 				indexName, eventContext,
 				directoryHolder, configSource,
-				timingSource, commitInterval, threads,
+				timingSource, commitInterval, commitGroupMaxWait, commitGroupMaxSize, threads,
 				failureHandler
 		);
 	}
 
 	@Override
-	IndexReaderProvider createIndexReaderProvider(DirectoryHolder directoryHolder,
+	IndexReaderProvider createIndexReaderProvider(EventContext eventContext, DirectoryHolder directoryHolder,
 			IndexWriterProvider indexWriterProvider) {
 		if ( refreshInterval != 0 ) {
 			timingSource.ensureInitialized();
 		}
-		return new NearRealTimeIndexReaderProvider( indexWriterProvider, timingSource, refreshInterval );
+		return new NearRealTimeIndexReaderProvider(
+				eventContext, indexWriterProvider, timingSource, refreshInterval,
+				refreshBackground ? threads.getWriteExecutor() : null,
+				failureHandler
+		);
 	}
 
 }
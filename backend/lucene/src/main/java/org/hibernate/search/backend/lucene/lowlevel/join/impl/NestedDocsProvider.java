@@ -10,6 +10,7 @@
 import java.util.Collections;
 import java.util.Set;
 
+import org.hibernate.search.backend.lucene.lowlevel.cache.impl.LuceneQueryCache;
 import org.hibernate.search.backend.lucene.lowlevel.query.impl.Queries;
 
 import org.apache.lucene.index.IndexReaderContext;
@@ -63,8 +64,8 @@ public BitSet parentDocs(LeafReaderContext context) throws IOException {
 	public DocIdSetIterator childDocs(LeafReaderContext context) throws IOException {
 		final IndexReaderContext topLevelCtx = ReaderUtil.getTopLevelContext( context );
 
-		// Maybe we can cache on shard-base. See Elasticsearch code.
-		IndexSearcher indexSearcher = new IndexSearcher( topLevelCtx );
+		// Use the query cache of the backend, so that child documents are not recomputed for every search.
+		IndexSearcher indexSearcher = LuceneQueryCache.createSearcher( topLevelCtx );
 
 		Weight weight = childDocsWeight( indexSearcher );
 		return childDocs( weight, context );
@@ -19,6 +19,9 @@
 import org.apache.lucene.index.MultiReader;
 
 import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.lowlevel.cache.impl.GlobalOrdinalsCache;
+import org.hibernate.search.backend.lucene.lowlevel.cache.impl.LuceneQueryCache;
+import org.hibernate.search.backend.lucene.search.predicate.impl.RequiredFieldRanges;
 import org.hibernate.search.engine.reporting.spi.EventContexts;
 import org.hibernate.search.util.common.impl.Closer;
 import org.hibernate.search.util.common.impl.SuppressingCloser;
@@ -39,15 +42,16 @@ public class HibernateSearchMultiReader extends MultiReader {
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
 	public static HibernateSearchMultiReader open(Set<String> indexNames,
-			Set<? extends ReadIndexManagerContext> indexManagerContexts, Set<String> routingKeys) {
+			Set<? extends ReadIndexManagerContext> indexManagerContexts, Set<String> routingKeys,
+			RequiredFieldRanges requiredFieldRanges, LuceneQueryCache queryCache, GlobalOrdinalsCache globalOrdinalsCache) {
 		if ( indexManagerContexts.isEmpty() ) {
 			return null;
 		}
 		else {
-			Builder builder = new Builder();
+			Builder builder = new Builder( queryCache, globalOrdinalsCache );
 			try {
 				for ( ReadIndexManagerContext indexManagerContext : indexManagerContexts ) {
-					indexManagerContext.openIndexReaders( routingKeys, builder );
+					indexManagerContext.openIndexReaders( routingKeys, requiredFieldRanges, builder );
 				}
 				return builder.build();
 			}
@@ -63,18 +67,35 @@ public static HibernateSearchMultiReader open(Set<String> indexNames,
 
 	private final List<DirectoryReader> directoryReaders;
 	private final IndexReaderMetadataResolver metadataResolver;
+	private final LuceneQueryCache queryCache;
+	private final GlobalOrdinalsCache globalOrdinalsCache;
 
-	HibernateSearchMultiReader(List<DirectoryReader> directoryReaders, IndexReaderMetadataResolver metadataResolver) throws IOException {
+	HibernateSearchMultiReader(List<DirectoryReader> directoryReaders, IndexReaderMetadataResolver metadataResolver,
+			LuceneQueryCache queryCache, GlobalOrdinalsCache globalOrdinalsCache) throws IOException {
 		// If this flag isn't set to true, the MultiReader will increase the usage counter!
 		super( toReaderArray( directoryReaders ), true );
 		this.directoryReaders = directoryReaders;
 		this.metadataResolver = metadataResolver;
+		this.queryCache = queryCache;
+		this.globalOrdinalsCache = globalOrdinalsCache;
+	}
+
+	public List<DirectoryReader> getDirectoryReaders() {
+		return directoryReaders;
 	}
 
 	public IndexReaderMetadataResolver getMetadataResolver() {
 		return metadataResolver;
 	}
 
+	public LuceneQueryCache getQueryCache() {
+		return queryCache;
+	}
+
+	public GlobalOrdinalsCache getGlobalOrdinalsCache() {
+		return globalOrdinalsCache;
+	}
+
 	@Override
 	protected synchronized void doClose() throws IOException {
 		final boolean debugEnabled = log.isDebugEnabled();
@@ -101,8 +122,12 @@ private static IndexReader[] toReaderArray(List<DirectoryReader> directoryReader
 	public static class Builder implements DirectoryReaderCollector {
 		private final List<DirectoryReader> directoryReaders = new ArrayList<>();
 		private final Map<DirectoryReader, String> mappedTypeNameByDirectoryReader = new HashMap<>();
+		private final LuceneQueryCache queryCache;
+		private final GlobalOrdinalsCache globalOrdinalsCache;
 
-		private Builder() {
+		private Builder(LuceneQueryCache queryCache, GlobalOrdinalsCache globalOrdinalsCache) {
+			this.queryCache = queryCache;
+			this.globalOrdinalsCache = globalOrdinalsCache;
 		}
 
 		@Override
@@ -114,7 +139,7 @@ public void collect(String mappedTypeName, DirectoryReader directoryReader) {
 		HibernateSearchMultiReader build() throws IOException {
 			IndexReaderMetadataResolver metadataResolver =
 					new IndexReaderMetadataResolver( mappedTypeNameByDirectoryReader );
-			return new HibernateSearchMultiReader( directoryReaders, metadataResolver );
+			return new HibernateSearchMultiReader( directoryReaders, metadataResolver, queryCache, globalOrdinalsCache );
 		}
 	}
 }
@@ -7,6 +7,9 @@
 package org.hibernate.search.backend.lucene.lowlevel.reader.impl;
 
 import java.io.IOException;
+import java.util.Optional;
+
+import org.hibernate.search.backend.lucene.index.LuceneIndexReaderStatistics;
 
 import org.apache.lucene.index.DirectoryReader;
 
@@ -33,4 +36,10 @@ public interface IndexReaderProvider {
 	 */
 	DirectoryReader getOrCreate() throws IOException;
 
+	/**
+	 * @return Statistics about refreshes of the shared index reader,
+	 * or {@link Optional#empty()} if index readers are not shared.
+	 */
+	Optional<LuceneIndexReaderStatistics> statistics();
+
 }
@@ -7,9 +7,21 @@
 package org.hibernate.search.backend.lucene.lowlevel.reader.impl;
 
 import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
+import org.hibernate.search.backend.lucene.index.LuceneIndexReaderStatistics;
+import org.hibernate.search.backend.lucene.logging.impl.Log;
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterProvider;
 import org.hibernate.search.backend.lucene.search.timeout.spi.TimingSource;
+import org.hibernate.search.engine.reporting.FailureContext;
+import org.hibernate.search.engine.reporting.FailureHandler;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+import org.hibernate.search.util.common.reporting.EventContext;
 
 import org.apache.lucene.index.DirectoryReader;
 
@@ -22,29 +34,68 @@
  * i.e. as long as there were no changes
  * from the directory every time an index reader is requested.
  * <p>
+ * When given a background refresh executor, the index reader is instead re-opened periodically by a background task
+ * and published atomically, so that threads requesting an index reader never have to wait for a refresh.
+ * <p>
  * Heavily inspired by {@code org.hibernate.search.backend.impl.lucene.NRTWorkspaceImpl} from Hibernate Search 5
  * by Sanne Grinovero.
  */
 public class NearRealTimeIndexReaderProvider implements IndexReaderProvider {
 
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final EventContext eventContext;
 	private final IndexWriterProvider indexWriterProvider;
 	private final TimingSource timingSource;
 	private final int refreshInterval;
+	private final ScheduledExecutorService backgroundRefreshExecutor;
+	private final FailureHandler failureHandler;
 
 	/**
 	 * Current open IndexReader, or null when closed.
 	 */
 	private volatile IndexReaderEntry currentReaderEntry = null;
 
-	public NearRealTimeIndexReaderProvider(IndexWriterProvider indexWriterProvider,
-			TimingSource timingSource, int refreshInterval) {
+	/**
+	 * The scheduled background refresh task, or null when not scheduled.
+	 * Guarded by synchronization on this.
+	 */
+	private Future<?> backgroundRefreshFuture = null;
+
+	private final Statistics statistics = new Statistics();
+
+	// Statistics, only written while holding the lock on this.
+	private volatile long refreshCount = 0L;
+	private volatile long lastRefreshDurationNanos = 0L;
+	private volatile long maxRefreshDurationNanos = 0L;
+
+	/**
+	 * @param eventContext The event context, for failure reports.
+	 * @param indexWriterProvider The index writer provider, to open index readers from.
+	 * @param timingSource The timing source, to check whether the refresh interval expired.
+	 * @param refreshInterval The refresh interval, in milliseconds.
+	 * @param backgroundRefreshExecutor An executor to refresh the index reader in the background,
+	 * every {@code refreshInterval} milliseconds, or {@code null} to refresh when the index reader is requested.
+	 * @param failureHandler The failure handler, to report failures of background refreshes.
+	 */
+	public NearRealTimeIndexReaderProvider(EventContext eventContext, IndexWriterProvider indexWriterProvider,
+			TimingSource timingSource, int refreshInterval,
+			ScheduledExecutorService backgroundRefreshExecutor,
+			FailureHandler failureHandler) {
+		this.eventContext = eventContext;
 		this.indexWriterProvider = indexWriterProvider;
 		this.timingSource = timingSource;
 		this.refreshInterval = refreshInterval;
+		this.backgroundRefreshExecutor = backgroundRefreshExecutor;
+		this.failureHandler = failureHandler;
 	}
 
 	@Override
 	public synchronized void clear() throws IOException {
+		if ( backgroundRefreshFuture != null ) {
+			backgroundRefreshFuture.cancel( false );
+			backgroundRefreshFuture = null;
+		}
 		setCurrentReaderEntry( null );
 	}
 
@@ -56,7 +107,21 @@ public void refresh() {
 			return;
 		}
 
-		entry.forceRefresh();
+		if ( backgroundRefreshExecutor == null ) {
+			entry.forceRefresh();
+		}
+		else {
+			// Refresh right now, in the calling thread (generally a write thread),
+			// so that threads requesting an index reader never have to wait for the refresh.
+			try {
+				refreshCurrentReaderEntry();
+			}
+			catch (IOException | RuntimeException e) {
+				// Make sure the next thread requesting an index reader tries again
+				entry.forceRefresh();
+				throw log.unableToRefreshIndex( eventContext, e );
+			}
+		}
 	}
 
 	@Override
@@ -67,7 +132,7 @@ public DirectoryReader getOrCreate() throws IOException {
 		if ( entry != null && entry.reader.tryIncRef() ) {
 			// Do this *after* tryIncRef,
 			// otherwise the reader could get closed between the call to isFresh and the return
-			if ( entry.isFresh() ) {
+			if ( backgroundRefreshExecutor != null ? !entry.refreshForced : entry.isFresh() ) {
 				return entry.reader;
 			}
 			else {
@@ -78,35 +143,89 @@ public DirectoryReader getOrCreate() throws IOException {
 		return getFreshIndexReader().reader;
 	}
 
+	@Override
+	public Optional<LuceneIndexReaderStatistics> statistics() {
+		return Optional.of( statistics );
+	}
+
 	private synchronized IndexReaderEntry getFreshIndexReader() throws IOException {
+		IndexReaderEntry freshEntry = refreshCurrentReaderEntry();
+
+		// At this point the reference count is at least one, for the holder.
+		// Let's also increment the reference for the caller.
+		freshEntry.reader.incRef();
+
+		if ( backgroundRefreshExecutor != null && backgroundRefreshFuture == null ) {
+			// First index reader: from now on, refresh it in the background
+			backgroundRefreshFuture = backgroundRefreshExecutor.scheduleWithFixedDelay(
+					this::backgroundRefresh, refreshInterval, refreshInterval, TimeUnit.MILLISECONDS
+			);
+		}
+
+		return freshEntry;
+	}
+
+	private synchronized IndexReaderEntry refreshCurrentReaderEntry() throws IOException {
 		IndexReaderEntry oldEntry = currentReaderEntry;
+		long startNanos = System.nanoTime();
 		IndexReaderEntry freshEntry;
 		if ( oldEntry == null ) {
 			DirectoryReader newReader = indexWriterProvider.getOrCreate().openReader();
-			freshEntry = new IndexReaderEntry( newReader, timingSource, refreshInterval );
+			freshEntry = new IndexReaderEntry( newReader, timingSource, refreshInterval, startNanos );
 		}
 		else {
 			DirectoryReader newReaderOrNull = indexWriterProvider.getOrCreate().openReaderIfChanged( oldEntry.reader );
 			if ( newReaderOrNull == null ) {
 				// No change, keep the old reader
+				oldEntry.markUpToDate( startNanos );
 				freshEntry = oldEntry;
 			}
 			else {
-				freshEntry = new IndexReaderEntry( newReaderOrNull, timingSource, refreshInterval );
+				freshEntry = new IndexReaderEntry( newReaderOrNull, timingSource, refreshInterval, startNanos );
 			}
 		}
 
 		if ( oldEntry != freshEntry ) {
+			updateStatistics( oldEntry, startNanos );
 			setCurrentReaderEntry( freshEntry );
 		}
 
-		// At this point the reference count is at least one, for the holder.
-		// Let's also increment the reference for the caller.
-		freshEntry.reader.incRef();
-
 		return freshEntry;
 	}
 
+	private void backgroundRefresh() {
+		try {
+			synchronized ( this ) {
+				if ( currentReaderEntry == null ) {
+					// Cleared in the meantime: the next call to getOrCreate will re-open a reader.
+					return;
+				}
+				refreshCurrentReaderEntry();
+			}
+		}
+		catch (Throwable t) {
+			FailureContext.Builder contextBuilder = FailureContext.builder();
+			contextBuilder.throwable( t );
+			contextBuilder.failingOperation( log.indexReaderBackgroundRefreshOperation( eventContext ) );
+			failureHandler.handle( contextBuilder.build() );
+		}
+	}
+
+	private void updateStatistics(IndexReaderEntry oldEntry, long startNanos) {
+		long durationNanos = System.nanoTime() - startNanos;
+		lastRefreshDurationNanos = durationNanos;
+		if ( durationNanos > maxRefreshDurationNanos ) {
+			maxRefreshDurationNanos = durationNanos;
+		}
+		refreshCount = refreshCount + 1;
+		if ( log.isTraceEnabled() ) {
+			log.tracef( "Index reader refreshed in %d ms; previous index reader was out-of-date for at most %d ms. %s",
+					TimeUnit.NANOSECONDS.toMillis( durationNanos ),
+					oldEntry == null ? 0L : TimeUnit.NANOSECONDS.toMillis( startNanos - oldEntry.upToDateNanos ),
+					eventContext.render() );
+		}
+	}
+
 	private synchronized void setCurrentReaderEntry(IndexReaderEntry newEntry) throws IOException {
 		IndexReaderEntry oldEntry = currentReaderEntry;
 		currentReaderEntry = newEntry;
@@ -116,23 +235,66 @@ private synchronized void setCurrentReaderEntry(IndexReaderEntry newEntry) throw
 		}
 	}
 
+	private final class Statistics implements LuceneIndexReaderStatistics {
+		@Override
+		public String toString() {
+			return getClass().getSimpleName() + "["
+					+ "refreshCount=" + refreshCount()
+					+ ", lastRefreshDuration=" + lastRefreshDuration()
+					+ ", maxRefreshDuration=" + maxRefreshDuration()
+					+ ", staleness=" + staleness()
+					+ "]";
+		}
+
+		@Override
+		public long refreshCount() {
+			return refreshCount;
+		}
+
+		@Override
+		public Duration lastRefreshDuration() {
+			return Duration.ofNanos( lastRefreshDurationNanos );
+		}
+
+		@Override
+		public Duration maxRefreshDuration() {
+			return Duration.ofNanos( maxRefreshDurationNanos );
+		}
+
+		@Override
+		public Duration staleness() {
+			IndexReaderEntry entry = currentReaderEntry;
+			if ( entry == null ) {
+				return Duration.ZERO;
+			}
+			return Duration.ofNanos( System.nanoTime() - entry.upToDateNanos );
+		}
+	}
+
 	private static class IndexReaderEntry {
 		private final DirectoryReader reader;
 		private final TimingSource timingSource;
 		private final long expiration;
 
 		private volatile boolean refreshForced = false;
+		private volatile long upToDateNanos;
 
-		private IndexReaderEntry(DirectoryReader reader, TimingSource timingSource, int refreshInterval) {
+		private IndexReaderEntry(DirectoryReader reader, TimingSource timingSource, int refreshInterval,
+				long upToDateNanos) {
 			this.reader = reader;
 			this.timingSource = timingSource;
 			this.expiration = refreshInterval == 0 ? 0 : timingSource.monotonicTimeEstimate() + refreshInterval;
+			this.upToDateNanos = upToDateNanos;
 		}
 
 		public void forceRefresh() {
 			refreshForced = true;
 		}
 
+		void markUpToDate(long upToDateNanos) {
+			this.upToDateNanos = upToDateNanos;
+		}
+
 		/**
 		 * @return {@code true} if the reader is still fresh enough to be used,
 		 * i.e. if it is completely up-to-date with the state of the index writer
@@ -7,7 +7,9 @@
 package org.hibernate.search.backend.lucene.lowlevel.reader.impl;
 
 import java.io.IOException;
+import java.util.Optional;
 
+import org.hibernate.search.backend.lucene.index.LuceneIndexReaderStatistics;
 import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryHolder;
 
 import org.apache.lucene.index.DirectoryReader;
@@ -39,4 +41,10 @@ public DirectoryReader getOrCreate() throws IOException {
 		return DirectoryReader.open( directoryHolder.get() );
 	}
 
+	@Override
+	public Optional<LuceneIndexReaderStatistics> statistics() {
+		// Index readers are not shared: there is nothing to refresh.
+		return Optional.empty();
+	}
+
 }
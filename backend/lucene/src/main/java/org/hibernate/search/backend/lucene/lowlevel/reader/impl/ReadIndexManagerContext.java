@@ -9,12 +9,22 @@
 import java.io.IOException;
 import java.util.Set;
 
+import org.hibernate.search.backend.lucene.search.predicate.impl.RequiredFieldRanges;
+
 /**
  * An interface with knowledge of the index manager internals,
  * able to retrieve components related to index reading.
  */
 public interface ReadIndexManagerContext {
 
-	void openIndexReaders(Set<String> routingKeys, DirectoryReaderCollector readerCollector) throws IOException;
+	/**
+	 * @param routingKeys The routing keys, to target a subset of shards.
+	 * @param requiredFieldRanges The ranges of field values that matching documents are guaranteed to be within,
+	 * to skip shards that cannot contain matching documents.
+	 * @param readerCollector The collector for opened readers.
+	 * @throws IOException If opening a reader fails.
+	 */
+	void openIndexReaders(Set<String> routingKeys, RequiredFieldRanges requiredFieldRanges,
+			DirectoryReaderCollector readerCollector) throws IOException;
 
 }
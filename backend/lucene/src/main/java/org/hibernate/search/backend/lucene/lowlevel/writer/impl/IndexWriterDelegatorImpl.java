@@ -39,6 +39,8 @@ public class IndexWriterDelegatorImpl implements IndexWriterDelegator {
 	private final EventContext eventContext;
 	private final TimingSource timingSource;
 	private final int commitInterval;
+	private final int commitGroupMaxWait;
+	private final int commitGroupMaxSize;
 	private final FailureHandler failureHandler;
 
 	private final SingletonTask delayedCommitTask;
@@ -46,15 +48,24 @@ public class IndexWriterDelegatorImpl implements IndexWriterDelegator {
 
 	private long commitExpiration;
 
+	// Guarded by commitLock
+	private long lastCommitSequenceNumber = -1L;
+	private boolean commitInProgress = false;
+	private long commitRound = 0L;
+	private boolean commitGroupOpen = false;
+	private int commitGroupSize = 0;
+
 	public IndexWriterDelegatorImpl(IndexWriter delegate, EventContext eventContext,
 			ScheduledExecutorService delayedCommitExecutor,
-			TimingSource timingSource, int commitInterval,
+			TimingSource timingSource, int commitInterval, int commitGroupMaxWait, int commitGroupMaxSize,
 			FailureHandler failureHandler,
 			DelayedCommitFailureHandler delayedCommitFailureHandler) {
 		this.delegate = delegate;
 		this.eventContext = eventContext;
 		this.timingSource = timingSource;
 		this.commitInterval = commitInterval;
+		this.commitGroupMaxWait = commitGroupMaxWait;
+		this.commitGroupMaxSize = commitGroupMaxSize;
 		this.failureHandler = failureHandler;
 
 		if ( commitInterval == 0L ) {
@@ -97,7 +108,7 @@ public void mergeSegments() throws IOException {
 	}
 
 	public void commit() {
-		doCommit();
+		groupCommit( false );
 	}
 
 	public void commitOrDelay() {
@@ -111,18 +122,7 @@ public void commitOrDelay() {
 			return;
 		}
 
-		// Synchronize in order to prevent a scenario where two threads call commitOrDelay() concurrently,
-		// both notice the previous commit has expired, and both trigger a commit,
-		// resulting in two commits where one would have been enough.
-		synchronized (commitLock) {
-			if ( delayCommit() ) {
-				// The commit was delayed
-				return;
-			}
-
-			// The previous commit has expired
-			doCommit();
-		}
+		groupCommit( true );
 	}
 
 	public DirectoryReader openReader() throws IOException {
@@ -142,9 +142,16 @@ void close() throws IOException {
 			closer.push( SingletonTask::stop, delayedCommitTask );
 			// Avoid problems with closing while a (delayed) commit is in progress:
 			// Lucene throws an exception in that case.
+			boolean interrupted = false;
 			synchronized (commitLock) {
+				while ( commitInProgress ) {
+					interrupted |= awaitCommitLock( 0L );
+				}
 				closer.push( IndexWriter::close, delegate );
 			}
+			if ( interrupted ) {
+				Thread.currentThread().interrupt();
+			}
 			log.trace( "IndexWriter closed" );
 		}
 	}
@@ -171,12 +178,117 @@ void closeAfterFailure(Throwable throwable, Object failingOperation) {
 		failureHandler.handle( failureContext );
 	}
 
-	private void doCommit() {
+	/**
+	 * Commits the changes performed by the current thread,
+	 * sharing a single commit with other threads requesting a commit concurrently.
+	 * <p>
+	 * If a commit is already in progress, waits for it to finish,
+	 * and returns immediately if that commit included the changes performed by the current thread.
+	 * Otherwise, performs the commit, optionally waiting up to {@code commitGroupMaxWait} milliseconds beforehand,
+	 * or until {@code commitGroupMaxSize} threads requested a commit, so that other threads can join this commit.
+	 *
+	 * @param allowDelay Whether the commit may be delayed if the previous commit has not expired yet.
+	 */
+	private void groupCommit(boolean allowDelay) {
+		// All changes performed by the current thread have a lower or equal sequence number.
+		long sequenceNumber = delegate.getMaxCompletedSequenceNumber();
+		boolean interrupted = false;
 		try {
+			// Synchronize in order to prevent a scenario where two threads call commitOrDelay() concurrently,
+			// both notice the previous commit has expired, and both trigger a commit,
+			// resulting in two commits where one would have been enough.
 			synchronized (commitLock) {
-				delegate.commit();
-				updateCommitExpiration();
+				long joinedRound = -1L;
+				while ( commitInProgress && lastCommitSequenceNumber < sequenceNumber ) {
+					if ( commitGroupOpen && joinedRound != commitRound ) {
+						// Join the commit that is about to start: it will include our changes.
+						joinedRound = commitRound;
+						++commitGroupSize;
+						if ( commitGroupSize >= commitGroupMaxSize ) {
+							// Let the leader commit without waiting any longer.
+							commitLock.notifyAll();
+						}
+					}
+					// If the commit in progress does not include our changes, we'll try again.
+					interrupted |= awaitCommitLock( 0L );
+				}
+
+				if ( lastCommitSequenceNumber >= sequenceNumber ) {
+					// Another thread committed all changes performed by the current thread.
+					return;
+				}
+
+				if ( allowDelay && delayCommit() ) {
+					// The commit was delayed
+					return;
+				}
+
+				commitInProgress = true;
+				++commitRound;
+				commitGroupSize = 1;
+				if ( commitGroupMaxWait > 0 && commitGroupMaxSize > 1 ) {
+					// Give other threads a chance to request a commit, so that their changes are included.
+					commitGroupOpen = true;
+					interrupted |= awaitOtherCommitRequests();
+					commitGroupOpen = false;
+				}
 			}
+
+			// Commit without holding the lock, so that other threads can request a commit in the meantime:
+			// they will wait for this commit to finish, then commit again if it did not include their changes.
+			long commitSequenceNumber = -1L;
+			try {
+				commitSequenceNumber = doCommit();
+			}
+			finally {
+				synchronized (commitLock) {
+					if ( commitSequenceNumber >= 0L ) {
+						lastCommitSequenceNumber = Math.max( lastCommitSequenceNumber, commitSequenceNumber );
+						updateCommitExpiration();
+					}
+					commitInProgress = false;
+					commitLock.notifyAll();
+				}
+			}
+		}
+		finally {
+			if ( interrupted ) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+
+	private boolean awaitOtherCommitRequests() {
+		boolean interrupted = false;
+		long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos( commitGroupMaxWait );
+		long remainingMillis = commitGroupMaxWait;
+		while ( remainingMillis > 0L && commitGroupSize < commitGroupMaxSize ) {
+			interrupted |= awaitCommitLock( remainingMillis );
+			remainingMillis = TimeUnit.NANOSECONDS.toMillis( deadline - System.nanoTime() );
+		}
+		return interrupted;
+	}
+
+	/**
+	 * @return {@code true} if the current thread was interrupted while waiting.
+	 * Durability matters more than responsiveness here, so waiting is not aborted upon interruption.
+	 */
+	private boolean awaitCommitLock(long timeoutMillis) {
+		try {
+			commitLock.wait( timeoutMillis );
+			return false;
+		}
+		catch (InterruptedException e) {
+			return true;
+		}
+	}
+
+	/**
+	 * @return The sequence number of the commit: all changes with a lower or equal sequence number were committed.
+	 */
+	private long doCommit() {
+		try {
+			return delegate.commit();
 		}
 		catch (RuntimeException | IOException e) {
 			throw log.unableToCommitIndex( eventContext, e );
@@ -37,6 +37,8 @@ public class IndexWriterProvider {
 	private final IndexWriterConfigSource configSource;
 	private final TimingSource timingSource;
 	private final int commitInterval;
+	private final int commitGroupMaxWait;
+	private final int commitGroupMaxSize;
 	private BackendThreads threads;
 	private final FailureHandler failureHandler;
 
@@ -52,7 +54,7 @@ public class IndexWriterProvider {
 
 	public IndexWriterProvider(String indexName, EventContext eventContext,
 			DirectoryHolder directoryHolder, IndexWriterConfigSource configSource,
-			TimingSource timingSource, int commitInterval,
+			TimingSource timingSource, int commitInterval, int commitGroupMaxWait, int commitGroupMaxSize,
 			BackendThreads threads,
 			FailureHandler failureHandler) {
 		this.indexName = indexName;
@@ -61,6 +63,8 @@ public IndexWriterProvider(String indexName, EventContext eventContext,
 		this.configSource = configSource;
 		this.timingSource = timingSource;
 		this.commitInterval = commitInterval;
+		this.commitGroupMaxWait = commitGroupMaxWait;
+		this.commitGroupMaxSize = commitGroupMaxSize;
 		this.threads = threads;
 		this.failureHandler = failureHandler;
 	}
@@ -118,7 +122,7 @@ public IndexWriterDelegatorImpl getOrCreate() throws IOException {
 					indexWriterDelegator = new IndexWriterDelegatorImpl(
 							indexWriter, eventContext,
 							threads.getWriteExecutor(),
-							timingSource, commitInterval,
+							timingSource, commitInterval, commitGroupMaxWait, commitGroupMaxSize,
 							failureHandler,
 							this::clearAfterFailure
 					);
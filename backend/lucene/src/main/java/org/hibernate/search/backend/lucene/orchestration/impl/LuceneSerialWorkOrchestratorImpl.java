@@ -12,6 +12,9 @@
 import org.hibernate.search.backend.lucene.resources.impl.BackendThreads;
 import org.hibernate.search.engine.backend.orchestration.spi.AbstractWorkOrchestrator;
 import org.hibernate.search.engine.backend.orchestration.spi.BatchingExecutor;
+import org.hibernate.search.engine.backend.orchestration.spi.WorkStealingBatchingExecutor;
+import org.hibernate.search.engine.cfg.IndexingQueueBackPressureStrategyName;
+import org.hibernate.search.engine.cfg.IndexingQueueImplementationName;
 import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
 import org.hibernate.search.engine.cfg.spi.ConfigurationPropertySource;
 import org.hibernate.search.engine.reporting.FailureHandler;
@@ -34,11 +37,31 @@
 					.withDefault( LuceneIndexSettings.Defaults.INDEXING_QUEUE_SIZE )
 					.build();
 
+	private static final ConfigurationProperty<IndexingQueueImplementationName> QUEUE_IMPLEMENTATION =
+			ConfigurationProperty.forKey( LuceneIndexSettings.INDEXING_QUEUE_IMPLEMENTATION )
+					.as( IndexingQueueImplementationName.class, IndexingQueueImplementationName::of )
+					.withDefault( LuceneIndexSettings.Defaults.INDEXING_QUEUE_IMPLEMENTATION )
+					.build();
+
+	private static final ConfigurationProperty<IndexingQueueBackPressureStrategyName> QUEUE_BACK_PRESSURE_STRATEGY =
+			ConfigurationProperty.forKey( LuceneIndexSettings.INDEXING_QUEUE_BACK_PRESSURE_STRATEGY )
+					.as( IndexingQueueBackPressureStrategyName.class, IndexingQueueBackPressureStrategyName::of )
+					.withDefault( LuceneIndexSettings.Defaults.INDEXING_QUEUE_BACK_PRESSURE_STRATEGY )
+					.build();
+
+	private static final ConfigurationProperty<Boolean> QUEUE_WORK_STEALING =
+			ConfigurationProperty.forKey( LuceneIndexSettings.INDEXING_QUEUE_WORK_STEALING )
+					.asBoolean()
+					.withDefault( LuceneIndexSettings.Defaults.INDEXING_QUEUE_WORK_STEALING )
+					.build();
+
 	private final LuceneBatchedWorkProcessor processor;
 	private final BackendThreads threads;
 	private final FailureHandler failureHandler;
 
+	// Only one of these is set, depending on whether work stealing is enabled
 	private BatchingExecutor<LuceneBatchedWorkProcessor>[] executors;
+	private WorkStealingBatchingExecutor<LuceneBatchedWorkProcessor, LuceneBatchedWork<?>> workStealingExecutor;
 
 	/**
 	 * @param name The name of the orchestrator thread (and of this orchestrator when reporting errors)
@@ -71,6 +94,26 @@ public void forceRefreshInCurrentThread() {
 	protected void doStart(ConfigurationPropertySource propertySource) {
 		int queueCount = QUEUE_COUNT.get( propertySource );
 		int queueSize = QUEUE_SIZE.get( propertySource );
+		IndexingQueueImplementationName queueImplementation = QUEUE_IMPLEMENTATION.get( propertySource );
+		IndexingQueueBackPressureStrategyName queueBackPressureStrategy =
+				QUEUE_BACK_PRESSURE_STRATEGY.get( propertySource );
+
+		if ( QUEUE_WORK_STEALING.get( propertySource ) ) {
+			// The processor is thread-safe and applies works synchronously,
+			// so it can be shared by workers processing batches concurrently.
+			workStealingExecutor = new WorkStealingBatchingExecutor<>(
+					name(),
+					processor,
+					queueCount,
+					queueSize,
+					LuceneBatchedWork::getQueuingKey,
+					queueImplementation,
+					queueBackPressureStrategy,
+					failureHandler
+			);
+			workStealingExecutor.start( threads.getWriteExecutor() );
+			return;
+		}
 
 		executors = new BatchingExecutor[queueCount];
 		for ( int i = 0; i < executors.length; i++ ) {
@@ -79,6 +122,8 @@ protected void doStart(ConfigurationPropertySource propertySource) {
 					processor,
 					queueSize,
 					true,
+					queueImplementation,
+					queueBackPressureStrategy,
 					failureHandler
 			);
 		}
@@ -90,12 +135,19 @@ protected void doStart(ConfigurationPropertySource propertySource) {
 
 	@Override
 	protected void doSubmit(LuceneBatchedWork<?> work) throws InterruptedException {
+		if ( workStealingExecutor != null ) {
+			workStealingExecutor.submit( work );
+			return;
+		}
 		SimpleHashFunction.pick( executors, work.getQueuingKey() )
 				.submit( work );
 	}
 
 	@Override
 	protected CompletableFuture<?> completion() {
+		if ( workStealingExecutor != null ) {
+			return workStealingExecutor.completion();
+		}
 		CompletableFuture<?>[] completions = new CompletableFuture[executors.length];
 		for ( int i = 0; i < executors.length; i++ ) {
 			completions[i] = executors[i].completion();
@@ -106,7 +158,10 @@ protected CompletableFuture<?> completion() {
 	@Override
 	protected void doStop() {
 		try ( Closer<RuntimeException> closer = new Closer<>() ) {
-			closer.pushAll( BatchingExecutor::stop, executors );
+			if ( executors != null ) {
+				closer.pushAll( BatchingExecutor::stop, executors );
+			}
+			closer.push( WorkStealingBatchingExecutor::stop, workStealingExecutor );
 		}
 	}
 
@@ -7,21 +7,59 @@
 package org.hibernate.search.backend.lucene.orchestration.impl;
 
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.ReadIndexManagerContext;
+import org.hibernate.search.backend.lucene.search.predicate.impl.RequiredFieldRanges;
 import org.hibernate.search.backend.lucene.work.impl.ReadWork;
 
 
 /**
- * An orchestrator that executes works synchronously in the current thread.
- * <p>
- * For now this implementation is very simple,
- * but we might one day need to execute queries asynchronously,
- * in which case thing will get slightly more complex.
+ * An orchestrator that executes read works synchronously in the current thread,
+ * or asynchronously in the read thread pool of the backend.
  */
 public interface LuceneSyncWorkOrchestrator {
 
 	<T> T submit(Set<String> indexNames, Set<? extends ReadIndexManagerContext> indexManagerContexts,
-			Set<String> routingKeys, ReadWork<T> work);
+			Set<String> routingKeys, RequiredFieldRanges requiredFieldRanges, ReadWork<T> work);
+
+	/**
+	 * Executes a work asynchronously, in a thread from the read thread pool of the backend.
+	 *
+	 * @param indexNames The names of the targeted indexes.
+	 * @param indexManagerContexts The targeted index managers.
+	 * @param routingKeys The routing keys, to target a subset of shards.
+	 * @param requiredFieldRanges The ranges of field values that matching documents are guaranteed to be within,
+	 * to skip shards that cannot contain matching documents.
+	 * @param work The work to execute.
+	 * @param <T> The type of the work result.
+	 * @return A future that will be completed with the result of the work once it has been executed.
+	 */
+	<T> CompletableFuture<T> submitAsync(Set<String> indexNames,
+			Set<? extends ReadIndexManagerContext> indexManagerContexts,
+			Set<String> routingKeys, RequiredFieldRanges requiredFieldRanges, ReadWork<T> work);
+
+	/**
+	 * Opens index readers that will remain open until the returned snapshot is closed,
+	 * so that multiple works can be executed against the same, consistent view of the indexes.
+	 *
+	 * @param indexNames The names of the targeted indexes.
+	 * @param indexManagerContexts The targeted index managers.
+	 * @param routingKeys The routing keys, to target a subset of shards.
+	 * @param requiredFieldRanges The ranges of field values that matching documents are guaranteed to be within,
+	 * to skip shards that cannot contain matching documents.
+	 * @return A snapshot of the indexes. Must be closed in order to release the index readers.
+	 */
+	IndexSnapshot openSnapshot(Set<String> indexNames, Set<? extends ReadIndexManagerContext> indexManagerContexts,
+			Set<String> routingKeys, RequiredFieldRanges requiredFieldRanges);
+
+	interface IndexSnapshot extends AutoCloseable {
+
+		<T> T submit(ReadWork<T> work);
+
+		@Override
+		void close();
+
+	}
 
 }
@@ -10,11 +10,16 @@
 import java.lang.invoke.MethodHandles;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 
 import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.lowlevel.cache.impl.GlobalOrdinalsCache;
+import org.hibernate.search.backend.lucene.lowlevel.cache.impl.LuceneQueryCache;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.HibernateSearchMultiReader;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.IndexReaderMetadataResolver;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.ReadIndexManagerContext;
+import org.hibernate.search.backend.lucene.resources.impl.BackendThreads;
+import org.hibernate.search.backend.lucene.search.predicate.impl.RequiredFieldRanges;
 import org.hibernate.search.backend.lucene.work.impl.ReadWork;
 import org.hibernate.search.backend.lucene.work.impl.ReadWorkExecutionContext;
 import org.hibernate.search.engine.backend.orchestration.spi.AbstractWorkOrchestrator;
@@ -34,24 +39,26 @@
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
 	private final Similarity similarity;
+	private final BackendThreads threads;
+	private final LuceneQueryCache queryCache;
+	private final GlobalOrdinalsCache globalOrdinalsCache = new GlobalOrdinalsCache();
 
-	public LuceneSyncWorkOrchestratorImpl(String name, Similarity similarity) {
+	public LuceneSyncWorkOrchestratorImpl(String name, Similarity similarity, BackendThreads threads,
+			LuceneQueryCache queryCache) {
 		super( name );
 		this.similarity = similarity;
+		this.threads = threads;
+		this.queryCache = queryCache;
 		start( null ); // Nothing to start, just force the superclass to go to the right state.
 	}
 
 	@Override
 	public <T> T submit(Set<String> indexNames, Set<? extends ReadIndexManagerContext> indexManagerContexts,
-			Set<String> routingKeys, ReadWork<T> work) {
-		WorkExecution<T> workExecution = new WorkExecution<>(
-				similarity, indexNames, indexManagerContexts, routingKeys, work
-		);
+			Set<String> routingKeys, RequiredFieldRanges requiredFieldRanges, ReadWork<T> work) {
+		Snapshot snapshot = openSnapshot( indexNames, indexManagerContexts, routingKeys, requiredFieldRanges );
 		Throwable throwable = null;
 		try {
-			submit( workExecution );
-			// If we get there, the task succeeded and we are sure there is a result.
-			return workExecution.getResult();
+			return snapshot.submit( work );
 		}
 		catch (Throwable t) {
 			// Just remember something went wrong
@@ -60,16 +67,35 @@ public <T> T submit(Set<String> indexNames, Set<? extends ReadIndexManagerContex
 		}
 		finally {
 			if ( throwable == null ) {
-				workExecution.close();
+				snapshot.close();
 			}
 			else {
 				// Take care not to erase the main error if closing the context fails: use addSuppressed() instead
 				new SuppressingCloser( throwable )
-						.push( workExecution );
+						.push( snapshot );
 			}
 		}
 	}
 
+	@Override
+	public <T> CompletableFuture<T> submitAsync(Set<String> indexNames,
+			Set<? extends ReadIndexManagerContext> indexManagerContexts,
+			Set<String> routingKeys, RequiredFieldRanges requiredFieldRanges, ReadWork<T> work) {
+		return CompletableFuture.supplyAsync(
+				() -> submit( indexNames, indexManagerContexts, routingKeys, requiredFieldRanges, work ),
+				threads.getReadExecutor()
+		);
+	}
+
+	@Override
+	public Snapshot openSnapshot(Set<String> indexNames, Set<? extends ReadIndexManagerContext> indexManagerContexts,
+			Set<String> routingKeys, RequiredFieldRanges requiredFieldRanges) {
+		return new Snapshot(
+				indexNames, HibernateSearchMultiReader.open( indexNames, indexManagerContexts, routingKeys,
+						requiredFieldRanges, queryCache, globalOrdinalsCache )
+		);
+	}
+
 	@Override
 	protected void doStart(ConfigurationPropertySource propertySource) {
 		// Nothing to do
@@ -88,29 +114,33 @@ protected CompletableFuture<?> completion() {
 
 	@Override
 	protected void doStop() {
-		// Nothing to do
+		queryCache.clear();
+		globalOrdinalsCache.clear();
 	}
 
-	static class WorkExecution<T> implements AutoCloseable, ReadWorkExecutionContext {
-		private final Similarity similarity;
+	class Snapshot implements IndexSnapshot, ReadWorkExecutionContext {
 		private final Set<String> indexNames;
 		private final HibernateSearchMultiReader indexReader;
-		private final ReadWork<T> work;
 
-		private T result;
+		private boolean closed = false;
 
-		WorkExecution(Similarity similarity, Set<String> indexNames,
-				Set<? extends ReadIndexManagerContext> indexManagerContexts,
-				Set<String> routingKeys, ReadWork<T> work) {
-			this.similarity = similarity;
+		private Snapshot(Set<String> indexNames, HibernateSearchMultiReader indexReader) {
 			this.indexNames = indexNames;
-			this.indexReader = HibernateSearchMultiReader.open( indexNames, indexManagerContexts, routingKeys );
-			this.work = work;
+			this.indexReader = indexReader;
+		}
+
+		@Override
+		public <T> T submit(ReadWork<T> work) {
+			WorkExecution<T> workExecution = new WorkExecution<>( this, work );
+			LuceneSyncWorkOrchestratorImpl.this.submit( workExecution );
+			// If we get there, the task succeeded and we are sure there is a result.
+			return workExecution.getResult();
 		}
 
 		@Override
 		public IndexSearcher createSearcher() {
-			IndexSearcher searcher = new IndexSearcher( indexReader );
+			// If the executor is null, searches will simply be executed in the current thread.
+			IndexSearcher searcher = queryCache.createSearcher( indexReader, threads.getSearchExecutor() );
 			searcher.setSimilarity( similarity );
 			return searcher;
 		}
@@ -125,16 +155,12 @@ public EventContext getEventContext() {
 			return EventContexts.fromIndexNames( indexNames );
 		}
 
-		public void execute() {
-			result = work.execute( this );
-		}
-
-		public T getResult() {
-			return result;
-		}
-
 		@Override
 		public void close() {
+			if ( closed ) {
+				return;
+			}
+			closed = true;
 			try {
 				indexReader.close();
 			}
@@ -144,4 +170,43 @@ public void close() {
 		}
 	}
 
+	static class WorkExecution<T> {
+		private final ReadWorkExecutionContext context;
+		private final ReadWork<T> work;
+
+		private T result;
+
+		WorkExecution(ReadWorkExecutionContext context, ReadWork<T> work) {
+			this.context = context;
+			this.work = work;
+		}
+
+		public void execute() {
+			try {
+				result = work.execute( context );
+			}
+			catch (RuntimeException e) {
+				throw unwrapParallelSearchFailure( e );
+			}
+		}
+
+		/*
+		 * When searching index slices in parallel,
+		 * Lucene wraps failures from other threads into a RuntimeException and an ExecutionException:
+		 * unwrap them so that callers get the original exception (e.g. a timeout).
+		 */
+		private static RuntimeException unwrapParallelSearchFailure(RuntimeException e) {
+			Throwable cause = e.getCause();
+			if ( e.getClass() == RuntimeException.class && cause instanceof ExecutionException
+					&& cause.getCause() instanceof RuntimeException ) {
+				return (RuntimeException) cause.getCause();
+			}
+			return e;
+		}
+
+		public T getResult() {
+			return result;
+		}
+	}
+
 }
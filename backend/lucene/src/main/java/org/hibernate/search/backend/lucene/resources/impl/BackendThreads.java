@@ -6,6 +6,7 @@
  */
 package org.hibernate.search.backend.lucene.resources.impl;
 
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ScheduledExecutorService;
 
 import org.hibernate.search.backend.lucene.cfg.LuceneBackendSettings;
@@ -23,10 +24,22 @@ public class BackendThreads {
 					.asInteger()
 					.build();
 
+	private static final OptionalConfigurationProperty<Integer> SEARCH_THREAD_POOL_SIZE =
+			ConfigurationProperty.forKey( LuceneBackendSettings.SEARCH_THREAD_POOL_SIZE )
+					.asInteger()
+					.build();
+
+	private static final OptionalConfigurationProperty<Integer> READ_THREAD_POOL_SIZE =
+			ConfigurationProperty.forKey( LuceneBackendSettings.READ_THREAD_POOL_SIZE )
+					.asInteger()
+					.build();
+
 	private final String prefix;
 
 	private ThreadPoolProvider threadPoolProvider;
 	private ScheduledExecutorService writeExecutor;
+	private ExecutorService searchExecutor;
+	private ExecutorService readExecutor;
 
 	public BackendThreads(String prefix) {
 		this.prefix = prefix;
@@ -46,12 +59,29 @@ public void onStart(ConfigurationPropertySource propertySource, ThreadPoolProvid
 		this.writeExecutor = threadPoolProvider.newScheduledExecutor(
 				threadPoolSize, prefix + " - Worker thread"
 		);
+
+		// The search executor is optional: by default, queries are executed in the calling thread only.
+		this.searchExecutor = SEARCH_THREAD_POOL_SIZE.get( propertySource )
+				.map( size -> threadPoolProvider.newFixedThreadPool( size, prefix + " - Search thread" ) )
+				.orElse( null );
+
+		int readThreadPoolSize = READ_THREAD_POOL_SIZE.get( propertySource )
+				.orElse( Runtime.getRuntime().availableProcessors() );
+		this.readExecutor = threadPoolProvider.newFixedThreadPool(
+				readThreadPoolSize, prefix + " - Read thread"
+		);
 	}
 
 	public void onStop() {
 		if ( writeExecutor != null ) {
 			writeExecutor.shutdownNow();
 		}
+		if ( searchExecutor != null ) {
+			searchExecutor.shutdownNow();
+		}
+		if ( readExecutor != null ) {
+			readExecutor.shutdownNow();
+		}
 	}
 
 	public ThreadProvider getThreadProvider() {
@@ -64,6 +94,23 @@ public ScheduledExecutorService getWriteExecutor() {
 		return writeExecutor;
 	}
 
+	/**
+	 * @return The executor to use for searching multiple index slices in parallel,
+	 * or {@code null} if searches should be executed in the calling thread only.
+	 */
+	public ExecutorService getSearchExecutor() {
+		checkStarted();
+		return searchExecutor;
+	}
+
+	/**
+	 * @return The executor to use for executing queries asynchronously.
+	 */
+	public ExecutorService getReadExecutor() {
+		checkStarted();
+		return readExecutor;
+	}
+
 	private void checkStarted() {
 		if ( writeExecutor == null ) {
 			throw new AssertionFailure(
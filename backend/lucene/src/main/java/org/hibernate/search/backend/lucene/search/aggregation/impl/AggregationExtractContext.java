@@ -9,6 +9,8 @@
 import org.hibernate.search.backend.lucene.lowlevel.collector.impl.CollectorKey;
 import org.hibernate.search.backend.lucene.lowlevel.join.impl.NestedDocsProvider;
 import org.hibernate.search.backend.lucene.search.extraction.impl.CollectorSet;
+import org.hibernate.search.backend.lucene.search.predicate.impl.LuceneSearchPredicate;
+import org.hibernate.search.backend.lucene.search.predicate.impl.PredicateRequestContext;
 import org.hibernate.search.engine.backend.types.converter.runtime.FromDocumentFieldValueConvertContext;
 
 import org.apache.lucene.index.IndexReader;
@@ -19,14 +21,17 @@ public class AggregationExtractContext {
 
 	private final IndexReader indexReader;
 	private final Query luceneQuery;
+	private final PredicateRequestContext rootPredicateContext;
 	private final FromDocumentFieldValueConvertContext convertContext;
 	private final CollectorSet collectors;
 
 	public AggregationExtractContext(IndexReader indexReader, Query luceneQuery,
+			PredicateRequestContext rootPredicateContext,
 			FromDocumentFieldValueConvertContext convertContext,
 			CollectorSet collectors) {
 		this.indexReader = indexReader;
 		this.luceneQuery = luceneQuery;
+		this.rootPredicateContext = rootPredicateContext;
 		this.convertContext = convertContext;
 		this.collectors = collectors;
 	}
@@ -39,11 +44,14 @@ public FromDocumentFieldValueConvertContext getConvertContext() {
 		return convertContext;
 	}
 
-	public <C extends Collector> C getCollector(CollectorKey<C> key) {
+	public <C extends Collector, T> T getCollector(CollectorKey<C, T> key) {
 		return collectors.get( key );
 	}
 
-	public NestedDocsProvider createNestedDocsProvider(String nestedDocumentPath, Query nestedFilter) {
-		return new NestedDocsProvider( nestedDocumentPath, luceneQuery, nestedFilter );
+	public NestedDocsProvider createNestedDocsProvider(String nestedDocumentPath, LuceneSearchPredicate nestedFilter) {
+		// The filter is translated here rather than when the aggregation is built, so that it can use query parameters
+		Query luceneFilter = nestedFilter == null ? null
+				: nestedFilter.toQuery( rootPredicateContext.withNestedPath( nestedDocumentPath ) );
+		return new NestedDocsProvider( nestedDocumentPath, luceneQuery, luceneFilter );
 	}
 }
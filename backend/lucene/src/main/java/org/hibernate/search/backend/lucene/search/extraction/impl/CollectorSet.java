@@ -7,7 +7,10 @@
 package org.hibernate.search.backend.lucene.search.extraction.impl;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -16,27 +19,40 @@
 import org.hibernate.search.backend.lucene.lowlevel.collector.impl.CollectorKey;
 import org.hibernate.search.backend.lucene.search.timeout.impl.TimeoutManager;
 
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.CollectionTerminatedException;
 import org.apache.lucene.search.Collector;
+import org.apache.lucene.search.CollectorManager;
+import org.apache.lucene.search.FilterLeafCollector;
+import org.apache.lucene.search.LeafCollector;
 import org.apache.lucene.search.MultiCollector;
+import org.apache.lucene.search.ScoreMode;
 import org.apache.lucene.search.TimeLimitingCollector;
+import org.apache.lucene.util.Counter;
 
+/**
+ * The results of multiple collectors, each reduced from the collectors of every index slice.
+ */
 public class CollectorSet {
 
-	private final Collector composed;
-	private final Map<CollectorKey<?>, Collector> components;
+	private final Map<CollectorKey<?, ?>, Object> results;
+	private final boolean timedOut;
 
-	private CollectorSet(Collector composed, Map<CollectorKey<?>, Collector> components) {
-		this.composed = composed;
-		this.components = components;
+	private CollectorSet(Map<CollectorKey<?, ?>, Object> results, boolean timedOut) {
+		this.results = results;
+		this.timedOut = timedOut;
 	}
 
-	public Collector getComposed() {
-		return composed;
+	@SuppressWarnings("unchecked")
+	public <C extends Collector, T> T get(CollectorKey<C, T> key) {
+		return (T) results.get( key );
 	}
 
-	@SuppressWarnings("unchecked")
-	public <C extends Collector> C get(CollectorKey<C> key) {
-		return (C) components.get( key );
+	/**
+	 * @return {@code true} if collection was interrupted because of a timeout, {@code false} otherwise.
+	 */
+	public boolean isTimedOut() {
+		return timedOut;
 	}
 
 	public static class Builder {
@@ -44,43 +60,150 @@ public static class Builder {
 		private final CollectorExecutionContext executionContext;
 		private final TimeoutManager timeoutManager;
 
-		private final Map<CollectorKey<?>, Collector> components = new LinkedHashMap<>();
+		private final Map<CollectorKey<?, ?>, CollectorManager<?, ?>> components = new LinkedHashMap<>();
 
 		public Builder(CollectorExecutionContext executionContext, TimeoutManager timeoutManager) {
 			this.executionContext = executionContext;
 			this.timeoutManager = timeoutManager;
 		}
 
-		public <C extends Collector> void add(CollectorKey<C> key, C collector) {
-			components.put( key, collector );
+		public <C extends Collector, T> void add(CollectorKey<C, T> key, CollectorManager<C, T> collectorManager) {
+			components.put( key, collectorManager );
 		}
 
-		public void addAll(Set<CollectorFactory<?>> collectorFactories) throws IOException {
-			for ( CollectorFactory<?> collectorFactory : collectorFactories ) {
-				Collector collector = collectorFactory.createCollector( executionContext );
-				components.put( collectorFactory.getCollectorKey(), collector );
+		public void addAll(Set<CollectorFactory<?, ?, ?>> collectorFactories) throws IOException {
+			for ( CollectorFactory<?, ?, ?> collectorFactory : collectorFactories ) {
+				CollectorKey<?, ?> key = collectorFactory.getCollectorKey();
+				if ( components.containsKey( key ) ) {
+					// Two factories produce the same data: collect it only once.
+					continue;
+				}
+				components.put( key, collectorFactory.createCollectorManager( executionContext ) );
 			}
 		}
 
-		public CollectorSet build() {
-			Collector composed = wrapTimeLimitingCollectorIfNecessary(
-					MultiCollector.wrap( components.values() ),
-					timeoutManager
-			);
+		public Manager build() {
+			final Long timeoutLeft = timeoutManager.checkTimeLeftInMilliseconds();
+			return new Manager( components, timeoutLeft, timeoutManager );
+		}
+	}
 
-			return new CollectorSet( composed, components );
+	/**
+	 * A collector manager that creates, for each index slice, one collector per component,
+	 * and reduces the collectors of each component separately.
+	 */
+	public static class Manager implements CollectorManager<ComposedCollector, CollectorSet> {
+
+		private final List<CollectorKey<?, ?>> keys;
+		private final List<CollectorManager<?, ?>> managers;
+		private final Long timeoutLeft;
+		private final Counter timeoutCounter;
+		private final long timeoutBaseline;
+
+		private Manager(Map<CollectorKey<?, ?>, CollectorManager<?, ?>> components, Long timeoutLeft,
+				TimeoutManager timeoutManager) {
+			this.keys = new ArrayList<>( components.keySet() );
+			this.managers = new ArrayList<>( components.values() );
+			this.timeoutLeft = timeoutLeft;
+			if ( timeoutLeft != null ) {
+				this.timeoutCounter = timeoutManager.createCounter();
+				this.timeoutBaseline = timeoutManager.getTimeoutBaseline();
+			}
+			else {
+				this.timeoutCounter = null;
+				this.timeoutBaseline = 0L;
+			}
 		}
 
-		private Collector wrapTimeLimitingCollectorIfNecessary(Collector collector, TimeoutManager timeoutManager) {
-			final Long timeoutLeft = timeoutManager.checkTimeLeftInMilliseconds();
+		@Override
+		public ComposedCollector newCollector() throws IOException {
+			Collector[] components = new Collector[managers.size()];
+			for ( int i = 0; i < components.length; i++ ) {
+				components[i] = managers.get( i ).newCollector();
+			}
+			Collector composed = MultiCollector.wrap( components );
 			if ( timeoutLeft != null ) {
-				TimeLimitingCollector wrapped = new TimeLimitingCollector( collector, timeoutManager.createCounter(), timeoutLeft );
+				TimeLimitingCollector wrapped = new TimeLimitingCollector( composed, timeoutCounter, timeoutLeft );
 				// The timeout starts from the given baseline, not from when the collector is first used.
 				// This is important because some collectors are applied during a second search.
-				wrapped.setBaseline( timeoutManager.getTimeoutBaseline() );
-				return wrapped;
+				wrapped.setBaseline( timeoutBaseline );
+				composed = wrapped;
+			}
+			return new ComposedCollector( components, composed );
+		}
+
+		@Override
+		@SuppressWarnings({ "unchecked", "rawtypes" }) // Each component collector was created by the manager at the same index
+		public CollectorSet reduce(Collection<ComposedCollector> collectors) throws IOException {
+			Map<CollectorKey<?, ?>, Object> results = new LinkedHashMap<>();
+			for ( int i = 0; i < managers.size(); i++ ) {
+				List<Collector> componentCollectors = new ArrayList<>( collectors.size() );
+				for ( ComposedCollector collector : collectors ) {
+					componentCollectors.add( collector.components[i] );
+				}
+				CollectorManager manager = managers.get( i );
+				results.put( keys.get( i ), manager.reduce( componentCollectors ) );
+			}
+			boolean timedOut = false;
+			for ( ComposedCollector collector : collectors ) {
+				timedOut = timedOut || collector.timedOut;
 			}
-			return collector;
+			return new CollectorSet( results, timedOut );
+		}
+	}
+
+	/**
+	 * A collector for a single index slice, delegating to one collector per component.
+	 * <p>
+	 * Timeouts do not propagate as exceptions, since they would abort the search in every slice
+	 * and we would lose the results collected so far;
+	 * instead, collection simply stops for this slice and the timeout is reported in the reduced {@link CollectorSet}.
+	 */
+	public static final class ComposedCollector implements Collector {
+
+		private final Collector[] components;
+		private final Collector composed;
+		// Only ever accessed from the thread collecting this slice, or after the search completed.
+		private boolean timedOut = false;
+
+		private ComposedCollector(Collector[] components, Collector composed) {
+			this.components = components;
+			this.composed = composed;
+		}
+
+		@Override
+		public LeafCollector getLeafCollector(LeafReaderContext context) throws IOException {
+			if ( timedOut ) {
+				throw new CollectionTerminatedException();
+			}
+			LeafCollector leafCollector;
+			try {
+				leafCollector = composed.getLeafCollector( context );
+			}
+			catch (TimeLimitingCollector.TimeExceededException e) {
+				timedOut = true;
+				throw new CollectionTerminatedException();
+			}
+			if ( !( composed instanceof TimeLimitingCollector ) ) {
+				return leafCollector;
+			}
+			return new FilterLeafCollector( leafCollector ) {
+				@Override
+				public void collect(int doc) throws IOException {
+					try {
+						super.collect( doc );
+					}
+					catch (TimeLimitingCollector.TimeExceededException e) {
+						timedOut = true;
+						throw new CollectionTerminatedException();
+					}
+				}
+			};
+		}
+
+		@Override
+		public ScoreMode scoreMode() {
+			return composed.scoreMode();
 		}
 	}
 
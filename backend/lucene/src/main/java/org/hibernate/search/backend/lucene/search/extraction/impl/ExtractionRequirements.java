@@ -7,6 +7,7 @@
 package org.hibernate.search.backend.lucene.search.extraction.impl;
 
 import java.io.IOException;
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.Set;
@@ -15,17 +16,20 @@
 import org.hibernate.search.backend.lucene.lowlevel.collector.impl.CollectorFactory;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.IndexReaderMetadataResolver;
 import org.hibernate.search.backend.lucene.lowlevel.collector.impl.StoredFieldsCollector;
+import org.hibernate.search.backend.lucene.lowlevel.collector.impl.TopDocsCollectorManager;
+import org.hibernate.search.backend.lucene.lowlevel.collector.impl.TotalHitCountCollectorManager;
 import org.hibernate.search.backend.lucene.search.timeout.impl.TimeoutManager;
+import org.hibernate.search.backend.lucene.types.sort.comparatorsource.impl.LuceneFieldComparatorSource;
 
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.LeafReaderContext;
 import org.apache.lucene.search.Collector;
+import org.apache.lucene.search.FieldComparatorSource;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
 import org.apache.lucene.search.Sort;
 import org.apache.lucene.search.SortField;
-import org.apache.lucene.search.TopDocsCollector;
-import org.apache.lucene.search.TopFieldCollector;
-import org.apache.lucene.search.TopScoreDocCollector;
-import org.apache.lucene.search.TotalHitCountCollector;
 
 /**
  * Regroups information about the data used as input of extraction (projections or aggregations):
@@ -34,8 +38,8 @@
 public final class ExtractionRequirements {
 
 	private final boolean requireScore;
-	private final Set<CollectorFactory<?>> requiredCollectorForAllMatchingDocsFactories;
-	private final Set<CollectorFactory<?>> requiredCollectorForTopDocsFactories;
+	private final Set<CollectorFactory<?, ?, ?>> requiredCollectorForAllMatchingDocsFactories;
+	private final Set<CollectorFactory<?, ?, ?>> requiredCollectorForTopDocsFactories;
 
 	private ExtractionRequirements(Builder builder) {
 		requireScore = builder.requireScore;
@@ -44,9 +48,9 @@ private ExtractionRequirements(Builder builder) {
 	}
 
 	public LuceneCollectors createCollectors(IndexSearcher indexSearcher, Query luceneQuery, Sort sort,
-			IndexReaderMetadataResolver metadataResolver, int maxDocs, TimeoutManager timeoutManager)
+			IndexReaderMetadataResolver metadataResolver, int maxDocs, ScoreDoc after, int totalHitsThreshold,
+			boolean requireCollectorsForAllMatchingDocs, TimeoutManager timeoutManager)
 			throws IOException {
-		TopDocsCollector<?> topDocsCollector;
 		Integer scoreSortFieldIndexForRescoring = null;
 		boolean requireFieldDocRescoring = false;
 
@@ -57,41 +61,28 @@ public LuceneCollectors createCollectors(IndexSearcher indexSearcher, Query luce
 				new CollectorSet.Builder( executionContext, timeoutManager );
 
 		if ( maxDocs > 0 ) {
-			if ( sort == null ) {
-				topDocsCollector = TopScoreDocCollector.create(
-						maxDocs,
-						// TODO HSEARCH-3517 Avoid tracking the total hit count when possible
-						// Note this will also require to change how we combine collectors,
-						// as MultiCollector explicitly ignores the total hit count optimization
-						Integer.MAX_VALUE
-				);
+			if ( sort != null && requireScore ) {
+				// Since https://issues.apache.org/jira/browse/LUCENE-8412 (Lucene 8.0.0),
+				// TopFieldCollector returns TopDocs whose ScoreDocs do not contain a score...
+				// Thus we will have to set the scores ourselves.
+				requireFieldDocRescoring = true;
+				// If there's a SCORE sort field, make sure we remember that, so that later we can optimize rescoring
+				scoreSortFieldIndexForRescoring = getScoreSortFieldIndexOrNull( sort );
 			}
-			else {
-				if ( requireScore ) {
-					// Since https://issues.apache.org/jira/browse/LUCENE-8412 (Lucene 8.0.0),
-					// TopFieldCollector returns TopDocs whose ScoreDocs do not contain a score...
-					// Thus we will have to set the scores ourselves.
-					requireFieldDocRescoring = true;
-					// If there's a SCORE sort field, make sure we remember that, so that later we can optimize rescoring
-					scoreSortFieldIndexForRescoring = getScoreSortFieldIndexOrNull( sort );
-				}
-				topDocsCollector = TopFieldCollector.create(
-						sort,
-						maxDocs,
-						// TODO HSEARCH-3517 Avoid tracking the total hit count when possible
-						// Note this will also require to change how we combine collectors,
-						// as MultiCollector explicitly ignores the total hit count optimization
-						Integer.MAX_VALUE
-				);
-			}
-			collectorsForAllMatchingDocsBuilder.add( LuceneCollectors.TOP_DOCS_KEY, topDocsCollector );
+			collectorsForAllMatchingDocsBuilder.add( LuceneCollectors.TOP_DOCS_KEY,
+					new TopDocsCollectorManager( toIndexSortEquivalentIfPrefix( sort, indexSearcher.getIndexReader() ),
+							maxDocs, after, totalHitsThreshold ) );
+		}
+		else {
+			// No top docs collector to count hits for us: count them separately.
+			collectorsForAllMatchingDocsBuilder.add( LuceneCollectors.TOTAL_HIT_COUNT_KEY,
+					TotalHitCountCollectorManager.INSTANCE );
 		}
 
-		TotalHitCountCollector totalHitCountCollector = new TotalHitCountCollector();
-		collectorsForAllMatchingDocsBuilder.add( LuceneCollectors.TOTAL_HIT_COUNT_KEY, totalHitCountCollector );
-
-		collectorsForAllMatchingDocsBuilder.addAll( requiredCollectorForAllMatchingDocsFactories );
-		CollectorSet collectorsForAllMatchingDocs = collectorsForAllMatchingDocsBuilder.build();
+		if ( requireCollectorsForAllMatchingDocs ) {
+			collectorsForAllMatchingDocsBuilder.addAll( requiredCollectorForAllMatchingDocsFactories );
+		}
+		CollectorSet.Manager collectorsForAllMatchingDocs = collectorsForAllMatchingDocsBuilder.build();
 
 		return new LuceneCollectors(
 				metadataResolver,
@@ -104,6 +95,53 @@ public LuceneCollectors createCollectors(IndexSearcher indexSearcher, Query luce
 		);
 	}
 
+	/**
+	 * Lucene's top docs collectors stop collecting hits early in segments whose index sort
+	 * starts with the query sort, once they collected enough hits and reached the total hits threshold.
+	 * However, they only detect that by comparing sort fields for equality,
+	 * which can't work with our own sort fields, since they rely on custom comparators.
+	 * <p>
+	 * Thus, when the query sort has a native equivalent that is a prefix of the index sort in at least one segment,
+	 * we use that native equivalent for collecting top docs.
+	 *
+	 * @param sort The query sort, or {@code null} to sort by score.
+	 * @param indexReader The index reader that will be searched.
+	 * @return A native equivalent of the given sort if it allows early termination in at least one segment,
+	 * the given sort otherwise.
+	 */
+	private static Sort toIndexSortEquivalentIfPrefix(Sort sort, IndexReader indexReader) {
+		if ( sort == null ) {
+			return null;
+		}
+		SortField[] sortFields = sort.getSort();
+		SortField[] equivalentSortFields = new SortField[sortFields.length];
+		for ( int i = 0; i < sortFields.length; i++ ) {
+			SortField sortField = sortFields[i];
+			FieldComparatorSource comparatorSource = sortField.getComparatorSource();
+			if ( !( comparatorSource instanceof LuceneFieldComparatorSource ) ) {
+				return sort;
+			}
+			SortField equivalentSortField = ( (LuceneFieldComparatorSource) comparatorSource )
+					.toIndexSortField( sortField.getField(), sortField.getReverse() );
+			if ( equivalentSortField == null ) {
+				return sort;
+			}
+			equivalentSortFields[i] = equivalentSortField;
+		}
+		for ( LeafReaderContext leaf : indexReader.leaves() ) {
+			Sort indexSort = leaf.reader().getMetaData().getSort();
+			if ( indexSort != null && isPrefix( equivalentSortFields, indexSort.getSort() ) ) {
+				return new Sort( equivalentSortFields );
+			}
+		}
+		return sort;
+	}
+
+	private static boolean isPrefix(SortField[] candidatePrefix, SortField[] sortFields) {
+		return candidatePrefix.length <= sortFields.length
+				&& Arrays.equals( candidatePrefix, Arrays.copyOf( sortFields, candidatePrefix.length ) );
+	}
+
 	private Integer getScoreSortFieldIndexOrNull(Sort sort) {
 		SortField[] sortFields = sort.getSort();
 		for ( int i = 0; i < sortFields.length; i++ ) {
@@ -118,8 +156,8 @@ private Integer getScoreSortFieldIndexOrNull(Sort sort) {
 	public static class Builder {
 
 		private boolean requireScore;
-		private final Set<CollectorFactory<?>> requiredCollectorForAllMatchingDocsFactories = new LinkedHashSet<>();
-		private final Set<CollectorFactory<?>> requiredCollectorForTopDocsFactories = new LinkedHashSet<>();
+		private final Set<CollectorFactory<?, ?, ?>> requiredCollectorForAllMatchingDocsFactories = new LinkedHashSet<>();
+		private final Set<CollectorFactory<?, ?, ?>> requiredCollectorForTopDocsFactories = new LinkedHashSet<>();
 
 		private boolean requireAllStoredFields = false;
 		private final Set<String> requiredStoredFields = new HashSet<>();
@@ -129,11 +167,11 @@ public void requireScore() {
 			this.requireScore = true;
 		}
 
-		public <C extends Collector> void requireCollectorForAllMatchingDocs(CollectorFactory<C> collectorFactory) {
+		public <C extends Collector, T> void requireCollectorForAllMatchingDocs(CollectorFactory<C, T, ?> collectorFactory) {
 			requiredCollectorForAllMatchingDocsFactories.add( collectorFactory );
 		}
 
-		public <C extends Collector> void requireCollectorForTopDocs(CollectorFactory<C> collectorFactory) {
+		public <C extends Collector, T> void requireCollectorForTopDocs(CollectorFactory<C, T, ?> collectorFactory) {
 			requiredCollectorForTopDocsFactories.add( collectorFactory );
 		}
 
@@ -152,26 +190,26 @@ public void requireStoredField(String absoluteFieldPath, String nestedDocumentPa
 		}
 
 		public ExtractionRequirements build() {
-			CollectorFactory<StoredFieldsCollector> storedFieldCollectorFactory = createStoredFieldCollectorFactoryOrNull();
+			CollectorFactory<?, ?, ?> storedFieldCollectorFactory = createStoredFieldCollectorFactoryOrNull();
 			if ( storedFieldCollectorFactory != null ) {
 				requiredCollectorForTopDocsFactories.add( storedFieldCollectorFactory );
 			}
 			return new ExtractionRequirements( this );
 		}
 
-		private CollectorFactory<StoredFieldsCollector> createStoredFieldCollectorFactoryOrNull() {
-			ReusableDocumentStoredFieldVisitor storedFieldVisitor;
+		private CollectorFactory<?, ?, ?> createStoredFieldCollectorFactoryOrNull() {
+			Set<String> storedFieldsToLoad;
 			if ( requireAllStoredFields ) {
-				storedFieldVisitor = new ReusableDocumentStoredFieldVisitor();
+				storedFieldsToLoad = null;
 			}
 			else if ( !requiredStoredFields.isEmpty() ) {
-				storedFieldVisitor = new ReusableDocumentStoredFieldVisitor( requiredStoredFields );
+				storedFieldsToLoad = requiredStoredFields;
 			}
 			else {
 				return null;
 			}
 
-			return StoredFieldsCollector.factory( storedFieldVisitor, requiredNestedDocumentPathsForStoredFields );
+			return StoredFieldsCollector.factory( storedFieldsToLoad, requiredNestedDocumentPathsForStoredFields );
 		}
 	}
 }
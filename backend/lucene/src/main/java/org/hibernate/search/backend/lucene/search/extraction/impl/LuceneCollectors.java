@@ -7,6 +7,8 @@
 package org.hibernate.search.backend.lucene.search.extraction.impl;
 
 import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Set;
 
 import org.hibernate.search.backend.lucene.lowlevel.collector.impl.CollectorExecutionContext;
@@ -15,22 +17,24 @@
 import org.hibernate.search.backend.lucene.lowlevel.query.impl.ExplicitDocIdsQuery;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.IndexReaderMetadataResolver;
 import org.hibernate.search.backend.lucene.search.timeout.impl.TimeoutManager;
+import org.hibernate.search.engine.search.query.SearchResultTotal;
+import org.hibernate.search.engine.search.query.spi.SimpleSearchResultTotal;
 
-import org.apache.lucene.search.Collector;
 import org.apache.lucene.search.FieldDoc;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.Query;
 import org.apache.lucene.search.ScoreDoc;
-import org.apache.lucene.search.TimeLimitingCollector;
 import org.apache.lucene.search.TopDocs;
 import org.apache.lucene.search.TopDocsCollector;
 import org.apache.lucene.search.TopFieldCollector;
+import org.apache.lucene.search.TopFieldDocs;
+import org.apache.lucene.search.TotalHits;
 import org.apache.lucene.search.TotalHitCountCollector;
 
 public class LuceneCollectors {
 
-	static final CollectorKey<TotalHitCountCollector> TOTAL_HIT_COUNT_KEY = CollectorKey.create();
-	static final CollectorKey<TopDocsCollector<?>> TOP_DOCS_KEY = CollectorKey.create();
+	static final CollectorKey<TotalHitCountCollector, Integer> TOTAL_HIT_COUNT_KEY = CollectorKey.create();
+	static final CollectorKey<TopDocsCollector<?>, TopDocs> TOP_DOCS_KEY = CollectorKey.create();
 
 	private final IndexReaderMetadataResolver metadataResolver;
 
@@ -40,26 +44,27 @@ public class LuceneCollectors {
 	private final boolean requireFieldDocRescoring;
 	private final Integer scoreSortFieldIndexForRescoring;
 
-	private final CollectorSet collectorsForAllMatchingDocs;
-	private final Set<CollectorFactory<?>> collectorsForTopDocsFactories;
+	private final CollectorSet.Manager collectorsForAllMatchingDocsManager;
+	private final Set<CollectorFactory<?, ?, ?>> collectorsForTopDocsFactories;
+	private CollectorSet collectorsForAllMatchingDocs;
 	private CollectorSet collectorsForTopDocs;
 
 	private final TimeoutManager timeoutManager;
 
-	private long totalHitCount = 0;
+	private SearchResultTotal resultTotal = SimpleSearchResultTotal.exact( 0L );
 	private TopDocs topDocs = null;
 
 	LuceneCollectors(IndexReaderMetadataResolver metadataResolver, IndexSearcher indexSearcher, Query luceneQuery,
 			boolean requireFieldDocRescoring, Integer scoreSortFieldIndexForRescoring,
-			CollectorSet collectorsForAllMatchingDocs,
-			Set<CollectorFactory<?>> collectorsForTopDocsFactories,
+			CollectorSet.Manager collectorsForAllMatchingDocsManager,
+			Set<CollectorFactory<?, ?, ?>> collectorsForTopDocsFactories,
 			TimeoutManager timeoutManager) {
 		this.metadataResolver = metadataResolver;
 		this.indexSearcher = indexSearcher;
 		this.luceneQuery = luceneQuery;
 		this.requireFieldDocRescoring = requireFieldDocRescoring;
 		this.scoreSortFieldIndexForRescoring = scoreSortFieldIndexForRescoring;
-		this.collectorsForAllMatchingDocs = collectorsForAllMatchingDocs;
+		this.collectorsForAllMatchingDocsManager = collectorsForAllMatchingDocsManager;
 		this.collectorsForTopDocsFactories = collectorsForTopDocsFactories;
 		this.timeoutManager = timeoutManager;
 	}
@@ -71,21 +76,24 @@ public void collect(int offset, Integer limit) throws IOException {
 		}
 
 		// Phase 1: collect top docs and aggregations
-		try {
-			indexSearcher.search( luceneQuery, collectorsForAllMatchingDocs.getComposed() );
-		}
-		catch (TimeLimitingCollector.TimeExceededException e) {
+		// If the index searcher was given an executor, this will collect each index slice in parallel.
+		this.collectorsForAllMatchingDocs = indexSearcher.search( luceneQuery, collectorsForAllMatchingDocsManager );
+		if ( collectorsForAllMatchingDocs.isTimedOut() ) {
 			timeoutManager.forceTimedOut();
 		}
 
-		this.totalHitCount = collectorsForAllMatchingDocs.get( TOTAL_HIT_COUNT_KEY ).getTotalHits();
-
-		TopDocsCollector<?> topDocsCollector = collectorsForAllMatchingDocs.get( TOP_DOCS_KEY );
-		if ( topDocsCollector == null ) {
+		TopDocs allTopDocs = collectorsForAllMatchingDocs.get( TOP_DOCS_KEY );
+		if ( allTopDocs == null ) {
+			this.resultTotal = SimpleSearchResultTotal.exact( collectorsForAllMatchingDocs.get( TOTAL_HIT_COUNT_KEY ) );
 			return;
 		}
 
-		extractTopDocs( topDocsCollector, offset, limit );
+		// The top docs collector counts hits, either exactly or up to the total hits threshold.
+		TotalHits totalHits = allTopDocs.totalHits;
+		this.resultTotal = SimpleSearchResultTotal.of( totalHits.value,
+				TotalHits.Relation.EQUAL_TO.equals( totalHits.relation ) );
+
+		extractTopDocs( allTopDocs, offset, limit );
 		if ( requireFieldDocRescoring ) {
 			handleRescoring( indexSearcher, luceneQuery );
 		}
@@ -94,10 +102,8 @@ public void collect(int offset, Integer limit) throws IOException {
 		if ( collectorsForTopDocsFactories.isEmpty() ) {
 			return;
 		}
-		try {
-			applyCollectorsToTopDocs();
-		}
-		catch (TimeLimitingCollector.TimeExceededException e) {
+		applyCollectorsToTopDocs();
+		if ( collectorsForTopDocs.isTimedOut() ) {
 			timeoutManager.forceTimedOut();
 		}
 	}
@@ -110,20 +116,24 @@ public CollectorSet getCollectorsForTopDocs() {
 		return collectorsForTopDocs;
 	}
 
-	public long getTotalHitCount() {
-		return totalHitCount;
+	public SearchResultTotal getResultTotal() {
+		return resultTotal;
 	}
 
 	public TopDocs getTopDocs() {
 		return topDocs;
 	}
 
-	private void extractTopDocs(TopDocsCollector<?> topDocsCollector, int offset, Integer limit) {
-		if ( limit == null ) {
-			topDocs = topDocsCollector.topDocs( offset );
+	private void extractTopDocs(TopDocs allTopDocs, int offset, Integer limit) {
+		ScoreDoc[] allScoreDocs = allTopDocs.scoreDocs;
+		int start = Math.min( offset, allScoreDocs.length );
+		int end = limit == null ? allScoreDocs.length : (int) Math.min( (long) start + limit, allScoreDocs.length );
+		ScoreDoc[] scoreDocs = Arrays.copyOfRange( allScoreDocs, start, end );
+		if ( allTopDocs instanceof TopFieldDocs ) {
+			topDocs = new TopFieldDocs( allTopDocs.totalHits, scoreDocs, ( (TopFieldDocs) allTopDocs ).fields );
 		}
 		else {
-			topDocs = topDocsCollector.topDocs( offset, limit );
+			topDocs = new TopDocs( allTopDocs.totalHits, scoreDocs );
 		}
 	}
 
@@ -156,11 +166,12 @@ private void applyCollectorsToTopDocs() throws IOException {
 		CollectorSet.Builder collectorForTopDocsBuilder =
 				new CollectorSet.Builder( executionContext, timeoutManager );
 		collectorForTopDocsBuilder.addAll( collectorsForTopDocsFactories );
-		this.collectorsForTopDocs = collectorForTopDocsBuilder.build();
-
-		Collector collector = this.collectorsForTopDocs.getComposed();
+		CollectorSet.Manager collectorsForTopDocsManager = collectorForTopDocsBuilder.build();
 
-		// This will collect data
+		// There are only a few top docs: collecting them in parallel would not be worth the overhead,
+		// so we always collect them in the current thread.
+		CollectorSet.ComposedCollector collector = collectorsForTopDocsManager.newCollector();
 		indexSearcher.search( topDocsQuery, collector );
+		this.collectorsForTopDocs = collectorsForTopDocsManager.reduce( Collections.singletonList( collector ) );
 	}
 }
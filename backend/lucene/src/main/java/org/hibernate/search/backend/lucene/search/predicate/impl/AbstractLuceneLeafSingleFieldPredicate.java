@@ -48,35 +48,53 @@ protected AbstractBuilder(LuceneSearchContext searchContext, LuceneSearchFieldCo
 		protected abstract Query buildQuery();
 
 		protected <E> E convertAndEncode(LuceneStandardFieldCodec<F, E> codec, Object value, ValueConvert convert) {
+			return encode( codec, convert( value, convert ) );
+		}
+
+		protected Range<F> convert(Range<?> range, ValueConvert convertLowerBound, ValueConvert convertUpperBound) {
+			return Range.between(
+					convert( range.lowerBoundValue(), convertLowerBound ),
+					range.lowerBoundInclusion(),
+					convert( range.upperBoundValue(), convertUpperBound ),
+					range.upperBoundInclusion()
+			);
+		}
+
+		protected <E> Range<E> encode(LuceneStandardFieldCodec<F, E> codec, Range<F> range) {
+			return Range.between(
+					range.lowerBoundValue().map( value -> encode( codec, value ) ).orElse( null ),
+					range.lowerBoundInclusion(),
+					range.upperBoundValue().map( value -> encode( codec, value ) ).orElse( null ),
+					range.upperBoundInclusion()
+			);
+		}
+
+		private F convert(Object value, ValueConvert convert) {
 			DslConverter<?, ? extends F> toFieldValueConverter = field.type().dslConverter( convert );
 			try {
-				F converted = toFieldValueConverter.convertUnknown( value,
+				return toFieldValueConverter.convertUnknown( value,
 						searchContext.toDocumentFieldValueConvertContext() );
-				return codec.encode( converted );
 			}
 			catch (RuntimeException e) {
 				throw log.cannotConvertDslParameter( e.getMessage(), e, field.eventContext() );
 			}
 		}
 
-		protected <E> Range<E> convertAndEncode(LuceneStandardFieldCodec<F, E> codec, Range<?> range,
-				ValueConvert convertLowerBound,
-				ValueConvert convertUpperBound) {
-			return Range.between(
-					convertAndEncode( codec, range.lowerBoundValue(), convertLowerBound ),
-					range.lowerBoundInclusion(),
-					convertAndEncode( codec, range.upperBoundValue(), convertUpperBound ),
-					range.upperBoundInclusion()
-			);
+		private <E> E encode(LuceneStandardFieldCodec<F, E> codec, F value) {
+			try {
+				return codec.encode( value );
+			}
+			catch (RuntimeException e) {
+				throw log.cannotConvertDslParameter( e.getMessage(), e, field.eventContext() );
+			}
 		}
 
-		private <E> E convertAndEncode(LuceneStandardFieldCodec<F, E> codec, Optional<?> valueOptional,
-				ValueConvert convert) {
+		private F convert(Optional<?> valueOptional, ValueConvert convert) {
 			if ( !valueOptional.isPresent() ) {
 				return null;
 			}
 			else {
-				return convertAndEncode( codec, valueOptional.get(), convert );
+				return convert( valueOptional.get(), convert );
 			}
 		}
 	}
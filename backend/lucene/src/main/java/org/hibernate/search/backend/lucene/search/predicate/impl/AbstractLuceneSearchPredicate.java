@@ -6,6 +6,7 @@
  */
 package org.hibernate.search.backend.lucene.search.predicate.impl;
 
+import java.util.Objects;
 import java.util.Set;
 
 import org.hibernate.search.backend.lucene.search.impl.LuceneSearchContext;
@@ -22,6 +23,12 @@ public abstract class AbstractLuceneSearchPredicate implements LuceneSearchPredi
 	private final Float boost;
 	private final boolean constantScore;
 
+	/**
+	 * The result of the latest translation, if this predicate does not depend on query parameters.
+	 * Lucene queries are immutable, so this can be reused across search queries, even concurrently.
+	 */
+	private volatile TranslatedQuery translatedQuery;
+
 	protected AbstractLuceneSearchPredicate(AbstractBuilder builder) {
 		indexNames = builder.searchContext.indexes().indexNames();
 		boost = builder.boost;
@@ -35,6 +42,14 @@ public Set<String> indexNames() {
 
 	@Override
 	public Query toQuery(PredicateRequestContext context) {
+		boolean reusable = !dependsOnParameters();
+		if ( reusable ) {
+			TranslatedQuery translated = translatedQuery;
+			if ( translated != null && Objects.equals( translated.nestedPath, context.getNestedPath() ) ) {
+				return translated.query;
+			}
+		}
+
 		Query query = doToQuery( context );
 
 		// the boost should be applied on top of the constant score,
@@ -46,11 +61,25 @@ public Query toQuery(PredicateRequestContext context) {
 			query = new BoostQuery( query, boost );
 		}
 
+		if ( reusable ) {
+			translatedQuery = new TranslatedQuery( context.getNestedPath(), query );
+		}
+
 		return query;
 	}
 
 	protected abstract Query doToQuery(PredicateRequestContext context);
 
+	private static final class TranslatedQuery {
+		private final String nestedPath;
+		private final Query query;
+
+		private TranslatedQuery(String nestedPath, Query query) {
+			this.nestedPath = nestedPath;
+			this.query = query;
+		}
+	}
+
 	public abstract static class AbstractBuilder implements SearchPredicateBuilder {
 		protected final LuceneSearchContext searchContext;
 
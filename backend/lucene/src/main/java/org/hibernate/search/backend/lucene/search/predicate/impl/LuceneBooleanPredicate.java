@@ -36,6 +36,8 @@ class LuceneBooleanPredicate extends AbstractLuceneSearchPredicate {
 
 	private final NavigableMap<Integer, MinimumShouldMatchConstraint> minimumShouldMatchConstraints;
 
+	private final boolean dependsOnParameters;
+
 	private LuceneBooleanPredicate(Builder builder) {
 		super( builder );
 		mustClauses = builder.mustClauses;
@@ -43,6 +45,8 @@ private LuceneBooleanPredicate(Builder builder) {
 		shouldClauses = builder.shouldClauses;
 		filterClauses = builder.filterClauses;
 		minimumShouldMatchConstraints = builder.minimumShouldMatchConstraints;
+		dependsOnParameters = dependsOnParameters( mustClauses ) || dependsOnParameters( mustNotClauses )
+				|| dependsOnParameters( shouldClauses ) || dependsOnParameters( filterClauses );
 		// Ensure illegal attempts to mutate the predicate will fail
 		builder.mustClauses = null;
 		builder.shouldClauses = null;
@@ -51,6 +55,11 @@ private LuceneBooleanPredicate(Builder builder) {
 		builder.minimumShouldMatchConstraints = null;
 	}
 
+	@Override
+	public boolean dependsOnParameters() {
+		return dependsOnParameters;
+	}
+
 	@Override
 	public void checkNestableWithin(String expectedParentNestedPath) {
 		checkNestableWithin( expectedParentNestedPath, mustClauses );
@@ -59,6 +68,13 @@ public void checkNestableWithin(String expectedParentNestedPath) {
 		checkNestableWithin( expectedParentNestedPath, mustNotClauses );
 	}
 
+	@Override
+	public void contributeRequiredFieldRanges(RequiredFieldRanges ranges) {
+		// Only clauses that must match restrict the values of matching documents
+		contributeRequiredFieldRanges( ranges, mustClauses );
+		contributeRequiredFieldRanges( ranges, filterClauses );
+	}
+
 	@Override
 	protected Query doToQuery(PredicateRequestContext context) {
 		BooleanQuery.Builder booleanQueryBuilder = new BooleanQuery.Builder();
@@ -99,6 +115,15 @@ private void contributeQueries(PredicateRequestContext context, BooleanQuery.Bui
 		}
 	}
 
+	private void contributeRequiredFieldRanges(RequiredFieldRanges ranges, List<LuceneSearchPredicate> clauses) {
+		if ( clauses == null ) {
+			return;
+		}
+		for ( LuceneSearchPredicate clause : clauses ) {
+			clause.contributeRequiredFieldRanges( ranges );
+		}
+	}
+
 	private void checkNestableWithin(String expectedParentNestedPath, List<LuceneSearchPredicate> clauses) {
 		if ( clauses == null ) {
 			return;
@@ -108,6 +133,18 @@ private void checkNestableWithin(String expectedParentNestedPath, List<LuceneSea
 		}
 	}
 
+	private static boolean dependsOnParameters(List<LuceneSearchPredicate> clauses) {
+		if ( clauses == null ) {
+			return false;
+		}
+		for ( LuceneSearchPredicate clause : clauses ) {
+			if ( clause.dependsOnParameters() ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
 	private boolean isOnlyMustNot() {
 		return mustNotClauses != null && !mustNotClauses.isEmpty()
 				&& ( mustClauses == null || mustClauses.isEmpty() )
@@ -29,9 +29,14 @@ private LuceneNestedPredicate(Builder builder) {
 		nestedPredicate = builder.nestedPredicate;
 	}
 
+	@Override
+	public boolean dependsOnParameters() {
+		return nestedPredicate.dependsOnParameters();
+	}
+
 	@Override
 	protected Query doToQuery(PredicateRequestContext context) {
-		PredicateRequestContext childContext = new PredicateRequestContext( absoluteFieldPath );
+		PredicateRequestContext childContext = context.withNestedPath( absoluteFieldPath );
 		return createNestedQuery( context.getNestedPath(), absoluteFieldPath, nestedPredicate.toQuery( childContext ) );
 	}
 
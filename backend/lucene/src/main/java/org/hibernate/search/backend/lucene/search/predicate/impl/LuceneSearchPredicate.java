@@ -26,6 +26,26 @@ public interface LuceneSearchPredicate extends SearchPredicate {
 
 	Query toQuery(PredicateRequestContext context);
 
+	/**
+	 * @return {@code true} if the query this predicate translates to depends on query parameters,
+	 * {@code false} if it can be translated once and reused across search queries.
+	 */
+	default boolean dependsOnParameters() {
+		return false;
+	}
+
+	/**
+	 * Contributes the ranges of field values that any document matching this predicate is guaranteed to be within.
+	 * <p>
+	 * Predicates that cannot guarantee anything about the field values of matching documents
+	 * must not contribute anything.
+	 *
+	 * @param ranges The ranges to contribute to.
+	 */
+	default void contributeRequiredFieldRanges(RequiredFieldRanges ranges) {
+		// No guarantee by default
+	}
+
 	static LuceneSearchPredicate from(LuceneSearchContext searchContext, SearchPredicate predicate) {
 		if ( !( predicate instanceof LuceneSearchPredicate ) ) {
 			throw log.cannotMixLuceneSearchQueryWithOtherPredicates( predicate );
@@ -25,6 +25,7 @@
 import org.hibernate.search.engine.search.predicate.spi.SpatialWithinCirclePredicateBuilder;
 import org.hibernate.search.engine.search.predicate.spi.SpatialWithinPolygonPredicateBuilder;
 import org.hibernate.search.engine.search.predicate.spi.WildcardPredicateBuilder;
+import org.hibernate.search.engine.search.predicate.spi.WithParametersPredicateBuilder;
 
 import org.apache.lucene.search.Query;
 
@@ -42,7 +43,10 @@ public LuceneSearchPredicateBuilderFactoryImpl(LuceneSearchContext searchContext
 	@Override
 	public void contribute(LuceneSearchPredicateCollector collector, SearchPredicate predicate) {
 		LuceneSearchPredicate lucenePredicate = LuceneSearchPredicate.from( searchContext, predicate );
-		collector.collectPredicate( lucenePredicate.toQuery( PredicateRequestContext.root() ) );
+		collector.collectPredicate( lucenePredicate );
+		RequiredFieldRanges requiredFieldRanges = new RequiredFieldRanges();
+		lucenePredicate.contributeRequiredFieldRanges( requiredFieldRanges );
+		collector.collectRequiredFieldRanges( requiredFieldRanges );
 	}
 
 	@Override
@@ -120,6 +124,11 @@ public NestedPredicateBuilder nested(String absoluteFieldPath) {
 		return new LuceneNestedPredicate.Builder( searchContext, absoluteFieldPath, nestedPathHierarchy );
 	}
 
+	@Override
+	public WithParametersPredicateBuilder withParameters() {
+		return new LuceneWithParametersPredicate.Builder( searchContext );
+	}
+
 	@Override
 	public LuceneSearchPredicate fromLuceneQuery(Query query) {
 		return new LuceneUserProvidedLuceneQueryPredicate( searchContext, query );
@@ -12,7 +12,10 @@
 
 
 /**
- * A predicate collector for Lucene, using Lucene {@link Query} to represent predicates.
+ * A predicate collector for Lucene.
+ * <p>
+ * Predicates are collected as {@link LuceneSearchPredicate}s and only translated to a Lucene {@link Query}
+ * when the search query is built, so that they can depend on query parameters.
  * <p>
  * Used by Lucene-specific predicate contributors.
  *
@@ -20,5 +23,11 @@
  */
 public interface LuceneSearchPredicateCollector {
 
-	void collectPredicate(Query luceneQuery);
+	void collectPredicate(LuceneSearchPredicate predicate);
+
+	/**
+	 * @param ranges The ranges of field values that any document matching the collected predicate
+	 * is guaranteed to be within.
+	 */
+	void collectRequiredFieldRanges(RequiredFieldRanges ranges);
 }
@@ -0,0 +1,63 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.search.predicate.impl;
+
+import java.util.function.Function;
+
+import org.hibernate.search.backend.lucene.search.impl.LuceneSearchContext;
+import org.hibernate.search.engine.search.common.NamedValues;
+import org.hibernate.search.engine.search.predicate.SearchPredicate;
+import org.hibernate.search.engine.search.predicate.spi.WithParametersPredicateBuilder;
+
+import org.apache.lucene.search.Query;
+
+
+class LuceneWithParametersPredicate extends AbstractLuceneSearchPredicate {
+
+	private final LuceneSearchContext searchContext;
+	private final Function<? super NamedValues, ? extends SearchPredicate> predicateCreator;
+
+	private LuceneWithParametersPredicate(Builder builder) {
+		super( builder );
+		searchContext = builder.searchContext;
+		predicateCreator = builder.predicateCreator;
+	}
+
+	@Override
+	public boolean dependsOnParameters() {
+		return true;
+	}
+
+	@Override
+	public void checkNestableWithin(String expectedParentNestedPath) {
+		// The actual predicate is only known when parameters are: it will be checked in toQuery()
+	}
+
+	@Override
+	protected Query doToQuery(PredicateRequestContext context) {
+		SearchPredicate predicate = predicateCreator.apply( context.parameters() );
+		return LuceneSearchPredicate.from( searchContext, predicate ).toQuery( context );
+	}
+
+	static class Builder extends AbstractBuilder implements WithParametersPredicateBuilder {
+		private Function<? super NamedValues, ? extends SearchPredicate> predicateCreator;
+
+		Builder(LuceneSearchContext searchContext) {
+			super( searchContext );
+		}
+
+		@Override
+		public void creator(Function<? super NamedValues, ? extends SearchPredicate> predicateCreator) {
+			this.predicateCreator = predicateCreator;
+		}
+
+		@Override
+		public SearchPredicate build() {
+			return new LuceneWithParametersPredicate( this );
+		}
+	}
+}
@@ -6,21 +6,38 @@
  */
 package org.hibernate.search.backend.lucene.search.predicate.impl;
 
+import org.hibernate.search.engine.search.common.NamedValues;
+import org.hibernate.search.engine.search.common.spi.MapNamedValues;
+
 public class PredicateRequestContext {
 
-	private static final PredicateRequestContext ROOT = new PredicateRequestContext( null );
+	private static final PredicateRequestContext ROOT = new PredicateRequestContext( null, MapNamedValues.empty() );
 
 	private final String nestedPath;
+	private final NamedValues parameters;
 
-	public PredicateRequestContext(String nestedPath) {
+	private PredicateRequestContext(String nestedPath, NamedValues parameters) {
 		this.nestedPath = nestedPath;
+		this.parameters = parameters;
 	}
 
 	public String getNestedPath() {
 		return nestedPath;
 	}
 
+	public NamedValues parameters() {
+		return parameters;
+	}
+
+	public PredicateRequestContext withNestedPath(String path) {
+		return new PredicateRequestContext( path, parameters );
+	}
+
 	public static PredicateRequestContext root() {
 		return ROOT;
 	}
+
+	public static PredicateRequestContext root(NamedValues parameters) {
+		return new PredicateRequestContext( null, parameters );
+	}
 }
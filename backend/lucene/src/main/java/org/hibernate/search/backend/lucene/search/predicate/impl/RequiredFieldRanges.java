@@ -0,0 +1,55 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.search.predicate.impl;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+import org.hibernate.search.util.common.data.Range;
+
+/**
+ * Ranges of field values that every document must be within in order to match a query.
+ * <p>
+ * Used to skip shards that cannot contain any matching document.
+ */
+public final class RequiredFieldRanges {
+
+	private final Map<String, List<Range<?>>> rangesByAbsoluteFieldPath = new LinkedHashMap<>();
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + rangesByAbsoluteFieldPath;
+	}
+
+	/**
+	 * @param absoluteFieldPath The absolute path of a field.
+	 * @param range A range of values, expressed as field values (not encoded values).
+	 */
+	public void add(String absoluteFieldPath, Range<?> range) {
+		rangesByAbsoluteFieldPath.computeIfAbsent( absoluteFieldPath, ignored -> new ArrayList<>() )
+				.add( range );
+	}
+
+	public void addAll(RequiredFieldRanges other) {
+		other.forEach( this::add );
+	}
+
+	public boolean isEmpty() {
+		return rangesByAbsoluteFieldPath.isEmpty();
+	}
+
+	public void forEach(BiConsumer<String, Range<?>> consumer) {
+		for ( Map.Entry<String, List<Range<?>>> entry : rangesByAbsoluteFieldPath.entrySet() ) {
+			for ( Range<?> range : entry.getValue() ) {
+				consumer.accept( entry.getKey(), range );
+			}
+		}
+	}
+}
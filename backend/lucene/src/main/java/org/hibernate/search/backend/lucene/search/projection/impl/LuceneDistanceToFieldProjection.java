@@ -24,6 +24,7 @@
 import org.hibernate.search.engine.spatial.GeoPoint;
 
 import org.apache.lucene.index.IndexableField;
+import org.apache.lucene.search.CollectorManager;
 import org.apache.lucene.util.SloppyMath;
 
 /**
@@ -33,7 +34,8 @@
  * @param <P> The type of aggregated values returned by the projection (after conversion).
  */
 class LuceneDistanceToFieldProjection<E, P>
-		implements LuceneSearchProjection<E, P>, CollectorFactory<GeoPointDistanceCollector> {
+		implements LuceneSearchProjection<E, P>, CollectorFactory<GeoPointDistanceCollector, GeoPointDistanceCollector,
+				CollectorManager<GeoPointDistanceCollector, GeoPointDistanceCollector>> {
 
 	private static final ProjectionConverter<Double, Double> NO_OP_DOUBLE_CONVERTER = new ProjectionConverter<>(
 			Double.class,
@@ -130,8 +132,9 @@ public P transform(LoadingResult<?> loadingResult, E extractedData,
 	}
 
 	@Override
-	public GeoPointDistanceCollector createCollector(CollectorExecutionContext context) {
-		return new GeoPointDistanceCollector(
+	public CollectorManager<GeoPointDistanceCollector, GeoPointDistanceCollector> createCollectorManager(
+			CollectorExecutionContext context) {
+		return GeoPointDistanceCollector.manager(
 				absoluteFieldPath,
 				nestedDocumentPath == null ? null : context.createNestedDocsProvider( nestedDocumentPath ),
 				center, context.getMaxDocs()
@@ -139,15 +142,15 @@ public GeoPointDistanceCollector createCollector(CollectorExecutionContext conte
 	}
 
 	@Override
-	public CollectorKey<GeoPointDistanceCollector> getCollectorKey() {
+	public CollectorKey<GeoPointDistanceCollector, GeoPointDistanceCollector> getCollectorKey() {
 		return collectorKey;
 	}
 
 	/**
 	 * Necessary in order to share a single collector if there are multiple similar projections.
-	 * See {@link #createCollector(CollectorExecutionContext)}, {@link #request(SearchProjectionRequestContext)}.
+	 * See {@link #createCollectorManager(CollectorExecutionContext)}, {@link #request(SearchProjectionRequestContext)}.
 	 */
-	private static final class DistanceCollectorKey implements CollectorKey<GeoPointDistanceCollector> {
+	private static final class DistanceCollectorKey implements CollectorKey<GeoPointDistanceCollector, GeoPointDistanceCollector> {
 
 		private final String absoluteFieldPath;
 		private final GeoPoint center;
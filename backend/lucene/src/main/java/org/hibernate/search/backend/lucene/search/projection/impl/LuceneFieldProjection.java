@@ -6,8 +6,14 @@
  */
 package org.hibernate.search.backend.lucene.search.projection.impl;
 
+import java.util.Map;
 import java.util.Set;
 
+import org.hibernate.search.backend.lucene.lowlevel.collector.impl.CollectorExecutionContext;
+import org.hibernate.search.backend.lucene.lowlevel.collector.impl.CollectorFactory;
+import org.hibernate.search.backend.lucene.lowlevel.collector.impl.CollectorKey;
+import org.hibernate.search.backend.lucene.lowlevel.collector.impl.ProjectionDocValuesCollector;
+import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.ProjectionDocValuesSource;
 import org.hibernate.search.backend.lucene.search.extraction.impl.LuceneResult;
 import org.hibernate.search.backend.lucene.types.codec.impl.LuceneFieldCodec;
 import org.hibernate.search.engine.backend.types.converter.runtime.FromDocumentFieldValueConvertContext;
@@ -17,34 +23,46 @@
 import org.hibernate.search.engine.search.projection.spi.ProjectionAccumulator;
 
 import org.apache.lucene.index.IndexableField;
+import org.apache.lucene.search.CollectorManager;
 
 /**
  * A projection on the values of an index field.
+ * <p>
+ * Values are extracted from doc values when the field allows it (see {@link ProjectionDocValuesSource}),
+ * and from stored fields otherwise.
  *
  * @param <E> The type of the aggregated value extracted from the Lucene index (before conversion).
  * @param <P> The type of the aggregated value returned by the projection (after conversion).
  * @param <F> The type of individual field values obtained from the backend (before conversion).
  * @param <V> The type of individual field values after conversion.
  */
-class LuceneFieldProjection<E, P, F, V> implements LuceneSearchProjection<E, P> {
+class LuceneFieldProjection<E, P, F, V> implements LuceneSearchProjection<E, P>,
+		CollectorFactory<ProjectionDocValuesCollector<F>, Map<Integer, F>,
+				CollectorManager<ProjectionDocValuesCollector<F>, Map<Integer, F>>> {
 
 	private final Set<String> indexNames;
 	private final String absoluteFieldPath;
 	private final String nestedDocumentPath;
 
 	private final LuceneFieldCodec<F> codec;
+	private final ProjectionDocValuesSource<F> docValuesSource;
 	private final ProjectionConverter<? super F, V> converter;
 	private final ProjectionAccumulator<F, V, E, P> accumulator;
 
+	private final DocValuesCollectorKey<F> collectorKey;
+
 	LuceneFieldProjection(Set<String> indexNames, String absoluteFieldPath, String nestedDocumentPath,
-			LuceneFieldCodec<F> codec, ProjectionConverter<? super F, V> converter,
+			LuceneFieldCodec<F> codec, ProjectionDocValuesSource<F> docValuesSource,
+			ProjectionConverter<? super F, V> converter,
 			ProjectionAccumulator<F, V, E, P> accumulator) {
 		this.indexNames = indexNames;
 		this.absoluteFieldPath = absoluteFieldPath;
 		this.nestedDocumentPath = nestedDocumentPath;
 		this.codec = codec;
+		this.docValuesSource = docValuesSource;
 		this.converter = converter;
 		this.accumulator = accumulator;
+		this.collectorKey = new DocValuesCollectorKey<>( absoluteFieldPath );
 	}
 
 	@Override
@@ -57,13 +75,27 @@ public String toString() {
 
 	@Override
 	public void request(SearchProjectionRequestContext context) {
-		context.requireStoredField( absoluteFieldPath, nestedDocumentPath );
+		if ( docValuesSource != null ) {
+			// Doc values are cheaper to access than stored fields, which need to be decompressed.
+			context.requireCollector( this );
+		}
+		else {
+			context.requireStoredField( absoluteFieldPath, nestedDocumentPath );
+		}
 	}
 
 	@Override
 	public E extract(ProjectionHitMapper<?, ?> mapper, LuceneResult documentResult,
 			SearchProjectionExtractContext context) {
 		E extracted = accumulator.createInitial();
+		if ( docValuesSource != null ) {
+			Map<Integer, F> collectedValues = context.getCollector( collectorKey );
+			F value = collectedValues.get( documentResult.getDocId() );
+			if ( value != null ) {
+				extracted = accumulator.accumulate( extracted, value );
+			}
+			return extracted;
+		}
 		for ( IndexableField field : documentResult.getDocument().getFields() ) {
 			if ( field.name().equals( absoluteFieldPath ) ) {
 				F decoded = codec.decode( field );
@@ -84,4 +116,46 @@ public P transform(LoadingResult<?> loadingResult, E extractedData,
 	public Set<String> getIndexNames() {
 		return indexNames;
 	}
+
+	@Override
+	public CollectorManager<ProjectionDocValuesCollector<F>, Map<Integer, F>> createCollectorManager(
+			CollectorExecutionContext context) {
+		return ProjectionDocValuesCollector.manager( docValuesSource );
+	}
+
+	@Override
+	public CollectorKey<ProjectionDocValuesCollector<F>, Map<Integer, F>> getCollectorKey() {
+		return collectorKey;
+	}
+
+	/**
+	 * Necessary in order to share a single collector if there are multiple projections on the same field.
+	 * See {@link #createCollectorManager(CollectorExecutionContext)}, {@link #request(SearchProjectionRequestContext)}.
+	 */
+	private static final class DocValuesCollectorKey<F>
+			implements CollectorKey<ProjectionDocValuesCollector<F>, Map<Integer, F>> {
+
+		private final String absoluteFieldPath;
+
+		private DocValuesCollectorKey(String absoluteFieldPath) {
+			this.absoluteFieldPath = absoluteFieldPath;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if ( obj == this ) {
+				return true;
+			}
+			if ( obj == null || !obj.getClass().equals( getClass() ) ) {
+				return false;
+			}
+			DocValuesCollectorKey<?> other = (DocValuesCollectorKey<?>) obj;
+			return absoluteFieldPath.equals( other.absoluteFieldPath );
+		}
+
+		@Override
+		public int hashCode() {
+			return absoluteFieldPath.hashCode();
+		}
+	}
 }
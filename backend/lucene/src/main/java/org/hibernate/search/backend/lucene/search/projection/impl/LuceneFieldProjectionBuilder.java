@@ -9,6 +9,7 @@
 import java.lang.invoke.MethodHandles;
 
 import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.ProjectionDocValuesSource;
 import org.hibernate.search.backend.lucene.search.impl.LuceneSearchContext;
 import org.hibernate.search.backend.lucene.search.impl.LuceneSearchFieldContext;
 import org.hibernate.search.backend.lucene.types.codec.impl.LuceneFieldCodec;
@@ -42,6 +43,14 @@ public <P> SearchProjection<P> build(ProjectionAccumulator.Provider<V, P> accumu
 			throw log.invalidSingleValuedProjectionOnMultiValuedField( field.absolutePath(), field.eventContext() );
 		}
 		return new LuceneFieldProjection<>( searchContext.indexes().indexNames(), field.absolutePath(),
-				field.nestedDocumentPath(), codec, converter, accumulatorProvider.get() );
+				field.nestedDocumentPath(), codec, createDocValuesSourceOrNull(), converter, accumulatorProvider.get() );
+	}
+
+	private ProjectionDocValuesSource<F> createDocValuesSourceOrNull() {
+		if ( field.multiValuedInRoot() || field.nestedDocumentPath() != null ) {
+			// Doc values lose the order of multiple values and the structure of nested documents.
+			return null;
+		}
+		return codec.createProjectionDocValuesSourceOrNull( field.absolutePath() );
 	}
 }
@@ -31,7 +31,7 @@ public void requireScore() {
 		extractionRequirementsBuilder.requireScore();
 	}
 
-	public <C extends Collector> void requireCollector(CollectorFactory<C> collectorFactory) {
+	public <C extends Collector, T> void requireCollector(CollectorFactory<C, T, ?> collectorFactory) {
 		extractionRequirementsBuilder.requireCollectorForTopDocs( collectorFactory );
 	}
 }
@@ -25,6 +25,9 @@
 import org.hibernate.search.backend.lucene.lowlevel.query.impl.Queries;
 import org.hibernate.search.backend.lucene.search.impl.LuceneSearchContext;
 import org.hibernate.search.backend.lucene.search.impl.LuceneSearchQueryElementCollector;
+import org.hibernate.search.backend.lucene.search.predicate.impl.LuceneSearchPredicate;
+import org.hibernate.search.backend.lucene.search.predicate.impl.PredicateRequestContext;
+import org.hibernate.search.backend.lucene.search.predicate.impl.RequiredFieldRanges;
 import org.hibernate.search.backend.lucene.search.projection.impl.LuceneSearchProjection;
 import org.hibernate.search.backend.lucene.search.projection.impl.SearchProjectionRequestContext;
 import org.hibernate.search.backend.lucene.search.query.LuceneSearchQuery;
@@ -33,6 +36,7 @@
 import org.hibernate.search.backend.lucene.work.impl.LuceneWorkFactory;
 import org.hibernate.search.engine.backend.session.spi.BackendSessionContext;
 import org.hibernate.search.engine.search.aggregation.AggregationKey;
+import org.hibernate.search.engine.search.common.spi.MapNamedValues;
 import org.hibernate.search.engine.search.loading.context.spi.LoadingContext;
 import org.hibernate.search.engine.search.loading.context.spi.LoadingContextBuilder;
 import org.hibernate.search.engine.search.query.spi.SearchQueryBuilder;
@@ -56,18 +60,21 @@
 	private final LuceneSearchContext searchContext;
 	private final BackendSessionContext sessionContext;
 	private final Set<String> routingKeys;
+	private final RequiredFieldRanges requiredFieldRanges;
 
 	private final LoadingContextBuilder<?, ?, ?> loadingContextBuilder;
 	private final LuceneSearchProjection<?, H> rootProjection;
 
 	private List<LuceneFieldComparatorSource> nestedFieldSorts;
 
-	private Query luceneQuery;
+	private LuceneSearchPredicate predicate;
+	private Map<String, Object> parameters;
 	private List<SortField> sortFields;
 	private Map<AggregationKey<?>, LuceneSearchAggregation<?>> aggregations;
 	private Long timeout;
 	private TimeUnit timeUnit;
 	private boolean exceptionOnTimeout;
+	private Long totalHitCountThreshold;
 
 	public LuceneSearchQueryBuilder(
 			LuceneWorkFactory workFactory,
@@ -82,6 +89,7 @@ public LuceneSearchQueryBuilder(
 		this.searchContext = searchContext;
 		this.sessionContext = sessionContext;
 		this.routingKeys = new HashSet<>();
+		this.requiredFieldRanges = new RequiredFieldRanges();
 
 		this.loadingContextBuilder = loadingContextBuilder;
 		this.rootProjection = rootProjection;
@@ -114,8 +122,26 @@ public void failAfter(long timeout, TimeUnit timeUnit) {
 	}
 
 	@Override
-	public void collectPredicate(Query luceneQuery) {
-		this.luceneQuery = luceneQuery;
+	public void totalHitCountThreshold(long totalHitCountThreshold) {
+		this.totalHitCountThreshold = totalHitCountThreshold;
+	}
+
+	@Override
+	public void param(String parameterName, Object value) {
+		if ( parameters == null ) {
+			parameters = new LinkedHashMap<>();
+		}
+		parameters.put( parameterName, value );
+	}
+
+	@Override
+	public void collectPredicate(LuceneSearchPredicate predicate) {
+		this.predicate = predicate;
+	}
+
+	@Override
+	public void collectRequiredFieldRanges(RequiredFieldRanges ranges) {
+		this.requiredFieldRanges.addAll( ranges );
 	}
 
 	@Override
@@ -166,6 +192,12 @@ public <A> void collectAggregation(AggregationKey<A> key, LuceneSearchAggregatio
 	public LuceneSearchQuery<H> build() {
 		LoadingContext<?, ?> loadingContext = loadingContextBuilder.build();
 
+		// Predicates are translated here rather than when collected, so that they can use query parameters
+		// The same goes for sort and aggregation filters, see below.
+		PredicateRequestContext rootPredicateContext = parameters == null ? PredicateRequestContext.root()
+				: PredicateRequestContext.root( new MapNamedValues( parameters ) );
+		Query luceneQuery = predicate.toQuery( rootPredicateContext );
+
 		BooleanQuery.Builder luceneQueryBuilder = new BooleanQuery.Builder();
 		luceneQueryBuilder.add( luceneQuery, Occur.MUST );
 		luceneQueryBuilder.add( Queries.mainDocumentQuery(), Occur.FILTER );
@@ -188,12 +220,12 @@ public LuceneSearchQuery<H> build() {
 
 		if ( nestedFieldSorts != null ) {
 			for ( LuceneFieldComparatorSource nestedField : nestedFieldSorts ) {
-				nestedField.setOriginalParentQuery( definitiveLuceneQuery );
+				nestedField.setOriginalParentQuery( definitiveLuceneQuery, rootPredicateContext );
 			}
 		}
 
 		LuceneSearchQueryRequestContext requestContext = new LuceneSearchQueryRequestContext(
-				sessionContext, loadingContext, definitiveLuceneQuery, luceneSort
+				sessionContext, loadingContext, rootPredicateContext, definitiveLuceneQuery, luceneSort
 		);
 
 		ExtractionRequirements.Builder extractionRequirementsBuilder = new ExtractionRequirements.Builder();
@@ -216,6 +248,7 @@ public LuceneSearchQuery<H> build() {
 				rootProjection,
 				aggregations == null ? Collections.emptyMap() : aggregations,
 				extractionRequirements,
+				totalHitCountThreshold,
 				timeoutManager
 		);
 
@@ -225,6 +258,7 @@ public LuceneSearchQuery<H> build() {
 				sessionContext,
 				loadingContext,
 				routingKeys,
+				requiredFieldRanges,
 				timeoutManager,
 				definitiveLuceneQuery,
 				luceneSort,
@@ -8,6 +8,7 @@
 
 import org.hibernate.search.backend.lucene.search.aggregation.impl.AggregationExtractContext;
 import org.hibernate.search.backend.lucene.search.extraction.impl.LuceneCollectors;
+import org.hibernate.search.backend.lucene.search.predicate.impl.PredicateRequestContext;
 import org.hibernate.search.backend.lucene.search.projection.impl.SearchProjectionExtractContext;
 import org.hibernate.search.backend.lucene.search.projection.impl.SearchProjectionTransformContext;
 import org.hibernate.search.engine.backend.types.converter.runtime.FromDocumentFieldValueConvertContext;
@@ -29,16 +30,19 @@ class LuceneSearchQueryExtractContext {
 	private final FromDocumentFieldValueConvertContext convertContext;
 	private final IndexSearcher indexSearcher;
 	private final Query luceneQuery;
+	private final PredicateRequestContext rootPredicateContext;
 	private final LuceneCollectors luceneCollectors;
 
 	LuceneSearchQueryExtractContext(BackendSessionContext sessionContext,
 			ProjectionHitMapper<?, ?> projectionHitMapper,
 			IndexSearcher indexSearcher, Query luceneQuery,
+			PredicateRequestContext rootPredicateContext,
 			LuceneCollectors luceneCollectors) {
 		this.projectionHitMapper = projectionHitMapper;
 		this.convertContext = new FromDocumentFieldValueConvertContextImpl( sessionContext );
 		this.indexSearcher = indexSearcher;
 		this.luceneQuery = luceneQuery;
+		this.rootPredicateContext = rootPredicateContext;
 		this.luceneCollectors = luceneCollectors;
 	}
 
@@ -64,7 +68,7 @@ SearchProjectionTransformContext createProjectionTransformContext() {
 	AggregationExtractContext createAggregationExtractContext() {
 		return new AggregationExtractContext(
 				indexSearcher.getIndexReader(), luceneQuery,
-				convertContext,
+				rootPredicateContext, convertContext,
 				luceneCollectors.getCollectorsForAllMatchingDocs()
 		);
 	}
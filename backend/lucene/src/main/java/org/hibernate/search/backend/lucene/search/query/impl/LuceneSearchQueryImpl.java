@@ -8,11 +8,14 @@
 
 import java.lang.invoke.MethodHandles;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.TimeUnit;
 
 import org.hibernate.search.backend.lucene.logging.impl.Log;
 import org.hibernate.search.backend.lucene.orchestration.impl.LuceneSyncWorkOrchestrator;
 import org.hibernate.search.backend.lucene.search.impl.LuceneSearchContext;
+import org.hibernate.search.backend.lucene.search.predicate.impl.RequiredFieldRanges;
 import org.hibernate.search.backend.lucene.search.query.LuceneSearchQuery;
 import org.hibernate.search.backend.lucene.search.query.LuceneSearchResult;
 import org.hibernate.search.backend.lucene.search.timeout.impl.TimeoutManager;
@@ -24,6 +27,7 @@
 import org.hibernate.search.engine.search.loading.context.spi.LoadingContext;
 import org.hibernate.search.engine.search.query.spi.AbstractSearchQuery;
 import org.hibernate.search.engine.search.query.SearchQueryExtension;
+import org.hibernate.search.engine.search.query.SearchScroll;
 import org.hibernate.search.util.common.impl.Contracts;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
@@ -43,17 +47,17 @@
 	private final BackendSessionContext sessionContext;
 	private final LoadingContext<?, ?> loadingContext;
 	private final Set<String> routingKeys;
+	private final RequiredFieldRanges requiredFieldRanges;
 	private final Query luceneQuery;
 	private final Sort luceneSort;
-	private final LuceneSearcher<LuceneLoadableSearchResult<H>> searcher;
-
+	private LuceneSearcher<LuceneLoadableSearchResult<H>> searcher;
 	private TimeoutManager timeoutManager;
 
 	LuceneSearchQueryImpl(LuceneSyncWorkOrchestrator queryOrchestrator,
 			LuceneWorkFactory workFactory, LuceneSearchContext searchContext,
 			BackendSessionContext sessionContext,
 			LoadingContext<?, ?> loadingContext,
-			Set<String> routingKeys,
+			Set<String> routingKeys, RequiredFieldRanges requiredFieldRanges,
 			TimeoutManager timeoutManager,
 			Query luceneQuery, Sort luceneSort,
 			LuceneSearcher<LuceneLoadableSearchResult<H>> searcher) {
@@ -63,6 +67,7 @@
 		this.sessionContext = sessionContext;
 		this.loadingContext = loadingContext;
 		this.routingKeys = routingKeys;
+		this.requiredFieldRanges = requiredFieldRanges;
 		this.timeoutManager = timeoutManager;
 		this.luceneQuery = luceneQuery;
 		this.luceneSort = luceneSort;
@@ -93,10 +98,7 @@ public LuceneSearchResult<H> fetch(Integer offset, Integer limit) {
 		LuceneSearchResult<H> result = doSubmit( work )
 				/*
 				 * WARNING: the following call must run in the user thread.
-				 * If we introduce async processing, we will have to add a loadAsync method here,
-				 * as well as in ProjectionHitMapper and EntityLoader.
-				 * This method may not be easy to implement for blocking mappers,
-				 * so we may choose to throw exceptions for those.
+				 * See fetchAsync for asynchronous loading.
 				 */
 				.loadBlocking();
 		timeoutManager.stop();
@@ -112,6 +114,46 @@ public long fetchTotalHitCount() {
 		return result;
 	}
 
+	@Override
+	public CompletionStage<LuceneSearchResult<H>> fetchAsync(Integer offset, Integer limit) {
+		// Asynchronous executions may run concurrently: each needs its own timeout manager.
+		TimeoutManager callTimeoutManager = timeoutManager.copy();
+		callTimeoutManager.start();
+		ReadWork<LuceneLoadableSearchResult<H>> work =
+				workFactory.search( searcher.withTimeoutManager( callTimeoutManager ), offset, limit );
+		return doSubmitAsync( work )
+				/*
+				 * Loading happens in the read thread that executed the search,
+				 * which is fine as long as the loading context is not used concurrently by the user.
+				 * Loading is still blocking: mappers that need truly non-blocking loading
+				 * will need a loadAsync method here, as well as in ProjectionHitMapper and EntityLoader.
+				 */
+				.thenApply( LuceneLoadableSearchResult::loadBlocking )
+				.whenComplete( (result, throwable) -> callTimeoutManager.stop() );
+	}
+
+	@Override
+	public CompletionStage<Long> fetchTotalHitCountAsync() {
+		TimeoutManager callTimeoutManager = timeoutManager.copy();
+		callTimeoutManager.start();
+		ReadWork<Integer> work = workFactory.count( searcher.withTimeoutManager( callTimeoutManager ) );
+		return doSubmitAsync( work )
+				.thenApply( Integer::longValue )
+				.whenComplete( (result, throwable) -> callTimeoutManager.stop() );
+	}
+
+	@Override
+	public SearchScroll<H> scroll(int chunkSize) {
+		Contracts.assertStrictlyPositive( chunkSize, "chunkSize" );
+		LuceneSyncWorkOrchestrator.IndexSnapshot indexSnapshot = queryOrchestrator.openSnapshot(
+				searchContext.indexes().indexNames(),
+				searchContext.indexes().indexManagerContexts(),
+				routingKeys,
+				requiredFieldRanges
+		);
+		return new LuceneSearchScrollImpl<>( indexSnapshot, workFactory, searcher, timeoutManager, chunkSize );
+	}
+
 	@Override
 	public Explanation explain(String id) {
 		Contracts.assertNotNull( id, "id" );
@@ -143,10 +185,25 @@ public Sort luceneSort() {
 	}
 
 	private <T> T doSubmit(ReadWork<T> work) {
+		return doSubmit( work, requiredFieldRanges );
+	}
+
+	private <T> T doSubmit(ReadWork<T> work, RequiredFieldRanges requiredFieldRanges) {
 		return queryOrchestrator.submit(
 				searchContext.indexes().indexNames(),
 				searchContext.indexes().indexManagerContexts(),
 				routingKeys,
+				requiredFieldRanges,
+				work
+		);
+	}
+
+	private <T> CompletableFuture<T> doSubmitAsync(ReadWork<T> work) {
+		return queryOrchestrator.submitAsync(
+				searchContext.indexes().indexNames(),
+				searchContext.indexes().indexManagerContexts(),
+				routingKeys,
+				requiredFieldRanges,
 				work
 		);
 	}
@@ -157,7 +214,8 @@ private Explanation doExplain(String indexName, String id) {
 		ReadWork<Explanation> work = workFactory.explain(
 				searcher, indexName, id, filter
 		);
-		Explanation explanation = doSubmit( work );
+		// The explained document may not match the query: don't skip the shard it is stored in
+		Explanation explanation = doSubmit( work, new RequiredFieldRanges() );
 		timeoutManager.stop();
 		return explanation;
 	}
@@ -166,6 +224,6 @@ private Explanation doExplain(String indexName, String id) {
 	public void failAfter(long timeout, TimeUnit timeUnit) {
 		// replace the timeout manager on already created query instance
 		timeoutManager = searchContext.createTimeoutManager( luceneQuery, timeout, timeUnit, true );
-		searcher.setTimeoutManager( timeoutManager );
+		searcher = searcher.withTimeoutManager( timeoutManager );
 	}
 }
@@ -7,6 +7,7 @@
 package org.hibernate.search.backend.lucene.search.query.impl;
 
 import org.hibernate.search.backend.lucene.search.extraction.impl.LuceneCollectors;
+import org.hibernate.search.backend.lucene.search.predicate.impl.PredicateRequestContext;
 import org.hibernate.search.engine.backend.session.spi.BackendSessionContext;
 import org.hibernate.search.engine.search.loading.context.spi.LoadingContext;
 
@@ -24,16 +25,19 @@ class LuceneSearchQueryRequestContext {
 
 	private final BackendSessionContext sessionContext;
 	private final LoadingContext<?, ?> loadingContext;
+	private final PredicateRequestContext rootPredicateContext;
 	private final Query luceneQuery;
 	private final Sort luceneSort;
 
 	LuceneSearchQueryRequestContext(
 			BackendSessionContext sessionContext,
 			LoadingContext<?, ?> loadingContext,
+			PredicateRequestContext rootPredicateContext,
 			Query luceneQuery,
 			Sort luceneSort) {
 		this.sessionContext = sessionContext;
 		this.loadingContext = loadingContext;
+		this.rootPredicateContext = rootPredicateContext;
 		this.luceneQuery = luceneQuery;
 		this.luceneSort = luceneSort;
 	}
@@ -53,6 +57,7 @@ LuceneSearchQueryExtractContext createExtractContext(IndexSearcher indexSearcher
 				loadingContext.createProjectionHitMapper(),
 				indexSearcher,
 				luceneQuery,
+				rootPredicateContext,
 				luceneCollectors
 		);
 	}
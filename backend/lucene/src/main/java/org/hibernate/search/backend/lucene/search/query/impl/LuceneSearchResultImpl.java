@@ -12,6 +12,7 @@
 
 import org.hibernate.search.backend.lucene.search.query.LuceneSearchResult;
 import org.hibernate.search.engine.search.aggregation.AggregationKey;
+import org.hibernate.search.engine.search.query.SearchResultTotal;
 import org.hibernate.search.engine.search.query.spi.SimpleSearchResult;
 
 import org.apache.lucene.search.TopDocs;
@@ -21,9 +22,9 @@
 
 	private final TopDocs topDocs;
 
-	LuceneSearchResultImpl(long hitCount, List<H> hits, Map<AggregationKey<?>, ?> aggregationResults,
+	LuceneSearchResultImpl(SearchResultTotal resultTotal, List<H> hits, Map<AggregationKey<?>, ?> aggregationResults,
 			Duration took, Boolean timedOut, TopDocs topDocs) {
-		super( hitCount, hits, aggregationResults, took, timedOut );
+		super( resultTotal, hits, aggregationResults, took, timedOut );
 		this.topDocs = topDocs;
 	}
 
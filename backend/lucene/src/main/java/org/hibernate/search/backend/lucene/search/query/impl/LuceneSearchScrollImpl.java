@@ -0,0 +1,92 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.search.query.impl;
+
+import java.lang.invoke.MethodHandles;
+
+import org.hibernate.search.backend.lucene.logging.impl.Log;
+import org.hibernate.search.backend.lucene.orchestration.impl.LuceneSyncWorkOrchestrator;
+import org.hibernate.search.backend.lucene.search.query.LuceneSearchResult;
+import org.hibernate.search.backend.lucene.search.timeout.impl.TimeoutManager;
+import org.hibernate.search.backend.lucene.work.impl.LuceneSearcher;
+import org.hibernate.search.backend.lucene.work.impl.LuceneWorkFactory;
+import org.hibernate.search.backend.lucene.work.impl.ReadWork;
+import org.hibernate.search.engine.search.query.SearchScroll;
+import org.hibernate.search.engine.search.query.SearchScrollResult;
+import org.hibernate.search.engine.search.query.spi.SimpleSearchScrollResult;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.TopDocs;
+
+/**
+ * A scroll retrieving hits one chunk at a time, with a "search after" cursor.
+ * <p>
+ * The index readers are kept open until the scroll is closed,
+ * so that every chunk is retrieved from the same view of the indexes:
+ * Lucene document IDs, which the cursor relies on, are only stable for a given reader.
+ * <p>
+ * Only the top docs of the current chunk are ever collected,
+ * so memory usage does not depend on the total number of hits.
+ *
+ * @param <H> The type of query hits.
+ */
+class LuceneSearchScrollImpl<H> implements SearchScroll<H> {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final LuceneSyncWorkOrchestrator.IndexSnapshot indexSnapshot;
+	private final LuceneWorkFactory workFactory;
+	private final LuceneSearcher<LuceneLoadableSearchResult<H>> searcher;
+	private final TimeoutManager timeoutManager;
+	private final int chunkSize;
+
+	private ScoreDoc lastScoreDoc;
+	private boolean closed = false;
+
+	LuceneSearchScrollImpl(LuceneSyncWorkOrchestrator.IndexSnapshot indexSnapshot,
+			LuceneWorkFactory workFactory,
+			LuceneSearcher<LuceneLoadableSearchResult<H>> searcher,
+			TimeoutManager timeoutManager, int chunkSize) {
+		this.indexSnapshot = indexSnapshot;
+		this.workFactory = workFactory;
+		this.searcher = searcher;
+		this.timeoutManager = timeoutManager;
+		this.chunkSize = chunkSize;
+	}
+
+	@Override
+	public void close() {
+		closed = true;
+		indexSnapshot.close();
+	}
+
+	@Override
+	public SearchScrollResult<H> next() {
+		if ( closed ) {
+			throw log.cannotUseClosedScroll();
+		}
+
+		timeoutManager.start();
+		ReadWork<LuceneLoadableSearchResult<H>> work = workFactory.scroll( searcher, lastScoreDoc, chunkSize );
+		LuceneSearchResult<H> result = indexSnapshot.submit( work )
+				// WARNING: this must run in the user thread; see LuceneSearchQueryImpl#fetch.
+				.loadBlocking();
+		timeoutManager.stop();
+
+		// Use the top docs rather than the hits to move the cursor forward:
+		// some hits may have been skipped because the corresponding entity could not be loaded.
+		TopDocs topDocs = result.topDocs();
+		boolean hasHits = topDocs != null && topDocs.scoreDocs.length > 0;
+		if ( hasHits ) {
+			lastScoreDoc = topDocs.scoreDocs[topDocs.scoreDocs.length - 1];
+		}
+
+		return new SimpleSearchScrollResult<>( hasHits, result.total(), result.hits(),
+				result.took(), result.timedOut() );
+	}
+}
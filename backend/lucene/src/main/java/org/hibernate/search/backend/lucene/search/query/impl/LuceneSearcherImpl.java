@@ -48,18 +48,21 @@
 	private final LuceneSearchProjection<?, H> rootProjection;
 	private final Map<AggregationKey<?>, LuceneSearchAggregation<?>> aggregations;
 	private final ExtractionRequirements extractionRequirements;
+	private final Long totalHitCountThreshold;
 
-	private TimeoutManager timeoutManager;
+	private final TimeoutManager timeoutManager;
 
 	LuceneSearcherImpl(LuceneSearchQueryRequestContext requestContext,
 			LuceneSearchProjection<?, H> rootProjection,
 			Map<AggregationKey<?>, LuceneSearchAggregation<?>> aggregations,
 			ExtractionRequirements extractionRequirements,
+			Long totalHitCountThreshold,
 			TimeoutManager timeoutManager) {
 		this.requestContext = requestContext;
 		this.rootProjection = rootProjection;
 		this.aggregations = aggregations;
 		this.extractionRequirements = extractionRequirements;
+		this.totalHitCountThreshold = totalHitCountThreshold;
 		this.timeoutManager = timeoutManager;
 	}
 
@@ -77,29 +80,15 @@ public String toString() {
 	public LuceneLoadableSearchResult<H> search(IndexSearcher indexSearcher,
 			IndexReaderMetadataResolver metadataResolver,
 			int offset, Integer limit) throws IOException {
-		queryLog.executingLuceneQuery( requestContext.getLuceneQuery() );
-
-		LuceneCollectors luceneCollectors = buildCollectors( indexSearcher, metadataResolver, offset, limit );
-
-		luceneCollectors.collect( offset, limit );
-
-		LuceneSearchQueryExtractContext extractContext = requestContext.createExtractContext(
-				indexSearcher, luceneCollectors
-		);
-
-		List<Object> extractedData = extractHits( extractContext );
-
-		Map<AggregationKey<?>, ?> extractedAggregations = aggregations.isEmpty() ?
-				Collections.emptyMap() : extractAggregations( extractContext );
+		return doSearch( indexSearcher, metadataResolver, offset, limit, null, true );
+	}
 
-		return new LuceneLoadableSearchResult<>(
-				extractContext, rootProjection,
-				luceneCollectors.getTotalHitCount(),
-				extractedData,
-				extractedAggregations,
-				timeoutManager.getTookTime(),
-				timeoutManager.isTimedOut()
-		);
+	@Override
+	public LuceneLoadableSearchResult<H> scroll(IndexSearcher indexSearcher,
+			IndexReaderMetadataResolver metadataResolver,
+			ScoreDoc after, int chunkSize) throws IOException {
+		// Aggregations are not exposed in scroll results: don't waste time computing them for each chunk.
+		return doSearch( indexSearcher, metadataResolver, 0, chunkSize, after, false );
 	}
 
 	@Override
@@ -127,20 +116,52 @@ public Query getLuceneQueryForExceptions() {
 	}
 
 	@Override
-	public void setTimeoutManager(TimeoutManager timeoutManager) {
-		this.timeoutManager = timeoutManager;
+	public LuceneSearcherImpl<H> withTimeoutManager(TimeoutManager timeoutManager) {
+		return new LuceneSearcherImpl<>( requestContext, rootProjection, aggregations, extractionRequirements,
+				totalHitCountThreshold, timeoutManager );
+	}
+
+	private LuceneLoadableSearchResult<H> doSearch(IndexSearcher indexSearcher,
+			IndexReaderMetadataResolver metadataResolver,
+			int offset, Integer limit, ScoreDoc after, boolean includeAggregations) throws IOException {
+		queryLog.executingLuceneQuery( requestContext.getLuceneQuery() );
+
+		includeAggregations = includeAggregations && !aggregations.isEmpty();
+
+		LuceneCollectors luceneCollectors = buildCollectors( indexSearcher, metadataResolver, offset, limit,
+				after, includeAggregations );
+
+		luceneCollectors.collect( offset, limit );
+
+		LuceneSearchQueryExtractContext extractContext = requestContext.createExtractContext(
+				indexSearcher, luceneCollectors
+		);
+
+		List<Object> extractedData = extractHits( extractContext );
+
+		Map<AggregationKey<?>, ?> extractedAggregations = includeAggregations ?
+				extractAggregations( extractContext ) : Collections.emptyMap();
+
+		return new LuceneLoadableSearchResult<>(
+				extractContext, rootProjection,
+				luceneCollectors.getResultTotal(),
+				extractedData,
+				extractedAggregations,
+				timeoutManager.getTookTime(),
+				timeoutManager.isTimedOut()
+		);
 	}
 
 	private LuceneCollectors buildCollectors(IndexSearcher indexSearcher, IndexReaderMetadataResolver metadataResolver,
-			int offset, Integer limit) throws IOException {
-		// TODO HSEARCH-3323 this is very naive for now, we will probably need to implement some scrolling in the collector
-		//  as it is done in Search 5.
-		//  Note that Lucene initializes data structures of this size so setting it to a large value consumes memory.
+			int offset, Integer limit, ScoreDoc after, boolean includeAggregations) throws IOException {
+		// Note that Lucene initializes data structures of this size so setting it to a large value consumes memory.
+		// That's why scrolls collect top docs one chunk at a time, using a "search after" cursor.
 		int maxDocs = getMaxDocs( indexSearcher.getIndexReader(), offset, limit );
 
 		return extractionRequirements.createCollectors(
 				indexSearcher, requestContext.getLuceneQuery(), requestContext.getLuceneSort(),
-				metadataResolver, maxDocs, timeoutManager
+				metadataResolver, maxDocs, after, getTotalHitsThreshold( maxDocs ),
+				includeAggregations, timeoutManager
 		);
 	}
 
@@ -156,6 +177,14 @@ else if ( limit.equals( 0 ) ) {
 		}
 	}
 
+	private int getTotalHitsThreshold(int maxDocs) {
+		if ( totalHitCountThreshold == null ) {
+			return Integer.MAX_VALUE;
+		}
+		// Lucene counts hits accurately at least up to the number of requested top docs anyway.
+		return (int) Math.max( maxDocs, Math.min( totalHitCountThreshold, Integer.MAX_VALUE ) );
+	}
+
 	private List<Object> extractHits(LuceneSearchQueryExtractContext extractContext) {
 		ProjectionHitMapper<?, ?> projectionHitMapper = extractContext.getProjectionHitMapper();
 
@@ -168,7 +197,7 @@ private List<Object> extractHits(LuceneSearchQueryExtractContext extractContext)
 
 		SearchProjectionExtractContext projectionExtractContext = extractContext.createProjectionExtractContext();
 
-		StoredFieldsCollector storedFieldsCollector =
+		Map<Integer, Document> storedFields =
 				projectionExtractContext.getCollector( StoredFieldsCollector.KEY );
 
 		for ( int i = 0; i < topDocs.scoreDocs.length; i++ ) {
@@ -179,7 +208,7 @@ private List<Object> extractHits(LuceneSearchQueryExtractContext extractContext)
 			}
 
 			ScoreDoc hit = topDocs.scoreDocs[i];
-			Document document = storedFieldsCollector == null ? null : storedFieldsCollector.getDocument( hit.doc );
+			Document document = storedFields == null ? null : storedFields.get( hit.doc );
 
 			LuceneResult luceneResult = new LuceneResult( document, hit.doc, hit.score );
 
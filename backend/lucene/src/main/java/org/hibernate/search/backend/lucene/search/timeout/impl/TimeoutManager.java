@@ -63,6 +63,14 @@ private TimeoutManager(TimingSource timingSource, Query query, Long timeoutValue
 		timingSource.ensureInitialized();
 	}
 
+	/**
+	 * @return A new timeout manager with the same settings as this one, but with its own state,
+	 * so that it can be used for an execution running concurrently with executions using this one.
+	 */
+	public TimeoutManager copy() {
+		return new TimeoutManager( timingSource, query, timeoutValue, timeoutUnit, type );
+	}
+
 	/**
 	 * we start counting from this method call (if needed)
 	 */
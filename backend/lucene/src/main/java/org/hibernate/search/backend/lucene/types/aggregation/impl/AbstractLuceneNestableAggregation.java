@@ -15,19 +15,16 @@
 import org.hibernate.search.backend.lucene.search.impl.LuceneSearchContext;
 import org.hibernate.search.backend.lucene.search.impl.LuceneSearchFieldContext;
 import org.hibernate.search.backend.lucene.search.predicate.impl.LuceneSearchPredicate;
-import org.hibernate.search.backend.lucene.search.predicate.impl.PredicateRequestContext;
 import org.hibernate.search.engine.search.aggregation.spi.SearchAggregationBuilder;
 import org.hibernate.search.engine.search.predicate.SearchPredicate;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
-import org.apache.lucene.search.Query;
-
 public abstract class AbstractLuceneNestableAggregation<A> implements LuceneSearchAggregation<A> {
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
 	private final String nestedDocumentPath;
-	private final Query nestedFilter;
+	private final LuceneSearchPredicate nestedFilter;
 
 	AbstractLuceneNestableAggregation(AbstractBuilder<A> builder) {
 		this.nestedDocumentPath = builder.nestedDocumentPath;
@@ -47,7 +44,7 @@ protected NestedDocsProvider createNestedDocsProvider(AggregationExtractContext
 		protected final LuceneSearchContext searchContext;
 		protected final LuceneSearchFieldContext<?> field;
 		private final String nestedDocumentPath;
-		private Query nestedFilter;
+		private LuceneSearchPredicate nestedFilter;
 
 		public AbstractBuilder(LuceneSearchContext searchContext, LuceneSearchFieldContext<?> field) {
 			this.searchContext = searchContext;
@@ -61,8 +58,7 @@ public void filter(SearchPredicate filter) {
 			}
 			LuceneSearchPredicate luceneFilter = LuceneSearchPredicate.from( searchContext, filter );
 			luceneFilter.checkNestableWithin( nestedDocumentPath );
-			PredicateRequestContext filterContext = new PredicateRequestContext( nestedDocumentPath );
-			this.nestedFilter = luceneFilter.toQuery( filterContext );
+			this.nestedFilter = luceneFilter;
 		}
 
 		@Override
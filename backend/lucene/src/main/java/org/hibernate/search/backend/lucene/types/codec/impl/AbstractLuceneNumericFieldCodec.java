@@ -9,6 +9,7 @@
 import org.hibernate.search.backend.lucene.document.impl.LuceneDocumentBuilder;
 import org.hibernate.search.backend.lucene.types.lowlevel.impl.LuceneNumericDomain;
 import org.hibernate.search.backend.lucene.lowlevel.common.impl.MetadataFields;
+import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.ProjectionDocValuesSource;
 
 import org.apache.lucene.index.Term;
 import org.apache.lucene.search.DocValuesFieldExistsQuery;
@@ -75,6 +76,16 @@ public Query createExistsQuery(String absoluteFieldPath) {
 		}
 	}
 
+	@Override
+	public ProjectionDocValuesSource<F> createProjectionDocValuesSourceOrNull(String absoluteFieldPath) {
+		if ( !( sortable || aggregable ) || !isEncodingLossless() ) {
+			return null;
+		}
+		LuceneNumericDomain<E> domain = getDomain();
+		return ProjectionDocValuesSource.fromLongField( absoluteFieldPath,
+				value -> decode( domain.sortedDocValueToTerm( value ) ) );
+	}
+
 	@Override
 	public boolean isCompatibleWith(LuceneFieldCodec<?> obj) {
 		if ( this == obj ) {
@@ -94,6 +105,14 @@ public boolean isCompatibleWith(LuceneFieldCodec<?> obj) {
 
 	public abstract LuceneNumericDomain<E> getDomain();
 
+	/**
+	 * @return {@code true} if {@link #decode(Number)} always returns a value equal to the value
+	 * that was passed to {@link #encode(Object)}, {@code false} otherwise (truncated precision, lost time zone, ...).
+	 */
+	protected boolean isEncodingLossless() {
+		return false;
+	}
+
 	abstract void doEncodeForProjection(LuceneDocumentBuilder documentBuilder, String absoluteFieldPath,
 			F value, E encodedValue);
 
@@ -47,4 +47,9 @@ public LuceneNumericDomain<Integer> getDomain() {
 		return LuceneIntegerDomain.get();
 	}
 
+	@Override
+	protected boolean isEncodingLossless() {
+		return true;
+	}
+
 }
@@ -46,4 +46,9 @@ public Byte decode(Integer encoded) {
 	public LuceneNumericDomain<Integer> getDomain() {
 		return LuceneIntegerDomain.get();
 	}
+
+	@Override
+	protected boolean isEncodingLossless() {
+		return true;
+	}
 }
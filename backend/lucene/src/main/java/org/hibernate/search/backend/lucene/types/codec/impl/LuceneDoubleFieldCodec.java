@@ -45,4 +45,9 @@ public Double decode(Double encoded) {
 	public LuceneNumericDomain<Double> getDomain() {
 		return LuceneDoubleDomain.get();
 	}
+
+	@Override
+	protected boolean isEncodingLossless() {
+		return true;
+	}
 }
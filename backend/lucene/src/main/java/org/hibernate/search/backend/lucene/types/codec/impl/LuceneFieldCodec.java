@@ -8,6 +8,7 @@
 
 
 import org.hibernate.search.backend.lucene.document.impl.LuceneDocumentBuilder;
+import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.ProjectionDocValuesSource;
 
 import org.apache.lucene.index.IndexableField;
 import org.apache.lucene.search.Query;
@@ -41,6 +42,19 @@
 	 */
 	F decode(IndexableField field);
 
+	/**
+	 * Create a source of values extracted from doc values instead of stored fields.
+	 * <p>
+	 * Typically used in projections, to avoid loading stored fields.
+	 *
+	 * @param absoluteFieldPath The absolute path of the field.
+	 * @return A source of values, or {@code null} if this codec does not add doc values to the document,
+	 * or if the values in doc values cannot be decoded into the original values without loss of information.
+	 */
+	default ProjectionDocValuesSource<F> createProjectionDocValuesSourceOrNull(String absoluteFieldPath) {
+		return null;
+	}
+
 	/**
 	 * Create a {@link Query} that will match every document in which the field with the given path appears.
 	 *
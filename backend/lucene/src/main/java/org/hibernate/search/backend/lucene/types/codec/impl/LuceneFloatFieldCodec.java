@@ -45,4 +45,9 @@ public Float decode(Float encoded) {
 	public LuceneNumericDomain<Float> getDomain() {
 		return LuceneFloatDomain.get();
 	}
+
+	@Override
+	protected boolean isEncodingLossless() {
+		return true;
+	}
 }
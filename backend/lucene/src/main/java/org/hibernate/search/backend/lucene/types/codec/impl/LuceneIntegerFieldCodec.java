@@ -44,4 +44,9 @@ public Integer decode(Integer encoded) {
 	public LuceneNumericDomain<Integer> getDomain() {
 		return LuceneIntegerDomain.get();
 	}
+
+	@Override
+	protected boolean isEncodingLossless() {
+		return true;
+	}
 }
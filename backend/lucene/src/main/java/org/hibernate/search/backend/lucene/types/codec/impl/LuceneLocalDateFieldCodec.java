@@ -65,4 +65,9 @@ public LocalDate decode(Long encoded) {
 	public LuceneNumericDomain<Long> getDomain() {
 		return LuceneLongDomain.get();
 	}
+
+	@Override
+	protected boolean isEncodingLossless() {
+		return true;
+	}
 }
@@ -11,6 +11,7 @@
 import org.hibernate.search.backend.lucene.document.impl.LuceneDocumentBuilder;
 import org.hibernate.search.backend.lucene.lowlevel.common.impl.AnalyzerConstants;
 import org.hibernate.search.backend.lucene.lowlevel.common.impl.MetadataFields;
+import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.ProjectionDocValuesSource;
 
 import org.apache.lucene.analysis.Analyzer;
 import org.apache.lucene.document.Field;
@@ -77,6 +78,14 @@ public String decode(IndexableField field) {
 		return field.stringValue();
 	}
 
+	@Override
+	public ProjectionDocValuesSource<String> createProjectionDocValuesSourceOrNull(String absoluteFieldPath) {
+		if ( !hasRawValuesInDocValues() ) {
+			return null;
+		}
+		return ProjectionDocValuesSource.fromTextField( absoluteFieldPath );
+	}
+
 	@Override
 	public boolean isCompatibleWith(LuceneFieldCodec<?> obj) {
 		if ( this == obj ) {
@@ -89,7 +98,9 @@ public boolean isCompatibleWith(LuceneFieldCodec<?> obj) {
 		LuceneStringFieldCodec other = (LuceneStringFieldCodec) obj;
 
 		return ( sortable == other.sortable ) && ( searchable == other.searchable )
-				&& Objects.equals( fieldType, other.fieldType );
+				&& Objects.equals( fieldType, other.fieldType )
+				// Projections may rely on doc values: they must be consistent across indexes.
+				&& hasRawValuesInDocValues() == other.hasRawValuesInDocValues();
 	}
 
 	@Override
@@ -121,4 +132,9 @@ public BytesRef normalize(String absoluteFieldPath, String value) {
 		}
 		return analyzerOrNormalizer.normalize( absoluteFieldPath, value );
 	}
+
+	private boolean hasRawValuesInDocValues() {
+		// Doc values only hold the original value if it was not altered by a normalizer
+		return ( sortable || aggregable ) && analyzerOrNormalizer == AnalyzerConstants.KEYWORD_ANALYZER;
+	}
 }
@@ -29,6 +29,7 @@
 import org.apache.lucene.search.DoubleValues;
 import org.apache.lucene.search.FieldComparator;
 import org.apache.lucene.search.Query;
+import org.apache.lucene.search.SortField;
 import org.apache.lucene.util.NumericUtils;
 
 public class LuceneDoubleDomain implements LuceneNumericDomain<Double> {
@@ -131,6 +132,11 @@ public FieldComparator.NumericComparator<Double> createFieldComparator(String fi
 		return new DoubleFieldComparator( numHits, fieldName, missingValue, source );
 	}
 
+	@Override
+	public SortField.Type getSortFieldType() {
+		return SortField.Type.DOUBLE;
+	}
+
 	public static class DoubleFieldComparator extends FieldComparator.DoubleComparator {
 
 		private final DoubleMultiValuesToSingleValuesSource source;
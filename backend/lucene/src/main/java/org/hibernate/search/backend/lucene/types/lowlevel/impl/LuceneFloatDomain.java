@@ -26,6 +26,7 @@
 import org.apache.lucene.search.DoubleValues;
 import org.apache.lucene.search.FieldComparator;
 import org.apache.lucene.search.Query;
+import org.apache.lucene.search.SortField;
 import org.apache.lucene.util.NumericUtils;
 
 import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.DoubleMultiValuesToSingleValuesSource;
@@ -130,6 +131,11 @@ public FieldComparator.NumericComparator<Float> createFieldComparator(String fie
 		return new FloatFieldComparator( numHits, fieldname, missingValue, source );
 	}
 
+	@Override
+	public SortField.Type getSortFieldType() {
+		return SortField.Type.FLOAT;
+	}
+
 	public static class FloatFieldComparator extends FieldComparator.FloatComparator {
 		private final DoubleMultiValuesToSingleValuesSource source;
 
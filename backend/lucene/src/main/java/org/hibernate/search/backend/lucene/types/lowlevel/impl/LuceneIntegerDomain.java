@@ -25,6 +25,7 @@
 import org.apache.lucene.search.DoubleValues;
 import org.apache.lucene.search.FieldComparator;
 import org.apache.lucene.search.Query;
+import org.apache.lucene.search.SortField;
 import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.LongMultiValuesToSingleValuesSource;
 import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.MultiValueMode;
 import org.hibernate.search.backend.lucene.lowlevel.facet.impl.LongMultiValueFacetCounts;
@@ -122,6 +123,11 @@ public FieldComparator.NumericComparator<Integer> createFieldComparator(String f
 		return new IntegerFieldComparator( numHits, fieldName, missingValue, source );
 	}
 
+	@Override
+	public SortField.Type getSortFieldType() {
+		return SortField.Type.INT;
+	}
+
 	public static class IntegerFieldComparator extends FieldComparator.IntComparator {
 
 		private final LongMultiValuesToSingleValuesSource source;
@@ -18,6 +18,7 @@
 import org.apache.lucene.index.IndexableField;
 import org.apache.lucene.search.FieldComparator;
 import org.apache.lucene.search.Query;
+import org.apache.lucene.search.SortField;
 import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.MultiValueMode;
 
 public interface LuceneNumericDomain<E extends Number> {
@@ -51,4 +52,10 @@ Facets createRangeFacetCounts(String absoluteFieldPath,
 
 	FieldComparator.NumericComparator<E> createFieldComparator(String absoluteFieldPath, int numHits,
 			MultiValueMode multiValueMode, E missingValue, NestedDocsProvider nestedDocsProvider);
+
+	/**
+	 * @return The type to use in native Lucene {@link org.apache.lucene.search.SortedNumericSortField}s
+	 * on fields created by {@link #createSortedDocValuesField(String, Number)}.
+	 */
+	SortField.Type getSortFieldType();
 }
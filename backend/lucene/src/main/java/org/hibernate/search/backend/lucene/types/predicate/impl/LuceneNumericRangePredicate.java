@@ -11,6 +11,7 @@
 import org.hibernate.search.backend.lucene.search.impl.LuceneSearchContext;
 import org.hibernate.search.backend.lucene.search.impl.LuceneSearchFieldContext;
 import org.hibernate.search.backend.lucene.search.predicate.impl.AbstractLuceneLeafSingleFieldPredicate;
+import org.hibernate.search.backend.lucene.search.predicate.impl.RequiredFieldRanges;
 import org.hibernate.search.backend.lucene.types.codec.impl.AbstractLuceneNumericFieldCodec;
 import org.hibernate.search.backend.lucene.types.lowlevel.impl.LuceneNumericDomain;
 import org.hibernate.search.engine.search.common.ValueConvert;
@@ -23,14 +24,25 @@
 
 class LuceneNumericRangePredicate extends AbstractLuceneLeafSingleFieldPredicate {
 
-	private LuceneNumericRangePredicate(Builder builder) {
+	private final Range<?> fieldValueRange;
+
+	private LuceneNumericRangePredicate(Builder<?, ?> builder) {
 		super( builder );
+		this.fieldValueRange = builder.fieldValueRange;
+	}
+
+	@Override
+	public void contributeRequiredFieldRanges(RequiredFieldRanges ranges) {
+		if ( getNestedPathHierarchy().isEmpty() ) {
+			ranges.add( absoluteFieldPath, fieldValueRange );
+		}
 	}
 
 	static class Builder<F, E extends Number> extends AbstractBuilder<F>
 			implements RangePredicateBuilder {
 		private final AbstractLuceneNumericFieldCodec<F, E> codec;
 
+		private Range<F> fieldValueRange;
 		private Range<E> range;
 
 		Builder(LuceneSearchContext searchContext, LuceneSearchFieldContext<F> field,
@@ -41,7 +53,8 @@ private LuceneNumericRangePredicate(Builder builder) {
 
 		@Override
 		public void range(Range<?> range, ValueConvert convertLowerBound, ValueConvert convertUpperBound) {
-			this.range = convertAndEncode( codec, range, convertLowerBound, convertUpperBound );
+			this.fieldValueRange = convert( range, convertLowerBound, convertUpperBound );
+			this.range = encode( codec, fieldValueRange );
 		}
 
 		@Override
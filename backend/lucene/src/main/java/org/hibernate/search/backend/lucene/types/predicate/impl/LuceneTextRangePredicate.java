@@ -9,6 +9,7 @@
 import org.hibernate.search.backend.lucene.search.impl.LuceneSearchContext;
 import org.hibernate.search.backend.lucene.search.impl.LuceneSearchFieldContext;
 import org.hibernate.search.backend.lucene.search.predicate.impl.AbstractLuceneLeafSingleFieldPredicate;
+import org.hibernate.search.backend.lucene.search.predicate.impl.RequiredFieldRanges;
 import org.hibernate.search.backend.lucene.types.codec.impl.LuceneTextFieldCodec;
 import org.hibernate.search.engine.search.common.ValueConvert;
 import org.hibernate.search.engine.search.predicate.SearchPredicate;
@@ -21,13 +22,24 @@
 
 class LuceneTextRangePredicate extends AbstractLuceneLeafSingleFieldPredicate {
 
-	private LuceneTextRangePredicate(Builder builder) {
+	private final Range<?> fieldValueRange;
+
+	private LuceneTextRangePredicate(Builder<?> builder) {
 		super( builder );
+		this.fieldValueRange = builder.fieldValueRange;
+	}
+
+	@Override
+	public void contributeRequiredFieldRanges(RequiredFieldRanges ranges) {
+		if ( getNestedPathHierarchy().isEmpty() ) {
+			ranges.add( absoluteFieldPath, fieldValueRange );
+		}
 	}
 
 	static class Builder<F> extends AbstractBuilder<F> implements RangePredicateBuilder {
 		private final LuceneTextFieldCodec<F> codec;
 
+		private Range<F> fieldValueRange;
 		private Range<String> range;
 
 		Builder(LuceneSearchContext searchContext, LuceneSearchFieldContext<F> field,
@@ -38,7 +50,8 @@ private LuceneTextRangePredicate(Builder builder) {
 
 		@Override
 		public void range(Range<?> range, ValueConvert convertLowerBound, ValueConvert convertUpperBound) {
-			this.range = convertAndEncode( codec, range, convertLowerBound, convertUpperBound );
+			this.fieldValueRange = convert( range, convertLowerBound, convertUpperBound );
+			this.range = encode( codec, fieldValueRange );
 		}
 
 		@Override
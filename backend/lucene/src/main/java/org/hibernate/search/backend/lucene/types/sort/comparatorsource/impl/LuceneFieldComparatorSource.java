@@ -7,18 +7,21 @@
 package org.hibernate.search.backend.lucene.types.sort.comparatorsource.impl;
 
 import org.hibernate.search.backend.lucene.lowlevel.join.impl.NestedDocsProvider;
+import org.hibernate.search.backend.lucene.search.predicate.impl.LuceneSearchPredicate;
+import org.hibernate.search.backend.lucene.search.predicate.impl.PredicateRequestContext;
 
 import org.apache.lucene.search.FieldComparatorSource;
 import org.apache.lucene.search.Query;
+import org.apache.lucene.search.SortField;
 
 public abstract class LuceneFieldComparatorSource extends FieldComparatorSource {
 
 	protected final String nestedDocumentPath;
-	protected final Query filter;
+	protected final LuceneSearchPredicate filter;
 
 	protected NestedDocsProvider nestedDocsProvider;
 
-	public LuceneFieldComparatorSource(String nestedDocumentPath, Query filter) {
+	public LuceneFieldComparatorSource(String nestedDocumentPath, LuceneSearchPredicate filter) {
 		this.nestedDocumentPath = nestedDocumentPath;
 		this.filter = filter;
 	}
@@ -27,7 +30,21 @@ public String getNestedDocumentPath() {
 		return nestedDocumentPath;
 	}
 
-	public void setOriginalParentQuery(Query luceneQuery) {
-		this.nestedDocsProvider = new NestedDocsProvider( nestedDocumentPath, luceneQuery, filter );
+	public void setOriginalParentQuery(Query luceneQuery, PredicateRequestContext predicateContext) {
+		// The filter is translated here rather than when the sort is built, so that it can use query parameters
+		Query luceneFilter = filter == null ? null
+				: filter.toQuery( predicateContext.withNestedPath( nestedDocumentPath ) );
+		this.nestedDocsProvider = new NestedDocsProvider( nestedDocumentPath, luceneQuery, luceneFilter );
+	}
+
+	/**
+	 * @param absoluteFieldPath The absolute path of the field to sort on.
+	 * @param reverse Whether the sort is reversed.
+	 * @return A native Lucene sort field that sorts documents exactly like this comparator source,
+	 * and that can be used in an index sort,
+	 * or {@code null} if there is no such sort field.
+	 */
+	public SortField toIndexSortField(String absoluteFieldPath, boolean reverse) {
+		return null;
 	}
 }
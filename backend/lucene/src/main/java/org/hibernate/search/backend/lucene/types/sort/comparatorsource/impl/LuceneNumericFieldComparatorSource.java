@@ -9,8 +9,11 @@
 import org.hibernate.search.backend.lucene.types.lowlevel.impl.LuceneNumericDomain;
 
 import org.apache.lucene.search.FieldComparator;
-import org.apache.lucene.search.Query;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.SortedNumericSelector;
+import org.apache.lucene.search.SortedNumericSortField;
 import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.MultiValueMode;
+import org.hibernate.search.backend.lucene.search.predicate.impl.LuceneSearchPredicate;
 
 public class LuceneNumericFieldComparatorSource<E extends Number> extends LuceneFieldComparatorSource {
 
@@ -18,7 +21,7 @@
 	private final LuceneNumericDomain<E> numericDomain;
 	private final MultiValueMode sortMode;
 
-	public LuceneNumericFieldComparatorSource(String nestedDocumentPath, LuceneNumericDomain<E> numericDomain, E missingValue, MultiValueMode sortMode, Query filter) {
+	public LuceneNumericFieldComparatorSource(String nestedDocumentPath, LuceneNumericDomain<E> numericDomain, E missingValue, MultiValueMode sortMode, LuceneSearchPredicate filter) {
 		super( nestedDocumentPath, filter );
 		this.numericDomain = numericDomain;
 		this.missingValue = missingValue;
@@ -29,4 +32,27 @@ public LuceneNumericFieldComparatorSource(String nestedDocumentPath, LuceneNumer
 	public FieldComparator<?> newComparator(String fieldname, int numHits, int sortPos, boolean reversed) {
 		return numericDomain.createFieldComparator( fieldname, numHits, sortMode, missingValue, nestedDocsProvider );
 	}
+
+	@Override
+	public SortField toIndexSortField(String absoluteFieldPath, boolean reverse) {
+		if ( nestedDocumentPath != null || filter != null ) {
+			return null;
+		}
+		SortedNumericSelector.Type selector;
+		switch ( sortMode ) {
+			case MIN:
+				selector = SortedNumericSelector.Type.MIN;
+				break;
+			case MAX:
+				selector = SortedNumericSelector.Type.MAX;
+				break;
+			default:
+				// Other modes combine multiple values: no native equivalent.
+				return null;
+		}
+		SortField sortField = new SortedNumericSortField( absoluteFieldPath, numericDomain.getSortFieldType(),
+				reverse, selector );
+		sortField.setMissingValue( missingValue );
+		return sortField;
+	}
 }
@@ -9,6 +9,7 @@
 import java.io.IOException;
 
 import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.MultiValueMode;
+import org.hibernate.search.backend.lucene.search.predicate.impl.LuceneSearchPredicate;
 import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.ReplaceMissingSortedDocValues;
 import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.TextMultiValuesToSingleValuesSource;
 import org.hibernate.search.backend.lucene.types.sort.impl.SortMissingValue;
@@ -16,7 +17,9 @@
 import org.apache.lucene.index.LeafReaderContext;
 import org.apache.lucene.index.SortedDocValues;
 import org.apache.lucene.search.FieldComparator;
-import org.apache.lucene.search.Query;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.SortedSetSelector;
+import org.apache.lucene.search.SortedSetSortField;
 import org.apache.lucene.util.BytesRef;
 
 public class LuceneTextFieldComparatorSource extends LuceneFieldComparatorSource {
@@ -24,7 +27,7 @@ public class LuceneTextFieldComparatorSource extends LuceneFieldComparatorSource
 	private final Object missingValue;
 	private final MultiValueMode multiValueMode;
 
-	public LuceneTextFieldComparatorSource(String nestedDocumentPath, Object missingValue, MultiValueMode multiValueMode, Query luceneFilter) {
+	public LuceneTextFieldComparatorSource(String nestedDocumentPath, Object missingValue, MultiValueMode multiValueMode, LuceneSearchPredicate luceneFilter) {
 		super( nestedDocumentPath, luceneFilter );
 		this.missingValue = missingValue;
 		this.multiValueMode = multiValueMode;
@@ -50,6 +53,33 @@ protected SortedDocValues getSortedDocValues(LeafReaderContext context, String f
 		};
 	}
 
+	@Override
+	public SortField toIndexSortField(String absoluteFieldPath, boolean reverse) {
+		if ( nestedDocumentPath != null || filter != null ) {
+			return null;
+		}
+		if ( !missingFirst() && !missingLast() ) {
+			// Replacing missing values with an arbitrary value: no native equivalent.
+			return null;
+		}
+		SortedSetSelector.Type selector;
+		switch ( multiValueMode ) {
+			case MIN:
+				selector = SortedSetSelector.Type.MIN;
+				break;
+			case MAX:
+				selector = SortedSetSelector.Type.MAX;
+				break;
+			default:
+				return null;
+		}
+		SortField sortField = new SortedSetSortField( absoluteFieldPath, reverse, selector );
+		// Native sort fields apply the missing value position before reversing the order,
+		// so, just like in our comparator, the missing value position is flipped when the sort is reversed.
+		sortField.setMissingValue( missingLast() ^ reverse ? SortField.STRING_LAST : SortField.STRING_FIRST );
+		return sortField;
+	}
+
 	private boolean missingFirst() {
 		return SortMissingValue.MISSING_FIRST.equals( missingValue );
 	}
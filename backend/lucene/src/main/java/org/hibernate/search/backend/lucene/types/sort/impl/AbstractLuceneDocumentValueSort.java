@@ -13,7 +13,6 @@
 import org.hibernate.search.backend.lucene.search.impl.LuceneSearchContext;
 import org.hibernate.search.backend.lucene.search.impl.LuceneSearchFieldContext;
 import org.hibernate.search.backend.lucene.search.predicate.impl.LuceneSearchPredicate;
-import org.hibernate.search.backend.lucene.search.predicate.impl.PredicateRequestContext;
 import org.hibernate.search.backend.lucene.search.sort.impl.AbstractLuceneReversibleSort;
 import org.hibernate.search.backend.lucene.search.sort.impl.LuceneSearchSortCollector;
 import org.hibernate.search.backend.lucene.types.sort.comparatorsource.impl.LuceneFieldComparatorSource;
@@ -25,7 +24,6 @@
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 import org.hibernate.search.util.common.reporting.EventContext;
 
-import org.apache.lucene.search.Query;
 import org.apache.lucene.search.SortField;
 
 public abstract class AbstractLuceneDocumentValueSort extends AbstractLuceneReversibleSort {
@@ -51,7 +49,7 @@ public abstract static class AbstractBuilder extends AbstractLuceneReversibleSor
 		protected final String absoluteFieldPath;
 		protected final String nestedDocumentPath;
 		private SortMode mode;
-		protected Query nestedFilter;
+		protected LuceneSearchPredicate nestedFilter;
 
 		protected AbstractBuilder(LuceneSearchContext searchContext,
 				LuceneSearchFieldContext<?> field) {
@@ -78,8 +76,7 @@ public void filter(SearchPredicate filter) {
 			}
 			LuceneSearchPredicate luceneFilter = LuceneSearchPredicate.from( searchContext, filter );
 			luceneFilter.checkNestableWithin( nestedDocumentPath );
-			PredicateRequestContext filterContext = new PredicateRequestContext( nestedDocumentPath );
-			this.nestedFilter = luceneFilter.toQuery( filterContext );
+			this.nestedFilter = luceneFilter;
 		}
 
 		protected abstract LuceneFieldComparatorSource toFieldComparatorSource();
@@ -113,7 +110,7 @@ protected final MultiValueMode getMultiValueMode() {
 			return multiValueMode;
 		}
 
-		protected Query getNestedFilter() {
+		protected LuceneSearchPredicate getNestedFilter() {
 			return nestedFilter;
 		}
 
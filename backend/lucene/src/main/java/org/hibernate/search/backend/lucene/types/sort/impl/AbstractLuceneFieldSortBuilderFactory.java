@@ -11,8 +11,11 @@
 import org.hibernate.search.backend.lucene.logging.impl.Log;
 import org.hibernate.search.backend.lucene.search.impl.LuceneSearchFieldContext;
 import org.hibernate.search.backend.lucene.types.codec.impl.LuceneFieldCodec;
+import org.hibernate.search.engine.search.sort.dsl.SortOrder;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
+import org.apache.lucene.search.SortField;
+
 public abstract class AbstractLuceneFieldSortBuilderFactory<F, C extends LuceneFieldCodec<F>>
 		implements LuceneFieldSortBuilderFactory<F> {
 	protected static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
@@ -45,6 +48,11 @@ public boolean isCompatibleWith(LuceneFieldSortBuilderFactory<?> other) {
 		return sortable == otherFactory.sortable && codec.isCompatibleWith( otherFactory.codec );
 	}
 
+	@Override
+	public SortField createIndexSortField(String absoluteFieldPath, SortOrder order) {
+		return null;
+	}
+
 	protected void checkSortable(LuceneSearchFieldContext<?> field) {
 		if ( !sortable ) {
 			throw log.unsortableField( field.absolutePath(), field.eventContext() );
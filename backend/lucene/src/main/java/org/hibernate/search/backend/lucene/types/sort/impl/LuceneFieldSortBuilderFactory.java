@@ -9,10 +9,13 @@
 import org.hibernate.search.backend.lucene.search.impl.LuceneSearchContext;
 import org.hibernate.search.backend.lucene.search.impl.LuceneSearchFieldContext;
 import org.hibernate.search.engine.search.common.ValueConvert;
+import org.hibernate.search.engine.search.sort.dsl.SortOrder;
 import org.hibernate.search.engine.search.sort.spi.DistanceSortBuilder;
 import org.hibernate.search.engine.search.sort.spi.FieldSortBuilder;
 import org.hibernate.search.engine.spatial.GeoPoint;
 
+import org.apache.lucene.search.SortField;
+
 /**
  * A field-scoped factory for search sort builders.
  * <p>
@@ -44,4 +47,13 @@ DistanceSortBuilder createDistanceSortBuilder(
 			LuceneSearchFieldContext<F> field,
 			GeoPoint center);
 
+	/**
+	 * @param absoluteFieldPath The absolute path of the field.
+	 * @param order The sort order.
+	 * @return A native Lucene sort field sorting documents exactly like a field sort with default options
+	 * and the given order, to be used in the index sort,
+	 * or {@code null} if this field cannot be used in the index sort.
+	 */
+	SortField createIndexSortField(String absoluteFieldPath, SortOrder order);
+
 }
@@ -11,12 +11,15 @@
 import org.hibernate.search.backend.lucene.logging.impl.Log;
 import org.hibernate.search.backend.lucene.search.impl.LuceneSearchContext;
 import org.hibernate.search.backend.lucene.search.impl.LuceneSearchFieldContext;
+import org.hibernate.search.engine.search.sort.dsl.SortOrder;
 import org.hibernate.search.engine.search.sort.spi.DistanceSortBuilder;
 import org.hibernate.search.engine.search.sort.spi.FieldSortBuilder;
 import org.hibernate.search.engine.spatial.GeoPoint;
 import org.hibernate.search.util.common.SearchException;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
+import org.apache.lucene.search.SortField;
+
 public class LuceneNativeFieldSortBuilderFactory<F> implements LuceneFieldSortBuilderFactory<F> {
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
@@ -45,6 +48,11 @@ public DistanceSortBuilder createDistanceSortBuilder(
 		throw unsupported( field );
 	}
 
+	@Override
+	public SortField createIndexSortField(String absoluteFieldPath, SortOrder order) {
+		return null;
+	}
+
 	private SearchException unsupported(LuceneSearchFieldContext<?> field) {
 		return log.unsupportedDSLSortsForNativeField( field.eventContext() );
 	}
@@ -6,11 +6,17 @@
  */
 package org.hibernate.search.backend.lucene.types.sort.impl;
 
+import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.MultiValueMode;
 import org.hibernate.search.backend.lucene.search.impl.LuceneSearchContext;
 import org.hibernate.search.backend.lucene.search.impl.LuceneSearchFieldContext;
 import org.hibernate.search.backend.lucene.types.codec.impl.AbstractLuceneNumericFieldCodec;
+import org.hibernate.search.backend.lucene.types.lowlevel.impl.LuceneNumericDomain;
+import org.hibernate.search.backend.lucene.types.sort.comparatorsource.impl.LuceneNumericFieldComparatorSource;
+import org.hibernate.search.engine.search.sort.dsl.SortOrder;
 import org.hibernate.search.engine.search.sort.spi.FieldSortBuilder;
 
+import org.apache.lucene.search.SortField;
+
 public class LuceneNumericFieldSortBuilderFactory<F, E extends Number>
 		extends AbstractLuceneStandardFieldSortBuilderFactory<F, AbstractLuceneNumericFieldCodec<F, E>> {
 
@@ -25,4 +31,19 @@ public FieldSortBuilder createFieldSortBuilder(LuceneSearchContext searchContext
 
 		return new LuceneStandardFieldSort.NumericFieldBuilder<>( searchContext, field, codec );
 	}
+
+	@Override
+	public SortField createIndexSortField(String absoluteFieldPath, SortOrder order) {
+		if ( !sortable ) {
+			return null;
+		}
+		LuceneNumericDomain<E> domain = codec.getDomain();
+		boolean reverse = SortOrder.DESC == order;
+		// Same defaults as field sorts: missing values last, minimum value first (maximum in descending order)
+		LuceneNumericFieldComparatorSource<E> comparatorSource = new LuceneNumericFieldComparatorSource<>(
+				null, domain, reverse ? domain.getMinValue() : domain.getMaxValue(),
+				reverse ? MultiValueMode.MAX : MultiValueMode.MIN, null
+		);
+		return comparatorSource.toIndexSortField( absoluteFieldPath, reverse );
+	}
 }
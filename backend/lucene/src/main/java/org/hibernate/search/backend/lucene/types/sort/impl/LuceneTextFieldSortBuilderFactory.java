@@ -6,11 +6,16 @@
  */
 package org.hibernate.search.backend.lucene.types.sort.impl;
 
+import org.hibernate.search.backend.lucene.lowlevel.docvalues.impl.MultiValueMode;
 import org.hibernate.search.backend.lucene.search.impl.LuceneSearchContext;
 import org.hibernate.search.backend.lucene.search.impl.LuceneSearchFieldContext;
 import org.hibernate.search.backend.lucene.types.codec.impl.LuceneTextFieldCodec;
+import org.hibernate.search.backend.lucene.types.sort.comparatorsource.impl.LuceneTextFieldComparatorSource;
+import org.hibernate.search.engine.search.sort.dsl.SortOrder;
 import org.hibernate.search.engine.search.sort.spi.FieldSortBuilder;
 
+import org.apache.lucene.search.SortField;
+
 public class LuceneTextFieldSortBuilderFactory<F>
 		extends AbstractLuceneStandardFieldSortBuilderFactory<F, LuceneTextFieldCodec<F>> {
 
@@ -24,4 +29,18 @@ public FieldSortBuilder createFieldSortBuilder(LuceneSearchContext searchContext
 		checkSortable( field );
 		return new LuceneStandardFieldSort.TextFieldBuilder<>( searchContext, field, codec );
 	}
+
+	@Override
+	public SortField createIndexSortField(String absoluteFieldPath, SortOrder order) {
+		if ( !sortable ) {
+			return null;
+		}
+		boolean reverse = SortOrder.DESC == order;
+		// Same defaults as field sorts: missing values last, minimum value first (maximum in descending order)
+		LuceneTextFieldComparatorSource comparatorSource = new LuceneTextFieldComparatorSource(
+				null, SortMissingValue.MISSING_LAST,
+				reverse ? MultiValueMode.MAX : MultiValueMode.MIN, null
+		);
+		return comparatorSource.toIndexSortField( absoluteFieldPath, reverse );
+	}
 }
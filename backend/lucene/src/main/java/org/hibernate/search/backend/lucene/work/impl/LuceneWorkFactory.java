@@ -12,6 +12,7 @@
 
 import org.apache.lucene.search.Explanation;
 import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
 
 
 public interface LuceneWorkFactory {
@@ -40,6 +41,8 @@ SingleDocumentIndexingWork update(String tenantId, String entityTypeName, Object
 
 	<R> ReadWork<R> search(LuceneSearcher<R> searcher, Integer offset, Integer limit);
 
+	<R> ReadWork<R> scroll(LuceneSearcher<R> searcher, ScoreDoc after, int chunkSize);
+
 	ReadWork<Integer> count(LuceneSearcher<?> searcher);
 
 	ReadWork<Explanation> explain(LuceneSearcher<?> searcher,
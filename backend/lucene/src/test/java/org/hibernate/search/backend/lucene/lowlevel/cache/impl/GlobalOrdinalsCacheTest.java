@@ -0,0 +1,131 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.cache.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.util.Collections;
+
+import org.hibernate.search.backend.lucene.lowlevel.reader.impl.HibernateSearchMultiReader;
+import org.hibernate.search.backend.lucene.search.predicate.impl.RequiredFieldRanges;
+
+import org.apache.lucene.analysis.core.KeywordAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.SortedSetDocValuesField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.MultiDocValues.MultiSortedSetDocValues;
+import org.apache.lucene.index.NoMergePolicy;
+import org.apache.lucene.index.OrdinalMap;
+import org.apache.lucene.index.SortedSetDocValues;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.util.BytesRef;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class GlobalOrdinalsCacheTest {
+
+	private static final String FIELD_1 = "field1";
+	private static final String FIELD_2 = "field2";
+
+	private final GlobalOrdinalsCache cache = new GlobalOrdinalsCache();
+
+	private ByteBuffersDirectory directory;
+	private IndexWriter indexWriter;
+
+	@Before
+	public void setup() throws IOException {
+		directory = new ByteBuffersDirectory();
+		indexWriter = new IndexWriter( directory, new IndexWriterConfig( new KeywordAnalyzer() )
+				.setMergePolicy( NoMergePolicy.INSTANCE ) );
+		// Create multiple segments, so that global ordinals are necessary
+		for ( int segment = 0; segment < 3; segment++ ) {
+			for ( int i = 0; i < 10; i++ ) {
+				addDocument( "value_" + segment + "_" + i );
+			}
+			indexWriter.commit();
+		}
+	}
+
+	@After
+	public void cleanup() throws IOException {
+		indexWriter.close();
+		directory.close();
+	}
+
+	@Test
+	public void sameReader() throws IOException {
+		try ( DirectoryReader directoryReader = DirectoryReader.open( indexWriter ) ) {
+			OrdinalMap ordinalMap1;
+			try ( HibernateSearchMultiReader reader = openMultiReader( directoryReader ) ) {
+				SortedSetDocValues docValues = GlobalOrdinalsCache.getSortedSetValues( reader, FIELD_1 );
+				assertThat( docValues.getValueCount() ).isEqualTo( 30 );
+				assertThat( docValues.lookupOrd( 0 ).utf8ToString() ).isEqualTo( "value_0_0" );
+				assertThat( docValues.lookupOrd( 29 ).utf8ToString() ).isEqualTo( "value_2_9" );
+				ordinalMap1 = ordinalMap( docValues );
+			}
+
+			try ( HibernateSearchMultiReader reader = openMultiReader( directoryReader ) ) {
+				assertThat( ordinalMap( GlobalOrdinalsCache.getSortedSetValues( reader, FIELD_1 ) ) )
+						.isSameAs( ordinalMap1 );
+				assertThat( ordinalMap( GlobalOrdinalsCache.getSortedSetValues( reader, FIELD_2 ) ) )
+						.isNotSameAs( ordinalMap1 );
+			}
+
+			assertThat( cache.size() ).isEqualTo( 2 );
+		}
+
+		// The directory reader was closed: cached ordinal maps should have been evicted.
+		assertThat( cache.size() ).isEqualTo( 0 );
+	}
+
+	@Test
+	public void refresh() throws IOException {
+		try ( DirectoryReader directoryReader = DirectoryReader.open( indexWriter ) ) {
+			OrdinalMap ordinalMapBeforeRefresh;
+			try ( HibernateSearchMultiReader reader = openMultiReader( directoryReader ) ) {
+				ordinalMapBeforeRefresh = ordinalMap( GlobalOrdinalsCache.getSortedSetValues( reader, FIELD_1 ) );
+			}
+
+			addDocument( "value_new" );
+			try ( DirectoryReader refreshedDirectoryReader = DirectoryReader.openIfChanged( directoryReader ) ) {
+				assertThat( refreshedDirectoryReader ).isNotNull();
+				try ( HibernateSearchMultiReader reader = openMultiReader( refreshedDirectoryReader ) ) {
+					SortedSetDocValues docValues = GlobalOrdinalsCache.getSortedSetValues( reader, FIELD_1 );
+					assertThat( ordinalMap( docValues ) ).isNotSameAs( ordinalMapBeforeRefresh );
+					assertThat( docValues.getValueCount() ).isEqualTo( 31 );
+				}
+			}
+		}
+		assertThat( cache.size() ).isEqualTo( 0 );
+	}
+
+	private void addDocument(String value) throws IOException {
+		Document document = new Document();
+		document.add( new SortedSetDocValuesField( FIELD_1, new BytesRef( value ) ) );
+		document.add( new SortedSetDocValuesField( FIELD_2, new BytesRef( value ) ) );
+		indexWriter.addDocument( document );
+	}
+
+	private HibernateSearchMultiReader openMultiReader(DirectoryReader directoryReader) {
+		return HibernateSearchMultiReader.open( Collections.singleton( "indexName" ),
+				Collections.singleton( (routingKeys, requiredFieldRanges, readerCollector) -> {
+					// The multi-reader will decrement the reference count when closed
+					directoryReader.incRef();
+					readerCollector.collect( "typeName", directoryReader );
+				} ),
+				Collections.emptySet(), new RequiredFieldRanges(), LuceneQueryCache.disabled(), cache );
+	}
+
+	private static OrdinalMap ordinalMap(SortedSetDocValues docValues) {
+		assertThat( docValues ).isInstanceOf( MultiSortedSetDocValues.class );
+		return ( (MultiSortedSetDocValues) docValues ).mapping;
+	}
+}
@@ -0,0 +1,270 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.lowlevel.writer.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.search.engine.reporting.EntityIndexingFailureContext;
+import org.hibernate.search.engine.reporting.FailureContext;
+import org.hibernate.search.engine.reporting.FailureHandler;
+import org.hibernate.search.engine.reporting.spi.EventContexts;
+
+import org.junit.After;
+import org.junit.Test;
+
+import org.apache.lucene.analysis.core.KeywordAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.SegmentInfos;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.FilterDirectory;
+
+public class IndexWriterDelegatorImplGroupCommitTest {
+
+	private static final int THREAD_COUNT = 8;
+
+	private final BlockingSyncDirectory directory = new BlockingSyncDirectory();
+	private final ExecutorService executor = Executors.newFixedThreadPool( THREAD_COUNT );
+	private IndexWriterDelegatorImpl delegator;
+
+	@After
+	public void cleanup() throws IOException {
+		executor.shutdownNow();
+		if ( delegator != null ) {
+			delegator.close();
+		}
+		directory.close();
+	}
+
+	@Test
+	public void noMaxWait_durability() throws Exception {
+		createDelegator( 0, THREAD_COUNT );
+
+		List<CompletableFuture<?>> futures = new ArrayList<>();
+		for ( int i = 0; i < THREAD_COUNT; i++ ) {
+			String id = String.valueOf( i );
+			futures.add( CompletableFuture.runAsync( () -> {
+				addDocument( id );
+				delegator.commit();
+				// The change must be committed by the time commit() returns,
+				// regardless of which thread actually performed the commit.
+				assertThat( countCommittedDocuments( id ) ).isEqualTo( 1 );
+			}, executor ) );
+		}
+
+		CompletableFuture.allOf( futures.toArray( new CompletableFuture[0] ) ).get( 10, TimeUnit.SECONDS );
+		assertThat( countCommittedDocuments() ).isEqualTo( THREAD_COUNT );
+	}
+
+	@Test
+	public void maxWait_commitsAreGrouped() throws Exception {
+		createDelegator( 500, THREAD_COUNT * 2 );
+		long initialGeneration = commitGeneration();
+
+		List<CompletableFuture<?>> futures = new ArrayList<>();
+		for ( int i = 0; i < THREAD_COUNT; i++ ) {
+			String id = String.valueOf( i );
+			futures.add( CompletableFuture.runAsync( () -> {
+				addDocument( id );
+				delegator.commit();
+				assertThat( countCommittedDocuments( id ) ).isEqualTo( 1 );
+			}, executor ) );
+		}
+
+		CompletableFuture.allOf( futures.toArray( new CompletableFuture[0] ) ).get( 10, TimeUnit.SECONDS );
+		assertThat( countCommittedDocuments() ).isEqualTo( THREAD_COUNT );
+		// The first commit waited for the other threads, so there should be fewer commits than threads.
+		assertThat( commitGeneration() - initialGeneration ).isLessThan( THREAD_COUNT );
+	}
+
+	@Test
+	public void maxWait_fullGroup_commitsWithoutWaitingUntilMaxWait() throws Exception {
+		// The max wait is much longer than the timeout below: the commit must happen as soon as the group is full.
+		createDelegator( 60_000, THREAD_COUNT );
+		long initialGeneration = commitGeneration();
+
+		List<CompletableFuture<?>> futures = new ArrayList<>();
+		for ( int i = 0; i < THREAD_COUNT; i++ ) {
+			String id = String.valueOf( i );
+			futures.add( CompletableFuture.runAsync( () -> {
+				addDocument( id );
+				delegator.commit();
+				assertThat( countCommittedDocuments( id ) ).isEqualTo( 1 );
+			}, executor ) );
+		}
+
+		CompletableFuture.allOf( futures.toArray( new CompletableFuture[0] ) ).get( 10, TimeUnit.SECONDS );
+		assertThat( countCommittedDocuments() ).isEqualTo( THREAD_COUNT );
+		// The leader waited for the group to be full, so every thread joined a single commit.
+		assertThat( commitGeneration() - initialGeneration ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void commitInProgress_otherRequestsWaitWithoutHoldingTheLock() throws Exception {
+		createDelegator( 0, THREAD_COUNT );
+		long initialGeneration = commitGeneration();
+
+		addDocument( "1" );
+		directory.blockNextSync();
+		CompletableFuture<?> leaderFuture = CompletableFuture.runAsync( delegator::commit, executor );
+		directory.awaitBlockedSync();
+
+		// The commit is in progress: request another commit from another thread.
+		CompletableFuture<?> followerFuture = new CompletableFuture<>();
+		Thread follower = new Thread( () -> {
+			try {
+				addDocument( "2" );
+				delegator.commit();
+				followerFuture.complete( null );
+			}
+			catch (Throwable e) {
+				followerFuture.completeExceptionally( e );
+			}
+		} );
+		follower.start();
+
+		// The follower must wait for the commit to finish, but must not be blocked on the lock
+		// (which would mean the lock is held during the commit).
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos( 10 );
+		while ( follower.getState() != Thread.State.WAITING && System.nanoTime() < deadline ) {
+			assertThat( follower.getState() ).isNotEqualTo( Thread.State.TERMINATED );
+			Thread.sleep( 10 );
+		}
+		assertThat( follower.getState() ).isEqualTo( Thread.State.WAITING );
+		assertThat( leaderFuture ).isNotDone();
+
+		directory.releaseBlockedSync();
+		leaderFuture.get( 10, TimeUnit.SECONDS );
+		followerFuture.get( 10, TimeUnit.SECONDS );
+
+		assertThat( countCommittedDocuments() ).isEqualTo( 2 );
+		// The follower's change was performed after the first commit started, so it needed another commit.
+		assertThat( commitGeneration() - initialGeneration ).isEqualTo( 2 );
+	}
+
+	@Test
+	public void commitOrDelay_noCommitInterval() throws Exception {
+		createDelegator( 0, THREAD_COUNT );
+
+		addDocument( "1" );
+		delegator.commitOrDelay();
+		assertThat( countCommittedDocuments() ).isEqualTo( 1 );
+
+		// Nothing changed: no additional commit
+		long generation = commitGeneration();
+		delegator.commitOrDelay();
+		assertThat( commitGeneration() ).isEqualTo( generation );
+	}
+
+	private void createDelegator(int commitGroupMaxWait, int commitGroupMaxSize) throws IOException {
+		IndexWriter indexWriter = new IndexWriter( directory, new IndexWriterConfig( new KeywordAnalyzer() ) );
+		// Create an initial commit, so that the index can be read
+		indexWriter.commit();
+		delegator = new IndexWriterDelegatorImpl(
+				indexWriter, EventContexts.fromIndexName( "indexName" ),
+				null, null, 0, commitGroupMaxWait, commitGroupMaxSize,
+				new StubFailureHandler(),
+				(throwable, failingOperation) -> { throw new IllegalStateException( throwable ); }
+		);
+	}
+
+	private void addDocument(String id) {
+		Document document = new Document();
+		document.add( new StringField( "id", id, Field.Store.NO ) );
+		try {
+			delegator.addDocuments( Collections.singletonList( document ) );
+		}
+		catch (IOException e) {
+			throw new IllegalStateException( e );
+		}
+	}
+
+	private long commitGeneration() throws IOException {
+		return SegmentInfos.readLatestCommit( directory ).getGeneration();
+	}
+
+	private int countCommittedDocuments() throws IOException {
+		try ( DirectoryReader reader = DirectoryReader.open( directory ) ) {
+			return reader.numDocs();
+		}
+	}
+
+	private int countCommittedDocuments(String id) {
+		try ( DirectoryReader reader = DirectoryReader.open( directory ) ) {
+			return reader.docFreq( new Term( "id", id ) );
+		}
+		catch (IOException e) {
+			throw new IllegalStateException( e );
+		}
+	}
+
+	private static class BlockingSyncDirectory extends FilterDirectory {
+		private volatile boolean blockNextSync = false;
+		private final CountDownLatch syncBlocked = new CountDownLatch( 1 );
+		private final CountDownLatch syncReleased = new CountDownLatch( 1 );
+
+		BlockingSyncDirectory() {
+			super( new ByteBuffersDirectory() );
+		}
+
+		void blockNextSync() {
+			blockNextSync = true;
+		}
+
+		void awaitBlockedSync() throws InterruptedException {
+			assertThat( syncBlocked.await( 10, TimeUnit.SECONDS ) ).isTrue();
+		}
+
+		void releaseBlockedSync() {
+			syncReleased.countDown();
+		}
+
+		@Override
+		public void sync(Collection<String> names) throws IOException {
+			if ( blockNextSync ) {
+				blockNextSync = false;
+				syncBlocked.countDown();
+				try {
+					syncReleased.await();
+				}
+				catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					throw new IOException( e );
+				}
+			}
+			super.sync( names );
+		}
+	}
+
+	private static class StubFailureHandler implements FailureHandler {
+		@Override
+		public void handle(FailureContext context) {
+			throw new IllegalStateException( context.throwable() );
+		}
+
+		@Override
+		public void handle(EntityIndexingFailureContext context) {
+			throw new IllegalStateException( context.throwable() );
+		}
+	}
+}
@@ -16,6 +16,8 @@
 import org.hibernate.search.documentation.testsupport.BackendConfigurations;
 import org.hibernate.search.documentation.testsupport.DocumentationSetupHelper;
 import org.hibernate.search.engine.search.common.BooleanOperator;
+import org.hibernate.search.engine.search.predicate.SearchPredicate;
+import org.hibernate.search.engine.search.predicate.dsl.SearchPredicateFactory;
 import org.hibernate.search.engine.search.predicate.dsl.SimpleQueryFlag;
 import org.hibernate.search.engine.spatial.DistanceUnit;
 import org.hibernate.search.engine.spatial.GeoBoundingBox;
@@ -847,6 +849,41 @@ public void within() {
 		} );
 	}
 
+	@Test
+	public void withParameters() {
+		// tag::withParameters-build[]
+		SearchScope<Book> scope = Search.mapping( entityManagerFactory ).scope( Book.class );
+		SearchPredicateFactory f = scope.predicate();
+		SearchPredicate predicate = f.withParameters( params -> f.bool() // <1>
+				.must( f.match().field( "title" )
+						.matching( params.get( "title", String.class ) ) ) // <2>
+				.filter( f.match().field( "genre" )
+						.matching( Genre.SCIENCE_FICTION ) ) )
+				.toPredicate(); // <3>
+		// end::withParameters-build[]
+
+		withinSearchSession( searchSession -> {
+			// tag::withParameters-execute[]
+			List<Book> hits = searchSession.search( scope )
+					.where( predicate ) // <1>
+					.param( "title", "robot" ) // <2>
+					.fetchHits( 20 );
+			// end::withParameters-execute[]
+			assertThat( hits )
+					.extracting( Book::getId )
+					.containsExactlyInAnyOrder( BOOK1_ID, BOOK3_ID );
+		} );
+		withinSearchSession( searchSession -> {
+			List<Book> hits = searchSession.search( scope )
+					.where( predicate )
+					.param( "title", "steel" )
+					.fetchHits( 20 );
+			assertThat( hits )
+					.extracting( Book::getId )
+					.containsExactlyInAnyOrder( BOOK2_ID );
+		} );
+	}
+
 	private MySearchParameters getSearchParameters() {
 		return new MySearchParameters() {
 			@Override
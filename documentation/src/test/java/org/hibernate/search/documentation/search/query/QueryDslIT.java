@@ -10,9 +10,11 @@
 import static org.hibernate.search.util.impl.integrationtest.mapper.orm.ManagedAssert.assertThatManaged;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.TimeUnit;
 import javax.persistence.EntityGraph;
 import javax.persistence.EntityManager;
@@ -26,6 +28,9 @@
 import org.hibernate.search.documentation.testsupport.DocumentationSetupHelper;
 import org.hibernate.search.engine.search.query.SearchQuery;
 import org.hibernate.search.engine.search.query.SearchResult;
+import org.hibernate.search.engine.search.query.SearchResultTotal;
+import org.hibernate.search.engine.search.query.SearchScroll;
+import org.hibernate.search.engine.search.query.SearchScrollResult;
 import org.hibernate.search.mapper.orm.Search;
 import org.hibernate.search.mapper.orm.search.loading.EntityLoadingCacheLookupStrategy;
 import org.hibernate.search.mapper.orm.session.SearchSession;
@@ -247,6 +252,49 @@ public void pagination() {
 		} );
 	}
 
+	@Test
+	public void scrolling() {
+		OrmUtils.withinJPATransaction( entityManagerFactory, entityManager -> {
+			SearchSession searchSession = Search.session( entityManager );
+			List<Integer> ids = new ArrayList<>();
+			// tag::scrolling[]
+			try ( SearchScroll<Book> scroll = searchSession.search( Book.class )
+					.where( f -> f.matchAll() )
+					.scroll( 20 ) ) { // <1>
+				for ( SearchScrollResult<Book> chunk = scroll.next(); // <2>
+						chunk.hasHits(); chunk = scroll.next() ) { // <3>
+					for ( Book hit : chunk.hits() ) { // <4>
+						// ... do something with the hits ...
+						ids.add( hit.getId() ); // <5>
+					}
+
+					entityManager.clear(); // <6>
+				}
+			}
+			// end::scrolling[]
+
+			assertThat( ids ).containsExactlyInAnyOrder( BOOK1_ID, BOOK2_ID, BOOK3_ID, BOOK4_ID );
+		} );
+	}
+
+	@Test
+	public void fetchAsync() {
+		OrmUtils.withinJPATransaction( entityManagerFactory, entityManager -> {
+			SearchSession searchSession = Search.session( entityManager );
+			// tag::fetchAsync[]
+			CompletionStage<List<String>> titlesStage = searchSession.search( Book.class )
+					.select( f -> f.field( "title", String.class ) ) // <1>
+					.where( f -> f.matchAll() )
+					.fetchAsync( 20 ) // <2>
+					.thenApply( SearchResult::hits ); // <3>
+			// ... do something else while the query executes ...
+			List<String> titles = titlesStage.toCompletableFuture().join(); // <4>
+			// end::fetchAsync[]
+
+			assertThat( titles ).hasSize( 4 );
+		} );
+	}
+
 	@Test
 	public void searchQuery() {
 		OrmUtils.withinJPATransaction( entityManagerFactory, entityManager -> {
@@ -323,6 +371,28 @@ public void truncateAfter() {
 		} );
 	}
 
+	@Test
+	public void totalHitCountThreshold() {
+		OrmUtils.withinJPATransaction( entityManagerFactory, entityManager -> {
+			SearchSession searchSession = Search.session( entityManager );
+			// tag::totalHitCountThreshold[]
+			SearchResult<Book> result = searchSession.search( Book.class ) // <1>
+					.where( f -> f.match()
+							.field( "title" )
+							.matching( "robot" ) )
+					.totalHitCountThreshold( 1000 ) // <2>
+					.fetch( 20 ); // <3>
+
+			SearchResultTotal resultTotal = result.total(); // <4>
+			boolean hitCountExact = resultTotal.isHitCountExact(); // <5>
+			long hitCountLowerBound = resultTotal.hitCountLowerBound(); // <6>
+			// end::totalHitCountThreshold[]
+
+			assertThat( hitCountExact ).isTrue();
+			assertThat( hitCountLowerBound ).isEqualTo( 2L );
+		} );
+	}
+
 	@Test
 	public void failAfter() {
 		OrmUtils.withinJPATransaction( entityManagerFactory, entityManager -> {
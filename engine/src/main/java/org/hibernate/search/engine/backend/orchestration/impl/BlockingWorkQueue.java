@@ -0,0 +1,80 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.backend.orchestration.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.function.Consumer;
+
+import org.hibernate.search.engine.cfg.IndexingQueueBackPressureStrategyName;
+
+/**
+ * A work queue backed by an {@link ArrayBlockingQueue}.
+ *
+ * @param <E> The type of elements in the queue.
+ */
+final class BlockingWorkQueue<E> extends WorkQueue<E> {
+
+	private final ArrayBlockingQueue<E> delegate;
+	private final int capacity;
+	// Only accessed from the consumer thread
+	private final List<E> drainBuffer;
+
+	BlockingWorkQueue(String name, IndexingQueueBackPressureStrategyName backPressureStrategy,
+			int capacity, boolean fair) {
+		super( name, backPressureStrategy );
+		this.delegate = new ArrayBlockingQueue<>( capacity, fair );
+		this.capacity = capacity;
+		this.drainBuffer = new ArrayList<>( capacity );
+	}
+
+	@Override
+	public int drainTo(Consumer<? super E> consumer, int maxElements) {
+		drainBuffer.clear();
+		int count = delegate.drainTo( drainBuffer, maxElements );
+		try {
+			for ( E element : drainBuffer ) {
+				consumer.accept( element );
+			}
+		}
+		finally {
+			drainBuffer.clear();
+		}
+		return count;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return delegate.isEmpty();
+	}
+
+	@Override
+	public int size() {
+		return delegate.size();
+	}
+
+	@Override
+	public int capacity() {
+		return capacity;
+	}
+
+	@Override
+	public void clear() {
+		delegate.clear();
+	}
+
+	@Override
+	boolean offer(E element) {
+		return delegate.offer( element );
+	}
+
+	@Override
+	void awaitAndPut(E element) throws InterruptedException {
+		delegate.put( element );
+	}
+}
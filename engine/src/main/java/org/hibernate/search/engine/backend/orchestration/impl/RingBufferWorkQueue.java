@@ -0,0 +1,214 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.backend.orchestration.impl;
+
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+import org.hibernate.search.engine.cfg.IndexingQueueBackPressureStrategyName;
+
+/**
+ * A bounded work queue for multiple producers and a single consumer,
+ * implemented as a ring buffer where producers never take a lock.
+ * <p>
+ * Each slot of the buffer carries a sequence number telling whether it is free for the producer
+ * that claimed a given position, or filled for the consumer expecting a given position.
+ * Producers claim positions by incrementing the tail with a CAS,
+ * and the consumer removes elements without any atomic read-modify-write operation.
+ * See Dmitry Vyukov's bounded MPMC queue for the original algorithm.
+ * <p>
+ * The consumer does synchronize on the queue while draining,
+ * but only to exclude {@link #clear()}, which may be called from another thread:
+ * that monitor is uncontended in normal operation, and producers never acquire it.
+ * <p>
+ * Producers waiting for room in the queue register themselves in a (lock-free) queue of waiters and park;
+ * the consumer unparks them as it frees slots.
+ * Waiters are unparked in FIFO order, but may compete with producers that did not have to wait,
+ * so works submitted while the queue is full may be processed out of order.
+ *
+ * @param <E> The type of elements in the queue.
+ */
+final class RingBufferWorkQueue<E> extends WorkQueue<E> {
+
+	private final int capacity;
+	private final int mask;
+	private final AtomicReferenceArray<E> elements;
+	private final AtomicLongArray sequences;
+
+	/**
+	 * The next position to be claimed by a producer.
+	 */
+	private final AtomicLong tail = new AtomicLong( 0L );
+
+	/**
+	 * The next position to be consumed.
+	 * Only written by the consumer thread, at the end of each drain.
+	 * Volatile so that producers waiting for room see the slots freed by the consumer: see awaitAndPut().
+	 */
+	private volatile long head = 0L;
+
+	private final Queue<Thread> waitingProducers = new ConcurrentLinkedQueue<>();
+
+	RingBufferWorkQueue(String name, IndexingQueueBackPressureStrategyName backPressureStrategy,
+			int minCapacity) {
+		super( name, backPressureStrategy );
+		this.capacity = ceilingPowerOfTwo( minCapacity );
+		this.mask = capacity - 1;
+		this.elements = new AtomicReferenceArray<>( capacity );
+		this.sequences = new AtomicLongArray( capacity );
+		for ( int i = 0; i < capacity; i++ ) {
+			sequences.set( i, i );
+		}
+	}
+
+	@Override
+	// Synchronized so that clear() can safely be called from another thread; producers never synchronize
+	public synchronized int drainTo(Consumer<? super E> consumer, int maxElements) {
+		long position = head;
+		int count = 0;
+		try {
+			while ( count < maxElements ) {
+				int index = index( position );
+				if ( sequences.get( index ) != position + 1 ) {
+					// Empty, or the producer that claimed this slot did not publish its element yet.
+					break;
+				}
+				E element = elements.get( index );
+				elements.lazySet( index, null );
+				// Free the slot for the producer that will claim it on the next lap
+				sequences.lazySet( index, position + capacity );
+				++position;
+				++count;
+				// Best effort: let the oldest waiting producer use the slot while we process the element.
+				Thread waitingProducer = waitingProducers.peek();
+				if ( waitingProducer != null ) {
+					LockSupport.unpark( waitingProducer );
+				}
+				consumer.accept( element );
+			}
+		}
+		finally {
+			// This volatile write publishes the lazy writes above to producers reading the head.
+			head = position;
+			if ( count > 0 ) {
+				// Must happen after the write to the head: see awaitAndPut().
+				unparkWaitingProducers( count );
+			}
+		}
+		return count;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		long position = head;
+		return sequences.get( index( position ) ) != position + 1;
+	}
+
+	@Override
+	public int size() {
+		long size = tail.get() - head;
+		return (int) Math.max( 0L, Math.min( size, capacity ) );
+	}
+
+	@Override
+	public int capacity() {
+		return capacity;
+	}
+
+	@Override
+	public synchronized void clear() {
+		drainTo( ignored -> { }, Integer.MAX_VALUE );
+	}
+
+	@Override
+	boolean offer(E element) {
+		long position = tail.get();
+		while ( true ) {
+			int index = index( position );
+			long difference = sequences.get( index ) - position;
+			if ( difference == 0L ) {
+				// The slot is free: try to claim it
+				if ( tail.compareAndSet( position, position + 1 ) ) {
+					elements.lazySet( index, element );
+					// Publish the element to the consumer; ordered after the write above
+					sequences.lazySet( index, position + 1 );
+					return true;
+				}
+				// Another producer claimed it: try again
+				position = tail.get();
+			}
+			else if ( difference < 0L ) {
+				// The slot was not freed by the consumer yet: the queue is full
+				return false;
+			}
+			else {
+				// Another producer claimed this position in the meantime: try again
+				position = tail.get();
+			}
+		}
+	}
+
+	@Override
+	void awaitAndPut(E element) throws InterruptedException {
+		Thread currentThread = Thread.currentThread();
+		waitingProducers.add( currentThread );
+		try {
+			while ( true ) {
+				// We registered as a waiting producer *before* reading the head,
+				// and the consumer writes the head *before* unparking waiting producers.
+				// Thus either the consumer will see us and unpark us,
+				// or we will see the new head along with the slots freed by the consumer.
+				long observedHead = head;
+				if ( offer( element ) ) {
+					return;
+				}
+				if ( observedHead != head ) {
+					// The consumer made progress in the meantime: try again before parking.
+					continue;
+				}
+				LockSupport.park( this );
+				if ( Thread.interrupted() ) {
+					throw new InterruptedException();
+				}
+			}
+		}
+		finally {
+			waitingProducers.remove( currentThread );
+		}
+	}
+
+	private void unparkWaitingProducers(int freedSlots) {
+		Iterator<Thread> iterator = waitingProducers.iterator();
+		for ( int i = 0; i < freedSlots && iterator.hasNext(); i++ ) {
+			LockSupport.unpark( iterator.next() );
+		}
+	}
+
+	private int index(long position) {
+		return (int) position & mask;
+	}
+
+	private static int ceilingPowerOfTwo(int value) {
+		if ( value <= 2 ) {
+			// With a single slot, "filled for position N" and "free for position N + 1"
+			// would be represented by the same sequence number.
+			return 2;
+		}
+		int highestOneBit = Integer.highestOneBit( value - 1 ) << 1;
+		if ( highestOneBit <= 0 ) {
+			// Overflow
+			return 1 << 30;
+		}
+		return highestOneBit;
+	}
+}
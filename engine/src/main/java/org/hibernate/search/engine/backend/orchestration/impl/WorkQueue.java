@@ -0,0 +1,165 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.backend.orchestration.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.function.Consumer;
+
+import org.hibernate.search.engine.cfg.IndexingQueueBackPressureStrategyName;
+import org.hibernate.search.engine.cfg.IndexingQueueImplementationName;
+import org.hibernate.search.engine.logging.impl.Log;
+import org.hibernate.search.util.common.AssertionFailure;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+/**
+ * A bounded queue of works, accepting elements from multiple threads (producers)
+ * and handing them to a single thread at a time (the consumer).
+ * <p>
+ * Producers call {@link #put(Object)}, which applies the configured back-pressure strategy when the queue is full.
+ * The consumer calls {@link #isEmpty()} and {@link #drainTo(Consumer, int)};
+ * these methods must never be called concurrently.
+ *
+ * @param <E> The type of elements in the queue.
+ */
+public abstract class WorkQueue<E> {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	/*
+	 * Number of attempts at adding an element to a full queue before parking the thread,
+	 * with the "spin-then-park" back-pressure strategy.
+	 * High enough to absorb the time it takes for the consumer to remove a few elements,
+	 * low enough that spinning threads don't hog the CPU when the consumer is slow.
+	 */
+	private static final int SPIN_ATTEMPTS = 100;
+
+	/**
+	 * @param name The name of the executor owning this queue, for error messages.
+	 * @param implementation The implementation to use.
+	 * @param backPressureStrategy The strategy to apply when adding an element to a full queue.
+	 * @param capacity The minimum capacity of the queue.
+	 * @param fair Whether producers blocked on a full queue should be unblocked in FIFO order.
+	 * Only honored by the {@link IndexingQueueImplementationName#BLOCKING_QUEUE blocking queue}.
+	 * @param <E> The type of elements in the queue.
+	 * @return A new queue.
+	 */
+	public static <E> WorkQueue<E> create(String name, IndexingQueueImplementationName implementation,
+			IndexingQueueBackPressureStrategyName backPressureStrategy, int capacity, boolean fair) {
+		switch ( implementation ) {
+			case BLOCKING_QUEUE:
+				return new BlockingWorkQueue<>( name, backPressureStrategy, capacity, fair );
+			case RING_BUFFER:
+				return new RingBufferWorkQueue<>( name, backPressureStrategy, capacity );
+			default:
+				throw new AssertionFailure( "Unexpected queue implementation: " + implementation );
+		}
+	}
+
+	private final String name;
+	private final IndexingQueueBackPressureStrategyName backPressureStrategy;
+
+	WorkQueue(String name, IndexingQueueBackPressureStrategyName backPressureStrategy) {
+		this.name = name;
+		this.backPressureStrategy = backPressureStrategy;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "["
+				+ "name=" + name
+				+ ", capacity=" + capacity()
+				+ ", size=" + size()
+				+ ", backPressureStrategy=" + backPressureStrategy
+				+ "]";
+	}
+
+	/**
+	 * Add an element to the queue, applying the back-pressure strategy if the queue is full.
+	 * <p>
+	 * May be called from any thread.
+	 *
+	 * @param element The element to add.
+	 * @throws InterruptedException If the current thread is interrupted while waiting for room in the queue.
+	 * @throws org.hibernate.search.util.common.SearchException If the queue is full
+	 * and the back-pressure strategy is {@link IndexingQueueBackPressureStrategyName#FAIL_FAST}.
+	 */
+	public final void put(E element) throws InterruptedException {
+		if ( offer( element ) ) {
+			return;
+		}
+		switch ( backPressureStrategy ) {
+			case BLOCK:
+				awaitAndPut( element );
+				break;
+			case SPIN_THEN_PARK:
+				for ( int i = 0; i < SPIN_ATTEMPTS; i++ ) {
+					Thread.yield();
+					if ( offer( element ) ) {
+						return;
+					}
+				}
+				awaitAndPut( element );
+				break;
+			case FAIL_FAST:
+				throw log.workQueueFull( name, capacity() );
+			default:
+				throw new AssertionFailure( "Unexpected back-pressure strategy: " + backPressureStrategy );
+		}
+	}
+
+	/**
+	 * Remove elements from the queue and pass them to the given consumer, in order.
+	 * <p>
+	 * Must only be called from the consumer thread.
+	 *
+	 * @param consumer The consumer of removed elements.
+	 * @param maxElements The maximum number of elements to remove.
+	 * @return The number of elements removed.
+	 */
+	public abstract int drainTo(Consumer<? super E> consumer, int maxElements);
+
+	/**
+	 * Must only be called from the consumer thread.
+	 *
+	 * @return {@code true} if the queue is empty, i.e. a call to {@link #drainTo(Consumer, int)} would not remove anything.
+	 */
+	public abstract boolean isEmpty();
+
+	/**
+	 * @return An estimate of the number of elements in the queue.
+	 */
+	public abstract int size();
+
+	/**
+	 * @return The capacity of the queue.
+	 */
+	public abstract int capacity();
+
+	/**
+	 * Remove all elements from the queue.
+	 * <p>
+	 * May be called from any thread.
+	 */
+	public abstract void clear();
+
+	/**
+	 * Add an element to the queue if there is room.
+	 *
+	 * @param element The element to add.
+	 * @return {@code true} if the element was added, {@code false} if the queue is full.
+	 */
+	abstract boolean offer(E element);
+
+	/**
+	 * Add an element to the queue, blocking until there is room.
+	 *
+	 * @param element The element to add.
+	 * @throws InterruptedException If the current thread is interrupted while waiting for room in the queue.
+	 */
+	abstract void awaitAndPut(E element) throws InterruptedException;
+
+}
@@ -7,14 +7,14 @@
 package org.hibernate.search.engine.backend.orchestration.spi;
 
 import java.lang.invoke.MethodHandles;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.concurrent.ArrayBlockingQueue;
-import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
+import java.util.function.Consumer;
 
+import org.hibernate.search.engine.backend.orchestration.impl.WorkQueue;
+import org.hibernate.search.engine.cfg.IndexingQueueBackPressureStrategyName;
+import org.hibernate.search.engine.cfg.IndexingQueueImplementationName;
 import org.hibernate.search.engine.logging.impl.Log;
 import org.hibernate.search.engine.reporting.FailureHandler;
 import org.hibernate.search.util.common.AssertionFailure;
@@ -35,7 +35,7 @@
 
 	private final FailureHandler failureHandler;
 
-	private final BlockingQueue<BatchedWork<? super P>> workQueue;
+	private final WorkQueue<BatchedWork<? super P>> workQueue;
 	private final BatchWorker<P> worker;
 
 	private SingletonTask processingTask;
@@ -53,9 +53,34 @@
 	public BatchingExecutor(String name,
 			P processor, int maxTasksPerBatch, boolean fair,
 			FailureHandler failureHandler) {
+		this( name, processor, maxTasksPerBatch, fair,
+				IndexingQueueImplementationName.BLOCKING_QUEUE, IndexingQueueBackPressureStrategyName.BLOCK,
+				failureHandler );
+	}
+
+	/**
+	 * @param name The name of the executor thread (and of this executor when reporting errors)
+	 * @param processor A task processor. May not be thread-safe.
+	 * @param maxTasksPerBatch The maximum number of tasks to process in a single batch.
+	 * Higher values mean more opportunity for the processor to optimize execution, but higher heap consumption.
+	 * Also used as the capacity of the internal queue; may be rounded up depending on the queue implementation.
+	 * @param fair if {@code true} tasks are always submitted to the
+	 * processor in FIFO order, if {@code false} tasks submitted
+	 * when the internal queue is full may be submitted out of order.
+	 * Only the {@link IndexingQueueImplementationName#BLOCKING_QUEUE blocking queue} fully guarantees FIFO order
+	 * for tasks submitted when the internal queue is full.
+	 * @param queueImplementation The implementation of the internal queue.
+	 * @param backPressureStrategy What to do when a task is submitted while the internal queue is full.
+	 * @param failureHandler A failure handler to report failures of the background thread.
+	 */
+	public BatchingExecutor(String name,
+			P processor, int maxTasksPerBatch, boolean fair,
+			IndexingQueueImplementationName queueImplementation,
+			IndexingQueueBackPressureStrategyName backPressureStrategy,
+			FailureHandler failureHandler) {
 		this.name = name;
 		this.failureHandler = failureHandler;
-		this.workQueue = new ArrayBlockingQueue<>( maxTasksPerBatch, fair );
+		this.workQueue = WorkQueue.create( name, queueImplementation, backPressureStrategy, maxTasksPerBatch, fair );
 		this.worker = new BatchWorker<>( name, processor, workQueue, maxTasksPerBatch );
 	}
 
@@ -106,6 +131,8 @@ public synchronized void stop() {
 	 * Must not be called when the executor is stopped.
 	 * @param work A work to execute.
 	 * @throws InterruptedException If the current thread is interrupted while enqueuing the work.
+	 * @throws org.hibernate.search.util.common.SearchException If the queue is full
+	 * and the back-pressure strategy is {@link IndexingQueueBackPressureStrategyName#FAIL_FAST}.
 	 */
 	public void submit(BatchedWork<? super P> work) throws InterruptedException {
 		if ( processingTask == null ) {
@@ -133,51 +160,46 @@ public CompletableFuture<?> completion() {
 	/**
 	 * Takes a batch of works from the queue and submits them to the processor.
 	 */
-	private static final class BatchWorker<P extends BatchedWorkProcessor> implements SingletonTask.Worker {
+	private static final class BatchWorker<P extends BatchedWorkProcessor>
+			implements SingletonTask.Worker, Consumer<BatchedWork<? super P>> {
 		private final CompletableFuture<?> completedFuture = CompletableFuture.completedFuture( null );
 
 		private final String name;
 		private final P processor;
-		private final BlockingQueue<BatchedWork<? super P>> workQueue;
+		private final WorkQueue<BatchedWork<? super P>> workQueue;
 		private final int maxTasksPerBatch;
-		private final List<BatchedWork<? super P>> workBuffer;
 
-		private BatchWorker(String name, P processor, BlockingQueue<BatchedWork<? super P>> workQueue,
+		private BatchWorker(String name, P processor, WorkQueue<BatchedWork<? super P>> workQueue,
 				int maxTasksPerBatch) {
 			this.name = name;
 			this.processor = processor;
 			this.workQueue = workQueue;
 			this.maxTasksPerBatch = maxTasksPerBatch;
-			this.workBuffer = new ArrayList<>( maxTasksPerBatch );
 		}
 
 		@Override
 		public CompletableFuture<?> work() {
-			workBuffer.clear();
-			workQueue.drainTo( workBuffer, maxTasksPerBatch );
-
-			if ( workBuffer.isEmpty() ) {
+			if ( workQueue.isEmpty() ) {
 				// Nothing to do
 				return completedFuture;
 			}
 
-			int workCount = workBuffer.size();
+			try {
+				processor.beginBatch();
+			}
+			catch (RuntimeException | Error e) {
+				// Something is very wrong: do not submit the next works to the processor
+				workQueue.drainTo( work -> work.markAsFailed( e ), maxTasksPerBatch );
+				throw e;
+			}
+
+			// Works are submitted to the processor as they are removed from the queue: see accept()
+			int workCount = workQueue.drainTo( this, maxTasksPerBatch );
 			boolean debugEnabled = log.isDebugEnabled();
 			if ( debugEnabled ) {
 				log.debugf( "Processing %d works in executor '%s'", workCount, name );
 			}
 
-			processor.beginBatch();
-
-			for ( BatchedWork<? super P> work : workBuffer ) {
-				try {
-					work.submitTo( processor );
-				}
-				catch (Throwable e) {
-					work.markAsFailed( e );
-				}
-			}
-
 			// Nothing more to do, end the batch and terminate
 			CompletableFuture<?> future = processor.endBatch();
 			if ( debugEnabled ) {
@@ -189,6 +211,16 @@ public CompletableFuture<?> work() {
 			return future;
 		}
 
+		@Override
+		public void accept(BatchedWork<? super P> work) {
+			try {
+				work.submitTo( processor );
+			}
+			catch (Throwable e) {
+				work.markAsFailed( e );
+			}
+		}
+
 		@Override
 		public void complete() {
 			processor.complete();
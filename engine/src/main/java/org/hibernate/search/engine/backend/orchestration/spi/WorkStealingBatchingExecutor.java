@@ -0,0 +1,413 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.backend.orchestration.spi;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.function.Function;
+
+import org.hibernate.search.engine.backend.orchestration.impl.WorkQueue;
+import org.hibernate.search.engine.cfg.IndexingQueueBackPressureStrategyName;
+import org.hibernate.search.engine.cfg.IndexingQueueImplementationName;
+import org.hibernate.search.engine.logging.impl.Log;
+import org.hibernate.search.engine.reporting.FailureHandler;
+import org.hibernate.search.util.common.AssertionFailure;
+import org.hibernate.search.util.common.data.impl.SimpleHashFunction;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+/**
+ * An executor of works that accepts works from multiple threads, puts them in multiple queues,
+ * and processes them in batches in multiple background workers,
+ * letting idle workers take batches from the queues of busy workers.
+ * <p>
+ * Works are assigned to a queue by hashing their key, and are processed in submission order for a given key:
+ * two works with the same key are never processed concurrently.
+ * Works with different keys, however, may be processed concurrently and in any order,
+ * even if they were assigned to the same queue.
+ * <p>
+ * Unlike {@link BatchingExecutor}, this executor submits works to the processor from multiple threads concurrently:
+ * the processor must be thread-safe, and each work must be completely executed
+ * when {@link BatchedWork#submitTo(BatchedWorkProcessor)} returns.
+ *
+ * @param <P> The type of the processor.
+ * @param <W> The type of works.
+ */
+public final class WorkStealingBatchingExecutor<P extends BatchedWorkProcessor, W extends BatchedWork<? super P>> {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private static final int UNCLAIMED = 0;
+	private static final int CLAIMED = 1;
+
+	private final String name;
+
+	private final FailureHandler failureHandler;
+
+	private final Function<? super W, String> keyFunction;
+	private final WorkQueue<W>[] workQueues;
+	// Only one worker may drain a given queue at any given time
+	private final AtomicIntegerArray queueClaims;
+	// Keys of works currently being processed, along with the works waiting for that processing to end
+	private final Map<String, KeyLane<W>> activeKeys = new ConcurrentHashMap<>();
+	private final Worker[] workers;
+
+	private SingletonTask[] processingTasks;
+
+	/**
+	 * @param name The name of the executor threads (and of this executor when reporting errors)
+	 * @param processor A task processor. Must be thread-safe.
+	 * @param queueCount The number of queues, which is also the number of background workers.
+	 * @param maxTasksPerBatch The maximum number of tasks to process in a single batch.
+	 * Higher values mean more opportunity for the processor to optimize execution, but higher heap consumption.
+	 * Also used as the capacity of each internal queue; may be rounded up depending on the queue implementation.
+	 * @param keyFunction A function returning the key of each work.
+	 * Works with the same key are guaranteed to be processed in submission order.
+	 * @param queueImplementation The implementation of the internal queues.
+	 * @param backPressureStrategy What to do when a task is submitted while its internal queue is full.
+	 * @param failureHandler A failure handler to report failures of the background threads.
+	 */
+	@SuppressWarnings("unchecked") // We aren't allowed to create generic arrays, so we have to use a raw type here.
+	public WorkStealingBatchingExecutor(String name,
+			P processor, int queueCount, int maxTasksPerBatch,
+			Function<? super W, String> keyFunction,
+			IndexingQueueImplementationName queueImplementation,
+			IndexingQueueBackPressureStrategyName backPressureStrategy,
+			FailureHandler failureHandler) {
+		this.name = name;
+		this.failureHandler = failureHandler;
+		this.keyFunction = keyFunction;
+		this.workQueues = new WorkQueue[queueCount];
+		this.queueClaims = new AtomicIntegerArray( queueCount );
+		this.workers = new WorkStealingBatchingExecutor.Worker[queueCount];
+		for ( int i = 0; i < queueCount; i++ ) {
+			workQueues[i] = WorkQueue.create( name + " - " + i, queueImplementation, backPressureStrategy,
+					maxTasksPerBatch, true );
+		}
+		for ( int i = 0; i < queueCount; i++ ) {
+			workers[i] = new Worker( i, processor, maxTasksPerBatch );
+		}
+	}
+
+	@Override
+	public String toString() {
+		int queueSize = 0;
+		for ( WorkQueue<W> workQueue : workQueues ) {
+			queueSize += workQueue.size();
+		}
+		return "WorkStealingBatchingExecutor["
+				+ "name=" + name
+				+ ", queue count=" + workQueues.length
+				+ ", queue size=" + queueSize
+				+ ", active keys=" + activeKeys.size()
+				+ "]";
+	}
+
+	/**
+	 * Start the executor, allowing works to be submitted
+	 * through {@link #submit(BatchedWork)}.
+	 *
+	 * @param executorService An executor service with at least one thread.
+	 * Works will be processed in parallel by as many threads as the executor service allows,
+	 * up to the number of queues.
+	 */
+	public synchronized void start(ExecutorService executorService) {
+		log.startingExecutor( name );
+		processingTasks = new SingletonTask[workers.length];
+		for ( int i = 0; i < workers.length; i++ ) {
+			processingTasks[i] = new SingletonTask(
+					workers[i].workerName, workers[i],
+					executorService::submit,
+					failureHandler
+			);
+		}
+	}
+
+	/**
+	 * Stop the executor, no longer allowing works to be submitted
+	 * through {@link #submit(BatchedWork)}.
+	 * <p>
+	 * This will remove pending works from the queues.
+	 */
+	public synchronized void stop() {
+		log.stoppingExecutor( name );
+
+		for ( WorkQueue<W> workQueue : workQueues ) {
+			workQueue.clear();
+		}
+
+		// It's possible that processing was successfully scheduled in the executor service but had no chance to run,
+		// so we need to release waiting threads:
+		for ( SingletonTask processingTask : processingTasks ) {
+			processingTask.stop();
+		}
+		processingTasks = null;
+	}
+
+	/**
+	 * Submit a work for execution.
+	 * <p>
+	 * Must not be called when the executor is stopped.
+	 * @param work A work to execute.
+	 * @throws InterruptedException If the current thread is interrupted while enqueuing the work.
+	 * @throws org.hibernate.search.util.common.SearchException If the queue is full
+	 * and the back-pressure strategy is {@link IndexingQueueBackPressureStrategyName#FAIL_FAST}.
+	 */
+	public void submit(W work) throws InterruptedException {
+		SingletonTask[] tasks = processingTasks;
+		if ( tasks == null ) {
+			throw new AssertionFailure(
+					"Attempt to submit a work to executor '" + name + "', which is stopped"
+					+ " There is probably a bug in Hibernate Search, please report it."
+			);
+		}
+		int queueIndex = SimpleHashFunction.pick( workers, keyFunction.apply( work ) ).index;
+		workQueues[queueIndex].put( work );
+		tasks[queueIndex].ensureScheduled();
+		if ( workers[queueIndex].processing ) {
+			// The worker of this queue is busy: let an idle worker steal the work.
+			wakeUpIdleWorker( tasks, queueIndex );
+		}
+	}
+
+	/**
+	 * @return A future that completes when all works submitted to the executor so far are completely executed.
+	 * Works submitted to the executor after entering this method may delay the wait.
+	 */
+	public CompletableFuture<?> completion() {
+		SingletonTask[] tasks = processingTasks;
+		if ( tasks == null ) {
+			// Not started
+			return CompletableFuture.completedFuture( null );
+		}
+		CompletableFuture<?>[] completions = new CompletableFuture[tasks.length];
+		for ( int i = 0; i < tasks.length; i++ ) {
+			completions[i] = tasks[i].completion();
+		}
+		return CompletableFuture.allOf( completions );
+	}
+
+	private void wakeUpIdleWorker(SingletonTask[] tasks, int busyWorkerIndex) {
+		for ( int offset = 1; offset < workers.length; offset++ ) {
+			int workerIndex = ( busyWorkerIndex + offset ) % workers.length;
+			if ( !workers[workerIndex].processing ) {
+				tasks[workerIndex].ensureScheduled();
+				return;
+			}
+		}
+	}
+
+	private int claimQueue(int preferredQueueIndex) {
+		// Prefer our own queue, to avoid contention between workers when the load is evenly distributed
+		if ( tryClaimNonEmptyQueue( preferredQueueIndex ) ) {
+			return preferredQueueIndex;
+		}
+		// Our queue is empty: steal from the busiest queue, if any
+		int busiestQueueIndex = -1;
+		int busiestQueueSize = 0;
+		for ( int i = 0; i < workQueues.length; i++ ) {
+			int size = workQueues[i].size();
+			if ( size > busiestQueueSize ) {
+				busiestQueueIndex = i;
+				busiestQueueSize = size;
+			}
+		}
+		if ( busiestQueueIndex < 0 ) {
+			return -1;
+		}
+		if ( busiestQueueIndex != preferredQueueIndex && tryClaimNonEmptyQueue( busiestQueueIndex ) ) {
+			return busiestQueueIndex;
+		}
+		// The busiest queue is being drained by another worker: try the others
+		for ( int offset = 1; offset < workQueues.length; offset++ ) {
+			int queueIndex = ( preferredQueueIndex + offset ) % workQueues.length;
+			if ( queueIndex != busiestQueueIndex && tryClaimNonEmptyQueue( queueIndex ) ) {
+				return queueIndex;
+			}
+		}
+		return -1;
+	}
+
+	private boolean tryClaimNonEmptyQueue(int queueIndex) {
+		if ( !queueClaims.compareAndSet( queueIndex, UNCLAIMED, CLAIMED ) ) {
+			return false;
+		}
+		// We're the consumer of this queue now: we're allowed to call isEmpty()
+		if ( workQueues[queueIndex].isEmpty() ) {
+			queueClaims.set( queueIndex, UNCLAIMED );
+			return false;
+		}
+		return true;
+	}
+
+	private void releaseQueue(int queueIndex) {
+		queueClaims.set( queueIndex, UNCLAIMED );
+	}
+
+	/**
+	 * Takes a batch of works from its own queue, or from another queue if its own queue is empty,
+	 * and submits them to the processor.
+	 */
+	private final class Worker implements SingletonTask.Worker {
+		private final CompletableFuture<?> completedFuture = CompletableFuture.completedFuture( null );
+
+		private final int index;
+		private final String workerName;
+		private final P processor;
+		private final int maxTasksPerBatch;
+
+		// Only accessed from the thread currently running this worker
+		private final List<W> batch;
+
+		private volatile boolean processing;
+
+		private Worker(int index, P processor, int maxTasksPerBatch) {
+			this.index = index;
+			this.workerName = name + " - " + index;
+			this.processor = processor;
+			this.maxTasksPerBatch = maxTasksPerBatch;
+			this.batch = new ArrayList<>( maxTasksPerBatch );
+		}
+
+		@Override
+		public CompletableFuture<?> work() {
+			processing = true;
+			try {
+				return doWork();
+			}
+			finally {
+				processing = false;
+			}
+		}
+
+		private CompletableFuture<?> doWork() {
+			int queueIndex = claimQueue( index );
+			if ( queueIndex < 0 ) {
+				// Nothing to do
+				return completedFuture;
+			}
+
+			WorkQueue<W> workQueue = workQueues[queueIndex];
+			int workCount;
+			try {
+				try {
+					processor.beginBatch();
+				}
+				catch (RuntimeException | Error e) {
+					// Something is very wrong: do not submit the next works to the processor
+					workQueue.drainTo( work -> work.markAsFailed( e ), maxTasksPerBatch );
+					throw e;
+				}
+				// Works are dispatched as they are removed from the queue, while we still hold the claim on the queue,
+				// so that works with the same key are always dispatched in submission order: see dispatch().
+				workCount = workQueue.drainTo( this::dispatch, maxTasksPerBatch );
+			}
+			finally {
+				releaseQueue( queueIndex );
+			}
+			// Works may have been submitted to the queue while we were holding the claim,
+			// in which case the worker of that queue may have given up on claiming it: see claimQueue().
+			// Only check the size after releasing the claim, so that such works are never left unprocessed.
+			boolean hasMoreWork = workQueue.size() > 0;
+
+			boolean debugEnabled = log.isDebugEnabled();
+			if ( debugEnabled ) {
+				if ( queueIndex == index ) {
+					log.debugf( "Processing %d works in executor '%s'", workCount, workerName );
+				}
+				else {
+					log.debugf( "Processing %d works in executor '%s', stolen from '%s'",
+							workCount, workerName, name + " - " + queueIndex );
+				}
+			}
+
+			if ( hasMoreWork ) {
+				SingletonTask[] tasks = processingTasks;
+				if ( tasks != null ) {
+					// Make sure the remaining works will be processed...
+					tasks[queueIndex].ensureScheduled();
+					// ... and since the queue we just drained is busy, wake up an idle worker to help.
+					wakeUpIdleWorker( tasks, index );
+				}
+			}
+
+			try {
+				for ( W work : batch ) {
+					execute( work );
+				}
+			}
+			finally {
+				batch.clear();
+			}
+
+			// Nothing more to do, end the batch and terminate
+			CompletableFuture<?> future = processor.endBatch();
+			if ( debugEnabled ) {
+				future.whenComplete( (result, throwable) -> {
+					log.debugf( "Processed %d works in executor '%s'", workCount, workerName );
+				} );
+			}
+
+			return future;
+		}
+
+		@Override
+		public void complete() {
+			processor.complete();
+		}
+
+		private void dispatch(W work) {
+			String key = keyFunction.apply( work );
+			activeKeys.compute( key, (ignored, lane) -> {
+				if ( lane == null ) {
+					// No conflict: process the work in this batch.
+					batch.add( work );
+					return new KeyLane<>();
+				}
+				else {
+					// Conflict: another work with the same key is being processed, maybe by another worker.
+					// Let that worker process this work afterwards, to preserve ordering.
+					lane.pendingWorks.add( work );
+					return lane;
+				}
+			} );
+		}
+
+		private void execute(W work) {
+			String key = keyFunction.apply( work );
+			W next = work;
+			while ( next != null ) {
+				try {
+					next.submitTo( processor );
+				}
+				catch (Throwable e) {
+					next.markAsFailed( e );
+				}
+				next = nextWorkOrRelease( key );
+			}
+		}
+
+		private W nextWorkOrRelease(String key) {
+			// Only the owner of a lane removes works from it, so the lane cannot become empty concurrently.
+			KeyLane<W> lane = activeKeys.computeIfPresent( key,
+					(ignored, existing) -> existing.pendingWorks.isEmpty() ? null : existing );
+			return lane == null ? null : lane.pendingWorks.poll();
+		}
+	}
+
+	private static final class KeyLane<W> {
+		private final Queue<W> pendingWorks = new ConcurrentLinkedQueue<>();
+	}
+
+}
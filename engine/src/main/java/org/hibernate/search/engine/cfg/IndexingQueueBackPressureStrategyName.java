@@ -0,0 +1,59 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.cfg;
+
+import java.lang.invoke.MethodHandles;
+
+import org.hibernate.search.engine.logging.impl.Log;
+import org.hibernate.search.util.common.impl.StringHelper;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+public enum IndexingQueueBackPressureStrategyName {
+
+	/**
+	 * Block the submitting thread until there is room in the queue.
+	 */
+	BLOCK( "block" ),
+	/**
+	 * Retry submitting repeatedly for a short while, yielding to other threads between attempts,
+	 * then block the submitting thread until there is room in the queue.
+	 * <p>
+	 * Avoids the cost of parking and waking up threads when the queue is only full for very short periods,
+	 * at the cost of some CPU time.
+	 */
+	SPIN_THEN_PARK( "spin_then_park" ),
+	/**
+	 * Fail immediately with an exception when the queue is full.
+	 */
+	FAIL_FAST( "fail_fast" );
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	// This method conforms to the MicroProfile Config specification. Do not change its signature.
+	public static IndexingQueueBackPressureStrategyName of(String value) {
+		return StringHelper.parseDiscreteValues(
+				IndexingQueueBackPressureStrategyName.values(),
+				IndexingQueueBackPressureStrategyName::externalRepresentation,
+				log::invalidIndexingQueueBackPressureStrategyName,
+				value
+		);
+	}
+
+	private final String externalRepresentation;
+
+	IndexingQueueBackPressureStrategyName(String externalRepresentation) {
+		this.externalRepresentation = externalRepresentation;
+	}
+
+	/**
+	 * @return The expected string representation in configuration properties.
+	 */
+	public String externalRepresentation() {
+		return externalRepresentation;
+	}
+
+}
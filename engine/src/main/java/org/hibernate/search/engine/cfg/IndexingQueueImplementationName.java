@@ -0,0 +1,57 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.cfg;
+
+import java.lang.invoke.MethodHandles;
+
+import org.hibernate.search.engine.logging.impl.Log;
+import org.hibernate.search.util.common.impl.StringHelper;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+public enum IndexingQueueImplementationName {
+
+	/**
+	 * A bounded blocking queue protected by a single lock.
+	 * <p>
+	 * Preserves the order of submission, even for works submitted while the queue is full,
+	 * but may suffer from lock contention when many threads submit works concurrently.
+	 */
+	BLOCKING_QUEUE( "blocking_queue" ),
+	/**
+	 * A bounded ring buffer, with multiple producers and a single consumer, where producers never take a lock.
+	 * <p>
+	 * Scales better when many threads submit works concurrently,
+	 * but works submitted while the queue is full may be processed out of order.
+	 */
+	RING_BUFFER( "ring_buffer" );
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	// This method conforms to the MicroProfile Config specification. Do not change its signature.
+	public static IndexingQueueImplementationName of(String value) {
+		return StringHelper.parseDiscreteValues(
+				IndexingQueueImplementationName.values(),
+				IndexingQueueImplementationName::externalRepresentation,
+				log::invalidIndexingQueueImplementationName,
+				value
+		);
+	}
+
+	private final String externalRepresentation;
+
+	IndexingQueueImplementationName(String externalRepresentation) {
+		this.externalRepresentation = externalRepresentation;
+	}
+
+	/**
+	 * @return The expected string representation in configuration properties.
+	 */
+	public String externalRepresentation() {
+		return externalRepresentation;
+	}
+
+}
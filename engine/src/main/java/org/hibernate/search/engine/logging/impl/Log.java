@@ -19,6 +19,7 @@
 import org.hibernate.search.engine.logging.spi.MappableTypeModelFormatter;
 import org.hibernate.search.engine.mapper.model.spi.MappableTypeModel;
 import org.hibernate.search.engine.search.aggregation.AggregationKey;
+import org.hibernate.search.engine.search.query.SearchResultTotal;
 import org.hibernate.search.engine.spatial.GeoPoint;
 import org.hibernate.search.util.common.SearchException;
 import org.hibernate.search.util.common.logging.impl.ClassFormatter;
@@ -236,7 +237,7 @@ SearchException unableToParseTemporal(@FormatWith(SimpleNameClassFormatter.class
 	SearchException invalidStringForEnum(String value, @FormatWith(ClassFormatter.class) Class<? extends Enum> enumType, @Cause Exception cause);
 
 	@Message(id = ID_OFFSET_2 + 61, value = "Multiple hits when a single hit was expected: got %1$s hits.")
-	SearchException nonSingleHit(long totalHitCount);
+	SearchException nonSingleHit(SearchResultTotal total);
 
 	@Message(id = ID_OFFSET_2 + 62,
 			value = "The thread was interrupted while a work was being submitted to '%1$s'."
@@ -342,4 +343,34 @@ SearchException cannotResolveBeanReference(@FormatWith(ClassFormatter.class) Cla
 	@Message(id = ID_OFFSET_2 + 82, value = "Configuration property '%1$s' is not set, and multiple backend types were found in the classpath."
 			+ " Set property '%1$s' to one of the following to select the backend type: %2$s")
 	SearchException multipleBackendFactoriesRegistered(String propertyKey, Collection<String> backendTypeNames);
+
+	@Message(id = ID_OFFSET_2 + 83, value = "Unable to provide the exact total hit count: only a lower-bound approximation is available."
+			+ " This is generally the result of setting query options such as a total hit count threshold."
+			+ " Either unset these options, or retrieve the lower-bound hit count approximation through '.total().hitCountLowerBound()'.")
+	SearchException notExactTotalHitCount();
+
+	@Message(id = ID_OFFSET_2 + 84,
+			value = "Invalid indexing queue implementation name: '%1$s'. Valid names are: %2$s.")
+	SearchException invalidIndexingQueueImplementationName(String invalidRepresentation, List<String> validRepresentations);
+
+	@Message(id = ID_OFFSET_2 + 85,
+			value = "Invalid indexing queue back-pressure strategy name: '%1$s'. Valid names are: %2$s.")
+	SearchException invalidIndexingQueueBackPressureStrategyName(String invalidRepresentation, List<String> validRepresentations);
+
+	@Message(id = ID_OFFSET_2 + 86,
+			value = "A work was submitted to '%1$s', but its queue is full (capacity: %2$s)."
+					+ " The work has been discarded."
+					+ " Either submit works at a slower pace, increase the queue size,"
+					+ " or use a back-pressure strategy that blocks instead of failing.")
+	SearchException workQueueFull(String executorName, int capacity);
+
+	@Message(id = ID_OFFSET_2 + 87,
+			value = "No value defined for name '%1$s'. Defined names are: %2$s."
+					+ " If this is a query parameter, set it using '.param(\"%1$s\", value)' when building the query.")
+	SearchException namedValueNotDefined(String name, Collection<String> definedNames);
+
+	@Message(id = ID_OFFSET_2 + 88,
+			value = "Invalid type for value with name '%1$s': expected '%3$s', got '%2$s'.")
+	SearchException namedValueInvalidType(String name, @FormatWith(ClassFormatter.class) Class<?> actualType,
+			@FormatWith(ClassFormatter.class) Class<?> expectedType);
 }
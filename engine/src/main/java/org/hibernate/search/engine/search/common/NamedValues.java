@@ -0,0 +1,43 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.common;
+
+import java.util.Optional;
+
+import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.common.annotation.Incubating;
+
+/**
+ * A set of named values, for example the parameters of a search query.
+ *
+ * @see org.hibernate.search.engine.search.predicate.dsl.SearchPredicateFactory#withParameters(java.util.function.Function)
+ * @see org.hibernate.search.engine.search.query.dsl.SearchQueryOptionsStep#param(String, Object)
+ */
+@Incubating
+public interface NamedValues {
+
+	/**
+	 * @param name The name of the value.
+	 * @param type The expected type of the value.
+	 * @param <T> The expected type of the value.
+	 * @return The value with the given name.
+	 * @throws SearchException If no value was defined for the given name,
+	 * or if the value does not have the expected type.
+	 */
+	<T> T get(String name, Class<T> type);
+
+	/**
+	 * @param name The name of the value.
+	 * @param type The expected type of the value.
+	 * @param <T> The expected type of the value.
+	 * @return An optional containing the value with the given name,
+	 * or an empty optional if no value was defined for the given name or if the value is {@code null}.
+	 * @throws SearchException If the value does not have the expected type.
+	 */
+	<T> Optional<T> getOptional(String name, Class<T> type);
+
+}
@@ -0,0 +1,63 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.common.spi;
+
+import java.lang.invoke.MethodHandles;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+
+import org.hibernate.search.engine.logging.impl.Log;
+import org.hibernate.search.engine.search.common.NamedValues;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+/**
+ * A {@link NamedValues} implementation backed by a map.
+ * <p>
+ * The map is not copied: changes to the map are visible through this object.
+ */
+public final class MapNamedValues implements NamedValues {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private static final MapNamedValues EMPTY = new MapNamedValues( Collections.emptyMap() );
+
+	public static MapNamedValues empty() {
+		return EMPTY;
+	}
+
+	private final Map<String, ?> values;
+
+	public MapNamedValues(Map<String, ?> values) {
+		this.values = values;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[" + values + "]";
+	}
+
+	@Override
+	public <T> T get(String name, Class<T> type) {
+		if ( !values.containsKey( name ) ) {
+			throw log.namedValueNotDefined( name, values.keySet() );
+		}
+		return cast( name, values.get( name ), type );
+	}
+
+	@Override
+	public <T> Optional<T> getOptional(String name, Class<T> type) {
+		return Optional.ofNullable( cast( name, values.get( name ), type ) );
+	}
+
+	private static <T> T cast(String name, Object value, Class<T> type) {
+		if ( value != null && !type.isInstance( value ) ) {
+			throw log.namedValueInvalidType( name, value.getClass(), type );
+		}
+		return type.cast( value );
+	}
+}
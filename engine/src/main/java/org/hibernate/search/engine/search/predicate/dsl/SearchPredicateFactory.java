@@ -8,10 +8,13 @@
 
 
 import java.util.function.Consumer;
+import java.util.function.Function;
 
 import org.hibernate.search.engine.backend.types.ObjectStructure;
 import org.hibernate.search.engine.search.common.BooleanOperator;
+import org.hibernate.search.engine.search.common.NamedValues;
 import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.common.annotation.Incubating;
 
 /**
  * A factory for search predicates.
@@ -138,6 +141,22 @@ public interface SearchPredicateFactory {
 	 */
 	SpatialPredicateInitialStep spatial();
 
+	/**
+	 * Create a predicate that depends on query parameters.
+	 * <p>
+	 * The given function is called every time a query using the resulting predicate is built,
+	 * with the parameters passed to {@link org.hibernate.search.engine.search.query.dsl.SearchQueryOptionsStep#param(String, Object)}.
+	 * This allows to build the predicate once, with {@link PredicateFinalStep#toPredicate()},
+	 * and to reuse it in many queries that only differ by their parameters.
+	 * <p>
+	 * Query parameters are only available to predicates passed to the {@code where(...)} clause of a query.
+	 *
+	 * @param predicateCreator A function that creates the predicate, given query parameters.
+	 * @return The final step of the predicate DSL.
+	 */
+	@Incubating
+	PredicateFinalStep withParameters(Function<? super NamedValues, ? extends PredicateFinalStep> predicateCreator);
+
 	/**
 	 * Extend the current factory with the given extension,
 	 * resulting in an extended factory offering different types of predicates.
@@ -7,8 +7,10 @@
 package org.hibernate.search.engine.search.predicate.dsl.impl;
 
 import java.util.function.Consumer;
+import java.util.function.Function;
 
 import org.hibernate.search.engine.common.dsl.spi.DslExtensionState;
+import org.hibernate.search.engine.search.common.NamedValues;
 import org.hibernate.search.engine.search.predicate.dsl.BooleanPredicateClausesStep;
 import org.hibernate.search.engine.search.predicate.dsl.ExistsPredicateFieldStep;
 import org.hibernate.search.engine.search.predicate.dsl.MatchAllPredicateOptionsStep;
@@ -97,6 +99,12 @@ public SpatialPredicateInitialStep spatial() {
 		return new SpatialPredicateInitialStepImpl( dslContext );
 	}
 
+	@Override
+	public PredicateFinalStep withParameters(
+			Function<? super NamedValues, ? extends PredicateFinalStep> predicateCreator) {
+		return new WithParametersPredicateFinalStep( dslContext, predicateCreator );
+	}
+
 	@Override
 	public <T> T extension(SearchPredicateFactoryExtension<T> extension) {
 		return DslExtensionState.returnIfSupported(
@@ -7,10 +7,12 @@
 package org.hibernate.search.engine.search.predicate.dsl.spi;
 
 import java.util.function.Consumer;
+import java.util.function.Function;
 
 import org.hibernate.search.engine.search.predicate.dsl.ExistsPredicateFieldStep;
 import org.hibernate.search.engine.search.predicate.dsl.MatchAllPredicateOptionsStep;
 import org.hibernate.search.engine.search.predicate.dsl.MatchIdPredicateMatchingStep;
+import org.hibernate.search.engine.search.common.NamedValues;
 import org.hibernate.search.engine.search.predicate.dsl.BooleanPredicateClausesStep;
 import org.hibernate.search.engine.search.predicate.dsl.MatchPredicateFieldStep;
 import org.hibernate.search.engine.search.predicate.dsl.NestedPredicateFieldStep;
@@ -97,6 +99,12 @@ public SpatialPredicateInitialStep spatial() {
 		return delegate.spatial();
 	}
 
+	@Override
+	public PredicateFinalStep withParameters(
+			Function<? super NamedValues, ? extends PredicateFinalStep> predicateCreator) {
+		return delegate.withParameters( predicateCreator );
+	}
+
 	@Override
 	public <T> T extension(SearchPredicateFactoryExtension<T> extension) {
 		return delegate.extension( extension );
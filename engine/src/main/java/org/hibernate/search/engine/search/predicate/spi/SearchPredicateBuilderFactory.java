@@ -53,4 +53,6 @@
 	SpatialWithinPolygonPredicateBuilder spatialWithinPolygon(String absoluteFieldPath);
 
 	SpatialWithinBoundingBoxPredicateBuilder spatialWithinBoundingBox(String absoluteFieldPath);
+
+	WithParametersPredicateBuilder withParameters();
 }
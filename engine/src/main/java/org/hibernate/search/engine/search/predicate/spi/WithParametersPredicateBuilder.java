@@ -0,0 +1,22 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.predicate.spi;
+
+import java.util.function.Function;
+
+import org.hibernate.search.engine.search.common.NamedValues;
+import org.hibernate.search.engine.search.predicate.SearchPredicate;
+
+public interface WithParametersPredicateBuilder extends SearchPredicateBuilder {
+
+	/**
+	 * @param predicateCreator A function creating the actual predicate from query parameters,
+	 * to be called by the backend every time a query using this predicate is built.
+	 */
+	void creator(Function<? super NamedValues, ? extends SearchPredicate> predicateCreator);
+
+}
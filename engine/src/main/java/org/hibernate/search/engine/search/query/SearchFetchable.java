@@ -8,6 +8,7 @@
 
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.TimeUnit;
 
 import org.hibernate.search.util.common.SearchException;
@@ -140,4 +141,63 @@
 	 */
 	List<H> fetchAllHits();
 
+	/**
+	 * Execute the query continuously to deliver results in small chunks through a {@link SearchScroll}.
+	 * <p>
+	 * Useful to process large result sets, e.g. to export all matching entities,
+	 * since only one chunk of hits is held in memory at any given time.
+	 * <p>
+	 * The returned scroll holds resources until it is closed:
+	 * always use it in a try-with-resources block, or make sure to call {@link SearchScroll#close()} explicitly.
+	 *
+	 * @param chunkSize The maximum number of hits to be returned for each call to {@link SearchScroll#next()}.
+	 * @return The {@link SearchScroll}.
+	 * @throws SearchException If something goes wrong while executing the query.
+	 */
+	SearchScroll<H> scroll(int chunkSize);
+
+	/**
+	 * Execute the query asynchronously and return a {@link CompletionStage} of the {@link SearchResult},
+	 * limiting to {@code limit} hits.
+	 * <p>
+	 * The calling thread is not blocked while the query executes.
+	 * Entities are loaded, if necessary, in a thread pool managed by the backend, before the returned stage completes:
+	 * when relying on a mapper that loads entities from a blocking data source, prefer projections.
+	 *
+	 * @param limit The maximum number of hits to be included in the {@link SearchResult}. {@code null} means no limit.
+	 * @return A {@link CompletionStage} of the {@link SearchResult}.
+	 * The stage will complete exceptionally in the same situations where {@link #fetch(Integer)} would throw an exception.
+	 * @throws SearchException If something goes wrong while preparing the query.
+	 */
+	CompletionStage<? extends SearchResult<H>> fetchAsync(Integer limit);
+
+	/**
+	 * Execute the query asynchronously and return a {@link CompletionStage} of the {@link SearchResult},
+	 * skipping {@code offset} hits and limiting to {@code limit} hits.
+	 * <p>
+	 * The calling thread is not blocked while the query executes.
+	 * Entities are loaded, if necessary, in a thread pool managed by the backend, before the returned stage completes:
+	 * when relying on a mapper that loads entities from a blocking data source, prefer projections.
+	 *
+	 * @param offset The number of hits to skip before adding the hits to the {@link SearchResult}. {@code null} means no offset.
+	 * @param limit The maximum number of hits to be included in the {@link SearchResult}. {@code null} means no limit.
+	 * @return A {@link CompletionStage} of the {@link SearchResult}.
+	 * The stage will complete exceptionally in the same situations
+	 * where {@link #fetch(Integer, Integer)} would throw an exception.
+	 * @throws SearchException If something goes wrong while preparing the query.
+	 */
+	CompletionStage<? extends SearchResult<H>> fetchAsync(Integer offset, Integer limit);
+
+	/**
+	 * Execute the query asynchronously and return a {@link CompletionStage} of the total hit count.
+	 * <p>
+	 * The calling thread is not blocked while the query executes.
+	 *
+	 * @return A {@link CompletionStage} of the total number of matching entities, ignoring pagination settings.
+	 * The stage will complete exceptionally in the same situations
+	 * where {@link #fetchTotalHitCount()} would throw an exception.
+	 * @throws SearchException If something goes wrong while preparing the query.
+	 */
+	CompletionStage<Long> fetchTotalHitCountAsync();
+
 }
@@ -16,10 +16,20 @@
  */
 public interface SearchResult<H> {
 
+	/**
+	 * @return The total number of matching entities, ignoring pagination settings,
+	 * along with information about whether this number is exact or just a lower bound.
+	 */
+	SearchResultTotal total();
+
 	/**
 	 * @return The total number of matching entities, ignoring pagination settings.
+	 * @throws org.hibernate.search.util.common.SearchException If the total hit count is not exact,
+	 * see {@link SearchResultTotal#hitCount()}.
 	 */
-	long totalHitCount();
+	default long totalHitCount() {
+		return total().hitCount();
+	}
 
 	/**
 	 * @return The total number of matching entities, ignoring pagination settings.
@@ -0,0 +1,42 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.query;
+
+/**
+ * The total number of matching documents, as returned in a {@link SearchResult}.
+ * <p>
+ * The total hit count may be exact, or only a lower bound,
+ * for instance when the {@link org.hibernate.search.engine.search.query.dsl.SearchQueryOptionsStep#totalHitCountThreshold(long) total hit count threshold}
+ * was reached and the backend stopped counting matching documents.
+ */
+public interface SearchResultTotal {
+
+	/**
+	 * @return {@code true} if the hit count is exact, {@code false} otherwise.
+	 */
+	boolean isHitCountExact();
+
+	/**
+	 * @return {@code true} if the hit count is only a lower bound of the actual number of matching documents,
+	 * {@code false} if it is exact.
+	 */
+	boolean isHitCountLowerBound();
+
+	/**
+	 * @return The total number of matching documents, ignoring pagination settings.
+	 * @throws org.hibernate.search.util.common.SearchException If the hit count is not exact.
+	 * Use {@link #hitCountLowerBound()} to retrieve a lower bound in that case.
+	 */
+	long hitCount();
+
+	/**
+	 * @return A lower bound of the total number of matching documents, ignoring pagination settings.
+	 * If the hit count is exact, this is simply the exact hit count.
+	 */
+	long hitCountLowerBound();
+
+}
@@ -0,0 +1,54 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.query;
+
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.common.SearchTimeoutException;
+
+/**
+ * A scroll through the hits of a search query, retrieving hits in successive chunks.
+ * <p>
+ * Unlike {@link SearchFetchable#fetchAll()},
+ * a scroll only ever holds a single chunk of hits in memory,
+ * and thus allows to process arbitrarily large result sets with constant memory usage.
+ * <p>
+ * Scrolls hold resources (e.g. index readers or server-side contexts) until they are closed:
+ * always use them in a try-with-resources block, or make sure to call {@link #close()} explicitly.
+ * <p>
+ * <strong>WARNING:</strong> scrolls are not thread-safe.
+ *
+ * @param <H> The type of query hits.
+ */
+public interface SearchScroll<H> extends AutoCloseable {
+
+	/**
+	 * Releases the resources held by this scroll.
+	 * <p>
+	 * Calling this method on a scroll that is already closed has no effect.
+	 */
+	@Override
+	void close();
+
+	/**
+	 * Execute the query and return the next chunk of hits.
+	 *
+	 * @return The next {@link SearchScrollResult}.
+	 * Once all hits have been returned, this will return a result with no hits:
+	 * see {@link SearchScrollResult#hasHits()}.
+	 * @throws SearchException If something goes wrong while executing the query,
+	 * or if this scroll was closed.
+	 * @throws SearchTimeoutException If a
+	 * {@link org.hibernate.search.engine.search.query.dsl.SearchQueryOptionsStep#failAfter(long, TimeUnit) failure timeout was set}
+	 * and was reached while executing the query.
+	 * @throws RuntimeException If something goes wrong while loading entities. The exact type depends on the mapper,
+	 * e.g. HibernateException/PersistenceException for the Hibernate ORM mapper.
+	 */
+	SearchScrollResult<H> next();
+
+}
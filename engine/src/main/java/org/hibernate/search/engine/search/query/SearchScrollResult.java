@@ -0,0 +1,46 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.query;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * A chunk of hits returned by a {@link SearchScroll}.
+ *
+ * @param <H> The type of hits.
+ */
+public interface SearchScrollResult<H> {
+
+	/**
+	 * @return {@code true} if this chunk contains hits,
+	 * {@code false} if the end of the scroll was reached and there are no more hits to retrieve.
+	 */
+	boolean hasHits();
+
+	/**
+	 * @return The hits of this chunk as a {@link List} containing one element for each matched entity.
+	 */
+	List<H> hits();
+
+	/**
+	 * @return The total number of matching entities, ignoring chunking,
+	 * along with information about whether this number is exact or just a lower bound.
+	 */
+	SearchResultTotal total();
+
+	/**
+	 * @return the time taken to retrieve this chunk, as a {@link Duration}
+	 */
+	Duration took();
+
+	/**
+	 * @return whether or not a timeout occurred while retrieving this chunk.
+	 */
+	boolean timedOut();
+
+}
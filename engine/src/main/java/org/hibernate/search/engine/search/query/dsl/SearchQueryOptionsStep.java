@@ -21,6 +21,7 @@
 import org.hibernate.search.engine.search.sort.dsl.SortFinalStep;
 import org.hibernate.search.engine.search.query.SearchFetchable;
 import org.hibernate.search.engine.search.query.SearchResult;
+import org.hibernate.search.util.common.annotation.Incubating;
 
 /**
  * The final step in a query definition, where optional parameters such as {@link #sort(Function) sorts} can be set,
@@ -92,6 +93,41 @@
 	 */
 	S failAfter(long timeout, TimeUnit timeUnit);
 
+	/**
+	 * Allow Hibernate Search to return a lower-bound estimate of the total hit count
+	 * if it exceeds {@code totalHitCountThreshold}.
+	 * <p>
+	 * Allowing Hibernate Search to return a lower-bound estimate of the total hit count
+	 * means it can stop counting matching documents early,
+	 * and skip documents that are not competitive enough to be part of the top hits,
+	 * which can lead to significantly faster queries on large indexes.
+	 * <p>
+	 * When the threshold is reached, {@link org.hibernate.search.engine.search.query.SearchResult#total()}
+	 * will report the hit count as a lower bound,
+	 * and {@link org.hibernate.search.engine.search.query.SearchResult#totalHitCount()} will throw an exception.
+	 * {@link org.hibernate.search.engine.search.query.SearchFetchable#fetchTotalHitCount()} is not affected
+	 * and always returns the exact hit count.
+	 *
+	 * @param totalHitCountThreshold The number of hits up to which the total hit count will be exact.
+	 * Must be positive or zero.
+	 * @return {@code this}, for method chaining.
+	 */
+	S totalHitCountThreshold(long totalHitCountThreshold);
+
+	/**
+	 * Set a query parameter,
+	 * to be used by predicates created with
+	 * {@link org.hibernate.search.engine.search.predicate.dsl.SearchPredicateFactory#withParameters(java.util.function.Function)}.
+	 * <p>
+	 * If a parameter with the same name was already set, its value is replaced.
+	 *
+	 * @param parameterName The name of the parameter.
+	 * @param value The value of the parameter.
+	 * @return {@code this}, for method chaining.
+	 */
+	@Incubating
+	S param(String parameterName, Object value);
+
 	/**
 	 * Configure entity loading for this query.
 	 * @param loadingOptionsContributor A consumer that will alter the loading options passed in parameter.
@@ -9,6 +9,7 @@
 import java.lang.invoke.MethodHandles;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletionStage;
 
 import org.hibernate.search.engine.logging.impl.Log;
 import org.hibernate.search.engine.search.query.SearchQuery;
@@ -43,6 +44,14 @@ public R fetch(Integer limit) {
 	@Override
 	public abstract R fetch(Integer offset, Integer limit);
 
+	@Override
+	public CompletionStage<R> fetchAsync(Integer limit) {
+		return fetchAsync( null, limit );
+	}
+
+	@Override
+	public abstract CompletionStage<R> fetchAsync(Integer offset, Integer limit);
+
 	@Override
 	public List<H> fetchAllHits() {
 		return fetchHits( null, null );
@@ -68,7 +77,7 @@ public Optional<H> fetchSingleHit() {
 			return Optional.empty();
 		}
 		else if ( fetchedHitCount > 1 ) {
-			throw log.nonSingleHit( result.totalHitCount() );
+			throw log.nonSingleHit( result.total() );
 		}
 		else {
 			return Optional.of( hits.get( 0 ) );
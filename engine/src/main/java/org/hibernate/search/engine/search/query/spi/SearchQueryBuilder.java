@@ -26,6 +26,10 @@
 
 	void failAfter(long timeout, TimeUnit timeUnit);
 
+	void totalHitCountThreshold(long totalHitCountThreshold);
+
+	void param(String parameterName, Object value);
+
 	SearchQuery<H> build();
 
 }
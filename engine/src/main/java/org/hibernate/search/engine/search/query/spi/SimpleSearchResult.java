@@ -15,13 +15,14 @@
 import org.hibernate.search.engine.logging.impl.Log;
 import org.hibernate.search.engine.search.aggregation.AggregationKey;
 import org.hibernate.search.engine.search.query.SearchResult;
+import org.hibernate.search.engine.search.query.SearchResultTotal;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
 public class SimpleSearchResult<H> implements SearchResult<H> {
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
-	private final long hitCount;
+	private final SearchResultTotal total;
 	private final List<H> hits;
 	private final Map<AggregationKey<?>, ?> aggregationResults;
 	private final Duration took;
@@ -29,7 +30,12 @@
 
 	public SimpleSearchResult(long hitCount, List<H> hits, Map<AggregationKey<?>, ?> aggregationResults,
 			Duration took, Boolean timedOut) {
-		this.hitCount = hitCount;
+		this( SimpleSearchResultTotal.exact( hitCount ), hits, aggregationResults, took, timedOut );
+	}
+
+	public SimpleSearchResult(SearchResultTotal total, List<H> hits, Map<AggregationKey<?>, ?> aggregationResults,
+			Duration took, Boolean timedOut) {
+		this.total = total;
 		this.hits = hits;
 		this.aggregationResults = aggregationResults;
 		this.took = took;
@@ -37,8 +43,8 @@ public SimpleSearchResult(long hitCount, List<H> hits, Map<AggregationKey<?>, ?>
 	}
 
 	@Override
-	public long totalHitCount() {
-		return hitCount;
+	public SearchResultTotal total() {
+		return total;
 	}
 
 	@Override
@@ -69,7 +75,7 @@ public boolean timedOut() {
 	@Override
 	public String toString() {
 		return new StringJoiner( ", ", SimpleSearchResult.class.getSimpleName() + "[", "]" )
-				.add( "hitCount=" + hitCount )
+				.add( "total=" + total )
 				.add( "hits=" + hits )
 				.add( "aggregationResults=" + aggregationResults )
 				.add( "took=" + took )
@@ -0,0 +1,66 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.search.query.spi;
+
+import java.lang.invoke.MethodHandles;
+
+import org.hibernate.search.engine.logging.impl.Log;
+import org.hibernate.search.engine.search.query.SearchResultTotal;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+public final class SimpleSearchResultTotal implements SearchResultTotal {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	public static SearchResultTotal of(long hitCount, boolean isExact) {
+		return new SimpleSearchResultTotal( hitCount, isExact );
+	}
+
+	public static SearchResultTotal exact(long hitCount) {
+		return new SimpleSearchResultTotal( hitCount, true );
+	}
+
+	public static SearchResultTotal lowerBound(long hitCountLowerBound) {
+		return new SimpleSearchResultTotal( hitCountLowerBound, false );
+	}
+
+	private final long hitCount;
+	private final boolean isExact;
+
+	private SimpleSearchResultTotal(long hitCount, boolean isExact) {
+		this.hitCount = hitCount;
+		this.isExact = isExact;
+	}
+
+	@Override
+	public boolean isHitCountExact() {
+		return isExact;
+	}
+
+	@Override
+	public boolean isHitCountLowerBound() {
+		return !isExact;
+	}
+
+	@Override
+	public long hitCount() {
+		if ( !isExact ) {
+			throw log.notExactTotalHitCount();
+		}
+		return hitCount;
+	}
+
+	@Override
+	public long hitCountLowerBound() {
+		return hitCount;
+	}
+
+	@Override
+	public String toString() {
+		return ( isExact ? "" : ">=" ) + hitCount;
+	}
+}
@@ -0,0 +1,225 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.backend.orchestration.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.hibernate.search.engine.cfg.IndexingQueueBackPressureStrategyName;
+import org.hibernate.search.engine.cfg.IndexingQueueImplementationName;
+import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.impl.test.FutureAssert;
+
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+@RunWith(Parameterized.class)
+public class WorkQueueTest {
+
+	private static final String NAME = "queue-name";
+
+	@Parameterized.Parameters(name = "{0}")
+	public static List<IndexingQueueImplementationName> params() {
+		return Arrays.asList( IndexingQueueImplementationName.values() );
+	}
+
+	private final IndexingQueueImplementationName implementation;
+
+	private final ExecutorService asyncExecutor = Executors.newCachedThreadPool();
+
+	public WorkQueueTest(IndexingQueueImplementationName implementation) {
+		this.implementation = implementation;
+	}
+
+	@After
+	public void cleanup() {
+		asyncExecutor.shutdownNow();
+	}
+
+	@Test
+	public void fifo() throws InterruptedException {
+		WorkQueue<Integer> queue = create( IndexingQueueBackPressureStrategyName.BLOCK, 8 );
+		assertThat( queue.isEmpty() ).isTrue();
+
+		for ( int i = 0; i < 5; i++ ) {
+			queue.put( i );
+		}
+		assertThat( queue.isEmpty() ).isFalse();
+		assertThat( queue.size() ).isEqualTo( 5 );
+
+		List<Integer> drained = new ArrayList<>();
+		assertThat( queue.drainTo( drained::add, 3 ) ).isEqualTo( 3 );
+		assertThat( drained ).containsExactly( 0, 1, 2 );
+
+		// Wrap around the end of the internal buffer
+		for ( int i = 5; i < 10; i++ ) {
+			queue.put( i );
+		}
+		drained.clear();
+		assertThat( queue.drainTo( drained::add, 100 ) ).isEqualTo( 7 );
+		assertThat( drained ).containsExactly( 3, 4, 5, 6, 7, 8, 9 );
+		assertThat( queue.isEmpty() ).isTrue();
+		assertThat( queue.drainTo( drained::add, 100 ) ).isEqualTo( 0 );
+	}
+
+	@Test
+	public void clear() throws InterruptedException {
+		WorkQueue<Integer> queue = create( IndexingQueueBackPressureStrategyName.BLOCK, 8 );
+		queue.put( 1 );
+		queue.put( 2 );
+
+		queue.clear();
+
+		assertThat( queue.isEmpty() ).isTrue();
+		assertThat( queue.size() ).isEqualTo( 0 );
+	}
+
+	@Test
+	public void capacityOne() throws InterruptedException {
+		WorkQueue<Integer> queue = create( IndexingQueueBackPressureStrategyName.FAIL_FAST, 1 );
+
+		queue.put( 0 );
+		// Filling the queue must never overwrite an element that was not consumed yet
+		for ( int i = 1; i < queue.capacity(); i++ ) {
+			queue.put( i );
+		}
+		assertThatThrownBy( () -> queue.put( 42 ) )
+				.isInstanceOf( SearchException.class );
+
+		List<Integer> drained = new ArrayList<>();
+		assertThat( queue.drainTo( drained::add, 100 ) ).isEqualTo( queue.capacity() );
+		assertThat( drained ).first().isEqualTo( 0 );
+		assertThat( queue.isEmpty() ).isTrue();
+	}
+
+	@Test
+	public void failFast() throws InterruptedException {
+		WorkQueue<Integer> queue = create( IndexingQueueBackPressureStrategyName.FAIL_FAST, 4 );
+		for ( int i = 0; i < queue.capacity(); i++ ) {
+			queue.put( i );
+		}
+
+		assertThatThrownBy( () -> queue.put( 42 ) )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContainingAll( "HSEARCH000586", NAME, "queue is full" );
+
+		// Once there is room, works are accepted again
+		queue.drainTo( ignored -> { }, 1 );
+		queue.put( 42 );
+	}
+
+	@Test
+	public void block() throws InterruptedException {
+		doTestWaitForRoom( IndexingQueueBackPressureStrategyName.BLOCK );
+	}
+
+	@Test
+	public void spinThenPark() throws InterruptedException {
+		doTestWaitForRoom( IndexingQueueBackPressureStrategyName.SPIN_THEN_PARK );
+	}
+
+	@Test
+	public void concurrentProducers() throws InterruptedException {
+		int producerCount = 8;
+		int elementsPerProducer = 10_000;
+		WorkQueue<int[]> queue = create( IndexingQueueBackPressureStrategyName.SPIN_THEN_PARK, 16 );
+
+		CountDownLatch startLatch = new CountDownLatch( 1 );
+		CompletableFuture<?>[] producers = new CompletableFuture<?>[producerCount];
+		for ( int i = 0; i < producerCount; i++ ) {
+			int producer = i;
+			producers[i] = CompletableFuture.runAsync( () -> {
+				try {
+					startLatch.await();
+					for ( int j = 0; j < elementsPerProducer; j++ ) {
+						queue.put( new int[] { producer, j } );
+					}
+				}
+				catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					throw new IllegalStateException( e );
+				}
+			}, asyncExecutor );
+		}
+		CompletableFuture<Void> allProducers = CompletableFuture.allOf( producers );
+
+		// Elements from a given producer must be consumed in order, exactly once
+		int[] nextExpected = new int[producerCount];
+		AtomicBoolean outOfOrder = new AtomicBoolean( false );
+		startLatch.countDown();
+		int consumed = 0;
+		while ( consumed < producerCount * elementsPerProducer ) {
+			int drained = queue.drainTo( element -> {
+				if ( nextExpected[element[0]] != element[1] ) {
+					outOfOrder.set( true );
+				}
+				nextExpected[element[0]] = element[1] + 1;
+			}, 7 );
+			if ( drained == 0 ) {
+				if ( allProducers.isCompletedExceptionally() ) {
+					break;
+				}
+				// Give producers a chance to run, even on a single CPU
+				Thread.yield();
+			}
+			consumed += drained;
+		}
+
+		FutureAssert.assertThat( allProducers ).isSuccessful();
+		assertThat( outOfOrder ).isFalse();
+		assertThat( nextExpected ).containsOnly( elementsPerProducer );
+		assertThat( queue.isEmpty() ).isTrue();
+	}
+
+	private void doTestWaitForRoom(IndexingQueueBackPressureStrategyName backPressureStrategy)
+			throws InterruptedException {
+		WorkQueue<Integer> queue = create( backPressureStrategy, 4 );
+		for ( int i = 0; i < queue.capacity(); i++ ) {
+			queue.put( i );
+		}
+
+		CompletableFuture<?> blockedPut = CompletableFuture.runAsync( () -> {
+			try {
+				queue.put( 42 );
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new IllegalStateException( e );
+			}
+		}, asyncExecutor );
+
+		// The producer should be waiting for room in the queue
+		TimeUnit.MILLISECONDS.sleep( 100 );
+		FutureAssert.assertThat( blockedPut ).isPending();
+
+		List<Integer> drained = new ArrayList<>();
+		queue.drainTo( drained::add, 1 );
+
+		// The producer should have been unblocked
+		await().untilAsserted( () -> FutureAssert.assertThat( blockedPut ).isSuccessful() );
+		queue.drainTo( drained::add, Integer.MAX_VALUE );
+		assertThat( drained ).hasSize( queue.capacity() + 1 )
+				.endsWith( 42 );
+	}
+
+	private <E> WorkQueue<E> create(IndexingQueueBackPressureStrategyName backPressureStrategy, int capacity) {
+		return WorkQueue.create( NAME, implementation, backPressureStrategy, capacity, true );
+	}
+}
@@ -12,10 +12,14 @@
 import static org.easymock.EasyMock.expect;
 import static org.easymock.EasyMock.expectLastCall;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.ScheduledExecutorService;
 
+import org.hibernate.search.engine.cfg.IndexingQueueBackPressureStrategyName;
+import org.hibernate.search.engine.cfg.IndexingQueueImplementationName;
 import org.hibernate.search.engine.environment.bean.BeanHolder;
 import org.hibernate.search.engine.environment.thread.impl.DefaultThreadProvider;
 import org.hibernate.search.engine.environment.thread.impl.ThreadPoolProviderImpl;
@@ -25,15 +29,33 @@
 
 import org.junit.After;
 import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
 
 import org.easymock.Capture;
 import org.easymock.EasyMockSupport;
 
 @SuppressWarnings({"unchecked", "rawtypes"}) // Raw types are the only way to mock parameterized types with EasyMock
+@RunWith(Parameterized.class)
 public class BatchingExecutorTest extends EasyMockSupport {
 
 	private static final String NAME = "executor-name";
 
+	@Parameterized.Parameters(name = "{0} - {1}")
+	public static List<Object[]> params() {
+		List<Object[]> params = new ArrayList<>();
+		for ( IndexingQueueImplementationName queueImplementation : IndexingQueueImplementationName.values() ) {
+			for ( IndexingQueueBackPressureStrategyName backPressureStrategy
+					: IndexingQueueBackPressureStrategyName.values() ) {
+				params.add( new Object[] { queueImplementation, backPressureStrategy } );
+			}
+		}
+		return params;
+	}
+
+	private final IndexingQueueImplementationName queueImplementation;
+	private final IndexingQueueBackPressureStrategyName backPressureStrategy;
+
 	private final StubWorkProcessor processorMock = createMock( StubWorkProcessor.class );
 	private final FailureHandler failureHandlerMock = createMock( FailureHandler.class );
 	private final ThreadPoolProviderImpl threadPoolProvider =
@@ -45,6 +67,12 @@ public class BatchingExecutorTest extends EasyMockSupport {
 	private ScheduledExecutorService executorService;
 	private BatchingExecutor<StubWorkProcessor> executor;
 
+	public BatchingExecutorTest(IndexingQueueImplementationName queueImplementation,
+			IndexingQueueBackPressureStrategyName backPressureStrategy) {
+		this.queueImplementation = queueImplementation;
+		this.backPressureStrategy = backPressureStrategy;
+	}
+
 	@After
 	public void cleanup() {
 		if ( executorService != null ) {
@@ -187,7 +215,9 @@ public void beginBatchFailure() throws InterruptedException {
 		processorMock.beginBatch();
 		expectLastCall().andThrow( simulatedFailure );
 		failureHandlerMock.handle( capture( failureContextCapture ) );
-		// The next works should not be submitted to the processor: something is very wrong
+		// The next works should not be submitted to the processor: something is very wrong.
+		// They should be marked as failed, though, so that callers waiting for them don't wait forever.
+		work1Mock.markAsFailed( simulatedFailure );
 		// Since the queue is empty, works should be considered complete.
 		processorMock.complete();
 		completionListenerAfterSubmit.onComplete();
@@ -319,7 +349,9 @@ private Runnable blockExecutor()
 
 	private void createAndStartExecutor(int maxTasksPerBatch, boolean fair) {
 		this.executor = new BatchingExecutor<>(
-				NAME, processorMock, maxTasksPerBatch, fair, failureHandlerMock
+				NAME, processorMock, maxTasksPerBatch, fair,
+				queueImplementation, backPressureStrategy,
+				failureHandlerMock
 		);
 
 		// Having multiple threads should not matter:
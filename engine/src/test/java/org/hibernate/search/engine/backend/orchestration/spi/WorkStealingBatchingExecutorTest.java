@@ -0,0 +1,252 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.backend.orchestration.spi;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.search.engine.cfg.IndexingQueueBackPressureStrategyName;
+import org.hibernate.search.engine.cfg.IndexingQueueImplementationName;
+import org.hibernate.search.engine.environment.bean.BeanHolder;
+import org.hibernate.search.engine.environment.thread.impl.DefaultThreadProvider;
+import org.hibernate.search.engine.environment.thread.impl.ThreadPoolProviderImpl;
+import org.hibernate.search.engine.reporting.EntityIndexingFailureContext;
+import org.hibernate.search.engine.reporting.FailureContext;
+import org.hibernate.search.engine.reporting.FailureHandler;
+import org.hibernate.search.util.common.data.impl.SimpleHashFunction;
+import org.hibernate.search.util.impl.test.FutureAssert;
+
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+@RunWith(Parameterized.class)
+public class WorkStealingBatchingExecutorTest {
+
+	private static final String NAME = "executor-name";
+
+	@Parameterized.Parameters(name = "{0}")
+	public static List<Object[]> params() {
+		List<Object[]> params = new ArrayList<>();
+		for ( IndexingQueueImplementationName queueImplementation : IndexingQueueImplementationName.values() ) {
+			params.add( new Object[] { queueImplementation } );
+		}
+		return params;
+	}
+
+	private final IndexingQueueImplementationName queueImplementation;
+
+	private final StubWorkProcessor processor = new StubWorkProcessor();
+	private final List<Throwable> reportedFailures = Collections.synchronizedList( new ArrayList<>() );
+	private final ThreadPoolProviderImpl threadPoolProvider =
+			new ThreadPoolProviderImpl( BeanHolder.of( new DefaultThreadProvider() ) );
+
+	private ScheduledExecutorService executorService;
+	private WorkStealingBatchingExecutor<StubWorkProcessor, StubWork> executor;
+
+	public WorkStealingBatchingExecutorTest(IndexingQueueImplementationName queueImplementation) {
+		this.queueImplementation = queueImplementation;
+	}
+
+	@After
+	public void cleanup() {
+		if ( executorService != null ) {
+			executorService.shutdownNow();
+		}
+		threadPoolProvider.close();
+		if ( executor != null ) {
+			executor.stop();
+		}
+	}
+
+	@Test
+	public void ordering_sameKey() throws Exception {
+		createAndStartExecutor( 4, 3, 8 );
+
+		Map<String, List<Integer>> executionOrder = new ConcurrentHashMap<>();
+		Set<String> keysInProgress = ConcurrentHashMap.newKeySet();
+		List<CompletableFuture<?>> futures = new ArrayList<>();
+		for ( int i = 0; i < 1000; i++ ) {
+			String key = "key" + ( i % 7 );
+			int index = i;
+			StubWork work = new StubWork( key, () -> {
+				// Works with the same key must never be processed concurrently...
+				assertThat( keysInProgress.add( key ) ).as( "Concurrent processing of key " + key ).isTrue();
+				try {
+					Thread.yield();
+					// ... and must be processed in submission order.
+					executionOrder.computeIfAbsent( key, ignored -> Collections.synchronizedList( new ArrayList<>() ) )
+							.add( index );
+				}
+				finally {
+					keysInProgress.remove( key );
+				}
+			} );
+			futures.add( work.future );
+			executor.submit( work );
+		}
+
+		CompletableFuture.allOf( futures.toArray( new CompletableFuture[0] ) ).get( 10, TimeUnit.SECONDS );
+		await().untilAsserted( () -> FutureAssert.assertThat( executor.completion() ).isSuccessful() );
+		for ( List<Integer> indices : executionOrder.values() ) {
+			assertThat( indices ).isSorted();
+		}
+		assertThat( executionOrder.values() ).extracting( List::size ).containsOnly( 1000 / 7, 1000 / 7 + 1 );
+		assertThat( reportedFailures ).isEmpty();
+	}
+
+	@Test
+	public void workStealing_skewedQueue() throws Exception {
+		// Only one work per batch, so that each work of the busy queue can be taken by a different worker
+		createAndStartExecutor( 4, 4, 1 );
+
+		// Works with different keys, but assigned to the same queue
+		List<String> keys = keysAssignedToSameQueue( 4, 4 );
+		// Each work waits for all the others to start: this will only complete if works are processed in parallel
+		CountDownLatch allStarted = new CountDownLatch( keys.size() );
+		Set<String> threadNames = ConcurrentHashMap.newKeySet();
+		List<CompletableFuture<?>> futures = new ArrayList<>();
+		for ( String key : keys ) {
+			StubWork work = new StubWork( key, () -> {
+				threadNames.add( Thread.currentThread().getName() );
+				allStarted.countDown();
+				try {
+					assertThat( allStarted.await( 10, TimeUnit.SECONDS ) )
+							.as( "All works of the busy queue started in parallel" ).isTrue();
+				}
+				catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					throw new IllegalStateException( e );
+				}
+			} );
+			futures.add( work.future );
+			executor.submit( work );
+		}
+
+		CompletableFuture.allOf( futures.toArray( new CompletableFuture[0] ) ).get( 10, TimeUnit.SECONDS );
+		await().untilAsserted( () -> FutureAssert.assertThat( executor.completion() ).isSuccessful() );
+		assertThat( threadNames ).hasSize( keys.size() );
+		assertThat( reportedFailures ).isEmpty();
+	}
+
+	@Test
+	public void workFailure() throws InterruptedException {
+		createAndStartExecutor( 2, 2, 8 );
+
+		RuntimeException failure = new RuntimeException( "Some message" );
+		StubWork failingWork = new StubWork( "key", () -> {
+			throw failure;
+		} );
+		AtomicInteger executed = new AtomicInteger();
+		StubWork nextWork = new StubWork( "key", executed::incrementAndGet );
+		executor.submit( failingWork );
+		executor.submit( nextWork );
+
+		await().untilAsserted( () -> FutureAssert.assertThat( failingWork.future ).isFailed( failure ) );
+		// The failure should not prevent other works with the same key from being processed
+		await().untilAsserted( () -> FutureAssert.assertThat( nextWork.future ).isSuccessful() );
+		assertThat( executed ).hasValue( 1 );
+		assertThat( reportedFailures ).isEmpty();
+	}
+
+	private void createAndStartExecutor(int queueCount, int threadCount, int maxTasksPerBatch) {
+		this.executor = new WorkStealingBatchingExecutor<>(
+				NAME, processor, queueCount, maxTasksPerBatch, work -> work.key,
+				queueImplementation, IndexingQueueBackPressureStrategyName.BLOCK,
+				new StubFailureHandler()
+		);
+		this.executorService = threadPoolProvider.newScheduledExecutor( threadCount,
+				"WorkStealingBatchingExecutorTest" );
+		executor.start( executorService );
+		// Initially, there are no works, so works are considered completed.
+		FutureAssert.assertThat( executor.completion() ).isSuccessful();
+	}
+
+	private static List<String> keysAssignedToSameQueue(int queueCount, int keyCount) {
+		Integer[] queueIndices = new Integer[queueCount];
+		for ( int i = 0; i < queueCount; i++ ) {
+			queueIndices[i] = i;
+		}
+		List<String> keys = new ArrayList<>();
+		for ( int i = 0; keys.size() < keyCount; i++ ) {
+			String key = "key" + i;
+			if ( SimpleHashFunction.pick( queueIndices, key ) == 0 ) {
+				keys.add( key );
+			}
+		}
+		return keys;
+	}
+
+	private static class StubWork implements BatchedWork<StubWorkProcessor> {
+		private final String key;
+		private final Runnable action;
+		private final CompletableFuture<Object> future = new CompletableFuture<>();
+
+		private StubWork(String key, Runnable action) {
+			this.key = key;
+			this.action = action;
+		}
+
+		@Override
+		public void submitTo(StubWorkProcessor processor) {
+			try {
+				action.run();
+				future.complete( null );
+			}
+			catch (Throwable e) {
+				markAsFailed( e );
+			}
+		}
+
+		@Override
+		public void markAsFailed(Throwable t) {
+			future.completeExceptionally( t );
+		}
+	}
+
+	private static class StubWorkProcessor implements BatchedWorkProcessor {
+		@Override
+		public void beginBatch() {
+			// Nothing to do
+		}
+
+		@Override
+		public CompletableFuture<?> endBatch() {
+			return CompletableFuture.completedFuture( null );
+		}
+
+		@Override
+		public void complete() {
+			// Nothing to do
+		}
+	}
+
+	private class StubFailureHandler implements FailureHandler {
+		@Override
+		public void handle(FailureContext context) {
+			reportedFailures.add( context.throwable() );
+		}
+
+		@Override
+		public void handle(EntityIndexingFailureContext context) {
+			reportedFailures.add( context.throwable() );
+		}
+	}
+}
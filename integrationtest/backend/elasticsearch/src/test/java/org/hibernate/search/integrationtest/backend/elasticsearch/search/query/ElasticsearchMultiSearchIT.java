@@ -0,0 +1,211 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.elasticsearch.search.query;
+
+import static org.hibernate.search.util.impl.integrationtest.backend.elasticsearch.ElasticsearchIndexMetadataTestUtils.defaultReadAlias;
+import static org.hibernate.search.util.impl.integrationtest.common.assertion.SearchResultAssert.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import org.hibernate.search.backend.elasticsearch.ElasticsearchExtension;
+import org.hibernate.search.backend.elasticsearch.cfg.ElasticsearchBackendSettings;
+import org.hibernate.search.backend.elasticsearch.cfg.spi.ElasticsearchBackendSpiSettings;
+import org.hibernate.search.backend.elasticsearch.client.impl.Paths;
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequest;
+import org.hibernate.search.backend.elasticsearch.search.query.ElasticsearchMultiSearch;
+import org.hibernate.search.backend.elasticsearch.search.query.ElasticsearchSearchResult;
+import org.hibernate.search.engine.backend.common.DocumentReference;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.search.query.SearchQuery;
+import org.hibernate.search.engine.search.query.SearchResult;
+import org.hibernate.search.integrationtest.backend.elasticsearch.testsupport.util.ElasticsearchClientSpy;
+import org.hibernate.search.integrationtest.backend.elasticsearch.testsupport.util.ElasticsearchRequestAssertionMode;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMappingScope;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import org.assertj.core.api.Assertions;
+
+/**
+ * Test the execution of Elasticsearch search queries in multi-search requests.
+ */
+public class ElasticsearchMultiSearchIT {
+
+	private static final String DOCUMENT_1 = "1";
+	private static final String DOCUMENT_2 = "2";
+	private static final String DOCUMENT_3 = "3";
+
+	private static final int CONCURRENT_QUERY_COUNT = 50;
+
+	@Rule
+	public final SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	@Rule
+	public ElasticsearchClientSpy clientSpy = new ElasticsearchClientSpy();
+
+	private final SimpleMappedIndex<IndexBinding> index = SimpleMappedIndex.of( IndexBinding::new );
+
+	@Test
+	public void explicit() {
+		setup( false );
+
+		StubMappingScope scope = index.createScope();
+		SearchQuery<DocumentReference> query1 = scope.query()
+				.where( f -> f.match().field( "string" ).matching( "text1" ) )
+				.toQuery();
+		SearchQuery<DocumentReference> query2 = scope.query()
+				.where( f -> f.match().field( "string" ).matching( "text2" ) )
+				.toQuery();
+
+		ElasticsearchMultiSearch multiSearch = ElasticsearchMultiSearch.create();
+		CompletionStage<ElasticsearchSearchResult<DocumentReference>> result1 = multiSearch.add( query1, null );
+		CompletionStage<ElasticsearchSearchResult<DocumentReference>> result2 = multiSearch.add( query2, 1, 10 );
+
+		String readAlias = defaultReadAlias( index.name() ).original;
+		clientSpy.expectNext(
+				ElasticsearchRequest.post()
+						.pathComponent( Paths._MSEARCH )
+						.body( json( "{'index':['" + readAlias + "']}" ) )
+						.body( new JsonObject() ) // We don't care about the payload
+						.body( json( "{'index':['" + readAlias + "']}" ) )
+						.body( json( "{'from':1,'size':10}" ) )
+						.build(),
+				ElasticsearchRequestAssertionMode.EXTENSIBLE
+		);
+
+		multiSearch.fetch();
+
+		assertThat( result1.toCompletableFuture().join() )
+				.hasDocRefHitsAnyOrder( index.typeName(), DOCUMENT_1 );
+		// Document 2 is the only match, but it's skipped because of the offset
+		SearchResult<DocumentReference> result = result2.toCompletableFuture().join();
+		assertThat( result ).hasNoHits();
+		Assertions.assertThat( result.total().hitCount() ).isEqualTo( 1L );
+	}
+
+	@Test
+	public void explicit_singleQuery() {
+		setup( false );
+
+		StubMappingScope scope = index.createScope();
+		SearchQuery<DocumentReference> query = scope.query()
+				.where( f -> f.match().field( "string" ).matching( "text1" ) )
+				.toQuery();
+
+		ElasticsearchMultiSearch multiSearch = ElasticsearchMultiSearch.create();
+		CompletionStage<ElasticsearchSearchResult<DocumentReference>> result = multiSearch.add( query, null );
+
+		// A single query does not need a multi-search request
+		clientSpy.expectNext(
+				ElasticsearchRequest.post()
+						.pathComponent( defaultReadAlias( index.name() ) )
+						.pathComponent( Paths._SEARCH )
+						.body( new JsonObject() ) // We don't care about the payload
+						.build(),
+				ElasticsearchRequestAssertionMode.EXTENSIBLE
+		);
+
+		multiSearch.fetch();
+
+		assertThat( result.toCompletableFuture().join() )
+				.hasDocRefHitsAnyOrder( index.typeName(), DOCUMENT_1 );
+	}
+
+	@Test
+	public void explicit_failure() {
+		setup( false );
+
+		StubMappingScope scope = index.createScope();
+		SearchQuery<DocumentReference> validQuery = scope.query()
+				.where( f -> f.match().field( "string" ).matching( "text1" ) )
+				.toQuery();
+		SearchQuery<DocumentReference> invalidQuery = scope.query()
+				.where( f -> f.extension( ElasticsearchExtension.get() )
+						.fromJson( "{'unknownPredicate':{}}" ) )
+				.toQuery();
+
+		ElasticsearchMultiSearch multiSearch = ElasticsearchMultiSearch.create();
+		CompletionStage<ElasticsearchSearchResult<DocumentReference>> validResult = multiSearch.add( validQuery, null );
+		CompletionStage<ElasticsearchSearchResult<DocumentReference>> invalidResult = multiSearch.add( invalidQuery, null );
+
+		Assertions.assertThatThrownBy( multiSearch::fetch )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Elasticsearch request failed as part of a multi-search request" )
+				.hasMessageContaining( "unknownPredicate" );
+
+		// A failure in one query does not affect the others
+		assertThat( validResult.toCompletableFuture().join() )
+				.hasDocRefHitsAnyOrder( index.typeName(), DOCUMENT_1 );
+		Assertions.assertThat( invalidResult.toCompletableFuture() ).isCompletedExceptionally();
+	}
+
+	@Test
+	public void implicit_concurrentQueries() {
+		setup( true );
+
+		StubMappingScope scope = index.createScope();
+
+		// Whether queries end up in the same multi-search request depends on timing:
+		// we can only check that each caller gets the result of its own query.
+		List<CompletableFuture<? extends SearchResult<DocumentReference>>> futures = new ArrayList<>();
+		for ( int i = 0; i < CONCURRENT_QUERY_COUNT; i++ ) {
+			String text = "text" + ( i % 3 + 1 );
+			futures.add( scope.query()
+					.where( f -> f.match().field( "string" ).matching( text ) )
+					.fetchAsync( null ).toCompletableFuture() );
+		}
+
+		for ( int i = 0; i < CONCURRENT_QUERY_COUNT; i++ ) {
+			assertThat( futures.get( i ).join() )
+					.hasDocRefHitsAnyOrder( index.typeName(), String.valueOf( i % 3 + 1 ) );
+		}
+	}
+
+	private void setup(boolean implicitMultiSearchEnabled) {
+		setupHelper.start()
+				.withBackendProperty(
+						ElasticsearchBackendSpiSettings.CLIENT_FACTORY, clientSpy.factoryReference()
+				)
+				.withBackendProperty(
+						ElasticsearchBackendSettings.QUERY_MULTI_SEARCH_ENABLED, implicitMultiSearchEnabled
+				)
+				.withIndex( index )
+				.setup();
+
+		initData();
+	}
+
+	private void initData() {
+		index.bulkIndexer()
+				.add( DOCUMENT_1, document -> document.addValue( index.binding().string, "text1" ) )
+				.add( DOCUMENT_2, document -> document.addValue( index.binding().string, "text2" ) )
+				.add( DOCUMENT_3, document -> document.addValue( index.binding().string, "text3" ) )
+				.join();
+	}
+
+	private static JsonObject json(String json) {
+		return new Gson().fromJson( json, JsonObject.class );
+	}
+
+	private static class IndexBinding {
+		final IndexFieldReference<String> string;
+
+		IndexBinding(IndexSchemaElement root) {
+			string = root.field( "string", f -> f.asString() ).toReference();
+		}
+	}
+}
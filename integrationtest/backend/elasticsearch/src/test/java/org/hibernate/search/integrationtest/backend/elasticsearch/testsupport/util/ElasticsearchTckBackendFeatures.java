@@ -117,4 +117,9 @@ public boolean supportsValuesForDynamicField(Class<?> javaType) {
 			return true;
 		}
 	}
+
+	@Override
+	public boolean supportsApproximateTotalHitCount() {
+		return dialect.supportsApproximateTotalHitCount();
+	}
 }
@@ -0,0 +1,149 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.lowlevel.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.documentProvider;
+
+import java.util.Optional;
+import java.util.function.Function;
+
+import org.hibernate.search.backend.lucene.LuceneBackend;
+import org.hibernate.search.backend.lucene.cache.LuceneQueryCacheStatistics;
+import org.hibernate.search.backend.lucene.cfg.LuceneBackendSettings;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.common.spi.SearchIntegration;
+import org.hibernate.search.engine.environment.bean.BeanReference;
+import org.hibernate.search.engine.search.query.SearchQuery;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+import org.hibernate.search.util.impl.test.rule.StaticCounters;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.QueryCachingPolicy;
+
+public class LuceneQueryCacheIT {
+
+	/*
+	 * Lucene only caches results for segments with at least 10,000 documents,
+	 * so we need at least that many documents in a single segment.
+	 */
+	private static final int DOCUMENT_COUNT = 10_000;
+
+	@Rule
+	public final SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	@Rule
+	public final StaticCounters staticCounters = new StaticCounters();
+
+	private final SimpleMappedIndex<IndexBinding> index = SimpleMappedIndex.of( IndexBinding::new );
+
+	@Test
+	public void defaults() {
+		LuceneBackend backend = setup( Function.identity() );
+
+		Optional<LuceneQueryCacheStatistics> statistics = backend.queryCacheStatistics();
+		assertThat( statistics ).isPresent();
+
+		index.bulkIndexer()
+				.add( DOCUMENT_COUNT, i -> documentProvider( String.valueOf( i ),
+						document -> document.addValue( index.binding().integer, i ) ) )
+				.join();
+
+		SearchQuery<?> query = index.createScope().query()
+				.where( f -> f.bool()
+						.must( f.matchAll() )
+						.filter( f.range().field( "integer" ).atLeast( DOCUMENT_COUNT / 2 ) ) )
+				.toQuery();
+
+		// The default caching policy only caches queries once they have been used a few times.
+		for ( int i = 0; i < 5; i++ ) {
+			assertThat( query.fetchTotalHitCount() ).isEqualTo( DOCUMENT_COUNT / 2 );
+		}
+
+		assertThat( statistics.get().cacheCount() ).isPositive();
+		assertThat( statistics.get().cacheSize() ).isPositive();
+		assertThat( statistics.get().hitCount() ).isPositive();
+		assertThat( statistics.get().missCount() ).isPositive();
+		assertThat( statistics.get().memoryUsedBytes() ).isPositive();
+	}
+
+	@Test
+	public void disabled() {
+		LuceneBackend backend = setup( c -> c.withBackendProperty(
+				LuceneBackendSettings.QUERY_CACHE_ENABLED, false
+		) );
+
+		assertThat( backend.queryCacheStatistics() ).isEmpty();
+
+		index.bulkIndexer()
+				.add( 10, i -> documentProvider( String.valueOf( i ),
+						document -> document.addValue( index.binding().integer, i ) ) )
+				.join();
+
+		assertThat( index.createScope().query()
+				.where( f -> f.range().field( "integer" ).atLeast( 5 ) )
+				.fetchTotalHitCount() )
+				.isEqualTo( 5 );
+	}
+
+	@Test
+	public void cachingPolicy() {
+		setup( c -> c.withBackendProperty(
+				LuceneBackendSettings.QUERY_CACHE_CACHING_POLICY,
+				BeanReference.of( CountingQueryCachingPolicy.class )
+		) );
+
+		index.bulkIndexer()
+				.add( 10, i -> documentProvider( String.valueOf( i ),
+						document -> document.addValue( index.binding().integer, i ) ) )
+				.join();
+
+		assertThat( index.createScope().query()
+				.where( f -> f.bool()
+						.must( f.matchAll() )
+						.filter( f.range().field( "integer" ).atLeast( 5 ) ) )
+				.fetchTotalHitCount() )
+				.isEqualTo( 5 );
+
+		assertThat( staticCounters.get( CountingQueryCachingPolicy.USE ) ).isPositive();
+	}
+
+	private LuceneBackend setup(
+			Function<SearchSetupHelper.SetupContext, SearchSetupHelper.SetupContext> additionalConfiguration) {
+		SearchIntegration integration = additionalConfiguration.apply( setupHelper.start() )
+				.withIndex( index )
+				.setup();
+		return integration.backend().unwrap( LuceneBackend.class );
+	}
+
+	public static class CountingQueryCachingPolicy implements QueryCachingPolicy {
+		static final StaticCounters.Key USE = StaticCounters.createKey();
+
+		@Override
+		public void onUse(Query query) {
+			StaticCounters.get().increment( USE );
+		}
+
+		@Override
+		public boolean shouldCache(Query query) {
+			return true;
+		}
+	}
+
+	private static class IndexBinding {
+		final IndexFieldReference<Integer> integer;
+
+		IndexBinding(IndexSchemaElement root) {
+			integer = root.field( "integer", f -> f.asInteger() ).toReference();
+		}
+	}
+}
@@ -11,6 +11,8 @@
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import org.hibernate.search.backend.lucene.cfg.LuceneBackendSettings;
 import org.hibernate.search.backend.lucene.index.impl.LuceneIndexManagerImpl;
@@ -97,6 +99,36 @@ public void filesystemAccessStrategy_mmap() {
 		testFileSystemAccessStrategy( "mmap", MMapDirectory.class );
 	}
 
+	@Test
+	public void filesystemAccessStrategy_hybrid() {
+		setup( c -> c.withBackendProperty(
+				LuceneBackendSettings.DIRECTORY_FILESYSTEM_ACCESS_STRATEGY,
+				"hybrid"
+		) );
+
+		checkIndexingAndQuerying();
+
+		assertThat( getDirectories() )
+				.allSatisfy( directory -> assertThat( directory ).isInstanceOf( FSDirectory.class )
+						.isNotInstanceOf( NIOFSDirectory.class )
+						.isNotInstanceOf( MMapDirectory.class ) );
+	}
+
+	@Test
+	public void filesystemAccessPreloadExtensions() {
+		setup( c -> c.withBackendProperty(
+				LuceneBackendSettings.DIRECTORY_FILESYSTEM_ACCESS_STRATEGY,
+				"nio"
+		)
+				.withBackendProperty( LuceneBackendSettings.DIRECTORY_FILESYSTEM_ACCESS_PRELOAD_EXTENSIONS, "dvd,nvd,tim" ) );
+
+		checkIndexingAndQuerying();
+
+		assertThat( getDirectories() )
+				.allSatisfy( directory -> assertThat( directory ).isInstanceOf( FSDirectory.class )
+						.isNotInstanceOf( NIOFSDirectory.class ) );
+	}
+
 	@Test
 	@TestForIssue(jiraKey = "HSEARCH-3440")
 	@PortedFromSearch5(original = "org.hibernate.search.test.directoryProvider.FSDirectorySelectionTest.testInvalidDirectoryType")
@@ -111,7 +143,7 @@ public void filesystemAccessStrategy_invalid() {
 						.failure(
 								"Invalid filesystem access strategy name",
 								"'some_invalid_name'",
-								"Valid names are: [auto, simple, nio, mmap]"
+								"Valid names are: [auto, simple, nio, mmap, hybrid]"
 						)
 						.build()
 				);
@@ -141,13 +173,18 @@ private void testFileSystemAccessStrategy(String strategyName,
 
 		checkIndexingAndQuerying();
 
-		LuceneIndexManagerImpl luceneIndexManager = index.unwrapForTests( LuceneIndexManagerImpl.class );
-		assertThat( luceneIndexManager.getShardsForTests() )
-				.extracting( Shard::getIndexAccessorForTests )
-				.extracting( IndexAccessorImpl::getDirectoryForTests )
+		assertThat( getDirectories() )
 				.allSatisfy( directory -> assertThat( directory ).isInstanceOf( expectedDirectoryClass ) );
 	}
 
+	private List<Directory> getDirectories() {
+		LuceneIndexManagerImpl luceneIndexManager = index.unwrapForTests( LuceneIndexManagerImpl.class );
+		return luceneIndexManager.getShardsForTests().stream()
+				.map( Shard::getIndexAccessorForTests )
+				.map( IndexAccessorImpl::getDirectoryForTests )
+				.collect( Collectors.toList() );
+	}
+
 	private static long directorySize(Path directory) throws IOException {
 		return Files.walk( directory )
 				.filter( p -> p.toFile().isFile() )
@@ -9,7 +9,11 @@
 import static org.hibernate.search.util.impl.integrationtest.common.assertion.SearchResultAssert.assertThat;
 import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.referenceProvider;
 
+import java.time.Duration;
+
 import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.backend.lucene.index.LuceneIndexManager;
+import org.hibernate.search.backend.lucene.index.LuceneIndexReaderStatistics;
 import org.hibernate.search.engine.backend.common.DocumentReference;
 import org.hibernate.search.engine.backend.document.IndexFieldReference;
 import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
@@ -26,6 +30,7 @@
 import org.junit.runner.RunWith;
 import org.junit.runners.Parameterized;
 
+import org.assertj.core.api.Assertions;
 import org.awaitility.Awaitility;
 
 @RunWith(Parameterized.class)
@@ -159,6 +164,92 @@ public void ioStrategyDefault_refreshIntervalPositive_refreshStrategyForce() {
 		assertThat( query ).hasTotalHitCount( 1 );
 	}
 
+	@Test
+	public void ioStrategyDefault_refreshIntervalPositive_refreshBackground_refreshStrategyNone() {
+		setup( null, NON_ZERO_DELAY, true );
+
+		SearchQuery<DocumentReference> query = index.createScope().query()
+				.where( f -> f.match().field( "text" ).matching( "text1" ) )
+				.toQuery();
+
+		assertThat( query ).hasNoHits();
+
+		IndexIndexingPlan<?> plan = index.createIndexingPlan(
+				new StubBackendSessionContext(),
+				commitStrategy, // This is irrelevant
+				DocumentRefreshStrategy.NONE // This means no refresh will take place until the next background refresh
+		);
+		plan.add( referenceProvider( "1" ), document -> document.addValue( index.binding().textField, "text1" ) );
+		plan.execute().join();
+
+		// Readers should *not* be up-to-date immediately after indexing finishes
+		assertThat( query ).hasNoHits();
+
+		// ... but they should be after some time, even though no search query triggered a refresh
+		Awaitility.await().untilAsserted( () -> assertThat( query ).hasTotalHitCount( 1 ) );
+	}
+
+	@Test
+	public void ioStrategyDefault_refreshIntervalPositive_refreshBackground_refreshStrategyForce() {
+		setup( null, NON_ZERO_DELAY, true );
+
+		SearchQuery<DocumentReference> query = index.createScope().query()
+				.where( f -> f.match().field( "text" ).matching( "text1" ) )
+				.toQuery();
+
+		assertThat( query ).hasNoHits();
+
+		IndexIndexingPlan<?> plan = index.createIndexingPlan(
+				new StubBackendSessionContext(),
+				commitStrategy, // This is irrelevant
+				DocumentRefreshStrategy.FORCE // This will force a refresh before the next background refresh
+		);
+		plan.add( referenceProvider( "1" ), document -> document.addValue( index.binding().textField, "text1" ) );
+		plan.execute().join();
+
+		// Readers should be up-to-date immediately after indexing finishes
+		assertThat( query ).hasTotalHitCount( 1 );
+	}
+
+	@Test
+	public void ioStrategyDefault_refreshIntervalPositive_refreshBackground_statistics() {
+		setup( null, NON_ZERO_DELAY, true );
+
+		LuceneIndexReaderStatistics statistics = index.toApi().unwrap( LuceneIndexManager.class )
+				.indexReaderStatistics().get();
+		Assertions.assertThat( statistics.refreshCount() ).isEqualTo( 0L );
+		Assertions.assertThat( statistics.staleness() ).isEqualTo( Duration.ZERO );
+
+		SearchQuery<DocumentReference> query = index.createScope().query()
+				.where( f -> f.match().field( "text" ).matching( "text1" ) )
+				.toQuery();
+
+		// The first query opens the first index reader
+		assertThat( query ).hasNoHits();
+		Assertions.assertThat( statistics.refreshCount() ).isEqualTo( 1L );
+
+		IndexIndexingPlan<?> plan = index.createIndexingPlan(
+				new StubBackendSessionContext(),
+				commitStrategy, // This is irrelevant
+				DocumentRefreshStrategy.NONE // This means no refresh will take place until the next background refresh
+		);
+		plan.add( referenceProvider( "1" ), document -> document.addValue( index.binding().textField, "text1" ) );
+		plan.execute().join();
+
+		// Wait for the background refresh to re-open the index reader
+		Awaitility.await().untilAsserted( () -> assertThat( query ).hasTotalHitCount( 1 ) );
+
+		Assertions.assertThat( statistics.refreshCount() ).isGreaterThanOrEqualTo( 2L );
+		Assertions.assertThat( statistics.lastRefreshDuration() ).isPositive();
+		Assertions.assertThat( statistics.maxRefreshDuration() )
+				.isGreaterThanOrEqualTo( statistics.lastRefreshDuration() );
+		// The background refresh marks the index reader as up-to-date at every refresh interval,
+		// so the staleness must remain within a few refresh intervals
+		Assertions.assertThat( statistics.staleness() )
+				.isPositive()
+				.isLessThan( Duration.ofMillis( 5L * NON_ZERO_DELAY ) );
+	}
+
 	@Test
 	public void ioStrategyDebug() {
 		setup( "debug", null );
@@ -179,13 +270,22 @@ public void ioStrategyDebug() {
 
 		// Readers should be up-to-date immediately after indexing finishes
 		assertThat( query ).hasTotalHitCount( 1 );
+
+		// Index readers are not shared: there are no refresh statistics
+		Assertions.assertThat( index.toApi().unwrap( LuceneIndexManager.class ).indexReaderStatistics() )
+				.isEmpty();
 	}
 
 	private void setup(String ioStrategyName, Integer refreshIntervalMs) {
+		setup( ioStrategyName, refreshIntervalMs, null );
+	}
+
+	private void setup(String ioStrategyName, Integer refreshIntervalMs, Boolean refreshBackground) {
 		setupHelper.start()
 				.withIndex( index )
 				.withIndexDefaultsProperty( LuceneIndexSettings.IO_STRATEGY, ioStrategyName )
 				.withIndexDefaultsProperty( LuceneIndexSettings.IO_REFRESH_INTERVAL, refreshIntervalMs )
+				.withIndexDefaultsProperty( LuceneIndexSettings.IO_REFRESH_BACKGROUND, refreshBackground )
 				.withIndexDefaultsProperty( LuceneIndexSettings.IO_COMMIT_INTERVAL, commitInterval )
 				.setup();
 	}
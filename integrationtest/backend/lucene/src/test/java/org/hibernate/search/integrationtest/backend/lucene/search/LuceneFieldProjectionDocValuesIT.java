@@ -0,0 +1,151 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.search;
+
+import static org.hibernate.search.util.impl.integrationtest.common.assertion.SearchResultAssert.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.documentProvider;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.types.Projectable;
+import org.hibernate.search.engine.backend.types.Sortable;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.types.AnalyzedStringFieldTypeDescriptor;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.types.FieldTypeDescriptor;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.SimpleFieldModelsByType;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.BulkIndexer;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMappingScope;
+
+import org.junit.BeforeClass;
+import org.junit.ClassRule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+/**
+ * Tests that projections on fields with doc values, which may be extracted from doc values instead of stored fields,
+ * return the same values as projections extracted from stored fields.
+ */
+@RunWith(Parameterized.class)
+public class LuceneFieldProjectionDocValuesIT<F> {
+
+	// Analyzed fields cannot be sortable
+	private static final List<FieldTypeDescriptor<?>> supportedFieldTypes = FieldTypeDescriptor.getAll().stream()
+			.filter( fieldType -> !AnalyzedStringFieldTypeDescriptor.INSTANCE.equals( fieldType ) )
+			.collect( Collectors.toList() );
+
+	@Parameterized.Parameters(name = "{0}")
+	public static Object[][] parameters() {
+		List<Object[]> parameters = new ArrayList<>();
+		for ( FieldTypeDescriptor<?> fieldType : supportedFieldTypes ) {
+			parameters.add( new Object[] { fieldType } );
+		}
+		return parameters.toArray( new Object[0][] );
+	}
+
+	@ClassRule
+	public static SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private static final SimpleMappedIndex<IndexBinding> index = SimpleMappedIndex.of( IndexBinding::new );
+
+	@BeforeClass
+	public static void setup() {
+		setupHelper.start().withIndex( index ).setup();
+
+		BulkIndexer indexer = index.bulkIndexer();
+		for ( FieldTypeDescriptor<?> fieldType : supportedFieldTypes ) {
+			contribute( indexer, fieldType );
+		}
+		indexer.join();
+	}
+
+	private final FieldTypeDescriptor<F> fieldType;
+
+	public LuceneFieldProjectionDocValuesIT(FieldTypeDescriptor<F> fieldType) {
+		this.fieldType = fieldType;
+	}
+
+	@Test
+	public void sortable() {
+		StubMappingScope scope = index.createScope();
+
+		String fieldPath = index.binding().sortableFieldModels.get( fieldType ).relativeFieldName;
+
+		assertThat( scope.query()
+				.select( f -> f.field( fieldPath, fieldType.getJavaType() ) )
+				.where( f -> f.matchAll() )
+				.routing( fieldType.getUniqueName() )
+				.toQuery() )
+				.hasHitsAnyOrder( expectedHits( value -> value ) );
+	}
+
+	/**
+	 * Mixes projections extracted from doc values and from stored fields,
+	 * and checks they are consistent for each hit.
+	 */
+	@Test
+	public void sortableAndStored() {
+		StubMappingScope scope = index.createScope();
+
+		String storedFieldPath = index.binding().storedFieldModels.get( fieldType ).relativeFieldName;
+		String sortableFieldPath = index.binding().sortableFieldModels.get( fieldType ).relativeFieldName;
+
+		assertThat( scope.query()
+				.select( f -> f.composite(
+						f.field( storedFieldPath, fieldType.getJavaType() ),
+						f.field( sortableFieldPath, fieldType.getJavaType() ),
+						f.field( sortableFieldPath, fieldType.getJavaType() ).multi()
+				) )
+				.where( f -> f.matchAll() )
+				.routing( fieldType.getUniqueName() )
+				.toQuery() )
+				.hasHitsAnyOrder( this.<List<?>>expectedHits( value -> Arrays.asList(
+						value, value, value == null ? Arrays.asList() : Arrays.asList( value )
+				) ) );
+	}
+
+	private <H> List<H> expectedHits(Function<F, H> hitFunction) {
+		List<H> expected = new ArrayList<>();
+		for ( F value : fieldType.getIndexableValues().getSingle() ) {
+			expected.add( hitFunction.apply( value ) );
+		}
+		// Empty document
+		expected.add( hitFunction.apply( null ) );
+		return expected;
+	}
+
+	private static <F> void contribute(BulkIndexer indexer, FieldTypeDescriptor<F> fieldType) {
+		String routingKey = fieldType.getUniqueName();
+		List<F> values = fieldType.getIndexableValues().getSingle();
+		for ( int i = 0; i < values.size(); i++ ) {
+			F value = values.get( i );
+			indexer.add( documentProvider( routingKey + "_doc_" + i, routingKey, document -> {
+				document.addValue( index.binding().storedFieldModels.get( fieldType ).reference, value );
+				document.addValue( index.binding().sortableFieldModels.get( fieldType ).reference, value );
+			} ) );
+		}
+		indexer.add( documentProvider( routingKey + "_emptyDoc", routingKey, document -> { } ) );
+	}
+
+	private static class IndexBinding {
+		final SimpleFieldModelsByType storedFieldModels;
+		final SimpleFieldModelsByType sortableFieldModels;
+
+		IndexBinding(IndexSchemaElement root) {
+			storedFieldModels = SimpleFieldModelsByType.mapAll( supportedFieldTypes, root, "stored_",
+					c -> c.projectable( Projectable.YES ) );
+			sortableFieldModels = SimpleFieldModelsByType.mapAll( supportedFieldTypes, root, "sortable_",
+					c -> c.projectable( Projectable.YES ).sortable( Sortable.YES ) );
+		}
+	}
+}
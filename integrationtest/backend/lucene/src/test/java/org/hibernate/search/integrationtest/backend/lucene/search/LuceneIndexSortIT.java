@@ -0,0 +1,206 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.backend.lucene.index.impl.LuceneIndexManagerImpl;
+import org.hibernate.search.backend.lucene.index.impl.Shard;
+import org.hibernate.search.backend.lucene.lowlevel.index.impl.IndexAccessorImpl;
+import org.hibernate.search.engine.backend.common.DocumentReference;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaObjectField;
+import org.hibernate.search.engine.backend.types.ObjectStructure;
+import org.hibernate.search.engine.backend.types.Sortable;
+import org.hibernate.search.engine.search.query.SearchResult;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.impl.integrationtest.common.assertion.SearchResultAssert;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.BulkIndexer;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
+
+/**
+ * Test index sorts, and early termination of queries sorted by a prefix of the index sort.
+ */
+public class LuceneIndexSortIT {
+
+	private static final int DOCUMENT_COUNT = 100;
+	private static final int TOTAL_HIT_COUNT_THRESHOLD = 10;
+
+	@Rule
+	public final SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private final SimpleMappedIndex<IndexBinding> index = SimpleMappedIndex.of( IndexBinding::new );
+
+	@Test
+	public void writerConfig() {
+		setup( "number:desc, text" );
+
+		LuceneIndexManagerImpl luceneIndexManager = index.unwrapForTests( LuceneIndexManagerImpl.class );
+		assertThat( luceneIndexManager.getShardsForTests() )
+				.extracting( Shard::getIndexAccessorForTests )
+				.extracting( IndexAccessorImpl::getWriterForTests )
+				.extracting( IndexWriter::getConfig )
+				.allSatisfy( config -> {
+					Sort indexSort = config.getIndexSort();
+					assertThat( indexSort ).isNotNull();
+					assertThat( indexSort.getSort() )
+							.extracting( SortField::getField, SortField::getReverse )
+							.containsExactly(
+									tuple( "number", true ),
+									tuple( "text", false )
+							);
+				} );
+	}
+
+	@Test
+	public void earlyTermination() {
+		setup( "number:desc" );
+		initData();
+
+		SearchResult<DocumentReference> result = index.createScope().query()
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "number" ).desc() )
+				.totalHitCountThreshold( TOTAL_HIT_COUNT_THRESHOLD )
+				.fetch( 3 );
+
+		SearchResultAssert.assertThat( result )
+				.hasDocRefHitsExactOrder( index.typeName(), "99", "98", "97" );
+		// Collection stopped early: the total hit count is only a lower bound
+		assertThat( result.total().isHitCountLowerBound() ).isTrue();
+		assertThat( result.total().hitCountLowerBound() ).isLessThan( DOCUMENT_COUNT );
+	}
+
+	@Test
+	public void earlyTermination_sortIsPrefix() {
+		setup( "number:desc,text" );
+		initData();
+
+		SearchResult<DocumentReference> result = index.createScope().query()
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "number" ).desc() )
+				.totalHitCountThreshold( TOTAL_HIT_COUNT_THRESHOLD )
+				.fetch( 3 );
+
+		SearchResultAssert.assertThat( result )
+				.hasDocRefHitsExactOrder( index.typeName(), "99", "98", "97" );
+		assertThat( result.total().isHitCountLowerBound() ).isTrue();
+	}
+
+	@Test
+	public void noEarlyTermination_exactTotalHitCount() {
+		setup( "number:desc" );
+		initData();
+
+		SearchResult<DocumentReference> result = index.createScope().query()
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "number" ).desc() )
+				.fetch( 3 );
+
+		SearchResultAssert.assertThat( result )
+				.hasDocRefHitsExactOrder( index.typeName(), "99", "98", "97" )
+				.hasTotalHitCount( DOCUMENT_COUNT );
+	}
+
+	@Test
+	public void noEarlyTermination_sortIsNotPrefix() {
+		setup( "number:desc" );
+		initData();
+
+		SearchResult<DocumentReference> result = index.createScope().query()
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "number" ).asc() )
+				.totalHitCountThreshold( TOTAL_HIT_COUNT_THRESHOLD )
+				.fetch( 3 );
+
+		SearchResultAssert.assertThat( result )
+				.hasDocRefHitsExactOrder( index.typeName(), "0", "1", "2" )
+				.hasTotalHitCount( DOCUMENT_COUNT );
+	}
+
+	@Test
+	public void invalidElement() {
+		assertThatThrownBy( () -> setup( "number:sideways" ) )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Invalid index sort element: 'number:sideways'" );
+	}
+
+	@Test
+	public void unknownField() {
+		assertThatThrownBy( () -> setup( "unknown" ) )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Unable to use field 'unknown' in the index sort" );
+	}
+
+	@Test
+	public void unsortableField() {
+		assertThatThrownBy( () -> setup( "unsortable" ) )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Unable to use field 'unsortable' in the index sort" );
+	}
+
+	@Test
+	public void nestedObjectField() {
+		SimpleMappedIndex<NestedIndexBinding> nestedIndex = SimpleMappedIndex.of( NestedIndexBinding::new );
+		assertThatThrownBy( () -> setupHelper.start()
+				.withIndex( nestedIndex )
+				.withIndexDefaultsProperty( LuceneIndexSettings.INDEX_SORT, "number" )
+				.setup() )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Unable to use an index sort in an index defining nested object fields" );
+	}
+
+	private void setup(String indexSort) {
+		setupHelper.start()
+				.withIndex( index )
+				.withIndexDefaultsProperty( LuceneIndexSettings.INDEX_SORT, indexSort )
+				.setup();
+	}
+
+	private void initData() {
+		BulkIndexer indexer = index.bulkIndexer();
+		for ( int i = 0; i < DOCUMENT_COUNT; i++ ) {
+			int number = i;
+			indexer.add( String.valueOf( i ), document -> {
+				document.addValue( index.binding().number, number );
+				document.addValue( index.binding().text, "text" + number );
+			} );
+		}
+		indexer.join();
+	}
+
+	private static class IndexBinding {
+		final IndexFieldReference<Integer> number;
+		final IndexFieldReference<String> text;
+
+		IndexBinding(IndexSchemaElement root) {
+			number = root.field( "number", f -> f.asInteger().sortable( Sortable.YES ) ).toReference();
+			text = root.field( "text", f -> f.asString().sortable( Sortable.YES ) ).toReference();
+			root.field( "unsortable", f -> f.asInteger().sortable( Sortable.NO ) ).toReference();
+		}
+	}
+
+	private static class NestedIndexBinding {
+		NestedIndexBinding(IndexSchemaElement root) {
+			root.field( "number", f -> f.asInteger().sortable( Sortable.YES ) ).toReference();
+			IndexSchemaObjectField nested = root.objectField( "nested", ObjectStructure.NESTED );
+			nested.field( "text", f -> f.asString() ).toReference();
+			nested.toReference();
+		}
+	}
+}
@@ -0,0 +1,190 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.search;
+
+import static org.hibernate.search.util.impl.integrationtest.common.assertion.SearchResultAssert.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.documentProvider;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneBackendSettings;
+import org.hibernate.search.engine.backend.common.DocumentReference;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.types.Aggregable;
+import org.hibernate.search.engine.backend.types.Projectable;
+import org.hibernate.search.engine.backend.types.Sortable;
+import org.hibernate.search.engine.search.aggregation.AggregationKey;
+import org.hibernate.search.engine.search.query.SearchQuery;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.configuration.DefaultAnalysisDefinitions;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubDocumentProvider;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMappingScope;
+
+import org.junit.BeforeClass;
+import org.junit.ClassRule;
+import org.junit.Test;
+
+import org.assertj.core.api.Assertions;
+
+/**
+ * Test that searching index segments in parallel,
+ * with {@link LuceneBackendSettings#SEARCH_THREAD_POOL_SIZE} set,
+ * gives the same results as searching them sequentially.
+ */
+public class LuceneSearchParallelIT {
+
+	/*
+	 * Each segment gets indexed and refreshed separately, so we end up with one Lucene segment per "segment" below.
+	 * Lucene groups at most 5 segments per slice, so we will end up with multiple slices searched in parallel.
+	 */
+	private static final int SEGMENT_COUNT = 12;
+	private static final int DOCUMENTS_PER_SEGMENT = 5;
+	private static final int DOCUMENT_COUNT = SEGMENT_COUNT * DOCUMENTS_PER_SEGMENT;
+	private static final int CATEGORY_COUNT = 3;
+
+	@ClassRule
+	public static SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private static final SimpleMappedIndex<IndexBinding> index = SimpleMappedIndex.of( IndexBinding::new );
+
+	@BeforeClass
+	public static void setup() {
+		setupHelper.start()
+				.withBackendProperty( LuceneBackendSettings.SEARCH_THREAD_POOL_SIZE, 4 )
+				.withIndex( index )
+				.setup();
+
+		for ( int segment = 0; segment < SEGMENT_COUNT; segment++ ) {
+			int firstOrdinal = segment * DOCUMENTS_PER_SEGMENT;
+			index.bulkIndexer()
+					.add( DOCUMENTS_PER_SEGMENT, i -> {
+						int ordinal = firstOrdinal + i;
+						return index.binding().document( ordinal );
+					} )
+					.join();
+		}
+	}
+
+	@Test
+	public void totalHitCount() {
+		SearchQuery<DocumentReference> query = index.createScope().query()
+				.where( f -> f.matchAll() )
+				.toQuery();
+
+		assertThat( query.fetch( 0 ) ).hasTotalHitCount( DOCUMENT_COUNT );
+		Assertions.assertThat( query.fetchTotalHitCount() ).isEqualTo( DOCUMENT_COUNT );
+	}
+
+	@Test
+	public void sort_pagination() {
+		StubMappingScope scope = index.createScope();
+		SearchQuery<DocumentReference> query = scope.query()
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "integer" ).desc() )
+				.toQuery();
+
+		int offset = DOCUMENTS_PER_SEGMENT + 2;
+		int limit = DOCUMENTS_PER_SEGMENT * 2;
+		List<String> expectedIds = new ArrayList<>();
+		for ( int ordinal = DOCUMENT_COUNT - 1 - offset; ordinal > DOCUMENT_COUNT - 1 - offset - limit; ordinal-- ) {
+			expectedIds.add( id( ordinal ) );
+		}
+
+		assertThat( query.fetch( offset, limit ) )
+				.hasTotalHitCount( DOCUMENT_COUNT )
+				.hasDocRefHitsExactOrder( c -> {
+					for ( String id : expectedIds ) {
+						c.doc( index.typeName(), id );
+					}
+				} );
+	}
+
+	@Test
+	public void score() {
+		// Documents whose text contains both terms get a higher score, and thus should come first
+		SearchQuery<DocumentReference> query = index.createScope().query()
+				.where( f -> f.match().field( "text" ).matching( "common even" ) )
+				.toQuery();
+
+		List<DocumentReference> hits = query.fetchAllHits();
+		Assertions.assertThat( hits ).hasSize( DOCUMENT_COUNT );
+		Assertions.assertThat( hits.subList( 0, DOCUMENT_COUNT / 2 ) )
+				.extracting( DocumentReference::id )
+				.allSatisfy( id -> Assertions.assertThat( ordinal( id ) % 2 ).isEqualTo( 0 ) );
+	}
+
+	@Test
+	public void projection() {
+		SearchQuery<Integer> query = index.createScope().query()
+				.select( f -> f.field( "integer", Integer.class ) )
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "integer" ).asc() )
+				.toQuery();
+
+		List<Integer> expected = new ArrayList<>();
+		for ( int ordinal = 0; ordinal < DOCUMENT_COUNT; ordinal++ ) {
+			expected.add( ordinal );
+		}
+
+		Assertions.assertThat( query.fetchAllHits() ).containsExactlyElementsOf( expected );
+	}
+
+	@Test
+	public void aggregation() {
+		AggregationKey<Map<String, Long>> aggregationKey = AggregationKey.of( "categories" );
+
+		SearchQuery<DocumentReference> query = index.createScope().query()
+				.where( f -> f.matchAll() )
+				.aggregation( aggregationKey, f -> f.terms().field( "category", String.class ) )
+				.toQuery();
+
+		assertThat( query.fetch( 0 ) ).aggregation( aggregationKey, categories -> {
+			Assertions.assertThat( categories ).hasSize( CATEGORY_COUNT );
+			Assertions.assertThat( categories.values() )
+					.containsOnly( (long) DOCUMENT_COUNT / CATEGORY_COUNT );
+		} );
+	}
+
+	private static String id(int ordinal) {
+		return "document_" + ordinal;
+	}
+
+	private static int ordinal(String id) {
+		return Integer.parseInt( id.substring( "document_".length() ) );
+	}
+
+	private static class IndexBinding {
+		final IndexFieldReference<Integer> integer;
+		final IndexFieldReference<String> category;
+		final IndexFieldReference<String> text;
+
+		IndexBinding(IndexSchemaElement root) {
+			integer = root.field( "integer", f -> f.asInteger()
+					.sortable( Sortable.YES ).projectable( Projectable.YES ) )
+					.toReference();
+			category = root.field( "category", f -> f.asString().aggregable( Aggregable.YES ) )
+					.toReference();
+			text = root.field( "text", f -> f.asString().analyzer( DefaultAnalysisDefinitions.ANALYZER_STANDARD_ENGLISH.name ) )
+					.toReference();
+		}
+
+		StubDocumentProvider document(int ordinal) {
+			return documentProvider(
+					id( ordinal ),
+					document -> {
+						document.addValue( integer, ordinal );
+						document.addValue( category, "category_" + ( ordinal % CATEGORY_COUNT ) );
+						document.addValue( text, ordinal % 2 == 0 ? "common even" : "common" );
+					}
+			);
+		}
+	}
+}
@@ -0,0 +1,32 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.sharding;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.integrationtest.backend.tck.sharding.AbstractShardingRoutingKeyIT;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.TckBackendHelper;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.common.impl.CollectionHelper;
+
+/**
+ * A basic test for range sharding with explicit routing keys.
+ */
+public class ShardingRangeIT extends AbstractShardingRoutingKeyIT {
+
+	public ShardingRangeIT() {
+		super( TckBackendHelper::createDefaultBackendSetupStrategy,
+				// Two routing keys in the first shard, one in the second, none in the third, two in the fourth
+				CollectionHelper.asImmutableSet( "alpha", "beta", "delta", "omega", "zeta" ) );
+	}
+
+	@Override
+	protected void configure(SearchSetupHelper.SetupContext setupContext) {
+		setupContext.withIndexDefaultsProperty( LuceneIndexSettings.SHARDING_STRATEGY, "range" )
+				.withIndexDefaultsProperty( LuceneIndexSettings.SHARDING_BOUNDARIES, "c,f,o" );
+	}
+
+}
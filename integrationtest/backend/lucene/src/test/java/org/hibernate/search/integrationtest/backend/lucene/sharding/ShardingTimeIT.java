@@ -0,0 +1,36 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.sharding;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.integrationtest.backend.tck.sharding.AbstractShardingRoutingKeyIT;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.TckBackendHelper;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.common.impl.CollectionHelper;
+
+/**
+ * A basic test for time sharding with explicit routing keys.
+ */
+public class ShardingTimeIT extends AbstractShardingRoutingKeyIT {
+
+	public ShardingTimeIT() {
+		super( TckBackendHelper::createDefaultBackendSetupStrategy,
+				CollectionHelper.asImmutableSet(
+						"2019-01-01T00:00:00Z", "2019-01-31T23:59:59.999Z", "2019-02-14T12:00:00Z",
+						"2019-12-31T23:59:59Z"
+				) );
+	}
+
+	@Override
+	protected void configure(SearchSetupHelper.SetupContext setupContext) {
+		setupContext.withIndexDefaultsProperty( LuceneIndexSettings.SHARDING_STRATEGY, "time" )
+				.withIndexDefaultsProperty( LuceneIndexSettings.SHARDING_TIME_UNIT, "month" )
+				.withIndexDefaultsProperty( LuceneIndexSettings.SHARDING_TIME_START, "2019-01-01T00:00:00Z" )
+				.withIndexDefaultsProperty( LuceneIndexSettings.SHARDING_TIME_END, "2020-01-01T00:00:00Z" );
+	}
+
+}
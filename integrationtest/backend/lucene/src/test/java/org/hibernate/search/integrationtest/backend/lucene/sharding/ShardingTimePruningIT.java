@@ -0,0 +1,178 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.sharding;
+
+import static org.hibernate.search.util.impl.integrationtest.common.assertion.SearchResultAssert.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.documentProvider;
+
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.mapper.mapping.building.spi.IndexedEntityBindingContext;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.BulkIndexer;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMappingScope;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Tests that searches with range predicates on the sharding field skip shards that cannot contain matching documents.
+ * <p>
+ * To detect skipped shards, one document is deliberately indexed with a routing key
+ * that is inconsistent with its field value:
+ * this document is only found if the shard it was routed to is searched.
+ */
+public class ShardingTimePruningIT {
+
+	private static final String MISROUTED_DOCUMENT_ID = "misrouted";
+	private static final Instant MISROUTED_DOCUMENT_ROUTING_INSTANT = instant( 1, 10 );
+	private static final Instant MISROUTED_DOCUMENT_FIELD_INSTANT = instant( 3, 10 );
+
+	@Rule
+	public final SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private final SimpleMappedIndex<IndexBinding> index = SimpleMappedIndex.ofAdvanced( IndexBinding::new );
+
+	@Before
+	public void setup() {
+		setupHelper.start()
+				.withIndexDefaultsProperty( LuceneIndexSettings.SHARDING_STRATEGY, "time" )
+				.withIndexDefaultsProperty( LuceneIndexSettings.SHARDING_TIME_UNIT, "month" )
+				.withIndexDefaultsProperty( LuceneIndexSettings.SHARDING_TIME_START, "2019-01-01T00:00:00Z" )
+				.withIndexDefaultsProperty( LuceneIndexSettings.SHARDING_TIME_END, "2020-01-01T00:00:00Z" )
+				.withIndexDefaultsProperty( LuceneIndexSettings.SHARDING_FIELD, "timestamp" )
+				.withIndex( index )
+				.setup();
+
+		BulkIndexer indexer = index.bulkIndexer();
+		for ( int month = 1; month <= 12; month++ ) {
+			Instant timestamp = instant( month, 15 );
+			indexer.add( documentProvider( docId( month ), timestamp.toString(), document -> {
+				document.addValue( index.binding().timestamp, timestamp );
+				document.addValue( index.binding().otherTimestamp, timestamp );
+			} ) );
+		}
+		indexer.add( documentProvider( MISROUTED_DOCUMENT_ID, MISROUTED_DOCUMENT_ROUTING_INSTANT.toString(),
+				document -> {
+					document.addValue( index.binding().timestamp, MISROUTED_DOCUMENT_FIELD_INSTANT );
+					document.addValue( index.binding().otherTimestamp, MISROUTED_DOCUMENT_FIELD_INSTANT );
+				} ) );
+		indexer.join();
+	}
+
+	@Test
+	public void range() {
+		StubMappingScope scope = index.createScope();
+
+		// The shard of January should be skipped, so the misrouted document should not be found
+		assertThat( scope.query()
+				.where( f -> f.range().field( "timestamp" )
+						.between( instant( 3, 1 ), instant( 3, 31 ) ) )
+				.toQuery() )
+				.hasDocRefHitsAnyOrder( index.typeName(), docId( 3 ) );
+
+		// Shards are skipped whether the bounds are included or excluded
+		assertThat( scope.query()
+				.where( f -> f.range().field( "timestamp" ).greaterThan( instant( 11, 15 ) ) )
+				.toQuery() )
+				.hasDocRefHitsAnyOrder( index.typeName(), docId( 12 ) );
+		assertThat( scope.query()
+				.where( f -> f.range().field( "timestamp" ).lessThan( instant( 2, 15 ) ) )
+				.toQuery() )
+				.hasDocRefHitsAnyOrder( index.typeName(), docId( 1 ) );
+	}
+
+	@Test
+	public void range_inRequiredBooleanClauses() {
+		StubMappingScope scope = index.createScope();
+
+		assertThat( scope.query()
+				.where( f -> f.bool()
+						.must( f.matchAll() )
+						.filter( f.range().field( "timestamp" ).between( instant( 2, 1 ), instant( 3, 31 ) ) ) )
+				.toQuery() )
+				.hasDocRefHitsAnyOrder( index.typeName(), docId( 2 ), docId( 3 ) );
+
+		// Multiple ranges: only shards matching all ranges should be searched
+		assertThat( scope.query()
+				.where( f -> f.bool()
+						.must( f.range().field( "timestamp" ).between( instant( 2, 1 ), instant( 3, 31 ) ) )
+						.must( f.range().field( "timestamp" ).between( instant( 3, 1 ), instant( 4, 30 ) ) ) )
+				.toQuery() )
+				.hasDocRefHitsAnyOrder( index.typeName(), docId( 3 ) );
+	}
+
+	@Test
+	public void range_withRoutingKey() {
+		StubMappingScope scope = index.createScope();
+
+		// The routing key and the range target different shards: no shard should be searched
+		assertThat( scope.query()
+				.where( f -> f.range().field( "timestamp" ).between( instant( 3, 1 ), instant( 3, 31 ) ) )
+				.routing( instant( 5, 15 ).toString() )
+				.toQuery() )
+				.hasNoHits();
+
+		assertThat( scope.query()
+				.where( f -> f.range().field( "timestamp" ).between( instant( 3, 1 ), instant( 5, 31 ) ) )
+				.routing( instant( 5, 15 ).toString() )
+				.toQuery() )
+				.hasDocRefHitsAnyOrder( index.typeName(), docId( 5 ) );
+	}
+
+	@Test
+	public void range_outsideOfAllShards() {
+		assertThat( index.createScope().query()
+				.where( f -> f.range().field( "timestamp" ).atLeast( Instant.parse( "2030-01-01T00:00:00Z" ) ) )
+				.toQuery() )
+				.hasNoHits();
+	}
+
+	@Test
+	public void noPruning_optionalClause() {
+		// A "should" clause does not restrict matching documents if there are other clauses
+		assertThat( index.createScope().query()
+				.where( f -> f.bool()
+						.should( f.range().field( "timestamp" ).between( instant( 3, 1 ), instant( 3, 31 ) ) )
+						.should( f.id().matching( docId( 7 ) ) ) )
+				.toQuery() )
+				.hasDocRefHitsAnyOrder( index.typeName(), docId( 3 ), MISROUTED_DOCUMENT_ID, docId( 7 ) );
+	}
+
+	@Test
+	public void noPruning_otherField() {
+		assertThat( index.createScope().query()
+				.where( f -> f.range().field( "otherTimestamp" ).between( instant( 3, 1 ), instant( 3, 31 ) ) )
+				.toQuery() )
+				.hasDocRefHitsAnyOrder( index.typeName(), docId( 3 ), MISROUTED_DOCUMENT_ID );
+	}
+
+	private static String docId(int month) {
+		return "doc_" + month;
+	}
+
+	private static Instant instant(int month, int dayOfMonth) {
+		return ZonedDateTime.of( 2019, month, dayOfMonth, 12, 0, 0, 0, ZoneOffset.UTC ).toInstant();
+	}
+
+	private static class IndexBinding {
+		final IndexFieldReference<Instant> timestamp;
+		final IndexFieldReference<Instant> otherTimestamp;
+
+		IndexBinding(IndexedEntityBindingContext ctx) {
+			ctx.explicitRouting();
+			timestamp = ctx.schemaElement().field( "timestamp", f -> f.asInstant() ).toReference();
+			otherTimestamp = ctx.schemaElement().field( "otherTimestamp", f -> f.asInstant() ).toReference();
+		}
+	}
+}
@@ -0,0 +1,182 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.work;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.referenceProvider;
+
+import java.io.IOException;
+
+import org.hibernate.search.backend.lucene.lowlevel.common.impl.MetadataFields;
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.IndexObjectFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaObjectField;
+import org.hibernate.search.engine.backend.types.ObjectStructure;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlan;
+import org.hibernate.search.engine.search.predicate.dsl.PredicateFinalStep;
+import org.hibernate.search.engine.search.predicate.dsl.SearchPredicateFactory;
+import org.hibernate.search.integrationtest.backend.lucene.testsupport.util.LuceneIndexContentUtils;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.common.assertion.SearchResultAssert;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.apache.lucene.index.Term;
+
+/**
+ * Test that metadata fields, some of which are shared across documents,
+ * are added to the right documents.
+ */
+public class LuceneIndexingMetadataFieldsIT {
+
+	@Rule
+	public final SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private final SimpleMappedIndex<IndexBinding> index = SimpleMappedIndex.of( IndexBinding::new );
+
+	@Before
+	public void setup() {
+		setupHelper.start().withIndex( index ).setup();
+	}
+
+	@Test
+	public void severalDocuments() throws IOException {
+		IndexIndexingPlan<?> plan = index.createIndexingPlan();
+		// Values everywhere
+		plan.add( referenceProvider( "1" ), document -> {
+			document.addValue( index.binding().field, 1 );
+			DocumentElement flattened = document.addObject( index.binding().flattenedObject.self );
+			flattened.addValue( index.binding().flattenedObject.field, 1 );
+			DocumentElement nested = document.addObject( index.binding().nestedObject.self );
+			nested.addValue( index.binding().nestedObject.field, 1 );
+			// A nested document without any value
+			document.addObject( index.binding().nestedObject.self );
+		} );
+		// Values in the root document only
+		plan.add( referenceProvider( "2" ), document -> {
+			document.addValue( index.binding().field, 2 );
+		} );
+		// Values in object fields only
+		plan.add( referenceProvider( "3" ), document -> {
+			DocumentElement flattened = document.addObject( index.binding().flattenedObject.self );
+			flattened.addValue( index.binding().flattenedObject.field, 3 );
+			DocumentElement nested = document.addObject( index.binding().nestedObject.self );
+			nested.addValue( index.binding().nestedObject.field, 3 );
+		} );
+		// No value at all
+		plan.add( referenceProvider( "4" ), document -> { } );
+		plan.execute().join();
+
+		assertThat( countWithTerm( MetadataFields.typeFieldName(), MetadataFields.TYPE_MAIN_DOCUMENT ) )
+				.isEqualTo( 4 );
+		assertThat( countWithTerm( MetadataFields.typeFieldName(), MetadataFields.TYPE_CHILD_DOCUMENT ) )
+				.isEqualTo( 3 );
+		assertThat( countWithTerm( MetadataFields.nestedDocumentPathFieldName(), "nestedObject" ) )
+				.isEqualTo( 3 );
+		assertThat( countWithTerm( MetadataFields.fieldNamesFieldName(), "field" ) )
+				.isEqualTo( 2 );
+		assertThat( countWithTerm( MetadataFields.fieldNamesFieldName(), "flattenedObject.field" ) )
+				.isEqualTo( 2 );
+		assertThat( countWithTerm( MetadataFields.fieldNamesFieldName(), "nestedObject.field" ) )
+				.isEqualTo( 2 );
+
+		SearchResultAssert.assertThat( index.createScope().query()
+				.where( f -> f.exists().field( "field" ) )
+				.toQuery() )
+				.hasDocRefHitsAnyOrder( index.typeName(), "1", "2" );
+		SearchResultAssert.assertThat( index.createScope().query()
+				.where( f -> f.exists().field( "flattenedObject.field" ) )
+				.toQuery() )
+				.hasDocRefHitsAnyOrder( index.typeName(), "1", "3" );
+		SearchResultAssert.assertThat( index.createScope().query()
+				.where( f -> nestedExists( f ) )
+				.toQuery() )
+				.hasDocRefHitsAnyOrder( index.typeName(), "1", "3" );
+	}
+
+	@Test
+	public void severalIndexingPlans() throws IOException {
+		// The first plan populates the caches of shared metadata fields...
+		IndexIndexingPlan<?> plan = index.createIndexingPlan();
+		plan.add( referenceProvider( "1" ), document -> {
+			document.addValue( index.binding().field, 1 );
+			DocumentElement nested = document.addObject( index.binding().nestedObject.self );
+			nested.addValue( index.binding().nestedObject.field, 1 );
+		} );
+		plan.execute().join();
+
+		// ... and the next ones must still add the metadata fields to their own documents.
+		plan = index.createIndexingPlan();
+		plan.add( referenceProvider( "2" ), document -> {
+			document.addValue( index.binding().field, 2 );
+			DocumentElement nested = document.addObject( index.binding().nestedObject.self );
+			nested.addValue( index.binding().nestedObject.field, 2 );
+		} );
+		plan.add( referenceProvider( "3" ), document -> {
+			document.addObject( index.binding().nestedObject.self );
+		} );
+		plan.execute().join();
+
+		plan = index.createIndexingPlan();
+		plan.delete( referenceProvider( "1" ) );
+		plan.execute().join();
+
+		SearchResultAssert.assertThat( index.createScope().query()
+				.where( f -> f.exists().field( "field" ) )
+				.toQuery() )
+				.hasDocRefHitsAnyOrder( index.typeName(), "2" );
+		SearchResultAssert.assertThat( index.createScope().query()
+				.where( f -> nestedExists( f ) )
+				.toQuery() )
+				.hasDocRefHitsAnyOrder( index.typeName(), "2" );
+		SearchResultAssert.assertThat( index.createScope().query()
+				.where( f -> f.nested().objectField( "nestedObject" )
+						.nest( f.matchAll() ) )
+				.toQuery() )
+				.hasDocRefHitsAnyOrder( index.typeName(), "2", "3" );
+	}
+
+	private static PredicateFinalStep nestedExists(SearchPredicateFactory f) {
+		return f.nested().objectField( "nestedObject" )
+				.nest( f.exists().field( "nestedObject.field" ) );
+	}
+
+	private int countWithTerm(String fieldName, String value) throws IOException {
+		return LuceneIndexContentUtils.readIndex(
+				setupHelper, index.name(),
+				reader -> reader.docFreq( new Term( fieldName, value ) )
+		);
+	}
+
+	private static class IndexBinding {
+		final IndexFieldReference<Integer> field;
+		final ObjectMapping flattenedObject;
+		final ObjectMapping nestedObject;
+
+		IndexBinding(IndexSchemaElement root) {
+			field = root.field( "field", f -> f.asInteger() ).toReference();
+			flattenedObject = new ObjectMapping( root.objectField( "flattenedObject", ObjectStructure.FLATTENED ) );
+			nestedObject = new ObjectMapping( root.objectField( "nestedObject", ObjectStructure.NESTED )
+					.multiValued() );
+		}
+	}
+
+	private static class ObjectMapping {
+		final IndexObjectFieldReference self;
+		final IndexFieldReference<Integer> field;
+
+		ObjectMapping(IndexSchemaObjectField objectField) {
+			self = objectField.toReference();
+			field = objectField.field( "field", f -> f.asInteger() ).toReference();
+		}
+	}
+}
@@ -0,0 +1,276 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.tck.search.predicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
+import static org.hibernate.search.util.impl.integrationtest.common.assertion.SearchResultAssert.assertThatQuery;
+
+import java.util.Map;
+
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.IndexObjectFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaObjectField;
+import org.hibernate.search.engine.backend.types.Aggregable;
+import org.hibernate.search.engine.backend.types.ObjectStructure;
+import org.hibernate.search.engine.backend.types.Sortable;
+import org.hibernate.search.engine.search.aggregation.AggregationKey;
+import org.hibernate.search.engine.search.aggregation.SearchAggregation;
+import org.hibernate.search.engine.search.predicate.SearchPredicate;
+import org.hibernate.search.engine.search.predicate.dsl.PredicateFinalStep;
+import org.hibernate.search.engine.search.predicate.dsl.SearchPredicateFactory;
+import org.hibernate.search.engine.search.sort.SearchSort;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMappingScope;
+
+import org.junit.BeforeClass;
+import org.junit.ClassRule;
+import org.junit.Test;
+
+public class WithParametersPredicateSpecificsIT {
+
+	private static final String DOCUMENT_1 = "1";
+	private static final String STRING_1 = "aaa";
+	private static final int INTEGER_1 = 1;
+
+	private static final String DOCUMENT_2 = "2";
+	private static final String STRING_2 = "bbb";
+	private static final int INTEGER_2 = 2;
+
+	private static final String DOCUMENT_3 = "3";
+	private static final String STRING_3 = "ccc";
+	private static final int INTEGER_3 = 3;
+
+	// Nested values: when filtering on nested objects with STRING_1, documents sort in reverse order.
+	private static final int NESTED_INTEGER_1_1 = 30;
+	private static final int NESTED_INTEGER_1_2 = 1;
+	private static final int NESTED_INTEGER_2_1 = 20;
+	private static final int NESTED_INTEGER_2_2 = 2;
+	private static final int NESTED_INTEGER_3_1 = 10;
+	private static final int NESTED_INTEGER_3_2 = 3;
+
+	@ClassRule
+	public static final SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private static final SimpleMappedIndex<IndexBinding> index = SimpleMappedIndex.of( IndexBinding::new );
+
+	@BeforeClass
+	public static void setup() {
+		setupHelper.start().withIndex( index ).setup();
+
+		initData();
+	}
+
+	@Test
+	public void param() {
+		assertThatQuery( index.query()
+				.where( f -> f.withParameters( params -> f.match().field( "string" )
+						.matching( params.get( "string", String.class ) ) ) )
+				.param( "string", STRING_1 ) )
+				.hasDocRefHitsAnyOrder( index.typeName(), DOCUMENT_1 );
+	}
+
+	@Test
+	public void reuse() {
+		SearchPredicateFactory f = index.createScope().predicate();
+		SearchPredicate predicate = f.withParameters( params -> f.match().field( "string" )
+				.matching( params.get( "string", String.class ) ) )
+				.toPredicate();
+
+		assertThatQuery( index.query()
+				.where( predicate )
+				.param( "string", STRING_1 ) )
+				.hasDocRefHitsAnyOrder( index.typeName(), DOCUMENT_1 );
+		assertThatQuery( index.query()
+				.where( predicate )
+				.param( "string", STRING_2 ) )
+				.hasDocRefHitsAnyOrder( index.typeName(), DOCUMENT_2 );
+	}
+
+	@Test
+	public void reuse_mixedWithStaticClauses() {
+		SearchPredicateFactory f = index.createScope().predicate();
+		// The static clause is translated once and reused, but the parameterized one must not be
+		SearchPredicate predicate = f.bool()
+				.must( f.withParameters( params -> f.range().field( "integer" )
+						.atLeast( params.get( "min", Integer.class ) ) ) )
+				.mustNot( f.match().field( "string" ).matching( STRING_2 ) )
+				.toPredicate();
+
+		assertThatQuery( index.query()
+				.where( predicate )
+				.param( "min", INTEGER_1 ) )
+				.hasDocRefHitsAnyOrder( index.typeName(), DOCUMENT_1, DOCUMENT_3 );
+		assertThatQuery( index.query()
+				.where( predicate )
+				.param( "min", INTEGER_3 ) )
+				.hasDocRefHitsAnyOrder( index.typeName(), DOCUMENT_3 );
+		assertThatQuery( index.query()
+				.where( predicate )
+				.param( "min", INTEGER_1 ) )
+				.hasDocRefHitsAnyOrder( index.typeName(), DOCUMENT_1, DOCUMENT_3 );
+	}
+
+	@Test
+	public void multipleParams_nested() {
+		assertThatQuery( index.query()
+				.where( f -> f.bool()
+						.must( f.withParameters( params -> f.range().field( "integer" )
+								.between( params.get( "min", Integer.class ), params.get( "max", Integer.class ) ) ) )
+						.mustNot( f.match().field( "string" ).matching( STRING_2 ) ) )
+				.param( "min", INTEGER_1 )
+				.param( "max", INTEGER_2 )
+				.param( "max", INTEGER_3 ) )
+				.hasDocRefHitsAnyOrder( index.typeName(), DOCUMENT_1, DOCUMENT_3 );
+	}
+
+	@Test
+	public void optionalParam() {
+		SearchPredicateFactory f = index.createScope().predicate();
+		SearchPredicate predicate = f.withParameters( params -> params.getOptional( "string", String.class )
+				.<PredicateFinalStep>map( value -> f.match().field( "string" ).matching( value ) )
+				.orElseGet( f::matchAll ) )
+				.toPredicate();
+
+		assertThatQuery( index.query()
+				.where( predicate ) )
+				.hasDocRefHitsAnyOrder( index.typeName(), DOCUMENT_1, DOCUMENT_2, DOCUMENT_3 );
+		assertThatQuery( index.query()
+				.where( predicate )
+				.param( "string", STRING_3 ) )
+				.hasDocRefHitsAnyOrder( index.typeName(), DOCUMENT_3 );
+	}
+
+	@Test
+	public void sortFilter() {
+		StubMappingScope scope = index.createScope();
+		SearchSort sort = scope.sort().field( "nested.integer" )
+				.filter( pf -> pf.withParameters( params -> pf.match().field( "nested.string" )
+						.matching( params.get( "string", String.class ) ) ) )
+				.toSort();
+
+		// Parameters are set after the sort on purpose: the filter must be translated when the query is built
+		assertThatQuery( scope.query()
+				.where( f -> f.matchAll() )
+				.sort( sort )
+				.param( "string", STRING_1 ) )
+				.hasDocRefHitsExactOrder( index.typeName(), DOCUMENT_3, DOCUMENT_2, DOCUMENT_1 );
+		assertThatQuery( scope.query()
+				.where( f -> f.matchAll() )
+				.sort( sort )
+				.param( "string", STRING_2 ) )
+				.hasDocRefHitsExactOrder( index.typeName(), DOCUMENT_1, DOCUMENT_2, DOCUMENT_3 );
+	}
+
+	@Test
+	public void aggregationFilter() {
+		StubMappingScope scope = index.createScope();
+		AggregationKey<Map<Integer, Long>> aggregationKey = AggregationKey.of( "nestedIntegers" );
+		SearchAggregation<Map<Integer, Long>> aggregation = scope.aggregation().terms()
+				.field( "nested.integer", Integer.class )
+				.filter( pf -> pf.withParameters( params -> pf.match().field( "nested.string" )
+						.matching( params.get( "string", String.class ) ) ) )
+				.toAggregation();
+
+		// Parameters are set after the aggregation on purpose: the filter must be translated when the query is built
+		assertThatQuery( scope.query()
+				.where( f -> f.matchAll() )
+				.aggregation( aggregationKey, aggregation )
+				.param( "string", STRING_1 ) )
+				.aggregation( aggregationKey, terms -> assertThat( terms ).containsOnly(
+						entry( NESTED_INTEGER_1_1, 1L ), entry( NESTED_INTEGER_2_1, 1L ), entry( NESTED_INTEGER_3_1, 1L ) ) );
+		assertThatQuery( scope.query()
+				.where( f -> f.matchAll() )
+				.aggregation( aggregationKey, aggregation )
+				.param( "string", STRING_2 ) )
+				.aggregation( aggregationKey, terms -> assertThat( terms ).containsOnly(
+						entry( NESTED_INTEGER_1_2, 1L ), entry( NESTED_INTEGER_2_2, 1L ), entry( NESTED_INTEGER_3_2, 1L ) ) );
+	}
+
+	@Test
+	public void error_missingParam() {
+		assertThatThrownBy( () -> index.query()
+				.where( f -> f.withParameters( params -> f.match().field( "string" )
+						.matching( params.get( "string", String.class ) ) ) )
+				.param( "other", STRING_1 )
+				.toQuery() )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContainingAll( "No value defined for name 'string'", "[other]" );
+	}
+
+	@Test
+	public void error_invalidParamType() {
+		assertThatThrownBy( () -> index.query()
+				.where( f -> f.withParameters( params -> f.match().field( "string" )
+						.matching( params.get( "string", String.class ) ) ) )
+				.param( "string", INTEGER_1 )
+				.toQuery() )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContainingAll( "Invalid type for value with name 'string'",
+						String.class.getName(), Integer.class.getName() );
+	}
+
+	private static void initData() {
+		index.bulkIndexer()
+				.add( DOCUMENT_1, document -> {
+					document.addValue( index.binding().string, STRING_1 );
+					document.addValue( index.binding().integer, INTEGER_1 );
+					addNested( document, STRING_1, NESTED_INTEGER_1_1 );
+					addNested( document, STRING_2, NESTED_INTEGER_1_2 );
+				} )
+				.add( DOCUMENT_2, document -> {
+					document.addValue( index.binding().string, STRING_2 );
+					document.addValue( index.binding().integer, INTEGER_2 );
+					addNested( document, STRING_1, NESTED_INTEGER_2_1 );
+					addNested( document, STRING_2, NESTED_INTEGER_2_2 );
+				} )
+				.add( DOCUMENT_3, document -> {
+					document.addValue( index.binding().string, STRING_3 );
+					document.addValue( index.binding().integer, INTEGER_3 );
+					addNested( document, STRING_1, NESTED_INTEGER_3_1 );
+					addNested( document, STRING_2, NESTED_INTEGER_3_2 );
+				} )
+				.join();
+	}
+
+	private static void addNested(DocumentElement document, String string, int integer) {
+		DocumentElement nested = document.addObject( index.binding().nested.self );
+		nested.addValue( index.binding().nested.string, string );
+		nested.addValue( index.binding().nested.integer, integer );
+	}
+
+	private static class IndexBinding {
+		final IndexFieldReference<String> string;
+		final IndexFieldReference<Integer> integer;
+		final NestedBinding nested;
+
+		IndexBinding(IndexSchemaElement root) {
+			string = root.field( "string", f -> f.asString() ).toReference();
+			integer = root.field( "integer", f -> f.asInteger() ).toReference();
+			nested = new NestedBinding( root.objectField( "nested", ObjectStructure.NESTED ).multiValued() );
+		}
+	}
+
+	private static class NestedBinding {
+		final IndexObjectFieldReference self;
+		final IndexFieldReference<String> string;
+		final IndexFieldReference<Integer> integer;
+
+		NestedBinding(IndexSchemaObjectField objectField) {
+			string = objectField.field( "string", f -> f.asString() ).toReference();
+			integer = objectField.field( "integer", f -> f.asInteger()
+					.sortable( Sortable.YES ).aggregable( Aggregable.YES ) )
+					.toReference();
+			self = objectField.toReference();
+		}
+	}
+}
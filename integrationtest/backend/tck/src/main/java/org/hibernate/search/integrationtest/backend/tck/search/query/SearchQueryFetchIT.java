@@ -20,6 +20,9 @@
 import org.hibernate.search.engine.backend.common.DocumentReference;
 import org.hibernate.search.engine.search.query.dsl.SearchQueryOptionsStep;
 import org.hibernate.search.engine.search.query.SearchQuery;
+import org.hibernate.search.engine.search.query.SearchResult;
+import org.hibernate.search.engine.search.query.SearchResultTotal;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.TckConfiguration;
 import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
 import org.hibernate.search.util.common.SearchException;
 import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
@@ -185,6 +188,118 @@ public void fetchTotalHitCount() {
 		Assertions.assertThat( matchFirstHalfQuery().fetchTotalHitCount() ).isEqualTo( DOCUMENT_COUNT / 2 );
 	}
 
+	@Test
+	public void fetchAsync_limit() {
+		assertThat( matchAllQuery().fetchAsync( null ).toCompletableFuture().join() )
+				.hasTotalHitCount( DOCUMENT_COUNT )
+				.hasDocRefHitsExactOrder( builder -> {
+					for ( int i = 0; i < DOCUMENT_COUNT; i++ ) {
+						builder.doc( index.typeName(), docId( i ) );
+					}
+				} );
+
+		assertThat( matchAllQuery().fetchAsync( 2 ).toCompletableFuture().join() )
+				.hasTotalHitCount( DOCUMENT_COUNT )
+				.hasDocRefHitsExactOrder( index.typeName(), docId( 0 ), docId( 1 ) );
+	}
+
+	@Test
+	public void fetchAsync_offset_limit() {
+		assertThat( matchAllQuery().fetchAsync( 1, 1 ).toCompletableFuture().join() )
+				.hasTotalHitCount( DOCUMENT_COUNT )
+				.hasDocRefHitsExactOrder( index.typeName(), docId( 1 ) );
+
+		assertThat( matchFirstHalfQuery().fetchAsync( DOCUMENT_COUNT / 2 - 1, null ).toCompletableFuture().join() )
+				.hasTotalHitCount( DOCUMENT_COUNT / 2 )
+				.hasDocRefHitsExactOrder( index.typeName(), docId( DOCUMENT_COUNT / 2 - 1 ) );
+
+		// Fetch beyond the total hit count
+		assertThat( matchAllQuery().fetchAsync( DOCUMENT_COUNT + 1, null ).toCompletableFuture().join() )
+				.hasTotalHitCount( DOCUMENT_COUNT )
+				.hasNoHits();
+	}
+
+	@Test
+	public void fetchTotalHitCountAsync() {
+		Assertions.assertThat( matchAllQuery().fetchTotalHitCountAsync().toCompletableFuture().join() )
+				.isEqualTo( DOCUMENT_COUNT );
+
+		Assertions.assertThat( matchFirstHalfQuery().fetchTotalHitCountAsync().toCompletableFuture().join() )
+				.isEqualTo( DOCUMENT_COUNT / 2 );
+	}
+
+	@Test
+	public void totalHitCountThreshold() {
+		StubMappingScope scope = index.createScope();
+		// Use a query sorted by score, so that backends are able to skip non-competitive hits
+		SearchResult<DocumentReference> result = scope.query()
+				.where( f -> f.matchAll() )
+				.totalHitCountThreshold( DOCUMENT_COUNT / 4 )
+				.fetch( 5 );
+
+		Assertions.assertThat( result.hits() ).hasSize( 5 );
+
+		SearchResultTotal resultTotal = result.total();
+		if ( !TckConfiguration.get().getBackendFeatures().supportsApproximateTotalHitCount() ) {
+			// Some backends (e.g. Elasticsearch before 7) ignore the threshold and always return an exact count
+			Assertions.assertThat( resultTotal.isHitCountExact() ).isTrue();
+			Assertions.assertThat( resultTotal.isHitCountLowerBound() ).isFalse();
+			Assertions.assertThat( resultTotal.hitCount() ).isEqualTo( DOCUMENT_COUNT );
+			Assertions.assertThat( result.totalHitCount() ).isEqualTo( DOCUMENT_COUNT );
+			return;
+		}
+
+		Assertions.assertThat( resultTotal.isHitCountExact() ).isFalse();
+		Assertions.assertThat( resultTotal.isHitCountLowerBound() ).isTrue();
+		Assertions.assertThat( resultTotal.hitCountLowerBound() )
+				.isBetween( (long) DOCUMENT_COUNT / 4, (long) DOCUMENT_COUNT );
+		Assertions.assertThatThrownBy( resultTotal::hitCount )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Unable to provide the exact total hit count" );
+		Assertions.assertThatThrownBy( result::totalHitCount )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Unable to provide the exact total hit count" );
+	}
+
+	@Test
+	public void totalHitCountThreshold_notReached() {
+		StubMappingScope scope = index.createScope();
+		SearchResult<DocumentReference> result = scope.query()
+				.where( f -> f.matchAll() )
+				.totalHitCountThreshold( DOCUMENT_COUNT * 2 )
+				.fetch( 5 );
+
+		Assertions.assertThat( result.hits() ).hasSize( 5 );
+
+		SearchResultTotal resultTotal = result.total();
+		Assertions.assertThat( resultTotal.isHitCountExact() ).isTrue();
+		Assertions.assertThat( resultTotal.isHitCountLowerBound() ).isFalse();
+		Assertions.assertThat( resultTotal.hitCount() ).isEqualTo( DOCUMENT_COUNT );
+		Assertions.assertThat( resultTotal.hitCountLowerBound() ).isEqualTo( DOCUMENT_COUNT );
+		Assertions.assertThat( result.totalHitCount() ).isEqualTo( DOCUMENT_COUNT );
+	}
+
+	@Test
+	public void totalHitCountThreshold_negative() {
+		StubMappingScope scope = index.createScope();
+		Assertions.assertThatThrownBy( () -> scope.query()
+				.where( f -> f.matchAll() )
+				.totalHitCountThreshold( -1L ) )
+				.isInstanceOf( IllegalArgumentException.class )
+				.hasMessageContaining( "'totalHitCountThreshold' must be positive or zero" );
+	}
+
+	@Test
+	public void totalHitCountThreshold_fetchTotalHitCount() {
+		StubMappingScope scope = index.createScope();
+		// The threshold does not apply to counts: they are always exact
+		Assertions.assertThat( scope.query()
+				.where( f -> f.matchAll() )
+				.totalHitCountThreshold( DOCUMENT_COUNT / 4 )
+				.fetchTotalHitCount() )
+				.isEqualTo( DOCUMENT_COUNT );
+	}
+
 	@Test
 	public void fetchSingleHit() {
 		Optional<DocumentReference> result = matchOneQuery( 4 ).fetchSingleHit();
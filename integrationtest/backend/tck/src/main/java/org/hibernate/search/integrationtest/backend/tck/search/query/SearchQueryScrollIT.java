@@ -0,0 +1,223 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.tck.search.query;
+
+import static org.hibernate.search.util.impl.integrationtest.common.NormalizationUtils.normalize;
+import static org.hibernate.search.util.impl.integrationtest.common.stub.backend.StubBackendUtils.reference;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.documentProvider;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import org.hibernate.search.engine.backend.common.DocumentReference;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.types.Sortable;
+import org.hibernate.search.engine.search.query.SearchScroll;
+import org.hibernate.search.engine.search.query.SearchScrollResult;
+import org.hibernate.search.engine.search.query.dsl.SearchQueryOptionsStep;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.SimpleMappedIndex;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMappingScope;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.assertj.core.api.Assertions;
+
+public class SearchQueryScrollIT {
+
+	private static final int DOCUMENT_COUNT = 200;
+	private static final int CHUNK_SIZE = 30;
+
+	@Rule
+	public final SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private final SimpleMappedIndex<IndexBinding> index = SimpleMappedIndex.of( IndexBinding::new );
+
+	@Before
+	public void setup() {
+		setupHelper.start().withIndex( index ).setup();
+
+		initData();
+	}
+
+	@Test
+	public void sorted() {
+		List<DocumentReference> hits = scrollAll( matchAllQuery(), CHUNK_SIZE );
+
+		List<DocumentReference> expected = new ArrayList<>();
+		for ( int i = 0; i < DOCUMENT_COUNT; i++ ) {
+			expected.add( reference( index.typeName(), docId( i ) ) );
+		}
+		Assertions.assertThat( normalize( hits ) ).containsExactlyElementsOf( normalize( expected ) );
+	}
+
+	@Test
+	public void sortedByScore() {
+		StubMappingScope scope = index.createScope();
+		List<DocumentReference> hits = scrollAll( scope.query().where( f -> f.matchAll() ), CHUNK_SIZE );
+
+		Assertions.assertThat( hits ).hasSize( DOCUMENT_COUNT );
+		Assertions.assertThat( normalize( hits ) ).doesNotHaveDuplicates();
+	}
+
+	@Test
+	public void chunkSizeMultipleOfHitCount() {
+		List<DocumentReference> hits = scrollAll( matchFirstHalfQuery(), DOCUMENT_COUNT / 4 );
+
+		List<DocumentReference> expected = new ArrayList<>();
+		for ( int i = 0; i < DOCUMENT_COUNT / 2; i++ ) {
+			expected.add( reference( index.typeName(), docId( i ) ) );
+		}
+		Assertions.assertThat( normalize( hits ) ).containsExactlyElementsOf( normalize( expected ) );
+	}
+
+	@Test
+	public void total() {
+		try ( SearchScroll<DocumentReference> scroll = matchFirstHalfQuery().scroll( CHUNK_SIZE ) ) {
+			SearchScrollResult<DocumentReference> chunk = scroll.next();
+			Assertions.assertThat( chunk.hasHits() ).isTrue();
+			Assertions.assertThat( chunk.hits() ).hasSize( CHUNK_SIZE );
+			Assertions.assertThat( chunk.total().hitCount() ).isEqualTo( DOCUMENT_COUNT / 2 );
+			Assertions.assertThat( chunk.timedOut() ).isFalse();
+			Assertions.assertThat( chunk.took() ).isNotNull();
+		}
+	}
+
+	@Test
+	public void totalHitCountThreshold() {
+		StubMappingScope scope = index.createScope();
+		List<DocumentReference> hits = new ArrayList<>();
+		// Elasticsearch 7+ rejects a non-exact "track_total_hits" in a scroll context: this must not fail
+		try ( SearchScroll<DocumentReference> scroll = scope.query()
+				.where( f -> f.matchAll() )
+				.totalHitCountThreshold( DOCUMENT_COUNT / 4 )
+				.scroll( CHUNK_SIZE ) ) {
+			for ( SearchScrollResult<DocumentReference> chunk = scroll.next(); chunk.hasHits();
+					chunk = scroll.next() ) {
+				Assertions.assertThat( chunk.total().hitCountLowerBound() )
+						.isBetween( (long) DOCUMENT_COUNT / 4, (long) DOCUMENT_COUNT );
+				hits.addAll( chunk.hits() );
+			}
+		}
+
+		Assertions.assertThat( hits ).hasSize( DOCUMENT_COUNT );
+		Assertions.assertThat( normalize( hits ) ).doesNotHaveDuplicates();
+	}
+
+	@Test
+	public void noHits() {
+		StubMappingScope scope = index.createScope();
+		try ( SearchScroll<DocumentReference> scroll = scope.query()
+				.where( f -> f.match().field( "integer" ).matching( DOCUMENT_COUNT + 2 ) )
+				.scroll( CHUNK_SIZE ) ) {
+			SearchScrollResult<DocumentReference> chunk = scroll.next();
+			Assertions.assertThat( chunk.hasHits() ).isFalse();
+			Assertions.assertThat( chunk.hits() ).isEmpty();
+			Assertions.assertThat( chunk.total().hitCount() ).isZero();
+		}
+	}
+
+	@Test
+	public void indexChangesDuringScroll() {
+		List<DocumentReference> hits = new ArrayList<>();
+		try ( SearchScroll<DocumentReference> scroll = matchAllQuery().scroll( CHUNK_SIZE ) ) {
+			hits.addAll( scroll.next().hits() );
+
+			// Documents indexed after the scroll started should not affect the scroll
+			index.bulkIndexer()
+					.add( DOCUMENT_COUNT, i -> documentProvider(
+							"other_" + docId( i ),
+							document -> document.addValue( index.binding().integer, -1 - i )
+					) )
+					.join();
+
+			for ( SearchScrollResult<DocumentReference> chunk = scroll.next(); chunk.hasHits();
+					chunk = scroll.next() ) {
+				hits.addAll( chunk.hits() );
+			}
+		}
+
+		List<DocumentReference> expected = new ArrayList<>();
+		for ( int i = 0; i < DOCUMENT_COUNT; i++ ) {
+			expected.add( reference( index.typeName(), docId( i ) ) );
+		}
+		Assertions.assertThat( normalize( hits ) ).containsExactlyElementsOf( normalize( expected ) );
+	}
+
+	@Test
+	public void closed() {
+		SearchScroll<DocumentReference> scroll = matchAllQuery().scroll( CHUNK_SIZE );
+		scroll.next();
+		scroll.close();
+		// Closing twice should not fail
+		scroll.close();
+
+		Assertions.assertThatThrownBy( scroll::next )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "this scroll was closed" );
+	}
+
+	@Test
+	public void invalidChunkSize() {
+		Assertions.assertThatThrownBy( () -> matchAllQuery().scroll( 0 ) )
+				.isInstanceOf( IllegalArgumentException.class )
+				.hasMessageContaining( "'chunkSize' must be strictly positive" );
+	}
+
+	private List<DocumentReference> scrollAll(SearchQueryOptionsStep<?, DocumentReference, ?, ?, ?> query, int chunkSize) {
+		List<DocumentReference> hits = new ArrayList<>();
+		try ( SearchScroll<DocumentReference> scroll = query.scroll( chunkSize ) ) {
+			for ( SearchScrollResult<DocumentReference> chunk = scroll.next(); chunk.hasHits();
+					chunk = scroll.next() ) {
+				Assertions.assertThat( chunk.hits() ).hasSizeLessThanOrEqualTo( chunkSize );
+				hits.addAll( chunk.hits() );
+			}
+		}
+		return hits;
+	}
+
+	private SearchQueryOptionsStep<?, DocumentReference, ?, ?, ?> matchAllQuery() {
+		StubMappingScope scope = index.createScope();
+		return scope.query()
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "integer" ).asc() );
+	}
+
+	private SearchQueryOptionsStep<?, DocumentReference, ?, ?, ?> matchFirstHalfQuery() {
+		StubMappingScope scope = index.createScope();
+		return scope.query()
+				.where( f -> f.range().field( "integer" ).lessThan( DOCUMENT_COUNT / 2 ) )
+				.sort( f -> f.field( "integer" ).asc() );
+	}
+
+	private void initData() {
+		index.bulkIndexer()
+				.add( DOCUMENT_COUNT, i -> documentProvider(
+						docId( i ),
+						document -> document.addValue( index.binding().integer, i )
+				) )
+				.join();
+	}
+
+	private static String docId(int i) {
+		return String.format( Locale.ROOT, "document_%05d", i );
+	}
+
+	private static class IndexBinding {
+		final IndexFieldReference<Integer> integer;
+
+		IndexBinding(IndexSchemaElement root) {
+			integer = root.field( "integer", f -> f.asInteger().sortable( Sortable.YES ) )
+					.toReference();
+		}
+	}
+}
@@ -12,6 +12,8 @@
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
@@ -133,6 +135,46 @@ public void timeout_fastCount_largeTimeout() {
 		assertThat( query.fetchTotalHitCount() ).isEqualTo( 0 );
 	}
 
+	@Test
+	public void timeout_slowQuery_smallTimeout_async_raiseAnException() {
+		SearchQuery<DocumentReference> query = startSlowQuery()
+				.failAfter( 1, TimeUnit.NANOSECONDS )
+				.toQuery();
+
+		Assertions.assertThatThrownBy( () -> query.fetchAsync( null ).toCompletableFuture().join() )
+				.isInstanceOf( CompletionException.class )
+				.extracting( Throwable::getCause ).isInstanceOf( SearchTimeoutException.class );
+		Assertions.assertThatThrownBy( () -> query.fetchTotalHitCountAsync().toCompletableFuture().join() )
+				.isInstanceOf( CompletionException.class )
+				.extracting( Throwable::getCause ).isInstanceOf( SearchTimeoutException.class );
+
+		// A failed asynchronous execution must not affect later executions of the same query
+		Assertions.assertThatThrownBy( () -> query.fetchAll() )
+				.isInstanceOf( SearchTimeoutException.class )
+				.hasMessageContaining( " exceeded the timeout of 0s, 0ms and 1ns: " );
+	}
+
+	@Test
+	public void timeout_fastQuery_largeTimeout_concurrentAsync() {
+		SearchQuery<DocumentReference> query = startFastQuery()
+				.failAfter( 1, TimeUnit.DAYS )
+				.toQuery();
+
+		List<CompletableFuture<? extends SearchResult<DocumentReference>>> futures = new ArrayList<>();
+		for ( int i = 0; i < 10; i++ ) {
+			futures.add( query.fetchAsync( null ).toCompletableFuture() );
+		}
+		CompletableFuture<Long> countFuture = query.fetchTotalHitCountAsync().toCompletableFuture();
+
+		for ( CompletableFuture<? extends SearchResult<DocumentReference>> future : futures ) {
+			SearchResult<DocumentReference> result = future.join();
+			SearchResultAssert.assertThat( result ).hasNoHits();
+			assertThat( result.took() ).isLessThan( Duration.ofDays( 1L ) );
+			assertThat( result.timedOut() ).isFalse();
+		}
+		assertThat( countFuture.join() ).isEqualTo( 0 );
+	}
+
 	private SearchQueryOptionsStep<?, DocumentReference, ?, ?, ?> startSlowQuery() {
 		return index.createScope().query()
 				.where( f -> f.bool( b -> {
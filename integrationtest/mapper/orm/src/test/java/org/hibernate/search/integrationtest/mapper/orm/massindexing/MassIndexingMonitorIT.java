@@ -109,6 +109,7 @@ public void simple() {
 
 		backendMock.verifyExpectationsMet();
 
+		assertThat( staticCounters.get( StaticCountersMonitor.IDENTIFIERS_LOADED ) ).isEqualTo( 3 );
 		assertThat( staticCounters.get( StaticCountersMonitor.LOADED ) ).isEqualTo( 3 );
 		assertThat( staticCounters.get( StaticCountersMonitor.BUILT ) ).isEqualTo( 3 );
 		assertThat( staticCounters.get( StaticCountersMonitor.ADDED ) ).isEqualTo( 2 );
@@ -177,6 +178,7 @@ public static class StaticCountersMonitor implements MassIndexingMonitor {
 
 		public static StaticCounters.Key ADDED = StaticCounters.createKey();
 		public static StaticCounters.Key BUILT = StaticCounters.createKey();
+		public static StaticCounters.Key IDENTIFIERS_LOADED = StaticCounters.createKey();
 		public static StaticCounters.Key LOADED = StaticCounters.createKey();
 		public static StaticCounters.Key TOTAL = StaticCounters.createKey();
 		public static StaticCounters.Key INDEXING_COMPLETED = StaticCounters.createKey();
@@ -191,6 +193,11 @@ public void documentsBuilt(long increment) {
 			StaticCounters.get().add( BUILT, (int) increment );
 		}
 
+		@Override
+		public void identifiersLoaded(long increment) {
+			StaticCounters.get().add( IDENTIFIERS_LOADED, (int) increment );
+		}
+
 		@Override
 		public void entitiesLoaded(long increment) {
 			StaticCounters.get().add( LOADED, (int) increment );
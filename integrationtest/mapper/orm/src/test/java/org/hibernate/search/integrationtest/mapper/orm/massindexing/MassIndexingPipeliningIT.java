@@ -0,0 +1,270 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.mapper.orm.massindexing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.PostLoad;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
+import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
+import org.hibernate.search.mapper.orm.Search;
+import org.hibernate.search.mapper.orm.automaticindexing.AutomaticIndexingStrategyName;
+import org.hibernate.search.mapper.orm.cfg.HibernateOrmMapperSettings;
+import org.hibernate.search.mapper.orm.massindexing.MassIndexer;
+import org.hibernate.search.mapper.orm.massindexing.MassIndexingEntityFailureContext;
+import org.hibernate.search.mapper.orm.massindexing.MassIndexingFailureContext;
+import org.hibernate.search.mapper.orm.massindexing.MassIndexingFailureHandler;
+import org.hibernate.search.mapper.orm.massindexing.MassIndexingMonitor;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.GenericField;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.Indexed;
+import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.impl.integrationtest.common.rule.BackendMock;
+import org.hibernate.search.util.impl.integrationtest.mapper.orm.OrmSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.mapper.orm.OrmUtils;
+
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Tests that loading threads keep a bounded number of batches waiting for indexing,
+ * and always wait for these batches before they terminate.
+ */
+public class MassIndexingPipeliningIT {
+
+	public static final String TITLE_1 = "Oliver Twist";
+	public static final String TITLE_2 = "Ulysses";
+	public static final String TITLE_3 = "Frankenstein";
+
+	@Rule
+	public BackendMock backendMock = new BackendMock();
+
+	@Rule
+	public OrmSetupHelper ormSetupHelper = OrmSetupHelper.withBackendMock( backendMock );
+
+	private final RecordingMonitor monitor = new RecordingMonitor();
+	private final RecordingFailureHandler failureHandler = new RecordingFailureHandler();
+
+	@After
+	public void resetFailures() {
+		Book.failOnBook3Load.set( false );
+	}
+
+	@Test
+	public void queueDepths() throws InterruptedException {
+		SessionFactory sessionFactory = setup();
+
+		backendMock.expectWorks( Book.NAME, DocumentCommitStrategy.NONE, DocumentRefreshStrategy.NONE )
+				.add( "1", b -> b.field( "title", TITLE_1 ) )
+				.processedThenExecuted();
+		backendMock.expectWorks( Book.NAME, DocumentCommitStrategy.NONE, DocumentRefreshStrategy.NONE )
+				.add( "2", b -> b.field( "title", TITLE_2 ) )
+				.processedThenExecuted();
+		backendMock.expectWorks( Book.NAME, DocumentCommitStrategy.NONE, DocumentRefreshStrategy.NONE )
+				.add( "3", b -> b.field( "title", TITLE_3 ) )
+				.processedThenExecuted();
+		expectIndexScaleWorks();
+
+		massIndexer( sessionFactory ).startAndWait();
+
+		backendMock.verifyExpectationsMet();
+
+		// One batch per entity: up to two batches wait for indexing while the next one is loaded,
+		// and the last ones are awaited before the loading thread terminates.
+		assertThat( monitor.documentBatchesWaitingForIndexing ).containsExactly( 1, 2, 2, 0 );
+		assertThat( monitor.identifierBatchesWaitingForLoading ).allSatisfy(
+				depth -> assertThat( depth ).isBetween( 0, 3 )
+		);
+		assertThat( monitor.entityNames ).containsOnly( Book.NAME );
+		assertThat( monitor.documentsAdded ).hasValue( 3L );
+		assertThat( failureHandler.genericFailures ).isEmpty();
+		assertThat( failureHandler.entityFailures ).isEmpty();
+	}
+
+	@Test
+	public void loadingFailureWithBatchesWaitingForIndexing() {
+		SessionFactory sessionFactory = setup();
+		Book.failOnBook3Load.set( true );
+
+		CompletableFuture<?> failingFuture = new CompletableFuture<>();
+		failingFuture.completeExceptionally( new SimulatedFailure( "Indexing failure" ) );
+		backendMock.expectWorks( Book.NAME, DocumentCommitStrategy.NONE, DocumentRefreshStrategy.NONE )
+				.add( "1", b -> b.field( "title", TITLE_1 ) )
+				.processedThenExecuted( failingFuture );
+		backendMock.expectWorks( Book.NAME, DocumentCommitStrategy.NONE, DocumentRefreshStrategy.NONE )
+				.add( "2", b -> b.field( "title", TITLE_2 ) )
+				.processedThenExecuted();
+		// Loading book 3 fails while the batches of books 1 and 2 are still waiting to be reported
+		expectIndexScaleWorks();
+
+		assertThatThrownBy( () -> massIndexer( sessionFactory ).startAndWait() )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContainingAll(
+						"1 entities could not be indexed",
+						"First failure on entity 'Book#1': ",
+						"Indexing failure"
+				);
+
+		backendMock.verifyExpectationsMet();
+
+		// The failure to load book 3 is reported
+		assertThat( failureHandler.genericFailures ).hasSize( 1 );
+		assertThat( causeChainMessages( failureHandler.genericFailures.get( 0 ).throwable() ) )
+				.contains( "Load failure" );
+
+		// The batches submitted before the loading failure are still awaited and reported
+		assertThat( failureHandler.entityFailures ).hasSize( 1 );
+		MassIndexingEntityFailureContext entityFailure = failureHandler.entityFailures.get( 0 );
+		assertThat( entityFailure.throwable() ).isInstanceOf( SimulatedFailure.class )
+				.hasMessage( "Indexing failure" );
+		assertThat( entityFailure.entityReferences() ).hasSize( 1 )
+				.element( 0 ).asString().isEqualTo( Book.NAME + "#1" );
+		assertThat( monitor.documentsAdded ).hasValue( 1L );
+
+		// ... and they are no longer counted as waiting for indexing
+		assertThat( monitor.documentBatchesWaitingForIndexing ).containsExactly( 1, 2, 0 );
+	}
+
+	private MassIndexer massIndexer(SessionFactory sessionFactory) {
+		return Search.mapping( sessionFactory ).scope( Object.class ).massIndexer()
+				.threadsToLoadObjects( 1 )
+				.batchSizeToLoadObjects( 1 )
+				.monitor( monitor )
+				.failureHandler( failureHandler );
+	}
+
+	private void expectIndexScaleWorks() {
+		backendMock.expectIndexScaleWorks( Book.NAME )
+				.purge()
+				.mergeSegments()
+				.flush()
+				.refresh();
+	}
+
+	private SessionFactory setup() {
+		backendMock.expectAnySchema( Book.NAME );
+
+		SessionFactory sessionFactory = ormSetupHelper.start()
+				.withPropertyRadical( HibernateOrmMapperSettings.Radicals.AUTOMATIC_INDEXING_STRATEGY, AutomaticIndexingStrategyName.NONE )
+				.setup( Book.class );
+
+		backendMock.verifyExpectationsMet();
+
+		OrmUtils.withinTransaction( sessionFactory, session -> {
+			session.persist( new Book( 1, TITLE_1 ) );
+			session.persist( new Book( 2, TITLE_2 ) );
+			session.persist( new Book( 3, TITLE_3 ) );
+		} );
+
+		return sessionFactory;
+	}
+
+	private static String causeChainMessages(Throwable throwable) {
+		StringBuilder builder = new StringBuilder();
+		for ( Throwable current = throwable; current != null; current = current.getCause() ) {
+			builder.append( current.getMessage() ).append( '\n' );
+		}
+		return builder.toString();
+	}
+
+	@Entity(name = Book.NAME)
+	@Indexed(index = Book.NAME)
+	public static class Book {
+
+		public static final String NAME = "Book";
+
+		private static final AtomicBoolean failOnBook3Load = new AtomicBoolean( false );
+
+		@Id
+		private Integer id;
+
+		@GenericField
+		private String title;
+
+		public Book() {
+		}
+
+		public Book(Integer id, String title) {
+			this.id = id;
+			this.title = title;
+		}
+
+		@PostLoad
+		public void postLoad() {
+			if ( id == 3 && failOnBook3Load.get() ) {
+				throw new SimulatedFailure( "Load failure" );
+			}
+		}
+	}
+
+	private static class RecordingMonitor implements MassIndexingMonitor {
+		private final List<String> entityNames = new CopyOnWriteArrayList<>();
+		private final List<Integer> identifierBatchesWaitingForLoading = new CopyOnWriteArrayList<>();
+		private final List<Integer> documentBatchesWaitingForIndexing = new CopyOnWriteArrayList<>();
+		private final AtomicLong documentsAdded = new AtomicLong();
+
+		@Override
+		public void documentsAdded(long increment) {
+			documentsAdded.addAndGet( increment );
+		}
+
+		@Override
+		public void documentsBuilt(long increment) {
+		}
+
+		@Override
+		public void entitiesLoaded(long increment) {
+		}
+
+		@Override
+		public void addToTotalCount(long increment) {
+		}
+
+		@Override
+		public void indexingCompleted() {
+		}
+
+		@Override
+		public void queueDepths(String entityName, int identifierBatchesWaitingForLoading,
+				int documentBatchesWaitingForIndexing) {
+			this.entityNames.add( entityName );
+			this.identifierBatchesWaitingForLoading.add( identifierBatchesWaitingForLoading );
+			this.documentBatchesWaitingForIndexing.add( documentBatchesWaitingForIndexing );
+		}
+	}
+
+	private static class RecordingFailureHandler implements MassIndexingFailureHandler {
+		private final List<MassIndexingFailureContext> genericFailures = new CopyOnWriteArrayList<>();
+		private final List<MassIndexingEntityFailureContext> entityFailures = new CopyOnWriteArrayList<>();
+
+		@Override
+		public void handle(MassIndexingFailureContext context) {
+			genericFailures.add( context );
+		}
+
+		@Override
+		public void handle(MassIndexingEntityFailureContext context) {
+			entityFailures.add( context );
+		}
+	}
+
+	private static class SimulatedFailure extends RuntimeException {
+		SimulatedFailure(String message) {
+			super( message );
+		}
+	}
+}
@@ -11,6 +11,8 @@
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import javax.persistence.SharedCacheMode;
 
@@ -192,6 +194,79 @@ public void overriddenStrategy_2LC_fullCacheHits() {
 		);
 	}
 
+	@Test
+	public void overriddenStrategy_skip_fetchSize() {
+		testLoadingCacheLookup(
+				EntityLoadingCacheLookupStrategy.SKIP,
+				// Load entities in batches of that size
+				20,
+				// Persist that many entities
+				100,
+				// Add some of them to the second level cache
+				range( 0, 30 ),
+				// Add some others to the session when searching
+				range( 30, 50 ),
+				// Expect no successful 2LC lookups (2LC lookup is disabled)
+				0,
+				// Expect successful PC lookups (they happen after the DB statements)
+				20,
+				// 100 entities to load with a fetch size of 20 => 5 fetches are necessary
+				5
+		);
+	}
+
+	@Test
+	public void overriddenStrategy_persistenceContext_fetchSize() {
+		Assume.assumeTrue(
+				"This test only makes sense if cache lookups are supported",
+				primitives.isCacheLookupSupported()
+		);
+
+		testLoadingCacheLookup(
+				EntityLoadingCacheLookupStrategy.PERSISTENCE_CONTEXT,
+				// Load entities in batches of that size
+				20,
+				// Persist that many entities
+				100,
+				// Add some of them to the second level cache
+				range( 0, 30 ),
+				// Add some others to the session when searching
+				range( 30, 50 ),
+				// Expect no successful 2LC lookups (2LC lookup is disabled)
+				0,
+				// Expect a few successful PC lookups
+				20,
+				// 80 entities to load with a fetch size of 20 => 4 fetches are necessary
+				4
+		);
+	}
+
+	@Test
+	public void overriddenStrategy_2LC_fetchSize() {
+		Assume.assumeTrue(
+				"This test only makes sense if cache lookups are supported",
+				primitives.isCacheLookupSupported()
+		);
+
+		testLoadingCacheLookup(
+				EntityLoadingCacheLookupStrategy.PERSISTENCE_CONTEXT_THEN_SECOND_LEVEL_CACHE,
+				// Load entities in batches of that size
+				20,
+				// Persist that many entities
+				100,
+				// Add some of them to the second level cache
+				range( 0, 30 ),
+				// Add some others to the session when searching
+				range( 30, 50 ),
+				// Expect a few successful 2LC lookups
+				30,
+				// Expect a few successful PC lookups
+				20,
+				// 50 entities to load with a fetch size of 20 => 3 fetches are necessary
+				3
+		);
+	}
+
 	@Override
 	protected SessionFactory sessionFactory() {
 		return sessionFactory;
@@ -272,7 +347,6 @@ private void testLoadingCacheLookupExpectingSecondLevelCacheLookup(
 		);
 	}
 
-	@SuppressWarnings({"unchecked", "deprecation"})
 	private void testLoadingCacheLookup(EntityLoadingCacheLookupStrategy overriddenLookupStrategy,
 			int entityCount,
 			List<Integer> entitiesToPutInSecondLevelCache,
@@ -280,6 +354,28 @@ private void testLoadingCacheLookup(EntityLoadingCacheLookupStrategy overriddenL
 			int expectedSecondLevelCacheHitCount,
 			int expectedPersistenceContextHitCount,
 			boolean expectStatementExecution) {
+		testLoadingCacheLookup(
+				overriddenLookupStrategy,
+				// Do not override fetch size
+				null,
+				entityCount,
+				entitiesToPutInSecondLevelCache,
+				entitiesToLoadInSession,
+				expectedSecondLevelCacheHitCount,
+				expectedPersistenceContextHitCount,
+				expectStatementExecution ? 1 : 0
+		);
+	}
+
+	@SuppressWarnings({"unchecked", "deprecation"})
+	private void testLoadingCacheLookup(EntityLoadingCacheLookupStrategy overriddenLookupStrategy,
+			Integer overriddenFetchSize,
+			int entityCount,
+			List<Integer> entitiesToPutInSecondLevelCache,
+			List<Integer> entitiesToLoadInSession,
+			int expectedSecondLevelCacheHitCount,
+			int expectedPersistenceContextHitCount,
+			int expectedStatementExecutionCount) {
 		sessionFactory.getStatistics().setStatisticsEnabled( true );
 		sessionFactory.getStatistics().clear();
 		persistThatManyEntities( entityCount );
@@ -308,6 +404,9 @@ private void testLoadingCacheLookup(EntityLoadingCacheLookupStrategy overriddenL
 					if ( overriddenLookupStrategy != null ) {
 						f.cacheLookupStrategy( overriddenLookupStrategy );
 					}
+					if ( overriddenFetchSize != null ) {
+						f.fetchSize( overriddenFetchSize );
+					}
 				},
 				entityCount,
 				c -> {
@@ -316,9 +415,13 @@ private void testLoadingCacheLookup(EntityLoadingCacheLookupStrategy overriddenL
 					c.assertSecondLevelCacheHitCount()
 							.isEqualTo( expectedSecondLevelCacheHitCount );
 					c.assertStatementExecutionCount()
-							.isEqualTo( expectStatementExecution ? 1 : 0 );
+							.isEqualTo( expectedStatementExecutionCount );
 				}
 		);
 	}
 
+	private static List<Integer> range(int fromInclusive, int toExclusive) {
+		return IntStream.range( fromInclusive, toExclusive ).boxed().collect( Collectors.toList() );
+	}
+
 }
@@ -0,0 +1,123 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.performance.backend.lucene;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.hibernate.search.engine.backend.orchestration.spi.BatchedWork;
+import org.hibernate.search.engine.backend.orchestration.spi.BatchedWorkProcessor;
+import org.hibernate.search.engine.backend.orchestration.spi.BatchingExecutor;
+import org.hibernate.search.engine.cfg.IndexingQueueBackPressureStrategyName;
+import org.hibernate.search.engine.cfg.IndexingQueueImplementationName;
+import org.hibernate.search.engine.reporting.impl.LogFailureHandler;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * JMH benchmarks for the queue of {@link BatchingExecutor},
+ * used for indexing queues in the Lucene backend (and in the Elasticsearch backend).
+ * <p>
+ * Many threads submit works to a single executor, whose processor does nearly nothing,
+ * so that the cost of enqueuing/dequeuing works (and contention between submitting threads) dominates.
+ * <p>
+ * Use {@code -t} on the command line to change the number of submitting threads.
+ */
+@Fork(1)
+@State(Scope.Benchmark)
+public class BatchingExecutorBenchmarks {
+
+	@Param({ "blocking_queue", "ring_buffer" })
+	private String queueImplementation;
+
+	@Param({ "block", "spin_then_park" })
+	private String queueBackPressureStrategy;
+
+	@Param({ "1000" })
+	private int queueSize;
+
+	private ExecutorService executorService;
+	private BatchingExecutor<CountingProcessor> executor;
+
+	@Setup(Level.Trial)
+	public void startExecutor() {
+		executorService = Executors.newSingleThreadExecutor();
+		executor = new BatchingExecutor<>(
+				"BatchingExecutorBenchmarks",
+				new CountingProcessor(),
+				queueSize,
+				true,
+				IndexingQueueImplementationName.of( queueImplementation ),
+				IndexingQueueBackPressureStrategyName.of( queueBackPressureStrategy ),
+				new LogFailureHandler()
+		);
+		executor.start( executorService );
+	}
+
+	@TearDown(Level.Trial)
+	public void stopExecutor() {
+		executor.completion().join();
+		executor.stop();
+		executorService.shutdownNow();
+	}
+
+	@Benchmark
+	@Threads(16)
+	public void submit() throws InterruptedException {
+		executor.submit( CountingWork.INSTANCE );
+	}
+
+	private static final class CountingProcessor implements BatchedWorkProcessor {
+		private final CompletableFuture<?> completedFuture = CompletableFuture.completedFuture( null );
+
+		// Only accessed from the executor thread
+		private long count = 0L;
+
+		@Override
+		public void beginBatch() {
+			// Nothing to do
+		}
+
+		@Override
+		public CompletableFuture<?> endBatch() {
+			return completedFuture;
+		}
+
+		@Override
+		public void complete() {
+			// Nothing to do
+		}
+
+		void process() {
+			++count;
+		}
+	}
+
+	private static final class CountingWork implements BatchedWork<CountingProcessor> {
+		private static final CountingWork INSTANCE = new CountingWork();
+
+		@Override
+		public void submitTo(CountingProcessor processor) {
+			processor.process();
+		}
+
+		@Override
+		public void markAsFailed(Throwable t) {
+			throw new IllegalStateException( "Unexpected failure", t );
+		}
+	}
+
+}
@@ -6,6 +6,8 @@
  */
 package org.hibernate.search.mapper.orm.event.impl;
 
+import java.util.BitSet;
+
 import org.hibernate.search.mapper.pojo.model.spi.PojoRawTypeIdentifier;
 
 public interface HibernateOrmListenerTypeContext {
@@ -14,4 +16,16 @@ public interface HibernateOrmListenerTypeContext {
 
 	Object toIndexingPlanProvidedId(Object entityId);
 
+	/**
+	 * @param dirtyProperties The indexes of dirty properties, as reported by Hibernate ORM.
+	 * @return The corresponding dirty paths, as a set of ordinals.
+	 */
+	BitSet dirtyPropertiesToDirtyPaths(int[] dirtyProperties);
+
+	/**
+	 * @param collectionRole The role of a dirty collection, as reported by Hibernate ORM.
+	 * @return The corresponding dirty paths, as a set of ordinals.
+	 */
+	BitSet dirtyCollectionRoleToDirtyPaths(String collectionRole);
+
 }
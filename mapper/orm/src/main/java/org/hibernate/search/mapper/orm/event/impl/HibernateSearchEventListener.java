@@ -103,7 +103,19 @@ public void onPostUpdate(PostUpdateEvent event) {
 			PojoIndexingPlan<?> plan = getCurrentIndexingPlan( contextProvider, event.getSession() );
 			Object providedId = typeContext.toIndexingPlanProvidedId( event.getId() );
 			if ( dirtyCheckingEnabled ) {
-				plan.addOrUpdate( typeContext.typeIdentifier(), providedId, entity, getDirtyPropertyNames( event ) );
+				int[] dirtyProperties = event.getDirtyProperties();
+				if ( dirtyProperties != null && dirtyProperties.length > 0 ) {
+					plan.addOrUpdate( typeContext.typeIdentifier(), providedId, entity,
+							typeContext.dirtyPropertiesToDirtyPaths( dirtyProperties ) );
+				}
+				else {
+					/*
+					 * No dirty property reported: do not mark any path as dirty,
+					 * but let the indexing plan consider everything dirty
+					 * unless more precise information is reported later (e.g. by a collection event).
+					 */
+					plan.addOrUpdate( typeContext.typeIdentifier(), providedId, entity, EMPTY_STRING_ARRAY );
+				}
 			}
 			else {
 				plan.addOrUpdate( typeContext.typeIdentifier(), providedId, entity );
@@ -230,7 +242,8 @@ private void processCollectionEvent(AbstractCollectionEvent event) {
 					 * which can then decide whether to reindex based on whether the collection
 					 * has any impact on indexing.
 					 */
-					plan.addOrUpdate( typeContext.typeIdentifier(), providedId, ownerEntity, collectionRole );
+					plan.addOrUpdate( typeContext.typeIdentifier(), providedId, ownerEntity,
+							typeContext.dirtyCollectionRoleToDirtyPaths( collectionRole ) );
 				}
 				else {
 					/*
@@ -246,23 +259,6 @@ private void processCollectionEvent(AbstractCollectionEvent event) {
 		}
 	}
 
-	private String[] getDirtyPropertyNames(PostUpdateEvent event) {
-		EntityPersister persister = event.getPersister();
-		final int[] dirtyProperties = event.getDirtyProperties();
-		if ( dirtyProperties != null && dirtyProperties.length > 0 ) {
-			String[] propertyNames = persister.getPropertyNames();
-			int length = dirtyProperties.length;
-			String[] dirtyPropertyNames = new String[length];
-			for ( int i = 0; i < length; i++ ) {
-				dirtyPropertyNames[i] = propertyNames[dirtyProperties[i]];
-			}
-			return dirtyPropertyNames;
-		}
-		else {
-			return EMPTY_STRING_ARRAY;
-		}
-	}
-
 	/**
 	 * Required since Hibernate ORM 4.3
 	 */
@@ -277,4 +277,16 @@ SearchException invalidEntitySuperType(String entityName,
 	@Message(id = ID_OFFSET_2 + 35, value = "Hibernate Search shutdown failed: %1$s")
 	void shutdownFailed(String causeMessage, @Cause Throwable cause);
 
+	@LogMessage(level = DEBUG)
+	@Message(id = ID_OFFSET_2 + 36, value = "Mass indexing progress per stage: %1$d identifiers loaded,"
+			+ " %2$d entities loaded, %3$d documents built, %4$d documents added.")
+	void indexingStageProgress(long identifiersLoaded, long entitiesLoaded, long documentsBuilt, long documentsAdded);
+
+	@LogMessage(level = DEBUG)
+	@Message(id = ID_OFFSET_2 + 37, value = "Mass indexing queues for entity '%1$s':"
+			+ " %2$d batches of identifiers waiting for loading,"
+			+ " %3$d batches of documents waiting for indexing.")
+	void indexingQueueDepths(String entityName, int identifierBatchesWaitingForLoading,
+			int documentBatchesWaitingForIndexing);
+
 }
@@ -7,6 +7,7 @@
 package org.hibernate.search.mapper.orm.mapping.impl;
 
 import java.lang.invoke.MethodHandles;
+import java.util.BitSet;
 
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.metamodel.model.domain.spi.EntityTypeDescriptor;
@@ -16,6 +17,7 @@
 import org.hibernate.search.mapper.orm.logging.impl.Log;
 import org.hibernate.search.mapper.orm.scope.impl.HibernateOrmScopeTypeContext;
 import org.hibernate.search.mapper.orm.session.impl.HibernateOrmSessionTypeContext;
+import org.hibernate.search.mapper.pojo.model.path.spi.PojoPathOrdinals;
 import org.hibernate.search.mapper.pojo.model.spi.PojoRawTypeIdentifier;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
@@ -28,14 +30,25 @@
 	private final String jpaEntityName;
 	private final EntityPersister entityPersister;
 	private final EntityTypeDescriptor<E> entityTypeDescriptor;
+	private final PojoPathOrdinals pathOrdinals;
+	// The ordinal of each property of the entity persister, or -1 if no path filter accepts that property
+	private final int[] dirtyPropertyOrdinals;
 
 	AbstractHibernateOrmTypeContext(SessionFactoryImplementor sessionFactory,
-			PojoRawTypeIdentifier<E> typeIdentifier, String jpaEntityName, String hibernateOrmEntityName) {
+			PojoRawTypeIdentifier<E> typeIdentifier, String jpaEntityName, String hibernateOrmEntityName,
+			PojoPathOrdinals pathOrdinals) {
 		this.typeIdentifier = typeIdentifier;
 		this.jpaEntityName = jpaEntityName;
 		MetamodelImplementor metamodel = sessionFactory.getMetamodel();
 		this.entityPersister = metamodel.entityPersister( hibernateOrmEntityName );
 		this.entityTypeDescriptor = metamodel.entity( entityPersister.getEntityName() );
+		this.pathOrdinals = pathOrdinals;
+		String[] propertyNames = entityPersister.getPropertyNames();
+		this.dirtyPropertyOrdinals = new int[propertyNames.length];
+		for ( int i = 0; i < propertyNames.length; i++ ) {
+			Integer ordinal = pathOrdinals.toOrdinal( propertyNames[i] );
+			dirtyPropertyOrdinals[i] = ordinal == null ? -1 : ordinal;
+		}
 	}
 
 	@Override
@@ -56,6 +69,28 @@ public EntityPersister entityPersister() {
 		return entityPersister;
 	}
 
+	@Override
+	public BitSet dirtyPropertiesToDirtyPaths(int[] dirtyProperties) {
+		BitSet dirtyPaths = new BitSet();
+		for ( int dirtyProperty : dirtyProperties ) {
+			int ordinal = dirtyPropertyOrdinals[dirtyProperty];
+			if ( ordinal >= 0 ) {
+				dirtyPaths.set( ordinal );
+			}
+		}
+		return dirtyPaths;
+	}
+
+	@Override
+	public BitSet dirtyCollectionRoleToDirtyPaths(String collectionRole) {
+		BitSet dirtyPaths = new BitSet();
+		Integer ordinal = pathOrdinals.toOrdinal( collectionRole );
+		if ( ordinal != null ) {
+			dirtyPaths.set( ordinal );
+		}
+		return dirtyPaths;
+	}
+
 	public EntityTypeDescriptor<E> entityTypeDescriptor() {
 		if ( entityTypeDescriptor == null ) {
 			// TODO HSEARCH-3771 Mass indexing for ORM's dynamic-map entity types
@@ -39,6 +39,24 @@ public interface MassIndexer {
 	 */
 	MassIndexer threadsToLoadObjects(int numberOfThreads);
 
+	/**
+	 * Sets the number of threads to be used to load
+	 * the identifiers of each root entity type.
+	 * <p>
+	 * With more than one thread, the identifier space of each type is split into
+	 * as many contiguous ranges, based on the minimum and maximum identifier,
+	 * and each thread loads the identifiers of one range page by page.
+	 * This is only possible for types whose identifier is a {@code long}, {@code int} or {@code short},
+	 * and when {@link #limitIndexedObjectsTo(long)} is not used;
+	 * otherwise, identifiers are loaded by a single thread.
+	 * <p>
+	 * Defaults to {@code 1}.
+	 * @param numberOfThreads the number of threads
+	 * @return {@code this} for method chaining
+	 */
+	@Incubating
+	MassIndexer threadsToLoadIdentifiers(int numberOfThreads);
+
 	/**
 	 * Sets the batch size used to load the root entities.
 	 * @param batchSize the batch size
@@ -73,6 +73,53 @@ public interface MassIndexingMonitor {
 	 */
 	void entitiesLoaded(long increment);
 
+	/**
+	 * Notify the monitor that {@code increment} more entity identifiers have been loaded from the database.
+	 * <p>
+	 * Summing the numbers passed to this method gives the total
+	 * number of identifiers that have been loaded so far.
+	 * Comparing this number with the number of {@link #entitiesLoaded(long) loaded entities},
+	 * {@link #documentsBuilt(long) built documents} and {@link #documentsAdded(long) added documents}
+	 * gives the throughput of each stage of mass indexing.
+	 * <p>
+	 * This method is invoked several times during indexing,
+	 * and calls are <strong>incremental</strong>:
+	 * calling {@code identifiersLoaded(3)} and then {@code identifiersLoaded(1)}
+	 * should be understood as "3+1 identifiers, i.e. 4 identifiers have been loaded".
+	 * <p>
+	 * This method can be invoked from several threads thus implementors are required to be thread-safe.
+	 *
+	 * @param increment additional number of identifiers loaded from database
+	 */
+	default void identifiersLoaded(long increment) {
+		// No-op by default
+	}
+
+	/**
+	 * Notify the monitor of the number of batches waiting between the stages of mass indexing
+	 * for a given entity type.
+	 * <p>
+	 * A high number of batches of identifiers waiting for their entities to be loaded
+	 * means that loading entities and building documents is the bottleneck,
+	 * while a high number of batches of documents waiting for indexing to complete
+	 * means that the index is the bottleneck.
+	 * <p>
+	 * This method is invoked each time a batch of entities has been loaded and submitted for indexing,
+	 * and once more each time a thread loading entities is done.
+	 * <p>
+	 * This method can be invoked from several threads thus implementors are required to be thread-safe.
+	 *
+	 * @param entityName The name of the entity type being indexed.
+	 * @param identifierBatchesWaitingForLoading The number of batches of identifiers
+	 * waiting for their entities to be loaded.
+	 * @param documentBatchesWaitingForIndexing The number of batches of documents
+	 * submitted to the index and waiting for indexing to complete.
+	 */
+	default void queueDepths(String entityName, int identifierBatchesWaitingForLoading,
+			int documentBatchesWaitingForIndexing) {
+		// No-op by default
+	}
+
 	/**
 	 * Notify the monitor that {@code increment} more entities have been
 	 * detected in the database and will be indexed.
@@ -43,6 +43,7 @@ public class BatchCoordinator extends FailureHandledRunnable {
 
 	private final int typesToIndexInParallel;
 	private final int documentBuilderThreads;
+	private final int identifierLoadingThreads;
 	private final CacheMode cacheMode;
 	private final int objectLoadingBatchSize;
 	private final boolean mergeSegmentsOnFinish;
@@ -59,7 +60,7 @@ public class BatchCoordinator extends FailureHandledRunnable {
 			MassIndexingNotifier notifier,
 			Set<HibernateOrmMassIndexingIndexedTypeContext<?>> rootEntityTypes,
 			PojoScopeSchemaManager scopeSchemaManager, PojoScopeWorkspace scopeWorkspace,
-			int typesToIndexInParallel, int documentBuilderThreads, CacheMode cacheMode,
+			int typesToIndexInParallel, int documentBuilderThreads, int identifierLoadingThreads, CacheMode cacheMode,
 			int objectLoadingBatchSize, long objectsLimit, boolean mergeSegmentsOnFinish,
 			boolean dropAndCreateSchemaOnStart, boolean purgeAtStart, boolean mergeSegmentsAfterPurge,
 			int idFetchSize, Integer transactionTimeout) {
@@ -74,6 +75,7 @@ public class BatchCoordinator extends FailureHandledRunnable {
 		this.transactionTimeout = transactionTimeout;
 		this.typesToIndexInParallel = typesToIndexInParallel;
 		this.documentBuilderThreads = documentBuilderThreads;
+		this.identifierLoadingThreads = identifierLoadingThreads;
 		this.cacheMode = cacheMode;
 		this.objectLoadingBatchSize = objectLoadingBatchSize;
 		this.mergeSegmentsOnFinish = mergeSegmentsOnFinish;
@@ -157,7 +159,7 @@ private void doBatchWork() throws InterruptedException {
 		return new BatchIndexingWorkspace<>(
 				mappingContext, sessionContext, getNotifier(),
 				type, idAttributeOfType,
-				documentBuilderThreads, cacheMode,
+				documentBuilderThreads, identifierLoadingThreads, cacheMode,
 				objectLoadingBatchSize,
 				objectsLimit, idFetchSize, transactionTimeout
 		);
@@ -12,6 +12,7 @@
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Future;
 import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import javax.persistence.metamodel.SingularAttribute;
 
@@ -42,8 +43,10 @@
 	private final SingularAttribute<? super E, I> idAttributeOfType;
 
 	private final ProducerConsumerQueue<List<I>> primaryKeyStream;
+	private final AtomicInteger documentBatchesWaitingForIndexing = new AtomicInteger();
 
 	private final int documentBuilderThreads;
+	private final int identifierLoadingThreads;
 
 	// loading options
 	private final CacheMode cacheMode;
@@ -61,7 +64,8 @@
 			DetachedBackendSessionContext sessionContext,
 			MassIndexingNotifier notifier,
 			HibernateOrmMassIndexingIndexedTypeContext<E> type, SingularAttribute<? super E, I> idAttributeOfType,
-			int objectLoadingThreads, CacheMode cacheMode, int objectLoadingBatchSize,
+			int objectLoadingThreads, int identifierLoadingThreads,
+			CacheMode cacheMode, int objectLoadingBatchSize,
 			long objectsLimit,
 			int idFetchSize, Integer transactionTimeout) {
 		super( notifier );
@@ -75,15 +79,16 @@
 
 		//thread pool sizing:
 		this.documentBuilderThreads = objectLoadingThreads;
+		this.objectsLimit = objectsLimit;
+		this.identifierLoadingThreads = identifierLoadingThreads <= 1 ? 1
+				: effectiveIdentifierLoadingThreads( type, idAttributeOfType, identifierLoadingThreads, objectsLimit );
 
 		//loading options:
 		this.cacheMode = cacheMode;
 		this.objectLoadingBatchSize = objectLoadingBatchSize;
 
 		//pipelining queues:
-		this.primaryKeyStream = new ProducerConsumerQueue<>( 1 );
-
-		this.objectsLimit = objectsLimit;
+		this.primaryKeyStream = new ProducerConsumerQueue<>( this.identifierLoadingThreads );
 	}
 
 	@Override
@@ -125,39 +130,63 @@ private void cancelPendingTasks() {
 	}
 
 	private void startProducingPrimaryKeys(BatchTransactionalContext transactionalContext) {
-		final Runnable primaryKeyOutputter = new OptionallyWrapInJTATransaction(
-				transactionalContext,
-				getNotifier(),
-				new IdentifierProducer<>(
-						mappingContext.sessionFactory(), sessionContext.tenantIdentifier(),
-						getNotifier(),
-						primaryKeyStream,
-						objectLoadingBatchSize,
-						type, idAttributeOfType,
-						objectsLimit,
-						idFetchSize
-				),
-				transactionTimeout, sessionContext.tenantIdentifier()
-		);
-		//execIdentifiersLoader has size 1 and is not configurable: ensures the list is consistent as produced by one transaction
+		IdentifierPartitioning<E, I> partitioning = identifierLoadingThreads <= 1 ? null
+				: new IdentifierPartitioning<>( mappingContext.sessionFactory(), type, idAttributeOfType,
+						identifierLoadingThreads );
+		// Without partitioning, execIdentifiersLoader has size 1:
+		// ensures the list is consistent as produced by one transaction.
+		// With partitioning, each thread loads the identifiers of its own, non-overlapping range.
 		final ThreadPoolExecutor identifierProducingExecutor = mappingContext.threadPoolProvider().newFixedThreadPool(
-				1,
+				identifierLoadingThreads,
 				MassIndexerImpl.THREAD_NAME_PREFIX + type.jpaEntityName() + " - ID loading"
 		);
 		try {
-			identifierProducingFutures.add( Futures.runAsync( primaryKeyOutputter, identifierProducingExecutor ) );
+			for ( int i = 0; i < identifierLoadingThreads; i++ ) {
+				final Runnable primaryKeyOutputter = new OptionallyWrapInJTATransaction(
+						transactionalContext,
+						getNotifier(),
+						new IdentifierProducer<>(
+								mappingContext.sessionFactory(), sessionContext.tenantIdentifier(),
+								getNotifier(),
+								primaryKeyStream,
+								objectLoadingBatchSize,
+								type, idAttributeOfType,
+								objectsLimit,
+								idFetchSize,
+								partitioning, i
+						),
+						transactionTimeout, sessionContext.tenantIdentifier()
+				);
+				identifierProducingFutures.add( Futures.runAsync( primaryKeyOutputter, identifierProducingExecutor ) );
+			}
 		}
 		finally {
 			identifierProducingExecutor.shutdown();
 		}
 	}
 
+	private static int effectiveIdentifierLoadingThreads(HibernateOrmMassIndexingIndexedTypeContext<?> type,
+			SingularAttribute<?, ?> idAttributeOfType, int identifierLoadingThreads, long objectsLimit) {
+		if ( objectsLimit != 0 ) {
+			log.debugf( "Loading identifiers of %s with a single thread because the number of indexed objects is limited",
+					type.jpaEntityName() );
+			return 1;
+		}
+		if ( !IdentifierPartitioning.supports( idAttributeOfType.getJavaType() ) ) {
+			log.debugf( "Loading identifiers of %s with a single thread because identifiers of type %s cannot be partitioned",
+					type.jpaEntityName(), idAttributeOfType.getJavaType() );
+			return 1;
+		}
+		return identifierLoadingThreads;
+	}
+
 	private void startIndexing() {
 		final Runnable documentOutputter = new IdentifierConsumerDocumentProducer<>(
 				mappingContext, sessionContext.tenantIdentifier(),
 				getNotifier(),
 				type, idAttributeOfType,
 				primaryKeyStream,
+				documentBatchesWaitingForIndexing,
 				cacheMode,
 				transactionTimeout
 		);
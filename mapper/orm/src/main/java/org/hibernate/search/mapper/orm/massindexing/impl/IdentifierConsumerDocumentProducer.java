@@ -7,8 +7,11 @@
 package org.hibernate.search.mapper.orm.massindexing.impl;
 
 import java.lang.invoke.MethodHandles;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
 import javax.persistence.LockModeType;
 import javax.persistence.criteria.CriteriaBuilder;
 import javax.persistence.criteria.CriteriaQuery;
@@ -47,6 +50,15 @@
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
+	/**
+	 * The maximum number of batches each thread submits to the backend without waiting for their completion.
+	 * <p>
+	 * Allowing a few batches to be in flight lets the thread load the next batch from the database
+	 * while the backend indexes the previous ones,
+	 * while still bounding the number of documents held in memory.
+	 */
+	private static final int MAX_BATCHES_WAITING_FOR_INDEXING = 2;
+
 	private final HibernateOrmMassIndexingMappingContext mappingContext;
 	private final String tenantId;
 	private final MassIndexingNotifier notifier;
@@ -55,6 +67,7 @@
 	private final SingularAttribute<? super E, I> idAttributeOfType;
 
 	private final ProducerConsumerQueue<List<I>> source;
+	private final AtomicInteger documentBatchesWaitingForIndexing;
 	private final CacheMode cacheMode;
 	private final Integer transactionTimeout;
 
@@ -68,6 +81,7 @@
 			MassIndexingNotifier notifier,
 			HibernateOrmMassIndexingIndexedTypeContext<E> type, SingularAttribute<? super E, I> idAttributeOfType,
 			ProducerConsumerQueue<List<I>> fromIdentifierListToEntities,
+			AtomicInteger documentBatchesWaitingForIndexing,
 			CacheMode cacheMode,
 			Integer transactionTimeout
 			) {
@@ -75,6 +89,7 @@
 		this.tenantId = tenantId;
 		this.notifier = notifier;
 		this.source = fromIdentifierListToEntities;
+		this.documentBatchesWaitingForIndexing = documentBatchesWaitingForIndexing;
 		this.cacheMode = cacheMode;
 		this.type = type;
 		this.idAttributeOfType = idAttributeOfType;
@@ -111,13 +126,23 @@ public void run() {
 	private void loadAllFromQueue(SessionImplementor session) throws SystemException, NotSupportedException {
 		// The search session will be closed automatically with the ORM session
 		PojoIndexer indexer = mappingContext.createIndexer( session );
+		// Batches submitted to the backend by this thread, but not yet reported.
+		// Local to this method since this runnable is executed by multiple threads concurrently.
+		Deque<IndexingBatch> batchesWaitingForIndexing = new ArrayDeque<>( MAX_BATCHES_WAITING_FOR_INDEXING + 1 );
 		try {
 			List<I> idList;
 			do {
 				idList = source.take();
 				if ( idList != null ) {
 					log.tracef( "received list of ids %s", idList );
-					loadList( idList, session, indexer );
+					IndexingBatch batch = loadList( idList, session, indexer );
+					if ( batch != null ) {
+						batchesWaitingForIndexing.addLast( batch );
+					}
+					while ( batchesWaitingForIndexing.size() > MAX_BATCHES_WAITING_FOR_INDEXING ) {
+						awaitAndReport( batchesWaitingForIndexing.removeFirst() );
+					}
+					notifier.notifyQueueDepths( type, source.size(), documentBatchesWaitingForIndexing.get() );
 				}
 			}
 			while ( idList != null );
@@ -126,6 +151,12 @@ private void loadAllFromQueue(SessionImplementor session) throws SystemException
 			// just quit
 			Thread.currentThread().interrupt();
 		}
+		finally {
+			// Batches submitted before a failure must still be awaited,
+			// so that their own failures are reported and they are no longer counted as waiting for indexing.
+			awaitAndReportAll( batchesWaitingForIndexing );
+			notifier.notifyQueueDepths( type, source.size(), documentBatchesWaitingForIndexing.get() );
+		}
 	}
 
 	/**
@@ -136,8 +167,9 @@ private void loadAllFromQueue(SessionImplementor session) throws SystemException
 	 * @param listIds the list of entity identifiers (of type
 	 * @param session the session to be used
 	 * @param indexer the indexer to be used
+	 * @return The batch of documents submitted to the backend, or {@code null} if no entity was found.
 	 */
-	private void loadList(List<I> listIds, SessionImplementor session, PojoIndexer indexer)
+	private IndexingBatch loadList(List<I> listIds, SessionImplementor session, PojoIndexer indexer)
 			throws InterruptedException, NotSupportedException, SystemException {
 		try {
 			beginTransaction( session );
@@ -155,8 +187,11 @@ private void loadList(List<I> listIds, SessionImplementor session, PojoIndexer i
 					.setHibernateFlushMode( FlushMode.MANUAL )
 					.setFetchSize( listIds.size() );
 
-			indexAllQueue( session, indexer, query.getResultList() );
+			IndexingBatch batch = indexAllQueue( session, indexer, query.getResultList() );
+			// Documents are built synchronously in indexAllQueue,
+			// so we can safely detach the entities even if the backend didn't process the documents yet.
 			session.clear();
+			return batch;
 		}
 		finally {
 			// it's read-only, so no need to commit
@@ -191,33 +226,60 @@ private void rollbackTransaction(SessionImplementor session) {
 		}
 	}
 
-	private void indexAllQueue(Session session, PojoIndexer indexer, List<E> entities) throws InterruptedException {
+	private IndexingBatch indexAllQueue(Session session, PojoIndexer indexer, List<E> entities)
+			throws InterruptedException {
 		if ( entities == null || entities.isEmpty() ) {
-			return;
+			return null;
 		}
 
 		notifier.notifyEntitiesLoaded( entities.size() );
+		Object[] entityIdentifiers = new Object[entities.size()];
 		CompletableFuture<?>[] indexingFutures = new CompletableFuture<?>[entities.size()];
 
 		for ( int i = 0; i < entities.size(); i++ ) {
 			final E entity = entities.get( i );
+			// Extract the identifier now: the entity will be detached by the time we report failures.
+			entityIdentifiers[i] = notifier.extractIdentifierOrNull( session, entity );
 			indexingFutures[i] = index( indexer, entity );
 		}
 
-		Futures.unwrappedExceptionGet(
-				CompletableFuture.allOf( indexingFutures )
-						// We handle exceptions on a per-entity basis below, so we ignore them here.
-						.exceptionally( exception -> null )
-		);
+		documentBatchesWaitingForIndexing.incrementAndGet();
+		return new IndexingBatch( entityIdentifiers, indexingFutures );
+	}
+
+	private void awaitAndReportAll(Deque<IndexingBatch> batches) {
+		while ( !batches.isEmpty() ) {
+			try {
+				awaitAndReport( batches.removeFirst() );
+			}
+			catch (InterruptedException e) {
+				// The batch is no longer counted as waiting for indexing, but we cannot wait for its result.
+				// Keep the interrupt flag: the remaining batches will only be reported if they are already complete.
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+
+	private void awaitAndReport(IndexingBatch batch) throws InterruptedException {
+		try {
+			Futures.unwrappedExceptionGet(
+					CompletableFuture.allOf( batch.indexingFutures )
+							// We handle exceptions on a per-entity basis below, so we ignore them here.
+							.exceptionally( exception -> null )
+			);
+		}
+		finally {
+			documentBatchesWaitingForIndexing.decrementAndGet();
+		}
 
 		int successfulEntities = 0;
-		for ( int i = 0; i < entities.size(); i++ ) {
-			CompletableFuture<?> future = indexingFutures[i];
+		for ( int i = 0; i < batch.indexingFutures.length; i++ ) {
+			CompletableFuture<?> future = batch.indexingFutures[i];
 
 			if ( future.isCompletedExceptionally() ) {
 				notifier.notifyEntityIndexingFailure(
 						type,
-						session, entities.get( i ),
+						batch.entityIdentifiers[i],
 						Futures.getThrowableNow( future )
 				);
 			}
@@ -254,4 +316,14 @@ private CompletableFuture<?> index(PojoIndexer indexer, E entity) throws Interru
 		return future;
 	}
 
+	private static final class IndexingBatch {
+		private final Object[] entityIdentifiers;
+		private final CompletableFuture<?>[] indexingFutures;
+
+		private IndexingBatch(Object[] entityIdentifiers, CompletableFuture<?>[] indexingFutures) {
+			this.entityIdentifiers = entityIdentifiers;
+			this.indexingFutures = indexingFutures;
+		}
+	}
+
 }
@@ -0,0 +1,170 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.massindexing.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Path;
+import javax.persistence.criteria.Root;
+import javax.persistence.metamodel.SingularAttribute;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.StatelessSession;
+import org.hibernate.query.Query;
+import org.hibernate.search.mapper.orm.logging.impl.Log;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+/**
+ * Splits the identifier space of an entity type into contiguous ranges,
+ * so that several {@link IdentifierProducer}s can load identifiers in parallel.
+ * <p>
+ * Range boundaries are computed from the minimum and maximum identifier
+ * by whichever producer asks for them first, and are then shared by all producers,
+ * so that ranges never overlap nor leave gaps.
+ * Only integral identifiers are supported: see {@link #supports(Class)}.
+ *
+ * @param <E> The entity type
+ * @param <I> The identifier type
+ */
+final class IdentifierPartitioning<E, I> {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	static boolean supports(Class<?> idJavaType) {
+		return Long.class.equals( idJavaType ) || long.class.equals( idJavaType )
+				|| Integer.class.equals( idJavaType ) || int.class.equals( idJavaType )
+				|| Short.class.equals( idJavaType ) || short.class.equals( idJavaType );
+	}
+
+	private final SessionFactory sessionFactory;
+	private final HibernateOrmMassIndexingIndexedTypeContext<E> type;
+	private final SingularAttribute<? super E, I> idAttributeOfType;
+	private final int partitionCount;
+
+	// Guarded by "this"
+	private List<Range<I>> ranges;
+
+	IdentifierPartitioning(SessionFactory sessionFactory,
+			HibernateOrmMassIndexingIndexedTypeContext<E> type, SingularAttribute<? super E, I> idAttributeOfType,
+			int partitionCount) {
+		this.sessionFactory = sessionFactory;
+		this.type = type;
+		this.idAttributeOfType = idAttributeOfType;
+		this.partitionCount = partitionCount;
+	}
+
+	int partitionCount() {
+		return partitionCount;
+	}
+
+	/**
+	 * @param session The session to use to compute the range boundaries, if not computed yet.
+	 * @param partitionIndex The index of the partition, between 0 (inclusive) and {@link #partitionCount()} (exclusive).
+	 * @return The range of identifiers assigned to the given partition,
+	 * or {@code null} if there is nothing to load for that partition.
+	 */
+	synchronized Range<I> range(StatelessSession session, int partitionIndex) {
+		if ( ranges == null ) {
+			ranges = computeRanges( session );
+		}
+		return partitionIndex < ranges.size() ? ranges.get( partitionIndex ) : null;
+	}
+
+	private List<Range<I>> computeRanges(StatelessSession session) {
+		Object[] minMax = createMinMaxQuery( session ).uniqueResult();
+		if ( minMax == null || minMax[0] == null || minMax[1] == null ) {
+			// No entity to index
+			return Collections.emptyList();
+		}
+		BigInteger min = BigInteger.valueOf( ( (Number) minMax[0] ).longValue() );
+		BigInteger max = BigInteger.valueOf( ( (Number) minMax[1] ).longValue() );
+		BigInteger span = max.subtract( min ).add( BigInteger.ONE );
+		BigInteger count = BigInteger.valueOf( partitionCount );
+
+		List<Range<I>> result = new ArrayList<>( partitionCount );
+		BigInteger lowerBound = min;
+		for ( int i = 1; i <= partitionCount && lowerBound.compareTo( max ) <= 0; i++ ) {
+			BigInteger upperBound = i == partitionCount
+					? max
+					: min.add( span.multiply( BigInteger.valueOf( i ) ).divide( count ) ).subtract( BigInteger.ONE );
+			if ( upperBound.compareTo( lowerBound ) < 0 ) {
+				// More partitions than identifiers: skip empty ranges
+				continue;
+			}
+			result.add( new Range<>( toId( lowerBound.longValue() ), toId( upperBound.longValue() ) ) );
+			lowerBound = upperBound.add( BigInteger.ONE );
+		}
+		if ( log.isDebugEnabled() ) {
+			log.debugf( "Partitioned identifiers of %s into ranges %s", type.jpaEntityName(), result );
+		}
+		return result;
+	}
+
+	private Query<Object[]> createMinMaxQuery(StatelessSession session) {
+		CriteriaBuilder criteriaBuilder = sessionFactory.getCriteriaBuilder();
+		CriteriaQuery<Object[]> criteriaQuery = criteriaBuilder.createQuery( Object[].class );
+
+		Root<E> root = criteriaQuery.from( type.entityTypeDescriptor() );
+		@SuppressWarnings("unchecked") // Checked in supports()
+		Path<Number> idPath = (Path<Number>) (Path<?>) root.get( idAttributeOfType );
+		criteriaQuery.multiselect( criteriaBuilder.min( idPath ), criteriaBuilder.max( idPath ) );
+
+		return session.createQuery( criteriaQuery )
+				.setCacheable( false );
+	}
+
+	/**
+	 * @param id An identifier within a range.
+	 * @param range The range.
+	 * @return The identifier immediately following {@code id} in {@code range},
+	 * or {@code null} if {@code id} is the upper bound of {@code range}.
+	 */
+	I next(I id, Range<I> range) {
+		long value = ( (Number) id ).longValue();
+		if ( value >= ( (Number) range.upperBound ).longValue() ) {
+			return null;
+		}
+		return toId( value + 1 );
+	}
+
+	@SuppressWarnings("unchecked") // Checked in supports()
+	private I toId(long value) {
+		Class<?> idJavaType = idAttributeOfType.getJavaType();
+		if ( Integer.class.equals( idJavaType ) || int.class.equals( idJavaType ) ) {
+			return (I) Integer.valueOf( (int) value );
+		}
+		else if ( Short.class.equals( idJavaType ) || short.class.equals( idJavaType ) ) {
+			return (I) Short.valueOf( (short) value );
+		}
+		else {
+			return (I) Long.valueOf( value );
+		}
+	}
+
+	/**
+	 * A range of identifiers, both bounds being inclusive.
+	 */
+	static final class Range<I> {
+		final I lowerBound;
+		final I upperBound;
+
+		private Range(I lowerBound, I upperBound) {
+			this.lowerBound = lowerBound;
+			this.upperBound = upperBound;
+		}
+
+		@Override
+		public String toString() {
+			return "[" + lowerBound + ", " + upperBound + "]";
+		}
+	}
+}
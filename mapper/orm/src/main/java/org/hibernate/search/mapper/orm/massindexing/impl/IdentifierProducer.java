@@ -12,6 +12,7 @@
 import javax.persistence.criteria.CriteriaBuilder;
 import javax.persistence.criteria.CriteriaQuery;
 import javax.persistence.criteria.Path;
+import javax.persistence.criteria.ParameterExpression;
 import javax.persistence.criteria.Root;
 import javax.persistence.metamodel.SingularAttribute;
 
@@ -28,9 +29,12 @@
 /**
  * This Runnable is going to feed the indexing queue
  * with the identifiers of all the entities going to be indexed.
- * This step in the indexing process is not parallel (should be
+ * By default this step in the indexing process is not parallel (should be
  * done by one thread per type) so that a single transaction is used
  * to define the group of entities to be indexed.
+ * When an {@link IdentifierPartitioning} is provided, each producer
+ * only loads the identifiers within the range of its own partition,
+ * page by page, ordered by identifier (keyset pagination).
  * Produced identifiers are put in the destination queue grouped in List
  * instances: the reason for this is to load them in batches
  * in the next step and reduce contention on the queue.
@@ -44,6 +48,9 @@
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
+	private static final String LOWER_BOUND_PARAMETER = "lowerBound";
+	private static final String UPPER_BOUND_PARAMETER = "upperBound";
+
 	private final SessionFactory sessionFactory;
 	private final MassIndexingNotifier notifier;
 	private final String tenantId;
@@ -55,6 +62,8 @@
 	private final int batchSize;
 	private final long objectsLimit;
 	private final int idFetchSize;
+	private final IdentifierPartitioning<E, I> partitioning;
+	private final int partitionIndex;
 
 	/**
 	 * @param sessionFactory the Hibernate SessionFactory to use to load entities
@@ -66,13 +75,16 @@
 	 * @param idAttributeOfType the id attribute to be loaded
 	 * @param objectsLimit if not zero
 	 * @param idFetchSize the fetch size
+	 * @param partitioning the partitioning of identifiers, or {@code null} to load all identifiers in a single query
+	 * @param partitionIndex the index of the partition this producer is responsible for, if {@code partitioning} is not null
 	 */
 	IdentifierProducer(SessionFactory sessionFactory, String tenantId,
 			MassIndexingNotifier notifier,
 			ProducerConsumerQueue<List<I>> fromIdentifierListToEntities,
 			int objectLoadingBatchSize,
 			HibernateOrmMassIndexingIndexedTypeContext<E> type, SingularAttribute<? super E, I> idAttributeOfType,
-			long objectsLimit, int idFetchSize) {
+			long objectsLimit, int idFetchSize,
+			IdentifierPartitioning<E, I> partitioning, int partitionIndex) {
 		this.sessionFactory = sessionFactory;
 		this.tenantId = tenantId;
 		this.notifier = notifier;
@@ -82,6 +94,8 @@
 		this.batchSize = objectLoadingBatchSize;
 		this.objectsLimit = objectsLimit;
 		this.idFetchSize = idFetchSize;
+		this.partitioning = partitioning;
+		this.partitionIndex = partitionIndex;
 		log.trace( "created" );
 	}
 
@@ -117,7 +131,12 @@ private void inTransactionWrapper(StatelessSession upperSession) {
 				transaction.begin();
 			}
 			try {
-				loadAllIdentifiers( session );
+				if ( partitioning == null ) {
+					loadAllIdentifiers( session );
+				}
+				else {
+					loadIdentifiersInPartition( session );
+				}
 			}
 			finally {
 				if ( controlTransactions ) {
@@ -175,6 +194,40 @@ private void loadAllIdentifiers(final StatelessSession session) throws Interrupt
 		enqueueList( destinationList );
 	}
 
+	private void loadIdentifiersInPartition(StatelessSession session) throws InterruptedException {
+		IdentifierPartitioning.Range<I> range = partitioning.range( session, partitionIndex );
+		if ( range == null ) {
+			log.debugf( "no identifiers to fetch for partition %d of %s", partitionIndex, type.jpaEntityName() );
+			return;
+		}
+
+		long totalCount = createRangeCountQuery( session, range ).uniqueResult();
+		if ( log.isDebugEnabled() ) {
+			log.debugf( "going to fetch %d primary keys in range %s", (Long) totalCount, range );
+		}
+		notifier.notifyAddedTotalCount( totalCount );
+
+		int pageSize = idFetchSize > 0 ? idFetchSize : batchSize;
+		Query<I> query = createIdentifiersInRangeQuery( session, pageSize );
+		query.setParameter( UPPER_BOUND_PARAMETER, range.upperBound );
+		I lowerBound = range.lowerBound;
+		ArrayList<I> destinationList = new ArrayList<>( batchSize );
+		while ( lowerBound != null ) {
+			query.setParameter( LOWER_BOUND_PARAMETER, lowerBound );
+			List<I> page = query.list();
+			for ( I id : page ) {
+				destinationList.add( id );
+				if ( destinationList.size() == batchSize ) {
+					enqueueList( destinationList );
+					destinationList = new ArrayList<>( batchSize );
+				}
+			}
+			lowerBound = page.size() < pageSize ? null : partitioning.next( page.get( page.size() - 1 ), range );
+		}
+		enqueueList( destinationList );
+		log.debugf( "fetched all primary keys in range %s of %s", range, type.jpaEntityName() );
+	}
+
 	private Query<Long> createTotalCountQuery(StatelessSession session) {
 		CriteriaBuilder criteriaBuilder = sessionFactory.getCriteriaBuilder();
 		CriteriaQuery<Long> criteriaQuery = criteriaBuilder.createQuery( Long.class );
@@ -199,9 +252,56 @@ private Query<I> createIdentifiersQuery(StatelessSession session) {
 				.setFetchSize( idFetchSize );
 	}
 
+	private Query<Long> createRangeCountQuery(StatelessSession session, IdentifierPartitioning.Range<I> range) {
+		CriteriaBuilder criteriaBuilder = sessionFactory.getCriteriaBuilder();
+		CriteriaQuery<Long> criteriaQuery = criteriaBuilder.createQuery( Long.class );
+
+		Root<E> root = criteriaQuery.from( type.entityTypeDescriptor() );
+		Path<Comparable<Object>> idPath = comparableIdPath( root );
+		ParameterExpression<Comparable<Object>> lowerBound = comparableParameter( criteriaBuilder, LOWER_BOUND_PARAMETER );
+		ParameterExpression<Comparable<Object>> upperBound = comparableParameter( criteriaBuilder, UPPER_BOUND_PARAMETER );
+		criteriaQuery.select( criteriaBuilder.count( root ) )
+				.where( criteriaBuilder.between( idPath, lowerBound, upperBound ) );
+
+		return session.createQuery( criteriaQuery )
+				.setParameter( LOWER_BOUND_PARAMETER, range.lowerBound )
+				.setParameter( UPPER_BOUND_PARAMETER, range.upperBound )
+				.setCacheable( false );
+	}
+
+	private Query<I> createIdentifiersInRangeQuery(StatelessSession session, int pageSize) {
+		CriteriaBuilder criteriaBuilder = sessionFactory.getCriteriaBuilder();
+		CriteriaQuery<I> criteriaQuery = criteriaBuilder.createQuery( idAttributeOfType.getJavaType() );
+
+		Root<E> root = criteriaQuery.from( type.entityTypeDescriptor() );
+		Path<I> idPath = root.get( idAttributeOfType );
+		ParameterExpression<Comparable<Object>> lowerBound = comparableParameter( criteriaBuilder, LOWER_BOUND_PARAMETER );
+		ParameterExpression<Comparable<Object>> upperBound = comparableParameter( criteriaBuilder, UPPER_BOUND_PARAMETER );
+		criteriaQuery.select( idPath )
+				.where( criteriaBuilder.between( comparableIdPath( root ), lowerBound, upperBound ) )
+				.orderBy( criteriaBuilder.asc( idPath ) );
+
+		return session.createQuery( criteriaQuery )
+				.setCacheable( false )
+				.setMaxResults( pageSize )
+				.setFetchSize( pageSize );
+	}
+
+	@SuppressWarnings("unchecked") // Partitioning is only enabled for integral identifiers
+	private Path<Comparable<Object>> comparableIdPath(Root<E> root) {
+		return (Path<Comparable<Object>>) (Path<?>) root.get( idAttributeOfType );
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" }) // Partitioning is only enabled for integral identifiers
+	private static ParameterExpression<Comparable<Object>> comparableParameter(CriteriaBuilder criteriaBuilder,
+			String name) {
+		return (ParameterExpression) criteriaBuilder.parameter( Comparable.class, name );
+	}
+
 	private void enqueueList(final List<I> idsList) throws InterruptedException {
 		if ( ! idsList.isEmpty() ) {
 			destination.put( idsList );
+			notifier.notifyIdentifiersLoaded( idsList.size() );
 			log.tracef( "produced a list of ids %s", idsList );
 		}
 	}
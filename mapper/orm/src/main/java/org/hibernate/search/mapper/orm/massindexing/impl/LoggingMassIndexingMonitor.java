@@ -26,6 +26,9 @@ public class LoggingMassIndexingMonitor implements MassIndexingMonitor {
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 	private final AtomicLong documentsDoneCounter = new AtomicLong();
 	private final LongAdder totalCounter = new LongAdder();
+	private final LongAdder identifiersLoadedCounter = new LongAdder();
+	private final LongAdder entitiesLoadedCounter = new LongAdder();
+	private final LongAdder documentsBuiltCounter = new LongAdder();
 	private volatile long startTime;
 	private final int logAfterNumberOfDocuments;
 
@@ -69,12 +72,23 @@ public void documentsAdded(long increment) {
 
 	@Override
 	public void documentsBuilt(long number) {
-		//not used
+		documentsBuiltCounter.add( number );
 	}
 
 	@Override
 	public void entitiesLoaded(long size) {
-		//not used
+		entitiesLoadedCounter.add( size );
+	}
+
+	@Override
+	public void identifiersLoaded(long size) {
+		identifiersLoadedCounter.add( size );
+	}
+
+	@Override
+	public void queueDepths(String entityName, int identifierBatchesWaitingForLoading,
+			int documentBatchesWaitingForIndexing) {
+		log.indexingQueueDepths( entityName, identifierBatchesWaitingForLoading, documentBatchesWaitingForIndexing );
 	}
 
 	@Override
@@ -98,5 +112,7 @@ protected void printStatusMessage(long startTime, long totalTodoCount, long done
 		float estimateSpeed = doneCount * 1000f / elapsedMs;
 		float estimatePercentileComplete = doneCount * 100f / totalTodoCount;
 		log.indexingSpeed( estimateSpeed, estimatePercentileComplete );
+		log.indexingStageProgress( identifiersLoadedCounter.longValue(), entitiesLoadedCounter.longValue(),
+				documentsBuiltCounter.longValue(), doneCount );
 	}
 }
@@ -48,6 +48,16 @@ void notifyRunnableFailure(Exception exception, String operation) {
 		failureHandler.handle( contextBuilder.build() );
 	}
 
+	void notifyIdentifiersLoaded(int size) {
+		monitor.identifiersLoaded( size );
+	}
+
+	void notifyQueueDepths(HibernateOrmMassIndexingIndexedTypeContext<?> type,
+			int identifierBatchesWaitingForLoading, int documentBatchesWaitingForIndexing) {
+		monitor.queueDepths( type.jpaEntityName(), identifierBatchesWaitingForLoading,
+				documentBatchesWaitingForIndexing );
+	}
+
 	void notifyEntitiesLoaded(int size) {
 		monitor.entitiesLoaded( size );
 	}
@@ -60,8 +70,14 @@ void notifyDocumentsAdded(int size) {
 		monitor.documentsAdded( size );
 	}
 
+	/**
+	 * @param type The type of the entity that could not be indexed.
+	 * @param entityIdentifier The identifier of the entity that could not be indexed,
+	 * or {@code null} if it could not be extracted.
+	 * @param throwable The failure.
+	 */
 	<T> void notifyEntityIndexingFailure(HibernateOrmMassIndexingIndexedTypeContext<T> type,
-			Session session, T entity, Throwable throwable) {
+			Object entityIdentifier, Throwable throwable) {
 		RecordedEntityIndexingFailure recordedFailure = new RecordedEntityIndexingFailure( throwable );
 		entityIndexingFirstFailure.compareAndSet( null, recordedFailure );
 		entityIndexingFailureCount.increment();
@@ -70,16 +86,36 @@ <T> void notifyEntityIndexingFailure(HibernateOrmMassIndexingIndexedTypeContext<
 		contextBuilder.throwable( throwable );
 		// Add minimal information here, but information we're sure we can get
 		contextBuilder.failingOperation( log.massIndexerIndexingInstance( type.jpaEntityName() ) );
-		// Add more information here, but information that may not be available if the session completely broke down
-		// (we're being extra careful here because we don't want to throw an exception while handling and exception)
-		EntityReference entityReference = extractReferenceOrSuppress( type, session, entity, throwable );
-		if ( entityReference != null ) {
+		if ( entityIdentifier != null ) {
+			EntityReference entityReference = new EntityReferenceImpl(
+					type.typeIdentifier(), type.jpaEntityName(), entityIdentifier
+			);
 			contextBuilder.entityReference( entityReference );
 			recordedFailure.entityReference = entityReference;
 		}
 		failureHandler.handle( contextBuilder.build() );
 	}
 
+	/**
+	 * Extract the identifier of an entity for later failure reporting, while the entity is still attached to the session.
+	 * <p>
+	 * We're being extra careful here because we don't want to throw an exception
+	 * if the session completely broke down.
+	 *
+	 * @param session The session the entity is attached to.
+	 * @param entity The entity.
+	 * @return The identifier of the entity, or {@code null} if it could not be extracted.
+	 */
+	Object extractIdentifierOrNull(Session session, Object entity) {
+		try {
+			return session.getIdentifier( entity );
+		}
+		catch (RuntimeException e) {
+			log.debugf( e, "Failed to extract the identifier of entity %s", entity );
+			return null;
+		}
+	}
+
 	void notifyIndexingCompletedSuccessfully() {
 		monitor.indexingCompleted();
 
@@ -121,21 +157,6 @@ private SearchException createEntityIndexingExceptionOrNull() {
 		);
 	}
 
-	private <T> EntityReference extractReferenceOrSuppress(HibernateOrmMassIndexingIndexedTypeContext<T> type,
-			Session session, Object entity, Throwable throwable) {
-		try {
-			return new EntityReferenceImpl(
-					type.typeIdentifier(), type.jpaEntityName(), session.getIdentifier( entity )
-			);
-		}
-		catch (RuntimeException e) {
-			// We failed to extract a reference.
-			// Let's just give up and suppress the exception.
-			throwable.addSuppressed( e );
-			return null;
-		}
-	}
-
 	private static class RecordedEntityIndexingFailure {
 		private Throwable throwable;
 		private EntityReference entityReference;
@@ -67,6 +67,13 @@ public void put(T obj) throws InterruptedException {
 		queue.put( obj );
 	}
 
+	/**
+	 * @return An estimate of the number of objects waiting in the queue.
+	 */
+	public int size() {
+		return queue.size();
+	}
+
 	/**
 	 * Each producer thread should call producerStopping() when it has
 	 * finished. After doing it can safely terminate.
@@ -85,10 +85,7 @@ private List<E> doLoadEntities(List<EntityReference> references) {
 		EntityKey[] keys = toEntityKeys( references );
 		List<E> loadedEntities = createListContainingNulls( references.size() );
 
-		int fetchSize = loadingOptions.fetchSize();
-		Query<?> query = createQuery( fetchSize );
-
-		List<Object> ids = new ArrayList<>( fetchSize );
+		List<Serializable> ids = new ArrayList<>( keys.length );
 		for ( int i = 0; i < keys.length; i++ ) {
 			EntityKey key = keys[i];
 			if ( cacheLookupStrategyImplementor != null ) {
@@ -102,18 +99,11 @@ private List<E> doLoadEntities(List<EntityReference> references) {
 			}
 
 			ids.add( key.getIdentifier() );
-			if ( ids.size() >= fetchSize ) {
-				query.setParameterList( IDS_PARAMETER_NAME, ids );
-				// The result is worthless, as entities are not in the right order.
-				// However, this will load entities into the persistence context... see further down.
-				query.getResultList();
-				ids.clear();
-			}
 		}
 		if ( !ids.isEmpty() ) {
-			query.setParameterList( IDS_PARAMETER_NAME, ids );
-			// Same as above: the result is worthless.
-			query.getResultList();
+			// The result is worthless, as entities are not in the right order.
+			// However, this will load entities into the persistence context... see further down.
+			loadIntoPersistenceContext( ids );
 		}
 
 		// All entities are now in the persistence context. Get them!
@@ -142,17 +132,43 @@ private E castOrNull(EntityReference reference, Object loadedEntity) {
 		return (E) loadedEntity;
 	}
 
-	private Query<?> createQuery(int fetchSize) {
+	private void loadIntoPersistenceContext(List<Serializable> ids) {
+		int fetchSize = loadingOptions.fetchSize();
+		EntityGraphHint<?> entityGraphHint = loadingOptions.entityGraphHintOrNullForType( entityPersister );
+		if ( entityGraphHint == null ) {
+			/*
+			 * Use a multi-access, which splits IDs into batches of at most fetchSize elements
+			 * and loads them directly through the entity persister,
+			 * without the overhead of creating and executing a query.
+			 *
+			 * We don't use enableSessionCheck(true) or with(CacheMode):
+			 * the persistence context and second-level cache lookups are handled by cacheLookupStrategyImplementor,
+			 * in compliance with the cache lookup strategy.
+			 */
+			session.byMultipleIds( entityPersister.getEntityName() )
+					.withBatchSize( fetchSize )
+					// Entities are retrieved from the persistence context afterwards: no need to order them.
+					.enableOrderedReturn( false )
+					.multiLoad( ids );
+		}
+		else {
+			// Multi-access ignores entity graphs: we need to use a query.
+			Query<?> query = createQuery( fetchSize, entityGraphHint );
+			for ( int start = 0; start < ids.size(); start += fetchSize ) {
+				query.setParameterList( IDS_PARAMETER_NAME, ids.subList( start, Math.min( start + fetchSize, ids.size() ) ) );
+				query.getResultList();
+			}
+		}
+	}
+
+	private Query<?> createQuery(int fetchSize, EntityGraphHint<?> entityGraphHint) {
 		Query<?> query = HibernateOrmUtils.createQueryForLoadByUniqueProperty(
 				session, entityPersister, entityPersister.getIdentifierPropertyName(), IDS_PARAMETER_NAME
 		);
 
 		query.setFetchSize( fetchSize );
 
-		EntityGraphHint<?> entityGraphHint = loadingOptions.entityGraphHintOrNullForType( entityPersister );
-		if ( entityGraphHint != null ) {
-			query.applyGraph( entityGraphHint.graph, entityGraphHint.semantic );
-		}
+		query.applyGraph( entityGraphHint.graph, entityGraphHint.semantic );
 
 		return query;
 	}
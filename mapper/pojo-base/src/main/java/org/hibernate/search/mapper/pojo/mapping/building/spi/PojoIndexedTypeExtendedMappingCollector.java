@@ -8,6 +8,7 @@
 
 import org.hibernate.search.engine.mapper.mapping.spi.MappedIndexManager;
 import org.hibernate.search.mapper.pojo.bridge.runtime.spi.IdentifierMapping;
+import org.hibernate.search.mapper.pojo.model.path.spi.PojoPathOrdinals;
 import org.hibernate.search.mapper.pojo.model.spi.PojoPropertyModel;
 
 /**
@@ -24,4 +25,6 @@ public interface PojoIndexedTypeExtendedMappingCollector {
 
 	void indexManager(MappedIndexManager indexManager);
 
+	void pathOrdinals(PojoPathOrdinals pathOrdinals);
+
 }
@@ -6,11 +6,12 @@
  */
 package org.hibernate.search.mapper.pojo.mapping.impl;
 
-import java.util.Set;
+import java.util.BitSet;
 import java.util.function.Supplier;
 
 import org.hibernate.search.mapper.pojo.automaticindexing.impl.PojoImplicitReindexingResolver;
 import org.hibernate.search.mapper.pojo.automaticindexing.impl.PojoReindexingCollector;
+import org.hibernate.search.mapper.pojo.model.path.spi.PojoPathOrdinals;
 import org.hibernate.search.mapper.pojo.model.spi.PojoCaster;
 import org.hibernate.search.mapper.pojo.model.spi.PojoRawTypeIdentifier;
 import org.hibernate.search.mapper.pojo.model.spi.PojoRuntimeIntrospector;
@@ -31,14 +32,17 @@
 
 	private final PojoRawTypeIdentifier<E> typeIdentifier;
 	private final PojoCaster<E> caster;
-	private final PojoImplicitReindexingResolver<E, Set<String>> reindexingResolver;
+	private final PojoImplicitReindexingResolver<E, BitSet> reindexingResolver;
+	private final PojoPathOrdinals pathOrdinals;
 
 	public PojoContainedTypeManager(PojoRawTypeIdentifier<E> typeIdentifier,
 			PojoCaster<E> caster,
-			PojoImplicitReindexingResolver<E, Set<String>> reindexingResolver) {
+			PojoImplicitReindexingResolver<E, BitSet> reindexingResolver,
+			PojoPathOrdinals pathOrdinals) {
 		this.typeIdentifier = typeIdentifier;
 		this.caster = caster;
 		this.reindexingResolver = reindexingResolver;
+		this.pathOrdinals = pathOrdinals;
 	}
 
 	@Override
@@ -68,9 +72,14 @@ public Supplier<E> toEntitySupplier(PojoWorkSessionContext<?> sessionContext, Ob
 		return new CachingCastingEntitySupplier<>( caster, introspector, entity );
 	}
 
+	@Override
+	public PojoPathOrdinals pathOrdinals() {
+		return pathOrdinals;
+	}
+
 	@Override
 	public void resolveEntitiesToReindex(PojoReindexingCollector collector, PojoWorkSessionContext<?> sessionContext,
-			Supplier<E> entitySupplier, Set<String> dirtyPaths) {
+			Supplier<E> entitySupplier, BitSet dirtyPaths) {
 		PojoRuntimeIntrospector introspector = sessionContext.runtimeIntrospector();
 		reindexingResolver.resolveEntitiesToReindex(
 				collector, introspector, entitySupplier.get(), dirtyPaths
@@ -0,0 +1,55 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.pojo.model.path.spi;
+
+import java.util.BitSet;
+import java.util.Set;
+import java.util.StringJoiner;
+
+/**
+ * A filter expecting dirty paths represented as a {@link BitSet} of ordinals,
+ * as assigned by a {@link PojoPathOrdinals}.
+ */
+public final class BitSetPojoPathFilter implements PojoPathFilter<BitSet> {
+
+	/**
+	 * @param pathOrdinals The ordinals to use for the string representation of paths.
+	 * @param acceptedPaths The string representation of accepted paths.
+	 * New ordinals will be assigned to paths that do not have one yet.
+	 * @return A filter accepting the given paths.
+	 */
+	public static BitSetPojoPathFilter create(PojoPathOrdinals pathOrdinals, Set<String> acceptedPaths) {
+		BitSet acceptedOrdinals = new BitSet();
+		for ( String path : acceptedPaths ) {
+			acceptedOrdinals.set( pathOrdinals.toExistingOrNewOrdinal( path ) );
+		}
+		return new BitSetPojoPathFilter( pathOrdinals, acceptedOrdinals );
+	}
+
+	private final PojoPathOrdinals pathOrdinals;
+	private final BitSet acceptedOrdinals;
+
+	private BitSetPojoPathFilter(PojoPathOrdinals pathOrdinals, BitSet acceptedOrdinals) {
+		this.pathOrdinals = pathOrdinals;
+		this.acceptedOrdinals = acceptedOrdinals;
+	}
+
+	@Override
+	public boolean test(BitSet paths) {
+		// Return true if the sets have at least one path in common
+		return acceptedOrdinals.intersects( paths );
+	}
+
+	@Override
+	public String toString() {
+		StringJoiner joiner = new StringJoiner( ", ", getClass().getSimpleName() + "[", "]" );
+		for ( int i = acceptedOrdinals.nextSetBit( 0 ); i >= 0; i = acceptedOrdinals.nextSetBit( i + 1 ) ) {
+			joiner.add( pathOrdinals.toPath( i ) );
+		}
+		return joiner.toString();
+	}
+}
@@ -0,0 +1,60 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.pojo.model.path.spi;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A registry of ordinals for the string representation of dirty paths of a single entity type.
+ * <p>
+ * Ordinals allow to represent a set of dirty paths as a {@link java.util.BitSet},
+ * so that testing a set of dirty paths against a {@link PojoPathFilter} is as cheap as a bitwise AND.
+ * <p>
+ * Ordinals are assigned at bootstrap through {@link #toExistingOrNewOrdinal(String)};
+ * after bootstrap, this object is only read, and can be safely accessed from multiple threads.
+ */
+public final class PojoPathOrdinals {
+
+	private final Map<String, Integer> ordinalByPath = new HashMap<>();
+	private final List<String> pathByOrdinal = new ArrayList<>();
+
+	/**
+	 * @param path The string representation of a path.
+	 * @return The ordinal of the given path, or {@code null} if this path was never assigned an ordinal,
+	 * meaning no {@link PojoPathFilter} for this type could possibly accept it.
+	 */
+	public Integer toOrdinal(String path) {
+		return ordinalByPath.get( path );
+	}
+
+	/**
+	 * @param path The string representation of a path.
+	 * @return The ordinal of the given path, assigning a new ordinal if this path was never assigned one.
+	 * Must only be called during bootstrap.
+	 */
+	public int toExistingOrNewOrdinal(String path) {
+		Integer ordinal = ordinalByPath.get( path );
+		if ( ordinal == null ) {
+			ordinal = pathByOrdinal.size();
+			pathByOrdinal.add( path );
+			ordinalByPath.put( path, ordinal );
+		}
+		return ordinal;
+	}
+
+	/**
+	 * @param ordinal An ordinal returned by {@link #toExistingOrNewOrdinal(String)}.
+	 * @return The string representation of the path with the given ordinal, or {@code null} if unknown.
+	 */
+	public String toPath(int ordinal) {
+		return ordinal < pathByOrdinal.size() ? pathByOrdinal.get( ordinal ) : null;
+	}
+
+}
@@ -8,6 +8,7 @@
 
 import java.lang.invoke.MethodHandles;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -73,6 +74,12 @@ public void addOrUpdate(PojoRawTypeIdentifier<?> typeIdentifier, Object provided
 		delegate.update( providedId, entity, dirtyPaths );
 	}
 
+	@Override
+	public void addOrUpdate(PojoRawTypeIdentifier<?> typeIdentifier, Object providedId, Object entity, BitSet dirtyPaths) {
+		AbstractPojoTypeIndexingPlan delegate = getDelegate( typeIdentifier );
+		delegate.update( providedId, entity, dirtyPaths );
+	}
+
 	@Override
 	public void delete(PojoRawTypeIdentifier<?> typeIdentifier, Object providedId, Object entity) {
 		AbstractPojoTypeIndexingPlan delegate = getDelegate( typeIdentifier );
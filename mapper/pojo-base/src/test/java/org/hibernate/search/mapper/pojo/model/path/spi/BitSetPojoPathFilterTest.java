@@ -0,0 +1,71 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.pojo.model.path.spi;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.LinkedHashSet;
+
+import org.junit.Test;
+
+public class BitSetPojoPathFilterTest {
+
+	private final PojoPathOrdinals pathOrdinals = new PojoPathOrdinals();
+
+	@Test
+	public void ordinals() {
+		assertThat( pathOrdinals.toOrdinal( "foo" ) ).isNull();
+		assertThat( pathOrdinals.toExistingOrNewOrdinal( "foo" ) ).isEqualTo( 0 );
+		assertThat( pathOrdinals.toExistingOrNewOrdinal( "bar" ) ).isEqualTo( 1 );
+		assertThat( pathOrdinals.toExistingOrNewOrdinal( "foo" ) ).isEqualTo( 0 );
+		assertThat( pathOrdinals.toOrdinal( "bar" ) ).isEqualTo( 1 );
+		assertThat( pathOrdinals.toPath( 1 ) ).isEqualTo( "bar" );
+		assertThat( pathOrdinals.toPath( 2 ) ).isNull();
+	}
+
+	@Test
+	public void test() {
+		BitSetPojoPathFilter fooBarFilter = BitSetPojoPathFilter.create( pathOrdinals, set( "foo", "bar" ) );
+		BitSetPojoPathFilter bazFilter = BitSetPojoPathFilter.create( pathOrdinals, set( "baz" ) );
+
+		assertThat( fooBarFilter.test( dirty( "foo" ) ) ).isTrue();
+		assertThat( fooBarFilter.test( dirty( "bar", "baz" ) ) ).isTrue();
+		assertThat( fooBarFilter.test( dirty( "baz" ) ) ).isFalse();
+		assertThat( fooBarFilter.test( dirty() ) ).isFalse();
+
+		assertThat( bazFilter.test( dirty( "baz" ) ) ).isTrue();
+		assertThat( bazFilter.test( dirty( "foo", "bar" ) ) ).isFalse();
+
+		assertThat( fooBarFilter ).hasToString( "BitSetPojoPathFilter[foo, bar]" );
+	}
+
+	@Test
+	public void test_manyPaths() {
+		// Ordinals beyond the first 64 require more than one word in the bitset
+		for ( int i = 0; i < 200; i++ ) {
+			pathOrdinals.toExistingOrNewOrdinal( "path" + i );
+		}
+		BitSetPojoPathFilter filter = BitSetPojoPathFilter.create( pathOrdinals, set( "path150" ) );
+
+		assertThat( filter.test( dirty( "path150" ) ) ).isTrue();
+		assertThat( filter.test( dirty( "path0", "path86", "path199" ) ) ).isFalse();
+	}
+
+	private static LinkedHashSet<String> set(String... paths) {
+		return new LinkedHashSet<>( Arrays.asList( paths ) );
+	}
+
+	private BitSet dirty(String... paths) {
+		BitSet result = new BitSet();
+		for ( String path : paths ) {
+			result.set( pathOrdinals.toExistingOrNewOrdinal( path ) );
+		}
+		return result;
+	}
+}
@@ -80,4 +80,10 @@ public boolean hasBugForBigIntegerValuesForDynamicField() {
 	public boolean normalizesStringArgumentToWildcardPredicateForAnalyzedStringField() {
 		return false;
 	}
+
+	@Override
+	public boolean supportsApproximateTotalHitCount() {
+		// "track_total_hits" does not exist before ES7: the total hit count is always exact
+		return false;
+	}
 }
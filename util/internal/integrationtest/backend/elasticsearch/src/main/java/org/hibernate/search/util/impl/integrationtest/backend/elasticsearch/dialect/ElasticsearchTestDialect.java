@@ -75,4 +75,8 @@ default boolean hasBugForBigIntegerValuesForDynamicField() {
 	default boolean normalizesStringArgumentToWildcardPredicateForAnalyzedStringField() {
 		return true;
 	}
+
+	default boolean supportsApproximateTotalHitCount() {
+		return true;
+	}
 }
@@ -58,6 +58,16 @@ public void failAfter(long timeout, TimeUnit timeUnit) {
 		workBuilder.failAfter( timeout, timeUnit );
 	}
 
+	@Override
+	public void totalHitCountThreshold(long totalHitCountThreshold) {
+		workBuilder.totalHitCountThreshold( totalHitCountThreshold );
+	}
+
+	@Override
+	public void param(String parameterName, Object value) {
+		// No-op
+	}
+
 	@Override
 	public SearchQuery<H> build() {
 		return new StubSearchQuery<>(
@@ -0,0 +1,45 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.util.impl.integrationtest.common.stub.backend.search;
+
+import org.hibernate.search.engine.search.query.SearchResult;
+import org.hibernate.search.engine.search.query.SearchScroll;
+import org.hibernate.search.engine.search.query.SearchScrollResult;
+import org.hibernate.search.engine.search.query.spi.SimpleSearchScrollResult;
+
+/**
+ * A scroll executing one search work per chunk, with an increasing offset.
+ */
+final class StubSearchScroll<H> implements SearchScroll<H> {
+
+	private final StubSearchQuery<H> query;
+	private final int chunkSize;
+
+	private int offset = 0;
+	private boolean closed = false;
+
+	StubSearchScroll(StubSearchQuery<H> query, int chunkSize) {
+		this.query = query;
+		this.chunkSize = chunkSize;
+	}
+
+	@Override
+	public void close() {
+		closed = true;
+	}
+
+	@Override
+	public SearchScrollResult<H> next() {
+		if ( closed ) {
+			throw new IllegalStateException( "Scroll is closed" );
+		}
+		SearchResult<H> result = query.fetch( offset, chunkSize );
+		offset += result.hits().size();
+		return new SimpleSearchScrollResult<>( !result.hits().isEmpty(), result.total(), result.hits(),
+				result.took(), result.timedOut() );
+	}
+}
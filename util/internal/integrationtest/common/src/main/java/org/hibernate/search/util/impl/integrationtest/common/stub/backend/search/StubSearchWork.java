@@ -32,6 +32,7 @@ public static Builder builder(ResultType resultType) {
 	private final TimeUnit truncateAfterTimeUnit;
 	private final Long failAfterTimeout;
 	private final TimeUnit failAfterTimeUnit;
+	private final Long totalHitCountThreshold;
 
 	private StubSearchWork(Builder builder) {
 		this.resultType = builder.resultType;
@@ -42,6 +43,7 @@ private StubSearchWork(Builder builder) {
 		this.truncateAfterTimeUnit = builder.truncateAfterTimeUnit;
 		this.failAfterTimeout = builder.failAfterTimeout;
 		this.failAfterTimeUnit = builder.failAfterTimeUnit;
+		this.totalHitCountThreshold = builder.totalHitCountThreshold;
 	}
 
 	public ResultType getResultType() {
@@ -68,6 +70,10 @@ public TimeUnit getFailAfterTimeUnit() {
 		return failAfterTimeUnit;
 	}
 
+	public Long getTotalHitCountThreshold() {
+		return totalHitCountThreshold;
+	}
+
 	public Integer getOffset() {
 		return offset;
 	}
@@ -87,6 +93,7 @@ public String toString() {
 				.add( "truncateAfterTimeUnit=" + truncateAfterTimeUnit )
 				.add( "failAfterTimeout=" + failAfterTimeout )
 				.add( "failAfterTimeUnit=" + failAfterTimeUnit )
+				.add( "totalHitCountThreshold=" + totalHitCountThreshold )
 				.toString();
 	}
 
@@ -98,6 +105,7 @@ public static class Builder {
 		private TimeUnit truncateAfterTimeUnit;
 		private Long failAfterTimeout;
 		private TimeUnit failAfterTimeUnit;
+		private Long totalHitCountThreshold;
 		private Integer offset;
 		private Integer limit;
 
@@ -122,6 +130,11 @@ public Builder failAfter(long timeout, TimeUnit timeUnit) {
 			return this;
 		}
 
+		public Builder totalHitCountThreshold(long totalHitCountThreshold) {
+			this.totalHitCountThreshold = totalHitCountThreshold;
+			return this;
+		}
+
 		public Builder offset(Integer offset) {
 			this.offset = offset;
 			return this;
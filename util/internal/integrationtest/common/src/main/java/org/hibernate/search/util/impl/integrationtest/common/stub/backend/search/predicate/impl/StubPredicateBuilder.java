@@ -7,7 +7,10 @@
 package org.hibernate.search.util.impl.integrationtest.common.stub.backend.search.predicate.impl;
 
 import java.util.Set;
+import java.util.function.Function;
+
 import org.hibernate.search.engine.search.common.BooleanOperator;
+import org.hibernate.search.engine.search.common.NamedValues;
 import org.hibernate.search.engine.search.common.ValueConvert;
 import org.hibernate.search.engine.search.predicate.SearchPredicate;
 import org.hibernate.search.engine.search.predicate.dsl.SimpleQueryFlag;
@@ -24,6 +27,7 @@
 import org.hibernate.search.engine.search.predicate.spi.SpatialWithinCirclePredicateBuilder;
 import org.hibernate.search.engine.search.predicate.spi.SpatialWithinPolygonPredicateBuilder;
 import org.hibernate.search.engine.search.predicate.spi.WildcardPredicateBuilder;
+import org.hibernate.search.engine.search.predicate.spi.WithParametersPredicateBuilder;
 import org.hibernate.search.engine.spatial.DistanceUnit;
 import org.hibernate.search.engine.spatial.GeoBoundingBox;
 import org.hibernate.search.engine.spatial.GeoPoint;
@@ -42,7 +46,8 @@ public class StubPredicateBuilder implements MatchAllPredicateBuilder,
 		ExistsPredicateBuilder,
 		SpatialWithinCirclePredicateBuilder,
 		SpatialWithinPolygonPredicateBuilder,
-		SpatialWithinBoundingBoxPredicateBuilder {
+		SpatialWithinBoundingBoxPredicateBuilder,
+		WithParametersPredicateBuilder {
 
 	@Override
 	public SearchPredicate build() {
@@ -170,6 +175,11 @@ public void nested(SearchPredicate nestedPredicate) {
 		StubSearchPredicate.from( nestedPredicate );
 	}
 
+	@Override
+	public void creator(Function<? super NamedValues, ? extends SearchPredicate> predicateCreator) {
+		// No-op
+	}
+
 	@Override
 	public void flags(Set<SimpleQueryFlag> flags) {
 		// No-op, just simulates a call on this object
@@ -21,6 +21,7 @@
 import org.hibernate.search.engine.search.predicate.spi.SpatialWithinCirclePredicateBuilder;
 import org.hibernate.search.engine.search.predicate.spi.SpatialWithinPolygonPredicateBuilder;
 import org.hibernate.search.engine.search.predicate.spi.WildcardPredicateBuilder;
+import org.hibernate.search.engine.search.predicate.spi.WithParametersPredicateBuilder;
 import org.hibernate.search.util.impl.integrationtest.common.stub.backend.search.StubQueryElementCollector;
 
 public class StubSearchPredicateBuilderFactory
@@ -96,4 +97,9 @@ public SpatialWithinBoundingBoxPredicateBuilder spatialWithinBoundingBox(String
 	public NestedPredicateBuilder nested(String absoluteFieldPath) {
 		return new StubPredicateBuilder();
 	}
+
+	@Override
+	public WithParametersPredicateBuilder withParameters() {
+		return new StubPredicateBuilder();
+	}
 }